@@ -0,0 +1,134 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.ChangeFeedResponse;
+import com.metadata.versioning.adapter.in.rest.dto.ResyncRequiredResponse;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase.ChangeListener;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase.StreamFilter;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase.Subscription;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * REST controller streaming active version changes as Server-Sent Events.
+ * Connections are held by the async servlet support without a request thread,
+ * so a node can serve thousands of idle subscribers.
+ */
+@RestController
+@RequestMapping("/api/v1/metadata")
+@Tag(name = "Metadata Documents", description = "Operations on metadata documents and versions")
+public class ActiveVersionStreamController {
+
+    static final String CHANGE_EVENT = "version-activated";
+    static final String DEACTIVATION_EVENT = "version-deactivated";
+    static final String RESYNC_EVENT = "resync-required";
+
+    private final StreamActiveVersionChangesUseCase streamUseCase;
+    private final NdjsonLineWriter lineWriter;
+    private final long timeoutMillis;
+    private final long reconnectDelayMillis;
+
+    public ActiveVersionStreamController(StreamActiveVersionChangesUseCase streamUseCase,
+                                         ObjectMapper objectMapper,
+                                         @Value("${app.stream.timeout:1h}") Duration timeout,
+                                         @Value("${app.stream.reconnect-delay:3s}") Duration reconnectDelay) {
+        this.streamUseCase = streamUseCase;
+        this.lineWriter = new NdjsonLineWriter(objectMapper);
+        this.timeoutMillis = timeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+    }
+
+    /**
+     * Stream activations as they commit, optionally filtered by type and name (FR-006).
+     * Versions deactivated by the activation of another document of their type are streamed
+     * as version-deactivated events. Public access - no authentication required (FR-026).
+     * 
+     * Each event carries the change feed sequence number as its id, so a client reconnecting
+     * with Last-Event-ID receives the activations it missed. When they can no longer be
+     * replayed, or the client reads too slowly, a resync-required event ends the stream.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream active version changes",
+        description = "Server-Sent Events for every version activation, resumable with Last-Event-ID"
+    )
+    @ApiResponse(responseCode = "200", description = "Event stream of activations")
+    public SseEmitter streamActiveVersionChanges(
+            @Parameter(description = "Only stream documents of this type")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Only stream the document with this name")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Id of the last event received, to resume after it")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        StreamFilter filter = new StreamFilter(blankToNull(type), blankToNull(name));
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // Sent right away, so clients see the stream open before the first change or heartbeat
+        sendReconnectDelay(emitter);
+        Subscription subscription = streamUseCase.subscribe(filter,
+                lastEventId != null ? Math.max(lastEventId, 0) : null, new EmitterListener(emitter, lineWriter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private void sendReconnectDelay(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelayMillis));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value : null;
+    }
+
+    private record EmitterListener(SseEmitter emitter, NdjsonLineWriter lineWriter) implements ChangeListener {
+
+        @Override
+        public void onChange(ChangeFeedEntry entry) throws Exception {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(entry.sequenceNumber()))
+                    .name(entry.change().kind() == DocumentChange.Kind.VERSION_DEACTIVATED
+                            ? DEACTIVATION_EVENT : CHANGE_EVENT)
+                    .data(lineWriter.toLine(ChangeFeedResponse.Change.from(entry))));
+        }
+
+        @Override
+        public void onResyncRequired(String reason) throws Exception {
+            emitter.send(SseEmitter.event()
+                    .name(RESYNC_EVENT)
+                    .data(lineWriter.toLine(new ResyncRequiredResponse(reason))));
+        }
+
+        @Override
+        public void onHeartbeat() throws Exception {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void onClosed() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.metadata.versioning.adapter.in.rest.dto.ChangeFeedResponse;
+import com.metadata.versioning.application.port.in.GetChangesUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the change feed.
+ * Lets consumers sync incrementally instead of re-reading every document.
+ */
+@RestController
+@RequestMapping("/api/v1/changes")
+@Tag(name = "Change Feed", description = "Committed document changes for incremental sync")
+public class ChangeFeedController {
+
+    private final GetChangesUseCase getChangesUseCase;
+
+    public ChangeFeedController(GetChangesUseCase getChangesUseCase) {
+        this.getChangesUseCase = getChangesUseCase;
+    }
+
+    /**
+     * Get changes committed after a sequence number, oldest first.
+     * Public access - no authentication required (FR-026).
+     * 
+     * Changes appear in commit order, so a consumer that stores next after applying a page
+     * never misses a change. Consumers further behind than the retention period receive 410
+     * and must resynchronize from the export endpoint.
+     */
+    @GetMapping
+    @Operation(
+        summary = "Get changes since a sequence number",
+        description = "Keyset-paginated feed of version creations, activations and state changes"
+    )
+    @ApiResponse(responseCode = "200", description = "Page of changes")
+    @ApiResponse(responseCode = "400", description = "Invalid since or limit")
+    @ApiResponse(responseCode = "410", description = "Changes after since have been compacted")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @Parameter(description = "Sequence number of the last change already applied")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(ChangeFeedResponse.from(getChangesUseCase.getChanges(since, limit)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.metadata.versioning.adapter.in.rest.render.RenderedVersion;
+import com.metadata.versioning.domain.model.VersionPrecondition;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Helpers for conditional requests on entity tags (RFC 9110, section 13.1.2).
+ */
+final class EntityTags {
+
+    private static final String GZIP_SUFFIX = RenderedVersion.GZIP_SUFFIX + "\"";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Check if an If-None-Match header value matches the current entity tag.
+     * Uses weak comparison as required for If-None-Match: a W/ prefix is ignored.
+     * Tags of the gzip variant match too, since they identify the same version.
+     * 
+     * @param ifNoneMatch Header value, possibly a comma separated list or "*"; may be null
+     * @param etag Current quoted entity tag
+     * @return true if the client's representation is current and 304 may be returned
+     */
+    static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        String current = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (opaqueTag(candidate.trim()).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse an If-Match header value into a version precondition.
+     * Besides entity tags, a bare version number (e.g. {@code 3}) names the expected version.
+     * If-Match uses strong comparison, so weak tags never match.
+     * 
+     * @param ifMatch Header value, possibly a comma separated list or "*"; may be null
+     * @return The precondition, or null if the header is absent
+     */
+    static VersionPrecondition parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        if (ifMatch.trim().equals("*")) {
+            return VersionPrecondition.anyVersion();
+        }
+        Set<Integer> versionNumbers = new HashSet<>();
+        Set<String> entityTags = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (value.matches("\\d{1,9}")) {
+                versionNumbers.add(Integer.parseInt(value));
+            } else if (value.startsWith("\"")) {
+                entityTags.add(opaqueTag(value));
+            } else if (value.startsWith("W/\"")) {
+                // Kept as is: current entity tags are strong, so it never matches
+                entityTags.add(value);
+            } else {
+                throw new IllegalArgumentException("If-Match must list entity tags or a version number");
+            }
+        }
+        return new VersionPrecondition(versionNumbers, entityTags);
+    }
+
+    private static String opaqueTag(String tag) {
+        String opaque = tag.startsWith("W/") ? tag.substring(2) : tag;
+        return opaque.endsWith(GZIP_SUFFIX)
+                ? opaque.substring(0, opaque.length() - GZIP_SUFFIX.length()) + "\""
+                : opaque;
+    }
+}
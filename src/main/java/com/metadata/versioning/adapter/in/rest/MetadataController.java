@@ -1,26 +1,45 @@
 package com.metadata.versioning.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.ActiveVersionNotFoundResponse;
+import com.metadata.versioning.adapter.in.rest.dto.ActiveVersionsRequest;
 import com.metadata.versioning.adapter.in.rest.dto.CreateMetadataRequest;
 import com.metadata.versioning.adapter.in.rest.dto.CreateVersionRequest;
 import com.metadata.versioning.adapter.in.rest.dto.VersionResponse;
+import com.metadata.versioning.adapter.in.rest.render.RenderedVersion;
+import com.metadata.versioning.adapter.in.rest.render.RenderedVersionCache;
 import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
 import com.metadata.versioning.application.port.in.CreateVersionUseCase;
 import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.application.port.in.GetActiveVersionsUseCase;
 import com.metadata.versioning.application.port.in.GetVersionHistoryUseCase;
 import com.metadata.versioning.application.service.MetadataQueryService;
-import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.DocumentSummary;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -35,19 +54,31 @@ public class MetadataController {
     private final CreateVersionUseCase createVersionUseCase;
     private final GetVersionHistoryUseCase getVersionHistoryUseCase;
     private final GetActiveVersionUseCase getActiveVersionUseCase;
+    private final GetActiveVersionsUseCase getActiveVersionsUseCase;
     private final ActivateVersionUseCase activateVersionUseCase;
     private final MetadataQueryService metadataQueryService;
+    private final RenderedVersionCache renderedVersionCache;
+    private final CacheControl specificVersionCacheControl;
+    private final NdjsonLineWriter lineWriter;
 
     public MetadataController(CreateVersionUseCase createVersionUseCase,
                              GetVersionHistoryUseCase getVersionHistoryUseCase,
                              GetActiveVersionUseCase getActiveVersionUseCase,
+                             GetActiveVersionsUseCase getActiveVersionsUseCase,
                              ActivateVersionUseCase activateVersionUseCase,
-                             MetadataQueryService metadataQueryService) {
+                             MetadataQueryService metadataQueryService,
+                             RenderedVersionCache renderedVersionCache,
+                             ObjectMapper objectMapper,
+                             @Value("${app.http.specific-version-max-age:24h}") Duration specificVersionMaxAge) {
         this.createVersionUseCase = createVersionUseCase;
         this.getVersionHistoryUseCase = getVersionHistoryUseCase;
         this.getActiveVersionUseCase = getActiveVersionUseCase;
+        this.getActiveVersionsUseCase = getActiveVersionsUseCase;
         this.activateVersionUseCase = activateVersionUseCase;
         this.metadataQueryService = metadataQueryService;
+        this.renderedVersionCache = renderedVersionCache;
+        this.specificVersionCacheControl = CacheControl.maxAge(specificVersionMaxAge);
+        this.lineWriter = new NdjsonLineWriter(objectMapper);
     }
 
     /**
@@ -93,6 +124,7 @@ public class MetadataController {
     /**
      * Create new version for existing metadata document.
      * Requires authentication (FR-027).
+     * With If-Match, the version is only created if the named version is still the latest.
      */
     @PostMapping("/{type}/{name}/versions")
     @Operation(
@@ -104,10 +136,14 @@ public class MetadataController {
     @ApiResponse(responseCode = "400", description = "Invalid request")
     @ApiResponse(responseCode = "401", description = "Authentication required")
     @ApiResponse(responseCode = "404", description = "Document not found")
+    @ApiResponse(responseCode = "409", description = "Concurrent writes kept conflicting; latest version in the body")
+    @ApiResponse(responseCode = "412", description = "If-Match does not name the latest version; latest version in the body")
     public ResponseEntity<VersionResponse> createVersion(
             @PathVariable String type,
             @PathVariable String name,
             @Valid @RequestBody CreateVersionRequest request,
+            @Parameter(description = "Latest version the new one is based on: its number or ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
 
         String author = authentication != null ? authentication.getName() : "anonymous";
@@ -118,7 +154,8 @@ public class MetadataController {
                         name,
                         request.content(),
                         author,
-                        request.changeSummary()
+                        request.changeSummary(),
+                        EntityTags.parseIfMatch(ifMatch)
                 );
 
         Version version = createVersionUseCase.createNewVersion(command);
@@ -130,6 +167,7 @@ public class MetadataController {
     /**
      * Activate a specific version (FR-006).
      * Requires authentication.
+     * With If-Match, the version is only activated if the named version is still the active one.
      */
     @PostMapping("/{type}/{name}/versions/{versionNumber}/activate")
     @Operation(
@@ -140,12 +178,15 @@ public class MetadataController {
     @ApiResponse(responseCode = "200", description = "Version activated")
     @ApiResponse(responseCode = "404", description = "Version or document not found")
     @ApiResponse(responseCode = "401", description = "Authentication required")
+    @ApiResponse(responseCode = "412", description = "If-Match does not name the active version; active version in the body")
     public ResponseEntity<ActivateVersionResponse> activateVersion(
             @PathVariable String type,
             @PathVariable String name,
-            @PathVariable Integer versionNumber) {
+            @PathVariable Integer versionNumber,
+            @Parameter(description = "Currently active version expected: its number or ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        activateVersionUseCase.activateVersion(type, name, versionNumber);
+        activateVersionUseCase.activateVersion(type, name, versionNumber, EntityTags.parseIfMatch(ifMatch));
         
         ActivateVersionResponse response = new ActivateVersionResponse(
             type + "/" + name,
@@ -219,19 +260,31 @@ public class MetadataController {
         description = "Retrieve specific version by number"
     )
     @ApiResponse(responseCode = "200", description = "Version details")
+    @ApiResponse(responseCode = "304", description = "Version unchanged since the given ETag")
     @ApiResponse(responseCode = "404", description = "Version not found")
     public ResponseEntity<VersionResponse> getSpecificVersion(
             @PathVariable String type,
             @PathVariable String name,
-            @PathVariable Integer versionNumber) {
+            @PathVariable Integer versionNumber,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Answer revalidation from the stored content hash, without loading the content
+        Optional<VersionDigest> digest = ifNoneMatch == null
+                ? Optional.empty()
+                : metadataQueryService.getVersionDigest(type, name, versionNumber);
+        if (digest.isPresent() && EntityTags.isNotModified(ifNoneMatch, digest.get().etag())) {
+            return notModified(digest.get(), specificVersionCacheControl);
+        }
 
         GetVersionHistoryUseCase.SpecificVersionQuery query =
                 new GetVersionHistoryUseCase.SpecificVersionQuery(type, name, versionNumber);
 
         Version version = getVersionHistoryUseCase.getSpecificVersion(query);
-        VersionResponse response = VersionResponse.fromDomain(version, type, name);
-
-        return ResponseEntity.ok(response);
+        if (digest.isEmpty()) {
+            digest = metadataQueryService.getVersionDigest(type, name, versionNumber);
+        }
+        return withEntityTag(version, digest, specificVersionCacheControl)
+                .body(VersionResponse.fromDomain(version, type, name));
     }
 
     /**
@@ -244,18 +297,130 @@ public class MetadataController {
         summary = "Get active version",
         description = "Retrieve the currently active version for consumption by downstream systems"
     )
-    @ApiResponse(responseCode = "200", description = "Active version details")
+    @ApiResponse(responseCode = "200", description = "Active version details",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = VersionResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Active version unchanged since the given ETag")
     @ApiResponse(responseCode = "404", description = "No active version or document not found")
-    public ResponseEntity<VersionResponse> getActiveVersion(
+    public ResponseEntity<byte[]> getActiveVersion(
             @PathVariable String type,
-            @PathVariable String name) {
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        return getActiveVersionUseCase.getActiveVersion(type, name)
-                .map(version -> VersionResponse.fromDomain(version, type, name))
-                .map(ResponseEntity::ok)
+        // Polling clients revalidate on every request; answer them from the cached digest
+        Optional<VersionDigest> digest = metadataQueryService.getActiveVersionDigest(type, name);
+        if (digest.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (EntityTags.isNotModified(ifNoneMatch, digest.get().etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(RenderedVersion.variantTag(digest.get().etag(), gzip))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        // Body is rendered once per activation and copied to the response as is
+        return renderedVersionCache.getActive(type, name, digest.get())
+                .map(rendered -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .cacheControl(CacheControl.noCache())
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+                    if (rendered.etag() != null) {
+                        builder.eTag(rendered.etag(gzip));
+                    }
+                    if (gzip) {
+                        builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                    return builder.body(rendered.body(gzip));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get the active versions of many documents with one request (FR-007).
+     * Public access - no authentication required (FR-026); POST only carries the key list.
+     * 
+     * Responds with one NDJSON line per requested key, in request order: the active version,
+     * or a NOT_FOUND marker if the document does not exist or has no active version.
+     */
+    @PostMapping(value = "/active",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Get active versions in batch",
+        description = "Retrieve the active versions of up to " + ActiveVersionsRequest.MAX_KEYS
+                + " documents, resolved with a single query and returned as NDJSON in request order"
+    )
+    @ApiResponse(responseCode = "200", description = "One NDJSON line per requested key")
+    @ApiResponse(responseCode = "400", description = "Missing, blank or too many keys")
+    public ResponseEntity<StreamingResponseBody> getActiveVersions(
+            @Valid @RequestBody ActiveVersionsRequest request) {
+
+        List<DocumentKey> keys = request.keys().stream()
+                .map(key -> new DocumentKey(key.type(), key.name()))
+                .toList();
+        Map<DocumentKey, Version> activeVersions = getActiveVersionsUseCase.getActiveVersions(keys);
+
+        StreamingResponseBody stream = out -> {
+            for (DocumentKey key : keys) {
+                Version version = activeVersions.get(key);
+                lineWriter.write(out, version != null
+                        ? VersionResponse.fromDomain(version, key.type(), key.name())
+                        : ActiveVersionNotFoundResponse.of(key.type(), key.name()));
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    /**
+     * Check if the client accepts gzip content coding (RFC 9110, section 12.5.3).
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip") || name.equals("*")) {
+                boolean rejected = parts.length > 1 && parts[1].trim().matches("(?i)q\\s*=\\s*0(\\.0{0,3})?");
+                return !rejected;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 304 response carrying the validators a 200 response would have sent.
+     */
+    private static <T> ResponseEntity<T> notModified(VersionDigest digest, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(digest.etag())
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * 200 response builder with an ETag, if the digest was read for the same version state.
+     * A concurrent change between reading the digest and the version leaves the ETag off,
+     * so a client is never told a stale body is current.
+     */
+    private static ResponseEntity.BodyBuilder withEntityTag(Version version, Optional<VersionDigest> digest,
+                                                            CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl);
+        digest.filter(d -> d.describes(version))
+                .ifPresent(d -> builder.eTag(d.etag()));
+        return builder;
+    }
+
     /**
      * Get metadata document details.
      */
@@ -267,17 +432,8 @@ public class MetadataController {
             @PathVariable String type,
             @PathVariable String name) {
 
-        return metadataQueryService.getMetadataDocument(type, name)
-                .map(doc -> new MetadataDocumentSummary(
-                    doc.getType() + "/" + doc.getName(),
-                    doc.getType(),
-                    doc.getName(),
-                    doc.getVersionCount(),
-                    doc.getActiveVersion().map(com.metadata.versioning.domain.model.Version::versionNumber).orElse(null),
-                    doc.getActiveVersion().isPresent(),
-                    doc.getCreatedAt(),
-                    doc.getUpdatedAt()
-                ))
+        return metadataQueryService.getDocumentSummary(type, name)
+                .map(MetadataDocumentSummary::fromDomain)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -302,7 +458,7 @@ public class MetadataController {
                 org.springframework.data.domain.PageRequest.of(page, size, 
                     org.springframework.data.domain.Sort.by("createdAt").descending());
 
-        org.springframework.data.domain.Page<MetadataDocument> documents;
+        org.springframework.data.domain.Page<DocumentSummary> documents;
         if (type != null && !type.isBlank()) {
             documents = metadataQueryService.listDocumentsByType(type, pageable);
         } else if (search != null && !search.isBlank()) {
@@ -311,19 +467,7 @@ public class MetadataController {
             documents = metadataQueryService.listDocuments(pageable);
         }
 
-        org.springframework.data.domain.Page<MetadataDocumentSummary> response =
-                documents.map(doc -> new MetadataDocumentSummary(
-                    doc.getType() + "/" + doc.getName(),
-                    doc.getType(),
-                    doc.getName(),
-                    doc.getVersionCount(),
-                    doc.getActiveVersion().map(com.metadata.versioning.domain.model.Version::versionNumber).orElse(null),
-                    doc.getActiveVersion().isPresent(),
-                    doc.getCreatedAt(),
-                    doc.getUpdatedAt()
-                ));
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(documents.map(MetadataDocumentSummary::fromDomain));
     }
 
     /**
@@ -338,7 +482,20 @@ public class MetadataController {
             boolean hasActiveVersion,
             java.time.Instant createdAt,
             java.time.Instant updatedAt
-    ) {}
+    ) {
+        static MetadataDocumentSummary fromDomain(DocumentSummary summary) {
+            return new MetadataDocumentSummary(
+                    summary.type() + "/" + summary.name(),
+                    summary.type(),
+                    summary.name(),
+                    summary.versionCount(),
+                    summary.activeVersion(),
+                    summary.hasActiveVersion(),
+                    summary.createdAt(),
+                    summary.updatedAt()
+            );
+        }
+    }
 
     /**
      * DTO for activation response.
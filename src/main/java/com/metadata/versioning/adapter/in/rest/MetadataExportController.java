@@ -0,0 +1,124 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.VersionResponse;
+import com.metadata.versioning.application.port.in.ExportActiveVersionsUseCase;
+import com.metadata.versioning.application.port.in.GetChangesUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * REST controller for snapshot exports of metadata documents.
+ * Output is streamed as NDJSON, so exports of any size use bounded memory.
+ * Exports run on the application task executor under their own timeout, so large
+ * snapshots and slow consumers are not cut off by the async request timeout.
+ */
+@RestController
+@RequestMapping("/api/v1/metadata")
+@Tag(name = "Metadata Documents", description = "Operations on metadata documents and versions")
+public class MetadataExportController {
+
+    /**
+     * Change feed position the snapshot is consistent with: every change through it is
+     * included, so consumers continue the feed from here after loading the snapshot.
+     */
+    public static final String CHANGE_FEED_POSITION_HEADER = "X-Change-Feed-Position";
+
+    // Lines are sent in pieces of about this size; the emitter flushes after every send
+    private static final int CHUNK_BYTES = 64 * 1024;
+
+    private final ExportActiveVersionsUseCase exportActiveVersionsUseCase;
+    private final GetChangesUseCase getChangesUseCase;
+    private final NdjsonLineWriter lineWriter;
+    private final AsyncTaskExecutor exportExecutor;
+    private final long timeoutMillis;
+
+    public MetadataExportController(ExportActiveVersionsUseCase exportActiveVersionsUseCase,
+                                    GetChangesUseCase getChangesUseCase,
+                                    ObjectMapper objectMapper,
+                                    @Qualifier("applicationTaskExecutor") AsyncTaskExecutor exportExecutor,
+                                    @Value("${app.export.timeout:1h}") Duration timeout) {
+        this.exportActiveVersionsUseCase = exportActiveVersionsUseCase;
+        this.getChangesUseCase = getChangesUseCase;
+        this.lineWriter = new NdjsonLineWriter(objectMapper);
+        this.exportExecutor = exportExecutor;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Export the active version of every document, one NDJSON line per document (FR-007).
+     * Public access - no authentication required (FR-026).
+     * 
+     * Lines have the same shape as the active version endpoint and are ordered by type
+     * and name, so consumers can bootstrap from a single request. The X-Change-Feed-Position
+     * header tells where to continue the change feed after loading the snapshot.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export active versions",
+        description = "Stream the active version of every document as NDJSON, optionally filtered by type"
+    )
+    @ApiResponse(responseCode = "200", description = "NDJSON stream of active versions, with the change feed position in X-Change-Feed-Position")
+    public ResponseEntity<ResponseBodyEmitter> exportActiveVersions(
+            @Parameter(description = "Only export documents of this type")
+            @RequestParam(required = false) String type) {
+
+        String typeFilter = type != null && !type.isBlank() ? type : null;
+
+        // Read before the snapshot starts: changes committed in between may be in the
+        // snapshot and are replayed, but none after the position can be missed
+        long feedPosition = getChangesUseCase.currentPosition();
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        exportExecutor.execute(() -> {
+            try {
+                ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_BYTES * 2);
+                exportActiveVersionsUseCase.exportActiveVersions(typeFilter, documentVersion -> {
+                    lineWriter.write(chunk, VersionResponse.fromDomain(
+                            documentVersion.version(), documentVersion.type(), documentVersion.name()));
+                    if (chunk.size() >= CHUNK_BYTES) {
+                        // Once the client is gone or the export timed out, sending fails and stops the export
+                        send(emitter, chunk);
+                    }
+                });
+                if (chunk.size() > 0) {
+                    send(emitter, chunk);
+                }
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .header(CHANGE_FEED_POSITION_HEADER, String.valueOf(feedPosition))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, ByteArrayOutputStream lines) {
+        try {
+            emitter.send(lines.toByteArray(), MediaType.APPLICATION_NDJSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lines.reset();
+    }
+}
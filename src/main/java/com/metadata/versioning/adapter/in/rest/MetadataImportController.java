@@ -0,0 +1,125 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.ImportLineResponse;
+import com.metadata.versioning.adapter.in.rest.dto.ImportSummaryResponse;
+import com.metadata.versioning.application.port.in.BulkImportUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * REST controller for bulk imports of metadata documents.
+ * Input and output are streamed as NDJSON, so imports of any size use bounded memory.
+ * Imports run on the application task executor under their own timeout, which may be
+ * much longer than the async request timeout applying to other endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/metadata")
+@Tag(name = "Metadata Documents", description = "Operations on metadata documents and versions")
+public class MetadataImportController {
+
+    private final BulkImportUseCase bulkImportUseCase;
+    private final ObjectMapper lineMapper;
+    private final NdjsonLineWriter lineWriter;
+    private final AsyncTaskExecutor importExecutor;
+    private final long maxLineBytes;
+    private final long timeoutMillis;
+
+    public MetadataImportController(BulkImportUseCase bulkImportUseCase,
+                                    ObjectMapper objectMapper,
+                                    @Qualifier("importLineMapper") ObjectMapper lineMapper,
+                                    @Qualifier("applicationTaskExecutor") AsyncTaskExecutor importExecutor,
+                                    @Value("${app.ingestion.max-request-bytes:2097152}") long maxLineBytes,
+                                    @Value("${app.import.timeout:1h}") Duration timeout) {
+        this.bulkImportUseCase = bulkImportUseCase;
+        this.importExecutor = importExecutor;
+        this.lineMapper = lineMapper;
+        this.lineWriter = new NdjsonLineWriter(objectMapper);
+        this.maxLineBytes = maxLineBytes;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Import metadata documents from an NDJSON stream, one create request per line.
+     * Requires authentication (FR-027).
+     * 
+     * Responds with one NDJSON line per input line, in input order, written as each chunk
+     * is committed, followed by a summary line. Rejected lines do not stop the import.
+     */
+    @PostMapping(value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Bulk import metadata documents",
+        description = "Stream NDJSON lines of {type, name, content, changeSummary} to create documents. "
+                + "Returns one NDJSON result per line followed by a summary line.",
+        security = @SecurityRequirement(name = "BasicAuth")
+    )
+    @ApiResponse(responseCode = "200", description = "Import processed; see per-line results")
+    @ApiResponse(responseCode = "401", description = "Authentication required")
+    public ResponseEntity<ResponseBodyEmitter> importDocuments(
+            InputStream body,
+            @Parameter(description = "Add a new version to documents that already exist instead of rejecting them")
+            @RequestParam(defaultValue = "false") boolean append,
+            Authentication authentication) {
+
+        String author = authentication != null ? authentication.getName() : "anonymous";
+        BulkImportUseCase.ImportOptions options = new BulkImportUseCase.ImportOptions(author, append);
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        importExecutor.execute(() -> {
+            try {
+                BulkImportUseCase.ImportSummary summary = bulkImportUseCase.importDocuments(
+                        new NdjsonImportReader(body, lineMapper, maxLineBytes),
+                        options,
+                        results -> {
+                            // Once the client is gone or the import timed out, sending fails and stops the import
+                            ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+                            results.forEach(result -> lineWriter.write(chunk, ImportLineResponse.from(result)));
+                            send(emitter, chunk);
+                        });
+                ByteArrayOutputStream last = new ByteArrayOutputStream();
+                lineWriter.write(last, ImportSummaryResponse.from(summary));
+                send(emitter, last);
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    /**
+     * Write the lines of a chunk in one piece; the emitter flushes after every send.
+     */
+    private static void send(ResponseBodyEmitter emitter, ByteArrayOutputStream lines) {
+        try {
+            emitter.send(lines.toByteArray(), MediaType.APPLICATION_NDJSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportRecord;
+import com.metadata.versioning.domain.exception.InvalidJsonException;
+import com.metadata.versioning.domain.validator.NestingDepthExceededException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import records from an NDJSON stream one line at a time, without buffering the body.
+ * Each line is an object with the fields of a create request: type, name, content and
+ * an optional changeSummary. Blank lines are skipped; lines that are too long or not a
+ * valid record become malformed records so they are reported with their line number.
+ * Content nested too deeply fails while parsing and is rejected as invalid JSON, as it
+ * would be by structure validation.
+ */
+class NdjsonImportReader implements Iterator<ImportRecord> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream input;
+    private final ObjectMapper objectMapper;
+    private final long maxLineBytes;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private boolean endOfInput;
+    private ImportRecord next;
+
+    NdjsonImportReader(InputStream input, ObjectMapper objectMapper, long maxLineBytes) {
+        this.input = input;
+        this.objectMapper = objectMapper;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRecord();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    private ImportRecord readRecord() {
+        try {
+            while (true) {
+                line.reset();
+                boolean tooLong = false;
+                boolean sawLine = false;
+                while (true) {
+                    if (position == limit && !fill()) {
+                        break;
+                    }
+                    sawLine = true;
+                    int start = position;
+                    while (position < limit && buffer[position] != '\n') {
+                        position++;
+                    }
+                    if (!tooLong) {
+                        if (line.size() + (position - start) > maxLineBytes) {
+                            tooLong = true;
+                        } else {
+                            line.write(buffer, start, position - start);
+                        }
+                    }
+                    if (position < limit) {
+                        position++; // consume the newline
+                        break;
+                    }
+                }
+                if (!sawLine) {
+                    return null;
+                }
+
+                lineNumber++;
+                if (tooLong) {
+                    return ImportRecord.malformed(lineNumber, "Line exceeds maximum of " + maxLineBytes + " bytes");
+                }
+                byte[] bytes = line.toByteArray();
+                if (!isBlank(bytes)) {
+                    return parse(bytes);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int read = input.read(buffer);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static boolean isBlank(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ImportRecord parse(byte[] bytes) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(bytes);
+        } catch (NestingDepthExceededException e) {
+            InvalidJsonException rejection = new InvalidJsonException(String.format(
+                    "JSON nesting depth exceeds maximum of %d levels", e.getMaxDepth()), e);
+            return ImportRecord.rejected(lineNumber, rejection.getErrorCode(), rejection.getMessage());
+        } catch (JsonProcessingException e) {
+            return ImportRecord.malformed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (node == null || !node.isObject()) {
+            return ImportRecord.malformed(lineNumber, "Line must be a JSON object");
+        }
+        if (!node.path("type").isTextual() || !node.path("name").isTextual()) {
+            return ImportRecord.malformed(lineNumber, "Fields 'type' and 'name' are required strings");
+        }
+        JsonNode content = node.get("content");
+        if (content == null || content.isNull()) {
+            return ImportRecord.malformed(lineNumber, "Field 'content' is required");
+        }
+        JsonNode changeSummary = node.get("changeSummary");
+        return ImportRecord.of(lineNumber,
+                node.get("type").asText(),
+                node.get("name").asText(),
+                content,
+                changeSummary != null && changeSummary.isTextual() ? changeSummary.asText() : null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes response objects as NDJSON: one compact JSON document per line.
+ * The shared mapper pretty-prints, which would break the one-line-per-record framing.
+ * Also used for Server-Sent Events, where each line of the data would become a separate data field.
+ */
+class NdjsonLineWriter {
+
+    private final ObjectWriter writer;
+
+    NdjsonLineWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    void write(OutputStream out, Object line) {
+        try {
+            out.write(writer.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Render a single line without the line terminator.
+     */
+    String toLine(Object line) {
+        try {
+            return writer.writeValueAsString(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.metadata.versioning.adapter.in.rest.filter.CorrelationIdFilter;
+import com.metadata.versioning.application.port.out.AuditContextProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.Principal;
+
+/**
+ * Adapter implementing AuditContextProvider from the HTTP request bound to the current thread.
+ */
+@Component
+public class RequestAuditContextProvider implements AuditContextProvider {
+
+    @Override
+    public AuditContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return AuditContext.NONE;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Principal principal = request.getUserPrincipal();
+        return new AuditContext(
+                principal != null ? principal.getName() : null,
+                CorrelationIdFilter.getCurrentCorrelationId(),
+                request.getRemoteAddr(),
+                request.getHeader(HttpHeaders.USER_AGENT));
+    }
+}
@@ -1,9 +1,11 @@
 package com.metadata.versioning.adapter.in.rest;
 
+import com.metadata.versioning.adapter.in.rest.dto.ChangelogResponse;
 import com.metadata.versioning.adapter.in.rest.dto.ComparisonResponse;
 import com.metadata.versioning.adapter.in.rest.dto.VersionResponse;
 import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
 import com.metadata.versioning.application.port.in.CompareVersionsUseCase;
+import com.metadata.versioning.application.port.in.GetChangelogUseCase;
 import com.metadata.versioning.application.service.VersionManagementService;
 import com.metadata.versioning.domain.exception.InvalidActivationException;
 import com.metadata.versioning.domain.exception.VersionNotFoundException;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,13 +32,16 @@ public class VersionController {
 
     private final ActivateVersionUseCase activateVersionUseCase;
     private final CompareVersionsUseCase compareVersionsUseCase;
+    private final GetChangelogUseCase getChangelogUseCase;
     private final VersionManagementService versionManagementService;
 
     public VersionController(ActivateVersionUseCase activateVersionUseCase,
                              CompareVersionsUseCase compareVersionsUseCase,
+                             GetChangelogUseCase getChangelogUseCase,
                              VersionManagementService versionManagementService) {
         this.activateVersionUseCase = activateVersionUseCase;
         this.compareVersionsUseCase = compareVersionsUseCase;
+        this.getChangelogUseCase = getChangelogUseCase;
         this.versionManagementService = versionManagementService;
     }
 
@@ -46,6 +52,7 @@ public class VersionController {
      * @param type Metadata type (e.g., "loyalty-program")
      * @param name Metadata name (e.g., "gold-tier")
      * @param versionNumber Version number to activate (1-based)
+     * @param ifMatch Optional number or ETag of the version expected to be active
      * @return 204 No Content on success
      */
     @PostMapping("/{versionNumber}/activate")
@@ -56,7 +63,8 @@ public class VersionController {
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Version activated successfully"),
         @ApiResponse(responseCode = "404", description = "Version not found"),
-        @ApiResponse(responseCode = "400", description = "Invalid activation (e.g., non-published version)")
+        @ApiResponse(responseCode = "400", description = "Invalid activation (e.g., non-published version)"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not name the active version")
     })
     public ResponseEntity<Void> activateVersion(
             @Parameter(description = "Metadata type", example = "loyalty-program")
@@ -66,10 +74,13 @@ public class VersionController {
             @PathVariable String name,
             
             @Parameter(description = "Version number to activate", example = "3")
-            @PathVariable Integer versionNumber) {
+            @PathVariable Integer versionNumber,
+
+            @Parameter(description = "Currently active version expected: its number or ETag", example = "2")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         // Exceptions handled by GlobalExceptionHandler
-        activateVersionUseCase.activateVersion(type, name, versionNumber);
+        activateVersionUseCase.activateVersion(type, name, versionNumber, EntityTags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -109,6 +120,45 @@ public class VersionController {
         return ResponseEntity.ok(ComparisonResponse.from(comparison));
     }
 
+    /**
+     * Changelog of a document (FR-010): each version with the RFC 6902 patch from its predecessor.
+     * 
+     * @param type Metadata type
+     * @param name Metadata name
+     * @param after Version number to start after
+     * @param to Last version number wanted, latest if absent
+     * @param limit Maximum number of versions in the page
+     * @return A page of versions with their patches
+     */
+    @GetMapping("/changelog")
+    @Operation(
+        summary = "Get the changelog of a document",
+        description = "Paginated versions with the RFC 6902 JSON Patch turning the previous version into each (FR-010)."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Changelog page returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid after or limit"),
+        @ApiResponse(responseCode = "404", description = "Document not found")
+    })
+    public ResponseEntity<ChangelogResponse> getChangelog(
+            @Parameter(description = "Metadata type", example = "loyalty-program")
+            @PathVariable String type,
+            
+            @Parameter(description = "Metadata name", example = "gold-tier")
+            @PathVariable String name,
+            
+            @Parameter(description = "Version number to start after, 0 for the beginning", example = "1")
+            @RequestParam(defaultValue = "0") int after,
+            
+            @Parameter(description = "Last version number wanted, latest if absent", example = "5")
+            @RequestParam(required = false) Integer to,
+            
+            @Parameter(description = "Maximum number of versions", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        return ResponseEntity.ok(ChangelogResponse.from(getChangelogUseCase.getChangelog(type, name, after, to, limit)));
+    }
+
     /**
      * Transition version publishing state (FR-024).
      * 
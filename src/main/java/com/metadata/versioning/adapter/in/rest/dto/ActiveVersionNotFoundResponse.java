@@ -0,0 +1,15 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+/**
+ * Line of a batch active version response for a key without an active version,
+ * either because the document does not exist or because no version is active.
+ */
+public record ActiveVersionNotFoundResponse(
+        String type,
+        String name,
+        String error
+) {
+    public static ActiveVersionNotFoundResponse of(String type, String name) {
+        return new ActiveVersionNotFoundResponse(type, name, "NOT_FOUND");
+    }
+}
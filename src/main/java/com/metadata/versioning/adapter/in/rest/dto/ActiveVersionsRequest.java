@@ -0,0 +1,31 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for reading the active versions of many documents at once.
+ */
+public record ActiveVersionsRequest(
+        @NotEmpty(message = "Keys cannot be empty")
+        @Size(max = ActiveVersionsRequest.MAX_KEYS, message = "At most " + ActiveVersionsRequest.MAX_KEYS + " keys per request")
+        List<@Valid Key> keys
+) {
+    public static final int MAX_KEYS = 1000;
+
+    /**
+     * Type and name of one requested document.
+     */
+    public record Key(
+            @NotBlank(message = "Type cannot be blank")
+            String type,
+
+            @NotBlank(message = "Name cannot be blank")
+            String name
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+import com.metadata.versioning.application.port.in.GetChangesUseCase.ChangePage;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for a page of the change feed.
+ * Consumers pass next as since in their following request.
+ */
+public record ChangeFeedResponse(
+        List<Change> changes,
+        long next,
+        boolean hasMore
+) {
+    public static ChangeFeedResponse from(ChangePage page) {
+        return new ChangeFeedResponse(
+                page.changes().stream().map(Change::from).toList(),
+                page.next(),
+                page.hasMore()
+        );
+    }
+
+    /**
+     * One committed change.
+     */
+    public record Change(
+            long sequenceNumber,
+            String type,
+            String name,
+            int versionNumber,
+            String kind,
+            Instant recordedAt
+    ) {
+        public static Change from(ChangeFeedEntry entry) {
+            return new Change(
+                    entry.sequenceNumber(),
+                    entry.change().type(),
+                    entry.change().name(),
+                    entry.change().versionNumber(),
+                    entry.change().kind().name(),
+                    entry.recordedAt()
+            );
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.metadata.versioning.application.port.in.GetChangelogUseCase.ChangelogPage;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import com.metadata.versioning.domain.model.VersionDelta;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for a page of the changelog of a document.
+ * Clients pass next as after in their following request.
+ */
+public record ChangelogResponse(
+        List<Entry> versions,
+        int next,
+        boolean hasMore
+) {
+    public static ChangelogResponse from(ChangelogPage page) {
+        return new ChangelogResponse(
+                page.deltas().stream().map(Entry::from).toList(),
+                page.next(),
+                page.hasMore()
+        );
+    }
+
+    /**
+     * One version with the RFC 6902 patch turning its predecessor into it.
+     * Operations carry the path of the change they report in x-path (and x-from for moves),
+     * as in version comparisons.
+     */
+    public record Entry(
+            int versionNumber,
+            String author,
+            Instant createdAt,
+            String changeSummary,
+            boolean hasBreakingChanges,
+            JsonNode patch
+    ) {
+        public static Entry from(VersionDelta delta) {
+            return new Entry(
+                    delta.versionNumber(),
+                    delta.author(),
+                    delta.createdAt(),
+                    delta.changeSummary(),
+                    delta.patch().changes().stream().anyMatch(ChangeDetail::isBreaking),
+                    delta.patch().operations()
+            );
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.metadata.versioning.adapter.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.metadata.versioning.domain.model.ChangeType;
 import com.metadata.versioning.domain.model.VersionComparison;
 
@@ -27,7 +28,8 @@ public record ComparisonResponse(
         var summary = new ChangeSummary(
                 comparison.getChangesByType(ChangeType.ADDED).size(),
                 comparison.getChangesByType(ChangeType.MODIFIED).size(),
-                comparison.getChangesByType(ChangeType.REMOVED).size()
+                comparison.getChangesByType(ChangeType.REMOVED).size(),
+                comparison.getChangesByType(ChangeType.MOVED).size()
         );
 
         return new ComparisonResponse(
@@ -41,24 +43,30 @@ public record ComparisonResponse(
         );
     }
 
+    /**
+     * @param from Previous path of a moved array element, null for other changes
+     */
     public record ChangeDetail(
             String type,
             String path,
             Object oldValue,
-            Object newValue
+            Object newValue,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String from
     ) {
         public static ChangeDetail from(VersionComparison.ChangeDetail change) {
             String type = switch (change.type()) {
                 case ChangeType.Added ignored -> "ADDED";
                 case ChangeType.Modified ignored -> "MODIFIED";
                 case ChangeType.Removed ignored -> "REMOVED";
+                case ChangeType.Moved ignored -> "MOVED";
             };
 
             return new ChangeDetail(
                     type,
                     change.path(),
                     change.oldValue(),
-                    change.newValue()
+                    change.newValue(),
+                    change.fromPath()
             );
         }
     }
@@ -66,6 +74,7 @@ public record ComparisonResponse(
     public record ChangeSummary(
             int added,
             int modified,
-            int removed
+            int removed,
+            int moved
     ) {}
 }
@@ -0,0 +1,30 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportResult;
+
+/**
+ * One line of a bulk import response: the outcome of the input line with the same number.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportLineResponse(
+        long line,
+        String type,
+        String name,
+        String status,
+        Integer versionNumber,
+        String error,
+        String message
+) {
+    public static ImportLineResponse from(ImportResult result) {
+        return new ImportLineResponse(
+                result.line(),
+                result.type(),
+                result.name(),
+                result.outcome().name(),
+                result.versionNumber(),
+                result.errorCode(),
+                result.message()
+        );
+    }
+}
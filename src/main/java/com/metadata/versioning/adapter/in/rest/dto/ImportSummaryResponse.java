@@ -0,0 +1,22 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportSummary;
+
+/**
+ * Final line of a bulk import response, wrapped so clients can tell it from line results.
+ */
+public record ImportSummaryResponse(Totals summary) {
+
+    public record Totals(long total, long created, long appended, long rejected, long elapsedMillis) {
+    }
+
+    public static ImportSummaryResponse from(ImportSummary summary) {
+        return new ImportSummaryResponse(new Totals(
+                summary.total(),
+                summary.created(),
+                summary.appended(),
+                summary.rejected(),
+                summary.elapsedNanos() / 1_000_000
+        ));
+    }
+}
@@ -0,0 +1,9 @@
+package com.metadata.versioning.adapter.in.rest.dto;
+
+/**
+ * Data of the final resync-required stream event.
+ * Subscribers re-read current state, from the export endpoint or per document, then reconnect
+ * without Last-Event-ID.
+ */
+public record ResyncRequiredResponse(String reason) {
+}
@@ -1,14 +1,21 @@
 package com.metadata.versioning.adapter.in.rest.exception;
 
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.metadata.versioning.adapter.in.rest.filter.RequestBodyTooLargeException;
+import com.metadata.versioning.domain.exception.ChangeFeedExpiredException;
 import com.metadata.versioning.domain.exception.DocumentAlreadyExistsException;
 import com.metadata.versioning.domain.exception.DomainException;
 import com.metadata.versioning.domain.exception.InvalidJsonException;
 import com.metadata.versioning.domain.exception.SchemaAlreadyExistsException;
 import com.metadata.versioning.domain.exception.SchemaNotFoundException;
 import com.metadata.versioning.domain.exception.SchemaViolationException;
+import com.metadata.versioning.domain.exception.VersionConflictException;
 import com.metadata.versioning.domain.exception.VersionNotFoundException;
+import com.metadata.versioning.domain.model.VersionDigest;
+import com.metadata.versioning.domain.validator.NestingDepthExceededException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -116,6 +123,81 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Request bodies rejected while streaming: oversize bodies map to 413,
+     * excessive nesting to 400 like content validation (FR-011, FR-025).
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleMessageNotReadable(HttpMessageNotReadableException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestBodyTooLargeException tooLarge) {
+                return payloadTooLarge(tooLarge.getMessage());
+            }
+            if (cause instanceof NestingDepthExceededException tooDeep) {
+                ErrorResponse error = new ErrorResponse(
+                        "INVALID_JSON",
+                        String.format("JSON nesting depth exceeds maximum of %d levels", tooDeep.getMaxDepth()),
+                        HttpStatus.BAD_REQUEST.value(),
+                        Instant.now()
+                );
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+            if (cause instanceof StreamConstraintsException) {
+                return payloadTooLarge("Request body exceeds configured size limits");
+            }
+        }
+
+        ErrorResponse error = new ErrorResponse(
+                "MALFORMED_REQUEST",
+                "Malformed request body",
+                HttpStatus.BAD_REQUEST.value(),
+                Instant.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    private ResponseEntity<ErrorResponse> payloadTooLarge(String message) {
+        ErrorResponse error = new ErrorResponse(
+                "PAYLOAD_TOO_LARGE",
+                message,
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                Instant.now()
+        );
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
+
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public ResponseEntity<ChangeFeedExpiredErrorResponse> handleChangeFeedExpired(ChangeFeedExpiredException ex) {
+        ChangeFeedExpiredErrorResponse error = new ChangeFeedExpiredErrorResponse(
+                ex.getErrorCode(),
+                ex.getMessage(),
+                HttpStatus.GONE.value(),
+                Instant.now(),
+                ex.getCompactedThrough(),
+                ex.getHead()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    /**
+     * Lost write races: 412 when an If-Match precondition failed, 409 when retries ran out.
+     * The current version is returned, so the client can rebase and retry against it.
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<VersionConflictErrorResponse> handleVersionConflict(VersionConflictException ex) {
+        HttpStatus status = ex.isPreconditionFailure() ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        VersionConflictErrorResponse error = new VersionConflictErrorResponse(
+                ex.getErrorCode(),
+                ex.getMessage(),
+                status.value(),
+                Instant.now(),
+                ex.getCurrent().map(VersionDigest::versionNumber).orElse(null)
+        );
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        ex.getCurrent().ifPresent(current -> builder.eTag(current.etag()));
+        return builder.body(error);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -179,6 +261,30 @@ public class GlobalExceptionHandler {
             Object rejectedValue
     ) {}
 
+    /**
+     * Version conflict error response with the current version number, if any.
+     */
+    public record VersionConflictErrorResponse(
+            String error,
+            String message,
+            int status,
+            Instant timestamp,
+            Integer currentVersion
+    ) {}
+
+    /**
+     * Change feed expired error response with the compaction horizon and the feed head,
+     * so the consumer knows how far it fell behind before resynchronizing.
+     */
+    public record ChangeFeedExpiredErrorResponse(
+            String error,
+            String message,
+            int status,
+            Instant timestamp,
+            long compactedThrough,
+            long head
+    ) {}
+
     /**
      * Schema violation error response with list of violations.
      */
@@ -0,0 +1,99 @@
+package com.metadata.versioning.adapter.in.rest.filter;
+
+import com.metadata.versioning.adapter.out.persistence.routing.ReadYourWritesTracker;
+import jakarta.servlet.*;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Servlet filter that identifies the client of each request for read replica routing,
+ * so a client's reads right after its own writes are served by the primary.
+ * 
+ * Clients are identified by principal and by HTTP session, if they have one. Addresses are
+ * not used: every client behind the same proxy or load balancer shares one, so a single write
+ * would send all their reads to the primary.
+ * 
+ * Writes are only remembered by the node that served them, so the first write of a request
+ * also sets the {@value #LAST_WRITE_COOKIE} cookie to the time of the write, for as long as
+ * writes are remembered. Every node honours the cookie, so a client reading from another node
+ * right after a write still reads from the primary, without sticky sessions. Clients that keep
+ * cookies are covered even if anonymous; node clocks must agree to well within the window.
+ * Must run after authentication to see the principal.
+ */
+public class ReadYourWritesFilter implements Filter {
+
+    public static final String LAST_WRITE_COOKIE = "last-write";
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        tracker.bind(clientKeys((HttpServletRequest) request), lastWriteMillis((HttpServletRequest) request),
+                wroteAtMillis -> markWrite(httpResponse, wroteAtMillis));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tracker.unbind();
+        }
+    }
+
+    private static List<String> clientKeys(HttpServletRequest request) {
+        List<String> keys = new ArrayList<>(2);
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            keys.add("principal:" + principal.getName());
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            keys.add("session:" + session.getId());
+        }
+        return keys;
+    }
+
+    private static long lastWriteMillis(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private void markWrite(HttpServletResponse response, long wroteAtMillis) {
+        // Responses streamed before their writes cannot carry the marker; those writes stay node-local
+        if (response.isCommitted()) {
+            return;
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(wroteAtMillis))
+                .path("/")
+                .maxAge(tracker.retention())
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString());
+    }
+}
@@ -0,0 +1,194 @@
+package com.metadata.versioning.adapter.in.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.exception.GlobalExceptionHandler.ErrorResponse;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servlet filter that rejects oversize request bodies before they are parsed (FR-025).
+ * - Declared Content-Length above the limit: 413 without reading the body
+ * - Chunked or under-declared bodies: the stream fails once the limit is crossed,
+ *   which surfaces as 413 through the exception handler
+ * Streaming endpoints (bulk import) are exempt; they limit each record instead.
+ * Rejections are counted for monitoring.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestBodyLimitFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestBodyLimitFilter.class);
+
+    private final long maxRequestBytes;
+    private final Set<String> streamingPaths;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder rejectedBytes = new LongAdder();
+
+    public RequestBodyLimitFilter(@Value("${app.ingestion.max-request-bytes:2097152}") long maxRequestBytes,
+                                  @Value("${app.ingestion.streaming-paths:/api/v1/metadata/import}") String[] streamingPaths,
+                                  ObjectMapper objectMapper) {
+        this.maxRequestBytes = maxRequestBytes;
+        this.streamingPaths = Set.of(streamingPaths);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if (!hasBody(httpRequest) || streamingPaths.contains(httpRequest.getRequestURI())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long declaredLength = httpRequest.getContentLengthLong();
+        if (declaredLength > maxRequestBytes) {
+            recordRejection(declaredLength);
+            logger.debug("Rejected {} {}: declared body of {} bytes exceeds {}",
+                    httpRequest.getMethod(), httpRequest.getRequestURI(), declaredLength, maxRequestBytes);
+            writePayloadTooLarge(httpResponse);
+            return;
+        }
+
+        chain.doFilter(new LimitedRequest(httpRequest), response);
+    }
+
+    /**
+     * Maximum accepted request body size in bytes.
+     */
+    public long getMaxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    /**
+     * Number of requests rejected for exceeding the body limit.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    /**
+     * Bytes declared or received by rejected requests.
+     */
+    public long rejectedBytes() {
+        return rejectedBytes.sum();
+    }
+
+    private boolean hasBody(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    }
+
+    private void recordRejection(long bytes) {
+        rejectedRequests.increment();
+        rejectedBytes.add(bytes);
+    }
+
+    private void writePayloadTooLarge(HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                "PAYLOAD_TOO_LARGE",
+                new RequestBodyTooLargeException(maxRequestBytes).getMessage(),
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                Instant.now()
+        );
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Connection", "close");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Request wrapper whose body stream fails as soon as the limit is crossed.
+     */
+    private class LimitedRequest extends HttpServletRequestWrapper {
+
+        private ServletInputStream inputStream;
+
+        LimitedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new CountingInputStream(super.getInputStream());
+            }
+            return inputStream;
+        }
+    }
+
+    private class CountingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private long count;
+        private boolean rejected;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                advance(read);
+            }
+            return read;
+        }
+
+        private void advance(int bytes) throws RequestBodyTooLargeException {
+            count += bytes;
+            if (count > maxRequestBytes) {
+                if (!rejected) {
+                    rejected = true;
+                    recordRejection(count);
+                }
+                throw new RequestBodyTooLargeException(maxRequestBytes);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.metadata.versioning.adapter.in.rest.filter;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a request body that grows past the configured limit.
+ * Raised from the input stream so that body readers stop before buffering the rest.
+ */
+public class RequestBodyTooLargeException extends IOException {
+
+    private final long maxBytes;
+
+    public RequestBodyTooLargeException(long maxBytes) {
+        super(String.format("Request body exceeds maximum size of %d bytes", maxBytes));
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
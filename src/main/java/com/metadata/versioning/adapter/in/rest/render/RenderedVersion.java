@@ -0,0 +1,39 @@
+package com.metadata.versioning.adapter.in.rest.render;
+
+/**
+ * Version response body rendered once to compact JSON, with its gzip encoding.
+ * The arrays are shared between requests and must not be modified.
+ * 
+ * @param etag Entity tag of the identity encoding, or null if the body could not be tied to a digest
+ * @param identity Compact UTF-8 JSON body
+ * @param gzip Gzip-compressed body
+ */
+public record RenderedVersion(String etag, byte[] identity, byte[] gzip) {
+
+    /**
+     * Suffix marking the gzip variant of an entity tag.
+     */
+    public static final String GZIP_SUFFIX = "-gzip";
+
+    /**
+     * Entity tag of the given encoding, or null if the body has no tag.
+     */
+    public String etag(boolean gzipped) {
+        return etag == null ? null : variantTag(etag, gzipped);
+    }
+
+    /**
+     * Entity tag of an encoding of the representation with the given tag. Each content
+     * coding is a distinct representation, so the gzip variant gets its own strong tag.
+     */
+    public static String variantTag(String etag, boolean gzipped) {
+        return gzipped ? etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"" : etag;
+    }
+
+    /**
+     * Body of the given encoding.
+     */
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : identity;
+    }
+}
@@ -0,0 +1,181 @@
+package com.metadata.versioning.adapter.in.rest.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.metadata.versioning.adapter.in.rest.dto.VersionResponse;
+import com.metadata.versioning.application.cache.WeightedLruCache;
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.application.event.VersionActivatedEvent;
+import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.application.service.MetadataQueryService;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of active version response bodies (FR-007), rendered once to compact JSON
+ * and gzip, so reads of the hottest endpoint copy bytes instead of building and
+ * serializing a response tree per request.
+ * 
+ * Activations on this node render the new body right after commit. Other changes,
+ * including those received from other nodes, evict entries and the next read renders.
+ */
+@Component
+public class RenderedVersionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderedVersionCache.class);
+
+    // Approximate per-entry overhead beyond the two byte arrays
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final WeightedLruCache<Key, RenderedVersion> cache;
+    private final GetActiveVersionUseCase getActiveVersionUseCase;
+    private final MetadataQueryService metadataQueryService;
+    private final ObjectWriter writer;
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+
+    public RenderedVersionCache(GetActiveVersionUseCase getActiveVersionUseCase,
+                                MetadataQueryService metadataQueryService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.cache.rendered-version.max-weight-bytes:33554432}") long maxWeightBytes) {
+        this.getActiveVersionUseCase = getActiveVersionUseCase;
+        this.metadataQueryService = metadataQueryService;
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.cache = new WeightedLruCache<>(maxWeightBytes, RenderedVersionCache::weigh);
+    }
+
+    /**
+     * Return the rendered active version described by the digest, rendering it on a miss.
+     * 
+     * @return The rendered body, or empty if the document has no active version
+     */
+    public Optional<RenderedVersion> getActive(String type, String name, VersionDigest digest) {
+        Key key = new Key(type, name, digest.versionNumber());
+        String etag = digest.etag();
+        Optional<RenderedVersion> cached = cache.get(key).filter(rendered -> etag.equals(rendered.etag()));
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long stamp = cache.stamp();
+        return getActiveVersionUseCase.getActiveVersion(type, name).map(version -> {
+            if (!digest.describes(version)) {
+                // Changed since the digest was read: serve it once, without a tag, uncached
+                return render(version, type, name, null);
+            }
+            RenderedVersion rendered = render(version, type, name, etag);
+            cache.put(key, rendered, stamp);
+            return rendered;
+        });
+    }
+
+    /**
+     * Render a newly activated version once its transaction has committed.
+     * Runs after the active version cache has been evicted by the same commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVersionActivated(VersionActivatedEvent event) {
+        try {
+            metadataQueryService.getActiveVersionDigest(event.type(), event.name())
+                    .filter(digest -> digest.versionNumber() == event.versionNumber())
+                    .ifPresent(digest -> getActive(event.type(), event.name(), digest));
+        } catch (RuntimeException e) {
+            // The activation is committed; the first read renders instead
+            logger.warn("Could not pre-render active version {}:{} v{}",
+                    event.type(), event.name(), event.versionNumber(), e);
+        }
+    }
+
+    /**
+     * Evict bodies whose active flag or state may have changed.
+     * Ordered before the pre-render of the same commit so it does not evict the new body.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveVersionChanged(ActiveVersionChangedEvent event) {
+        if (event.isTypeWide()) {
+            cache.invalidateIf(key -> key.type().equals(event.type()));
+        } else {
+            cache.invalidateIf(key -> key.type().equals(event.type()) && key.name().equals(event.name()));
+        }
+    }
+
+    /**
+     * Drop everything when changes may have been missed.
+     */
+    @EventListener
+    public void onFlushRequested(CacheFlushRequestedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     */
+    public WeightedLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Number of response bodies rendered.
+     */
+    public long renders() {
+        return renders.sum();
+    }
+
+    /**
+     * Total time spent rendering response bodies, in nanoseconds.
+     */
+    public long renderNanos() {
+        return renderNanos.sum();
+    }
+
+    private RenderedVersion render(Version version, String type, String name, String etag) {
+        long start = System.nanoTime();
+        try {
+            byte[] identity = writer.writeValueAsBytes(VersionResponse.fromDomain(version, type, name));
+            return new RenderedVersion(etag, identity, gzip(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render version " + type + ":" + name
+                    + " v" + version.versionNumber(), e);
+        } finally {
+            renders.increment();
+            renderNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static long weigh(RenderedVersion rendered) {
+        return ENTRY_OVERHEAD_BYTES + rendered.identity().length + rendered.gzip().length;
+    }
+
+    private record Key(String type, String name, int versionNumber) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.metadata.versioning.adapter.out.config;
+
+import com.metadata.versioning.adapter.out.invalidation.CacheInvalidationChannel;
+import com.metadata.versioning.adapter.out.invalidation.JdbcNotificationSource;
+import com.metadata.versioning.adapter.out.invalidation.NotificationSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Configuration for cross-node cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ * Every node listens on the same channel; each node gets a random id so it can
+ * skip the notifications it sent itself.
+ */
+@Configuration
+@Profile("!test")
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Bean
+    public CacheInvalidationChannel cacheInvalidationChannel(
+            @Value("${app.cache.invalidation.channel:metadata_cache_invalidation}") String channel) {
+        return new CacheInvalidationChannel(channel, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Subscriptions hold one pooled connection for as long as they are healthy.
+     */
+    @Bean
+    public NotificationSource.Connector notificationSourceConnector(DataSource dataSource) {
+        return channel -> new JdbcNotificationSource(dataSource.getConnection(), channel,
+                (connection, timeoutMillis) -> {
+                    PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                            .getNotifications((int) timeoutMillis);
+                    return notifications == null
+                            ? List.of()
+                            : Arrays.stream(notifications).map(PGNotification::getParameter).toList();
+                });
+    }
+}
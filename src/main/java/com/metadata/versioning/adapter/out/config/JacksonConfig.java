@@ -1,11 +1,15 @@
 package com.metadata.versioning.adapter.out.config;
 
+import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.metadata.versioning.domain.validator.JsonStructureValidator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 
 /**
  * Jackson configuration for JSON serialization/deserialization.
@@ -28,4 +32,37 @@ public class JacksonConfig {
         
         return mapper;
     }
+
+    /**
+     * HTTP message converter with read constraints matching the ingestion limits (FR-011, FR-025).
+     * Request bodies that are too long or nested too deeply fail while streaming,
+     * before a full tree is materialised. The request envelope adds one nesting level
+     * on top of the content limit. The primary ObjectMapper stays unconstrained so
+     * stored documents and internal conversions are unaffected.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${app.ingestion.max-request-bytes:2097152}") long maxRequestBytes) {
+        ObjectMapper requestMapper = objectMapper.copy();
+        requestMapper.getFactory().setStreamReadConstraints(JsonStructureValidator.readConstraints(
+                StreamReadConstraints.builder()
+                        .maxDocumentLength(maxRequestBytes)
+                        .maxStringLength((int) Math.min(maxRequestBytes, Integer.MAX_VALUE))
+                        .build(),
+                1));
+        return new MappingJackson2HttpMessageConverter(requestMapper);
+    }
+
+    /**
+     * Mapper reading bulk import lines. Lines nested too deeply fail while parsing instead of
+     * being read into a tree first; each line adds one level around its content.
+     */
+    @Bean
+    public ObjectMapper importLineMapper(ObjectMapper objectMapper) {
+        ObjectMapper lineMapper = objectMapper.copy();
+        lineMapper.getFactory().setStreamReadConstraints(JsonStructureValidator.readConstraints(
+                lineMapper.getFactory().streamReadConstraints(), 1));
+        return lineMapper;
+    }
 }
@@ -1,12 +1,34 @@
 package com.metadata.versioning.adapter.out.config;
 
+import com.metadata.versioning.adapter.in.rest.filter.RequestBodyLimitFilter;
+import com.metadata.versioning.adapter.in.rest.render.RenderedVersionCache;
+import com.metadata.versioning.adapter.out.invalidation.CacheInvalidationListener;
+import com.metadata.versioning.adapter.out.persistence.routing.ReadReplicaRoutingDataSource;
+import com.metadata.versioning.adapter.out.persistence.routing.ReplicaLagMonitor;
+import com.metadata.versioning.application.cache.ActiveVersionCache;
+import com.metadata.versioning.application.cache.VersionComparisonCache;
+import com.metadata.versioning.application.service.AuditLogService;
+import com.metadata.versioning.application.service.BulkImportService;
+import com.metadata.versioning.application.service.ChangeFeedService;
+import com.metadata.versioning.application.service.ChangeStreamService;
+import com.metadata.versioning.application.service.ConcurrentWriteRetry;
+import com.metadata.versioning.application.service.VersionComparisonService;
+import com.metadata.versioning.application.service.VersionDeltaPrecomputer;
+import com.metadata.versioning.domain.validator.SchemaValidator;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuration for Micrometer metrics and application monitoring.
  * Provides timing metrics for use case execution and performance tracking.
@@ -59,4 +81,441 @@ public class MetricsConfig {
                 .tag("operation", "validate")
                 .register(registry);
     }
+
+    /**
+     * Compiled JSON Schema cache metrics.
+     */
+    @Bean
+    public MeterBinder schemaCacheMetrics(SchemaValidator schemaValidator) {
+        return registry -> {
+            FunctionCounter.builder("metadata.schema.cache.requests", schemaValidator,
+                            validator -> validator.stats().hits())
+                    .description("Compiled schema cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.schema.cache.requests", schemaValidator,
+                            validator -> validator.stats().misses())
+                    .description("Compiled schema cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("metadata.schema.cache.size", schemaValidator,
+                            validator -> validator.stats().size())
+                    .description("Number of compiled schemas held in the cache")
+                    .register(registry);
+            FunctionTimer.builder("metadata.schema.compilation", schemaValidator,
+                            validator -> validator.stats().compilations(),
+                            validator -> validator.stats().compileNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent compiling JSON schemas")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Request body limit rejections (FR-025).
+     */
+    @Bean
+    public MeterBinder requestBodyLimitMetrics(RequestBodyLimitFilter requestBodyLimitFilter) {
+        return registry -> {
+            FunctionCounter.builder("metadata.ingestion.rejected.requests", requestBodyLimitFilter,
+                            RequestBodyLimitFilter::rejectedRequests)
+                    .description("Requests rejected for exceeding the body size limit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.ingestion.rejected.bytes", requestBodyLimitFilter,
+                            RequestBodyLimitFilter::rejectedBytes)
+                    .description("Bytes declared or received by rejected requests")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Active version cache metrics (FR-007).
+     */
+    @Bean
+    public MeterBinder activeVersionCacheMetrics(ActiveVersionCache activeVersionCache) {
+        return registry -> {
+            FunctionCounter.builder("metadata.cache.active.requests", activeVersionCache,
+                            cache -> cache.stats().hits())
+                    .description("Active version cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.active.requests", activeVersionCache,
+                            cache -> cache.stats().misses())
+                    .description("Active version cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.active.evictions", activeVersionCache,
+                            cache -> cache.stats().evictions())
+                    .description("Entries evicted to stay within the weight limit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.active.digest.requests", activeVersionCache,
+                            cache -> cache.digestStats().hits())
+                    .description("Active version digest lookups for conditional reads")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.active.digest.requests", activeVersionCache,
+                            cache -> cache.digestStats().misses())
+                    .description("Active version digest lookups for conditional reads")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("metadata.cache.active.hit.ratio", activeVersionCache,
+                            cache -> cache.stats().hitRatio())
+                    .description("Fraction of active version reads served from cache")
+                    .register(registry);
+            Gauge.builder("metadata.cache.active.size", activeVersionCache,
+                            cache -> cache.stats().size())
+                    .description("Number of cached active versions")
+                    .register(registry);
+            Gauge.builder("metadata.cache.active.weight", activeVersionCache,
+                            cache -> cache.stats().weightedSize())
+                    .description("Weighted size of cached active versions")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Version comparison result cache metrics, per tier (FR-010).
+     * The hit ratio counts comparisons answered by either tier; the timer covers diffs computed on a miss.
+     */
+    @Bean
+    public MeterBinder versionComparisonCacheMetrics(VersionComparisonCache comparisonCache) {
+        return registry -> {
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonCache,
+                            cache -> cache.stats().hits())
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "memory")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonCache,
+                            cache -> cache.stats().misses())
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "memory")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonCache,
+                            VersionComparisonCache::storedHits)
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "stored")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonCache,
+                            VersionComparisonCache::storedMisses)
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "stored")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.stores", comparisonCache,
+                            VersionComparisonCache::stores)
+                    .description("Slow comparisons stored for all nodes")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.evictions", comparisonCache,
+                            cache -> cache.stats().evictions())
+                    .description("Entries evicted to stay within the weight limit")
+                    .register(registry);
+            Gauge.builder("metadata.cache.comparison.hit.ratio", comparisonCache,
+                            VersionComparisonCache::hitRatio)
+                    .description("Fraction of version comparisons served without diffing")
+                    .register(registry);
+            Gauge.builder("metadata.cache.comparison.size", comparisonCache,
+                            cache -> cache.stats().size())
+                    .description("Number of comparisons cached in process")
+                    .register(registry);
+            Gauge.builder("metadata.cache.comparison.weight", comparisonCache,
+                            cache -> cache.stats().weightedSize())
+                    .description("Weighted size of comparisons cached in process")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionTimer.builder("metadata.version.diff", comparisonCache,
+                            VersionComparisonCache::computations,
+                            VersionComparisonCache::computeNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent diffing versions missing from both cache tiers")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Patches precomputed from the previous version (FR-010).
+     * Queue lag is the age of the oldest version waiting for its patch; adjacent comparisons and
+     * changelog entries read stored patches, counted as the delta tier of the comparison cache.
+     */
+    @Bean
+    public MeterBinder versionDeltaMetrics(VersionDeltaPrecomputer precomputer,
+                                           VersionComparisonService comparisonService) {
+        return registry -> {
+            Gauge.builder("metadata.version.delta.queue.depth", precomputer,
+                            VersionDeltaPrecomputer::queueDepth)
+                    .description("Versions waiting for their patch to be computed")
+                    .register(registry);
+            Gauge.builder("metadata.version.delta.queue.lag", precomputer,
+                            worker -> worker.lagNanos() / 1e9)
+                    .description("Time the oldest waiting version has been queued")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionTimer.builder("metadata.version.delta.wait", precomputer,
+                            VersionDeltaPrecomputer::computations,
+                            VersionDeltaPrecomputer::waitNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time versions spent queued before their patch was computed")
+                    .register(registry);
+            FunctionTimer.builder("metadata.version.delta.compute", precomputer,
+                            VersionDeltaPrecomputer::computations,
+                            VersionDeltaPrecomputer::computeNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent computing and storing patches")
+                    .register(registry);
+            FunctionCounter.builder("metadata.version.delta.stored", precomputer,
+                            VersionDeltaPrecomputer::storedPatches)
+                    .description("Patches stored")
+                    .register(registry);
+            FunctionCounter.builder("metadata.version.delta.dropped", precomputer,
+                            VersionDeltaPrecomputer::droppedRequests)
+                    .description("Versions left without a patch until compared")
+                    .tag("reason", "queue-full")
+                    .register(registry);
+            FunctionCounter.builder("metadata.version.delta.dropped", precomputer,
+                            VersionDeltaPrecomputer::failedPatches)
+                    .description("Versions left without a patch until compared")
+                    .tag("reason", "compute-failed")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonService,
+                            VersionComparisonService::deltaHits)
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "delta")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.comparison.requests", comparisonService,
+                            VersionComparisonService::deltaMisses)
+                    .description("Version comparison cache lookups")
+                    .tag("tier", "delta")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Pre-rendered active version body metrics.
+     */
+    @Bean
+    public MeterBinder renderedVersionCacheMetrics(RenderedVersionCache renderedVersionCache) {
+        return registry -> {
+            FunctionCounter.builder("metadata.cache.rendered.requests", renderedVersionCache,
+                            cache -> cache.stats().hits())
+                    .description("Rendered active version body lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.rendered.requests", renderedVersionCache,
+                            cache -> cache.stats().misses())
+                    .description("Rendered active version body lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("metadata.cache.rendered.weight", renderedVersionCache,
+                            cache -> cache.stats().weightedSize())
+                    .description("Size of cached response bodies, both encodings")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionTimer.builder("metadata.version.render", renderedVersionCache,
+                            RenderedVersionCache::renders,
+                            RenderedVersionCache::renderNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent rendering active version bodies")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Bulk import throughput and per-stage latency.
+     * Record rates give throughput; stage timers split time into reading, validating and writing.
+     */
+    @Bean
+    public MeterBinder bulkImportMetrics(BulkImportService bulkImportService) {
+        return registry -> {
+            FunctionCounter.builder("metadata.import.records", bulkImportService,
+                            service -> service.stats().created())
+                    .description("Records processed by bulk imports")
+                    .tag("outcome", "created")
+                    .register(registry);
+            FunctionCounter.builder("metadata.import.records", bulkImportService,
+                            service -> service.stats().appended())
+                    .description("Records processed by bulk imports")
+                    .tag("outcome", "appended")
+                    .register(registry);
+            FunctionCounter.builder("metadata.import.records", bulkImportService,
+                            service -> service.stats().rejected())
+                    .description("Records processed by bulk imports")
+                    .tag("outcome", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("metadata.import.requests", bulkImportService,
+                            service -> service.stats().imports())
+                    .description("Completed bulk imports")
+                    .register(registry);
+            FunctionTimer.builder("metadata.import.stage", bulkImportService,
+                            service -> service.stats().chunks(),
+                            service -> service.stats().readNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time per chunk spent in each bulk import stage")
+                    .tag("stage", "read")
+                    .register(registry);
+            FunctionTimer.builder("metadata.import.stage", bulkImportService,
+                            service -> service.stats().chunks(),
+                            service -> service.stats().validateNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time per chunk spent in each bulk import stage")
+                    .tag("stage", "validate")
+                    .register(registry);
+            FunctionTimer.builder("metadata.import.stage", bulkImportService,
+                            service -> service.stats().chunks(),
+                            service -> service.stats().writeNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time per chunk spent in each bulk import stage")
+                    .tag("stage", "write")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Optimistic write retries on contended documents.
+     */
+    @Bean
+    public MeterBinder concurrentWriteMetrics(ConcurrentWriteRetry concurrentWriteRetry) {
+        return registry -> {
+            FunctionCounter.builder("metadata.write.retries", concurrentWriteRetry, ConcurrentWriteRetry::retries)
+                    .description("Writes re-run after losing an optimistic lock race")
+                    .register(registry);
+            FunctionCounter.builder("metadata.write.conflicts", concurrentWriteRetry, ConcurrentWriteRetry::exhausted)
+                    .description("Writes rejected with 409 after all attempts conflicted")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Audit trail buffering and batched writes.
+     * Mean batch size is metadata.audit.written divided by the metadata.audit.write count.
+     */
+    @Bean
+    public MeterBinder auditLogMetrics(AuditLogService auditLogService) {
+        return registry -> {
+            Gauge.builder("metadata.audit.queue.depth", auditLogService, AuditLogService::queueDepth)
+                    .description("Audit entries waiting to be written")
+                    .register(registry);
+            Gauge.builder("metadata.audit.queue.capacity", auditLogService, AuditLogService::queueCapacity)
+                    .description("Audit entries the buffer can hold")
+                    .register(registry);
+            Gauge.builder("metadata.audit.batch.size", auditLogService, AuditLogService::lastBatchSize)
+                    .description("Entries in the most recently written audit batch")
+                    .register(registry);
+            FunctionCounter.builder("metadata.audit.written", auditLogService, AuditLogService::writtenEntries)
+                    .description("Audit entries stored")
+                    .register(registry);
+            FunctionCounter.builder("metadata.audit.dropped", auditLogService, AuditLogService::overflowedEntries)
+                    .description("Audit entries dropped")
+                    .tag("reason", "buffer-full")
+                    .register(registry);
+            FunctionCounter.builder("metadata.audit.dropped", auditLogService, AuditLogService::failedEntries)
+                    .description("Audit entries dropped")
+                    .tag("reason", "write-failed")
+                    .register(registry);
+            FunctionTimer.builder("metadata.audit.write", auditLogService,
+                            AuditLogService::batches,
+                            AuditLogService::writeNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent writing audit batches")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Change feed compaction.
+     */
+    @Bean
+    public MeterBinder changeFeedMetrics(ChangeFeedService changeFeedService) {
+        return registry -> FunctionCounter.builder("metadata.changes.compacted", changeFeedService,
+                        ChangeFeedService::compactedEntries)
+                .description("Change feed entries removed by compaction")
+                .register(registry);
+    }
+
+    /**
+     * Server-Sent Events stream of activations.
+     */
+    @Bean
+    public MeterBinder changeStreamMetrics(ChangeStreamService changeStreamService) {
+        return registry -> {
+            Gauge.builder("metadata.stream.subscribers", changeStreamService, ChangeStreamService::subscriberCount)
+                    .description("Open change stream subscriptions")
+                    .register(registry);
+            FunctionCounter.builder("metadata.stream.delivered", changeStreamService,
+                            ChangeStreamService::deliveredChanges)
+                    .description("Changes delivered to stream subscribers")
+                    .register(registry);
+            FunctionCounter.builder("metadata.stream.resyncs", changeStreamService, ChangeStreamService::resyncs)
+                    .description("Subscribers told to resync because changes could not be delivered")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Read replica routing decisions and lag, when a replica is configured.
+     * Both pools also export the standard hikaricp metrics, tagged by pool name.
+     */
+    @Bean
+    public MeterBinder readReplicaMetrics(ObjectProvider<ReadReplicaRoutingDataSource> routingProvider,
+                                          ObjectProvider<ReplicaLagMonitor> lagMonitorProvider) {
+        return registry -> {
+            routingProvider.ifAvailable(routing -> {
+                FunctionCounter.builder("metadata.datasource.routed", routing,
+                                ReadReplicaRoutingDataSource::primaryRoutes)
+                        .description("Connections routed to each pool")
+                        .tag("pool", "primary")
+                        .register(registry);
+                FunctionCounter.builder("metadata.datasource.routed", routing,
+                                ReadReplicaRoutingDataSource::replicaRoutes)
+                        .description("Connections routed to each pool")
+                        .tag("pool", "replica")
+                        .register(registry);
+                FunctionCounter.builder("metadata.datasource.replica.fallbacks", routing,
+                                ReadReplicaRoutingDataSource::readYourWritesFallbacks)
+                        .description("Read-only transactions sent to the primary")
+                        .tag("reason", "read-your-writes")
+                        .register(registry);
+                FunctionCounter.builder("metadata.datasource.replica.fallbacks", routing,
+                                ReadReplicaRoutingDataSource::lagFallbacks)
+                        .description("Read-only transactions sent to the primary")
+                        .tag("reason", "lag")
+                        .register(registry);
+            });
+            lagMonitorProvider.ifAvailable(monitor ->
+                    Gauge.builder("metadata.datasource.replica.lag", monitor, ReplicaLagMonitor::lagMillis)
+                            .description("Replica replay lag, -1 when unknown")
+                            .baseUnit("milliseconds")
+                            .register(registry));
+        };
+    }
+
+    /**
+     * Cross-node cache invalidation listener metrics, when the listener is enabled.
+     */
+    @Bean
+    public MeterBinder cacheInvalidationMetrics(ObjectProvider<CacheInvalidationListener> listenerProvider) {
+        return registry -> listenerProvider.ifAvailable(listener -> {
+            FunctionCounter.builder("metadata.cache.invalidation.received", listener,
+                            CacheInvalidationListener::receivedNotifications)
+                    .description("Invalidations received from other nodes")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.invalidation.reconnects", listener,
+                            CacheInvalidationListener::reconnects)
+                    .description("Times the invalidation subscription was re-established")
+                    .register(registry);
+            FunctionCounter.builder("metadata.cache.invalidation.flushes", listener,
+                            CacheInvalidationListener::flushes)
+                    .description("Full cache flushes after possible missed invalidations")
+                    .register(registry);
+            Gauge.builder("metadata.cache.invalidation.connected", listener,
+                            l -> l.isConnected() ? 1 : 0)
+                    .description("Whether the invalidation subscription is established")
+                    .register(registry);
+        });
+    }
 }
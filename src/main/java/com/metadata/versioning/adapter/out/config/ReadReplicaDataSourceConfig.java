@@ -0,0 +1,125 @@
+package com.metadata.versioning.adapter.out.config;
+
+import com.metadata.versioning.adapter.in.rest.filter.ReadYourWritesFilter;
+import com.metadata.versioning.adapter.out.persistence.routing.ReadReplicaRoutingDataSource;
+import com.metadata.versioning.adapter.out.persistence.routing.ReadYourWritesTracker;
+import com.metadata.versioning.adapter.out.persistence.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration for serving read-only transactions from a read replica.
+ * 
+ * Replaces the auto-configured pool with two named pools, "primary" from spring.datasource
+ * and "replica" from app.datasource.replica, each exporting its own hikaricp metrics.
+ * Everything injecting a DataSource (JPA, JdbcTemplate) gets the routing proxy;
+ * Flyway migrates the primary directly.
+ * 
+ * The replica can be any PostgreSQL instance holding the same schema, such as a streaming
+ * standby or, for local testing, a second instance loaded from the same migrations.
+ */
+@Configuration
+@Profile("!test")
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Writes are remembered for the longest window a read may be held back:
+     * the configured window or the maximum tolerated lag.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${app.datasource.replica.max-lag:10s}") Duration maxLag) {
+        return new ReadYourWritesTracker(window.compareTo(maxLag) >= 0 ? window : maxLag);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               @Value("${app.datasource.replica.max-lag:10s}") Duration maxLag) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), maxLag);
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                readYourWritesTracker, replicaLagMonitor, readYourWritesWindow);
+    }
+
+    /**
+     * Routing happens at the first statement, after the transaction is marked read-only.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    /**
+     * Runs right after Spring Security, so authenticated principals are known.
+     * Clients carry their last write to other nodes in a cookie set by this filter, so
+     * read-your-writes holds behind a load balancer without sticky sessions as long as
+     * clients keep cookies and node clocks are synchronized.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesTracker tracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,12 @@
+package com.metadata.versioning.adapter.out.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled maintenance tasks, such as change feed compaction.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -44,6 +44,8 @@ public class SecurityConfig {
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 // Public read access
                 .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
+                // Batch read of active versions posts its keys but is a read
+                .requestMatchers(HttpMethod.POST, "/api/v1/metadata/active").permitAll()
                 // Actuator endpoints public
                 .requestMatchers("/actuator/**").permitAll()
                 // Write operations require authentication
@@ -0,0 +1,24 @@
+package com.metadata.versioning.adapter.out.config;
+
+import com.metadata.versioning.domain.validator.SchemaValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for domain validators shared across application services.
+ */
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Single schema validator so compiled schemas are cached application-wide.
+     */
+    @Bean
+    public SchemaValidator schemaValidator(
+            @Value("${app.validation.schema-cache-size:" + SchemaValidator.DEFAULT_MAX_CACHED_SCHEMAS + "}")
+            int schemaCacheSize,
+            @Value("${app.validation.fail-fast:false}") boolean failFast) {
+        return new SchemaValidator(schemaCacheSize, failFast);
+    }
+}
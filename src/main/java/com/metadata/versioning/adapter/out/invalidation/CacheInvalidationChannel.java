@@ -0,0 +1,15 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import java.util.Objects;
+
+/**
+ * Notification channel shared by all nodes, and the identity of this node on it.
+ * Messages carry the sender's node id so a node can ignore its own notifications.
+ */
+public record CacheInvalidationChannel(String name, String nodeId) {
+
+    public CacheInvalidationChannel {
+        Objects.requireNonNull(name, "Channel name cannot be null");
+        Objects.requireNonNull(nodeId, "Node id cannot be null");
+    }
+}
@@ -0,0 +1,203 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.application.event.SchemaChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Receives cache invalidations broadcast by other nodes and republishes them as
+ * local application events, so every in-process cache evicts the affected keys.
+ * 
+ * Runs on a dedicated thread holding one subscription. When the subscription
+ * fails it reconnects with exponential backoff. Notifications sent while
+ * disconnected are lost, so every (re)connect requests a full cache flush.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    static final long POLL_TIMEOUT_MILLIS = 1_000;
+    static final long INITIAL_BACKOFF_MILLIS = 500;
+    static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final NotificationSource.Connector connector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationChannel channel;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread worker;
+
+    public CacheInvalidationListener(NotificationSource.Connector connector,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper,
+                                     CacheInvalidationChannel channel) {
+        this(connector, eventPublisher, objectMapper, channel, INITIAL_BACKOFF_MILLIS, MAX_BACKOFF_MILLIS);
+    }
+
+    CacheInvalidationListener(NotificationSource.Connector connector,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              CacheInvalidationChannel channel,
+                              long initialBackoffMillis,
+                              long maxBackoffMillis) {
+        this.connector = connector;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listen, "cache-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(POLL_TIMEOUT_MILLIS * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Check if the subscription is currently established.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Number of notifications received from other nodes.
+     */
+    public long receivedNotifications() {
+        return received.sum();
+    }
+
+    /**
+     * Number of times the subscription was re-established after a failure.
+     */
+    public long reconnects() {
+        return reconnects.sum();
+    }
+
+    /**
+     * Number of full cache flushes requested because notifications may have been missed.
+     */
+    public long flushes() {
+        return flushes.sum();
+    }
+
+    private void listen() {
+        long backoff = initialBackoffMillis;
+        boolean firstConnect = true;
+
+        while (running) {
+            try (NotificationSource source = connector.connect(channel.name())) {
+                connected = true;
+                if (!firstConnect) {
+                    reconnects.increment();
+                }
+                requestFlush(firstConnect ? "listener started" : "listener reconnected");
+                firstConnect = false;
+                backoff = initialBackoffMillis;
+                logger.info("Listening for cache invalidations on channel {}", channel.name());
+
+                while (running) {
+                    for (String payload : source.poll(POLL_TIMEOUT_MILLIS)) {
+                        handle(payload);
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Cache invalidation listener failed, retrying in {}ms: {}", backoff, e.getMessage());
+            } finally {
+                connected = false;
+            }
+
+            if (!sleep(backoff)) {
+                break;
+            }
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    private void handle(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            logger.warn("Unreadable cache invalidation payload, flushing caches: {}", payload);
+            requestFlush("unreadable invalidation payload");
+            return;
+        }
+
+        if (channel.nodeId().equals(message.origin())) {
+            // Already applied locally when the change committed
+            return;
+        }
+        received.increment();
+
+        switch (message.kind()) {
+            case ACTIVE_VERSION -> eventPublisher.publishEvent(
+                    ActiveVersionChangedEvent.fromRemote(message.type(), message.name()));
+            case SCHEMA -> eventPublisher.publishEvent(SchemaChangedEvent.fromRemote(message.type()));
+        }
+    }
+
+    private void requestFlush(String reason) {
+        flushes.increment();
+        eventPublisher.publishEvent(new CacheFlushRequestedEvent(reason));
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+/**
+ * Payload sent over the invalidation channel.
+ * 
+ * @param origin Node id of the sender
+ * @param kind What changed
+ * @param type Document or schema type
+ * @param name Document name, or null for type-wide changes
+ */
+public record CacheInvalidationMessage(String origin, Kind kind, String type, String name) {
+
+    public enum Kind {
+        ACTIVE_VERSION,
+        SCHEMA
+    }
+}
@@ -0,0 +1,61 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.SchemaChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts local cache-affecting changes to the other nodes with PostgreSQL NOTIFY.
+ * The notification is issued inside the changing transaction, so PostgreSQL delivers
+ * it only if, and when, that transaction commits.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationChannel channel;
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                      CacheInvalidationChannel channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onActiveVersionChanged(ActiveVersionChangedEvent event) {
+        if (!event.remote()) {
+            notifyNodes(CacheInvalidationMessage.Kind.ACTIVE_VERSION, event.type(), event.name());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSchemaChanged(SchemaChangedEvent event) {
+        if (!event.remote()) {
+            notifyNodes(CacheInvalidationMessage.Kind.SCHEMA, event.type(), null);
+        }
+    }
+
+    private void notifyNodes(CacheInvalidationMessage.Kind kind, String type, String name) {
+        String payload;
+        try {
+            payload = objectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(new CacheInvalidationMessage(channel.nodeId(), kind, type, name));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation message", e);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> { }, channel.name(), payload);
+    }
+}
@@ -0,0 +1,79 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Notification source backed by a JDBC connection that has executed LISTEN.
+ * Reading notifications is driver specific and supplied as a {@link Poller}.
+ * The connection is checked periodically while idle so that silently dropped
+ * connections are detected and replaced.
+ */
+public class JdbcNotificationSource implements NotificationSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcNotificationSource.class);
+    private static final long IDLE_VALIDATION_MILLIS = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final Connection connection;
+    private final Poller poller;
+    private long lastActivity = System.currentTimeMillis();
+
+    public JdbcNotificationSource(Connection connection, String channel, Poller poller) throws SQLException {
+        if (!channel.matches("^[a-z_][a-z0-9_]*$")) {
+            connection.close();
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.connection = connection;
+        this.poller = poller;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        } catch (SQLException e) {
+            closeConnection();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> poll(long timeoutMillis) throws SQLException {
+        List<String> payloads = poller.poll(connection, timeoutMillis);
+        long now = System.currentTimeMillis();
+        if (!payloads.isEmpty()) {
+            lastActivity = now;
+        } else if (now - lastActivity > IDLE_VALIDATION_MILLIS) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Notification connection is no longer valid");
+            }
+            lastActivity = now;
+        }
+        return payloads;
+    }
+
+    @Override
+    public void close() {
+        closeConnection();
+    }
+
+    // Private, so the constructor can release the connection without calling an overridable method
+    private void closeConnection() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("Failed to close notification connection", e);
+        }
+    }
+
+    /**
+     * Driver specific retrieval of pending notification payloads.
+     */
+    @FunctionalInterface
+    public interface Poller {
+
+        List<String> poll(Connection connection, long timeoutMillis) throws SQLException;
+    }
+}
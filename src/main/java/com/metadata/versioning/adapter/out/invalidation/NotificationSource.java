@@ -0,0 +1,32 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A subscription to a notification channel, such as a PostgreSQL connection that ran LISTEN.
+ * Implementations are used by a single listener thread.
+ */
+public interface NotificationSource extends AutoCloseable {
+
+    /**
+     * Wait up to the timeout for notifications.
+     *
+     * @param timeoutMillis Maximum time to block
+     * @return Payloads received, in delivery order; empty on timeout
+     * @throws SQLException if the subscription is broken and must be re-established
+     */
+    List<String> poll(long timeoutMillis) throws SQLException;
+
+    @Override
+    void close();
+
+    /**
+     * Opens subscriptions; called again after every failure.
+     */
+    @FunctionalInterface
+    interface Connector {
+
+        NotificationSource connect(String channel) throws SQLException;
+    }
+}
@@ -1,75 +1,113 @@
 package com.metadata.versioning.adapter.out.persistence.adapter;
 
-import com.metadata.versioning.adapter.out.persistence.entity.AuditEntryEntity;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import com.metadata.versioning.application.port.out.AuditLogRepository;
+import com.metadata.versioning.domain.model.AuditEntry;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Adapter for persisting audit trail entries asynchronously.
- * Uses separate transaction to avoid impacting main business transactions.
+ * Adapter implementing AuditLogRepository port with plain JDBC.
+ * Each batch is stored with a single multi-row INSERT over unnested arrays,
+ * so a batch costs two round trips however many entries it holds.
  */
 @Component
 @Profile("!test")
-public class AuditPersistenceAdapter {
+public class AuditPersistenceAdapter implements AuditLogRepository {
 
-    private static final Logger logger = LoggerFactory.getLogger(AuditPersistenceAdapter.class);
+    // Ids come in pooled blocks (V8): each nextval reserves the 50 ids ending at the returned value
+    static final int ID_BLOCK_SIZE = 50;
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('audit_entries_id_seq') FROM generate_series(1, ?)";
 
-    /**
-     * Log audit entry asynchronously in a new transaction.
-     * Failures in audit logging will not affect the main business operation.
-     * 
-     * @param entityType Type of entity (MetadataDocument, Version, SchemaDefinition)
-     * @param entityId Unique identifier of the entity
-     * @param operation Operation performed (CREATE, UPDATE, DELETE, ACTIVATE, PUBLISH)
-     * @param userId User who performed the operation
-     * @param changes JSON representation of changes
-     * @param correlationId Request correlation ID
-     * @param ipAddress Client IP address
-     * @param userAgent Client user agent
-     */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logAuditEntry(String entityType, String entityId, String operation,
-                             String userId, String changes, String correlationId,
-                             String ipAddress, String userAgent) {
-        try {
-            AuditEntryEntity auditEntry = new AuditEntryEntity(
-                entityType, entityId, operation, userId, changes
-            );
-            auditEntry.setCorrelationId(correlationId);
-            auditEntry.setIpAddress(ipAddress);
-            auditEntry.setUserAgent(userAgent);
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_entries (id, entity_type, entity_id, operation, user_id, timestamp,
+                                       changes, correlation_id, ip_address, user_agent)
+            SELECT e.id, e.entity_type, e.entity_id, e.operation, e.user_id, e.recorded_at::timestamptz,
+                   e.changes::jsonb, e.correlation_id, e.ip_address, e.user_agent
+            FROM unnest(?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[],
+                        ?::text[], ?::text[], ?::text[], ?::text[])
+                 AS e(id, entity_type, entity_id, operation, user_id, recorded_at,
+                      changes, correlation_id, ip_address, user_agent)
+            """;
 
-            entityManager.persist(auditEntry);
-            entityManager.flush();
+    // Column limits of audit_entries (V3); client-supplied values are cut rather than failing the batch
+    private static final int MAX_ENTITY_ID_LENGTH = 255;
+    private static final int MAX_USER_ID_LENGTH = 255;
+    private static final int MAX_CORRELATION_ID_LENGTH = 100;
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
 
-            logger.debug("Audit entry logged: {} {} by {} [correlationId={}]",
-                operation, entityType, userId, correlationId);
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
 
-        } catch (Exception e) {
-            // Log error but don't propagate - audit failures shouldn't break business operations
-            logger.error("Failed to log audit entry: {} {} by {} [correlationId={}]",
-                operation, entityType, userId, correlationId, e);
+    @Override
+    public void saveAll(List<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
         }
+        Long[] ids = reserveIds(entries.size());
+        int size = entries.size();
+        String[] entityTypes = new String[size];
+        String[] entityIds = new String[size];
+        String[] operations = new String[size];
+        String[] userIds = new String[size];
+        String[] timestamps = new String[size];
+        String[] changes = new String[size];
+        String[] correlationIds = new String[size];
+        String[] ipAddresses = new String[size];
+        String[] userAgents = new String[size];
+        for (int i = 0; i < size; i++) {
+            AuditEntry entry = entries.get(i);
+            entityTypes[i] = entry.entityType();
+            entityIds[i] = truncate(entry.entityId(), MAX_ENTITY_ID_LENGTH);
+            operations[i] = entry.operation().name();
+            userIds[i] = truncate(entry.userId(), MAX_USER_ID_LENGTH);
+            timestamps[i] = entry.timestamp().toString();
+            changes[i] = entry.changes() != null ? entry.changes().toString() : null;
+            correlationIds[i] = truncate(entry.correlationId(), MAX_CORRELATION_ID_LENGTH);
+            ipAddresses[i] = truncate(entry.ipAddress(), MAX_IP_ADDRESS_LENGTH);
+            userAgents[i] = entry.userAgent();
+        }
+
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            statement.setArray(2, connection.createArrayOf("text", entityTypes));
+            statement.setArray(3, connection.createArrayOf("text", entityIds));
+            statement.setArray(4, connection.createArrayOf("text", operations));
+            statement.setArray(5, connection.createArrayOf("text", userIds));
+            statement.setArray(6, connection.createArrayOf("text", timestamps));
+            statement.setArray(7, connection.createArrayOf("text", changes));
+            statement.setArray(8, connection.createArrayOf("text", correlationIds));
+            statement.setArray(9, connection.createArrayOf("text", ipAddresses));
+            statement.setArray(10, connection.createArrayOf("text", userAgents));
+            return statement;
+        });
     }
 
     /**
-     * Simplified audit logging without HTTP context.
+     * Reserve enough id blocks for a batch with one query and hand out their ids in order.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logAuditEntry(String entityType, String entityId, String operation,
-                             String userId, String changes) {
-        logAuditEntry(entityType, entityId, operation, userId, changes, null, null, null);
+    private Long[] reserveIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS_SQL, Long.class, blocks);
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : blockEnds) {
+            for (long id = blockEnd - ID_BLOCK_SIZE + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids.toArray(Long[]::new);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
     }
 }
@@ -0,0 +1,112 @@
+package com.metadata.versioning.adapter.out.persistence.adapter;
+
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Adapter implementing ChangeFeedRepository port with plain JDBC.
+ * The feed is an append-only log with no aggregate to map, so there are no entities.
+ */
+@Component
+@Profile("!test")
+public class ChangeFeedPersistenceAdapter implements ChangeFeedRepository {
+
+    // Held until commit; serializes drawing sequence numbers with committing them
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('change-feed'))";
+
+    private static final String APPEND_SQL = """
+            INSERT INTO change_feed (sequence_number, document_type, document_name, version_number, change_kind)
+            VALUES (nextval('change_feed_sequence_number_seq'), ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_AFTER_SQL = """
+            SELECT sequence_number, document_type, document_name, version_number, change_kind, recorded_at
+            FROM change_feed
+            WHERE sequence_number > ?
+            ORDER BY sequence_number
+            LIMIT ?
+            """;
+
+    private static final String LATEST_SQL = """
+            SELECT GREATEST(COALESCE(MAX(sequence_number), 0),
+                            (SELECT compacted_through FROM change_feed_horizon WHERE id = 1))
+            FROM change_feed
+            """;
+
+    private static final String COMPACTED_THROUGH_SQL =
+            "SELECT compacted_through FROM change_feed_horizon WHERE id = 1";
+
+    private static final String LAST_RECORDED_BEFORE_SQL =
+            "SELECT MAX(sequence_number) FROM change_feed WHERE recorded_at < ?";
+
+    // Everything up to the horizon is removed, so the horizon is exact even with gaps
+    private static final String DELETE_THROUGH_SQL = "DELETE FROM change_feed WHERE sequence_number <= ?";
+
+    private static final String ADVANCE_HORIZON_SQL = """
+            UPDATE change_feed_horizon SET compacted_through = GREATEST(compacted_through, ?) WHERE id = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeFeedPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<DocumentChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(LOCK_SQL, rs -> null);
+        jdbcTemplate.batchUpdate(APPEND_SQL, changes, changes.size(), (statement, change) -> {
+            statement.setString(1, change.type());
+            statement.setString(2, change.name());
+            statement.setInt(3, change.versionNumber());
+            statement.setString(4, change.kind().name());
+        });
+    }
+
+    @Override
+    public List<ChangeFeedEntry> findAfter(long sequenceNumber, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL,
+                (rs, rowNum) -> new ChangeFeedEntry(
+                        rs.getLong("sequence_number"),
+                        new DocumentChange(
+                                rs.getString("document_type"),
+                                rs.getString("document_name"),
+                                rs.getInt("version_number"),
+                                DocumentChange.Kind.valueOf(rs.getString("change_kind"))),
+                        rs.getTimestamp("recorded_at").toInstant()),
+                sequenceNumber, limit);
+    }
+
+    @Override
+    public long findLatestSequenceNumber() {
+        Long latest = jdbcTemplate.queryForObject(LATEST_SQL, Long.class);
+        return latest != null ? latest : 0;
+    }
+
+    @Override
+    public long findCompactedThrough() {
+        Long compactedThrough = jdbcTemplate.queryForObject(COMPACTED_THROUGH_SQL, Long.class);
+        return compactedThrough != null ? compactedThrough : 0;
+    }
+
+    @Override
+    public long compactRecordedBefore(Instant cutoff) {
+        Long through = jdbcTemplate.queryForObject(LAST_RECORDED_BEFORE_SQL, Long.class, Timestamp.from(cutoff));
+        if (through == null) {
+            return 0;
+        }
+        jdbcTemplate.update(ADVANCE_HORIZON_SQL, through);
+        return jdbcTemplate.update(DELETE_THROUGH_SQL, through);
+    }
+}
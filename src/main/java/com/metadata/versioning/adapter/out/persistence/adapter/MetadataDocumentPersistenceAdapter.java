@@ -1,22 +1,48 @@
 package com.metadata.versioning.adapter.out.persistence.adapter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.metadata.versioning.adapter.out.persistence.entity.MetadataDocumentEntity;
 import com.metadata.versioning.adapter.out.persistence.entity.VersionEntity;
+import com.metadata.versioning.adapter.out.persistence.repository.DocumentSummaryRow;
 import com.metadata.versioning.adapter.out.persistence.repository.JpaMetadataDocumentRepository;
+import com.metadata.versioning.adapter.out.persistence.repository.JpaVersionRepository;
+import com.metadata.versioning.adapter.out.persistence.repository.VersionDigestRow;
+import com.metadata.versioning.adapter.out.persistence.repository.VersionNumberAllocation;
 import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.DocumentSummary;
+import com.metadata.versioning.domain.model.DocumentVersion;
+import com.metadata.versioning.domain.model.JsonPatch;
 import com.metadata.versioning.domain.model.MetadataDocument;
 import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.SubtreeHashes;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDelta;
+import com.metadata.versioning.domain.model.VersionDigest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -27,13 +53,82 @@ import java.util.stream.Collectors;
 @Profile("!test")
 public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepository {
 
+    private static final String ACTIVE_VERSIONS_SQL = """
+            SELECT d.type, d.name, v.version_number, v.content::text AS content, v.author,
+                   v.created_at, v.change_summary, v.publishing_state
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE v.is_active = TRUE
+            """;
+
+    // Keys are passed as two arrays so the statement text is the same for any number of keys
+    private static final String ACTIVE_VERSIONS_BY_KEY_SQL = """
+            SELECT d.type, d.name, v.version_number, v.content::text AS content, v.author,
+                   v.created_at, v.change_summary, v.publishing_state
+            FROM unnest(?::text[], ?::text[]) AS k(type, name)
+            JOIN metadata_documents d ON d.type = k.type AND d.name = k.name
+            JOIN versions v ON v.document_id = d.id AND v.is_active = TRUE
+            """;
+
+    private static final String ACTIVE_VERSION_NUMBERS_SQL = """
+            SELECT d.name, v.version_number
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = ? AND v.is_active = TRUE
+            """;
+
+    private static final String SUBTREE_HASHES_SQL = """
+            SELECT v.version_number, v.subtree_hashes::text AS subtree_hashes
+            FROM metadata_documents d
+            JOIN versions v ON v.document_id = d.id
+            WHERE d.type = ?
+              AND d.name = ?
+              AND v.version_number = ANY(?::int[])
+              AND v.subtree_hashes IS NOT NULL
+            """;
+
+    // Patches computed with other comparison options read as missing
+    private static final String VERSION_DELTAS_SQL = """
+            SELECT v.version_number, v.author, v.created_at, v.change_summary,
+                   CASE WHEN v.delta_fingerprint = ? THEN v.delta_patch::text END AS delta_patch
+            FROM metadata_documents d
+            JOIN versions v ON v.document_id = d.id
+            WHERE d.type = ?
+              AND d.name = ?
+              AND v.version_number > ?
+              AND v.version_number <= ?
+            ORDER BY v.version_number
+            """;
+
+    private static final String SAVE_VERSION_DELTA_SQL = """
+            UPDATE versions v
+            SET delta_patch = ?::jsonb, delta_fingerprint = ?
+            FROM metadata_documents d
+            WHERE d.id = v.document_id
+              AND d.type = ?
+              AND d.name = ?
+              AND v.version_number = ?
+            """;
+
+    private static final TypeReference<Map<String, String>> HASHES_TYPE = new TypeReference<>() {
+    };
+
     private final JpaMetadataDocumentRepository jpaRepository;
+    private final JpaVersionRepository versionRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
 
     public MetadataDocumentPersistenceAdapter(JpaMetadataDocumentRepository jpaRepository,
-                                             ObjectMapper objectMapper) {
+                                             JpaVersionRepository versionRepository,
+                                             ObjectMapper objectMapper,
+                                             JdbcTemplate jdbcTemplate,
+                                             @Value("${app.export.fetch-size:500}") int exportFetchSize) {
         this.jpaRepository = jpaRepository;
+        this.versionRepository = versionRepository;
         this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
@@ -43,12 +138,201 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
         return toDomain(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<MetadataDocument> documents) {
+        jpaRepository.saveAll(documents.stream().map(this::toEntity).toList());
+    }
+
+    @Override
+    public Set<String> findExistingNames(String type, Collection<String> names) {
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findNamesByTypeAndNameIn(type, names));
+    }
+
     @Override
     public Optional<MetadataDocument> findByTypeAndName(String type, String name) {
         return jpaRepository.findByTypeAndName(type, name)
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<Version> findActiveVersion(String type, String name) {
+        return versionRepository.findActiveByDocumentTypeAndName(type, name)
+                .map(this::toVersionDomain);
+    }
+
+    @Override
+    public Map<DocumentKey, Version> findActiveVersions(Collection<DocumentKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Set<DocumentKey> distinct = new LinkedHashSet<>(keys);
+        String[] types = distinct.stream().map(DocumentKey::type).toArray(String[]::new);
+        String[] names = distinct.stream().map(DocumentKey::name).toArray(String[]::new);
+
+        Map<DocumentKey, Version> found = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(ACTIVE_VERSIONS_BY_KEY_SQL);
+                    statement.setArray(1, connection.createArrayOf("text", types));
+                    statement.setArray(2, connection.createArrayOf("text", names));
+                    return statement;
+                },
+                rs -> {
+                    DocumentVersion row = toDocumentVersionDomain(rs);
+                    found.put(new DocumentKey(row.type(), row.name()), row.version());
+                });
+        return found;
+    }
+
+    @Override
+    public long forEachActiveVersion(String type, Consumer<DocumentVersion> consumer) {
+        // PostgreSQL only uses a cursor with a fetch size when auto-commit is off,
+        // which the caller's transaction guarantees; otherwise the whole result is buffered
+        String sql = ACTIVE_VERSIONS_SQL + (type != null ? " AND d.type = ?" : "") + " ORDER BY d.type, d.name";
+        AtomicLong count = new AtomicLong();
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(sql);
+                    statement.setFetchSize(exportFetchSize);
+                    if (type != null) {
+                        statement.setString(1, type);
+                    }
+                    return statement;
+                },
+                rs -> {
+                    consumer.accept(toDocumentVersionDomain(rs));
+                    count.incrementAndGet();
+                });
+        return count.get();
+    }
+
+    @Override
+    public Optional<Version> findVersion(String type, String name, int versionNumber) {
+        return versionRepository.findByDocumentTypeAndNameAndVersionNumber(type, name, versionNumber)
+                .map(this::toVersionDomain);
+    }
+
+    @Override
+    public Map<DocumentKey, Integer> findActiveVersionNumbers(String type) {
+        Map<DocumentKey, Integer> found = new HashMap<>();
+        jdbcTemplate.query(ACTIVE_VERSION_NUMBERS_SQL,
+                rs -> {
+                    found.put(new DocumentKey(type, rs.getString("name")), rs.getInt("version_number"));
+                },
+                type);
+        return found;
+    }
+
+    @Override
+    public Optional<VersionDigest> findActiveVersionDigest(String type, String name) {
+        return versionRepository.findActiveDigestByDocumentTypeAndName(type, name)
+                .map(this::toDigestDomain);
+    }
+
+    @Override
+    public Optional<VersionDigest> findVersionDigest(String type, String name, int versionNumber) {
+        return versionRepository.findDigestByDocumentTypeAndNameAndVersionNumber(type, name, versionNumber)
+                .map(this::toDigestDomain);
+    }
+
+    @Override
+    public Optional<VersionDigest> findLatestVersionDigest(String type, String name) {
+        return versionRepository.findLatestDigestByDocumentTypeAndName(type, name)
+                .map(this::toDigestDomain);
+    }
+
+    @Override
+    public Map<Integer, SubtreeHashes> findSubtreeHashes(String type, String name, Collection<Integer> versionNumbers) {
+        if (versionNumbers.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, SubtreeHashes> hashes = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(SUBTREE_HASHES_SQL);
+                    statement.setString(1, type);
+                    statement.setString(2, name);
+                    statement.setArray(3, connection.createArrayOf("integer", versionNumbers.toArray()));
+                    return statement;
+                },
+                rs -> {
+                    try {
+                        hashes.put(rs.getInt("version_number"), new SubtreeHashes(
+                                objectMapper.readValue(rs.getString("subtree_hashes"), HASHES_TYPE)));
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("Stored subtree hashes are not valid JSON", e);
+                    }
+                });
+        return hashes;
+    }
+
+    @Override
+    public List<VersionDelta> findVersionDeltas(String type, String name, int fromVersion, int toVersion,
+                                                String resultFingerprint) {
+        // The first version has no predecessor to be patched from
+        return jdbcTemplate.query(VERSION_DELTAS_SQL, (rs, rowNum) -> toDeltaDomain(rs),
+                resultFingerprint, type, name, Math.max(fromVersion, 1), toVersion);
+    }
+
+    @Override
+    public boolean saveVersionDelta(String type, String name, int versionNumber, String resultFingerprint,
+                                    JsonPatch patch) {
+        return jdbcTemplate.update(SAVE_VERSION_DELTA_SQL,
+                patch.operations().toString(), resultFingerprint, type, name, versionNumber) > 0;
+    }
+
+    @Override
+    public void lockActivations(String type) {
+        versionRepository.lockActivationsForType(type);
+    }
+
+    @Override
+    public boolean switchActiveVersion(String type, String name, int versionNumber) {
+        versionRepository.lockActivationsForType(type);
+        versionRepository.deactivateAllByDocumentType(type);
+        if (versionRepository.activatePublishedVersion(type, name, versionNumber) == 0) {
+            return false;
+        }
+        jpaRepository.touchByTypeAndName(type, name);
+        return true;
+    }
+
+    @Override
+    public boolean transitionVersionState(String type, String name, int versionNumber,
+                                          PublishingState from, PublishingState to) {
+        if (versionRepository.updatePublishingState(type, name, versionNumber, from.name(), to.name()) == 0) {
+            return false;
+        }
+        jpaRepository.touchByTypeAndName(type, name);
+        return true;
+    }
+
+    @Override
+    public Optional<Version> appendVersion(String type, String name, IntFunction<Version> versionFactory) {
+        return jpaRepository.allocateNextVersionNumber(type, name)
+                .map(allocation -> insertVersion(allocation, versionFactory));
+    }
+
+    @Override
+    public Optional<Version> appendVersionIfLatest(String type, String name, int expectedLatestVersion,
+                                                   IntFunction<Version> versionFactory) {
+        return jpaRepository.allocateNextVersionNumberIfLatest(type, name, expectedLatestVersion)
+                .map(allocation -> insertVersion(allocation, versionFactory));
+    }
+
+    /**
+     * Insert the version built for an allocated version number, without loading the document.
+     */
+    private Version insertVersion(VersionNumberAllocation allocation, IntFunction<Version> versionFactory) {
+        Version version = versionFactory.apply(allocation.getVersionNumber());
+        VersionEntity entity = toVersionEntity(version);
+        entity.setDocument(jpaRepository.getReferenceById(allocation.getDocumentId()));
+        return toVersionDomain(versionRepository.save(entity));
+    }
+
     @Override
     public boolean existsByTypeAndName(String type, String name) {
         return jpaRepository.existsByTypeAndName(type, name);
@@ -56,8 +340,8 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
 
     @Override
     public MetadataDocument update(MetadataDocument document) {
-        // Find existing entity
-        MetadataDocumentEntity entity = jpaRepository.findByTypeAndName(
+        // Find existing entity; the commit fails if the document changed since it was read
+        MetadataDocumentEntity entity = jpaRepository.findForUpdateByTypeAndName(
                 document.getType(), document.getName())
                 .orElseThrow(() -> new IllegalStateException(
                         "Cannot update non-existent document: " + document.getType() + ":" + document.getName()));
@@ -88,6 +372,30 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
                 .map(this::toDomain);
     }
 
+    @Override
+    public Page<DocumentSummary> findAllSummaries(Pageable pageable) {
+        return jpaRepository.findAllSummaries(pageable)
+                .map(this::toSummaryDomain);
+    }
+
+    @Override
+    public Page<DocumentSummary> findSummariesByType(String type, Pageable pageable) {
+        return jpaRepository.findSummariesByType(type, pageable)
+                .map(this::toSummaryDomain);
+    }
+
+    @Override
+    public Page<DocumentSummary> findSummariesByNameContainingIgnoreCase(String name, Pageable pageable) {
+        return jpaRepository.findSummariesByNameContainingIgnoreCase(name, pageable)
+                .map(this::toSummaryDomain);
+    }
+
+    @Override
+    public Optional<DocumentSummary> findSummary(String type, String name) {
+        return jpaRepository.findSummaryByTypeAndName(type, name)
+                .map(this::toSummaryDomain);
+    }
+
     /**
      * Convert domain model to JPA entity.
      */
@@ -98,6 +406,7 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
         );
         entity.setCreatedAt(document.getCreatedAt());
         entity.setUpdatedAt(document.getUpdatedAt());
+        entity.setLatestVersionNumber(latestVersionNumber(document));
 
         // Convert versions
         for (Version version : document.getAllVersions()) {
@@ -113,14 +422,16 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
      */
     private void updateEntity(MetadataDocumentEntity entity, MetadataDocument document) {
         entity.setUpdatedAt(document.getUpdatedAt());
+        entity.setLatestVersionNumber(Math.max(entity.getLatestVersionNumber(), latestVersionNumber(document)));
 
         List<Version> allVersions = document.getAllVersions();
         
-        // Update existing versions (for activation status changes)
+        // Update existing versions (for activation status and publishing state changes)
         for (int i = 0; i < Math.min(entity.getVersions().size(), allVersions.size()); i++) {
             VersionEntity existingEntity = entity.getVersions().get(i);
             Version domainVersion = allVersions.get(i);
             existingEntity.setActive(domainVersion.isActive());
+            existingEntity.setPublishingState(domainVersion.publishingState().name());
         }
         
         // Add new versions if any
@@ -131,6 +442,16 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
         }
     }
 
+    /**
+     * Highest version number held by the domain aggregate.
+     */
+    private int latestVersionNumber(MetadataDocument document) {
+        return document.getAllVersions().stream()
+                .mapToInt(Version::versionNumber)
+                .max()
+                .orElse(0);
+    }
+
     /**
      * Convert Version domain model to JPA entity.
      */
@@ -141,6 +462,8 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
                 version.author(),
                 version.changeSummary()
         );
+        entity.setContentHash(VersionDigest.hashContent(version.content()));
+        entity.setSubtreeHashes(SubtreeHashes.of(version.content()).hashes());
         entity.setCreatedAt(version.createdAt());
         entity.setActive(version.isActive());
         entity.setPublishingState(version.publishingState().name());
@@ -164,6 +487,72 @@ public class MetadataDocumentPersistenceAdapter implements MetadataDocumentRepos
         );
     }
 
+    /**
+     * Convert summary projection to domain read model.
+     */
+    private DocumentSummary toSummaryDomain(DocumentSummaryRow row) {
+        return new DocumentSummary(
+                row.type(),
+                row.name(),
+                row.versionCount().intValue(),
+                row.activeVersion(),
+                row.createdAt(),
+                row.updatedAt()
+        );
+    }
+
+    /**
+     * Convert digest projection to domain read model.
+     */
+    private VersionDigest toDigestDomain(VersionDigestRow row) {
+        return new VersionDigest(
+                row.getVersionNumber(),
+                row.getContentHash(),
+                PublishingState.fromString(row.getPublishingState()),
+                row.getActive()
+        );
+    }
+
+    /**
+     * Convert a row of the active versions cursor to domain read model.
+     */
+    private DocumentVersion toDocumentVersionDomain(ResultSet rs) throws SQLException {
+        JsonNode content;
+        try {
+            content = objectMapper.readTree(rs.getString("content"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored version content is not valid JSON", e);
+        }
+        Version version = new Version(
+                rs.getInt("version_number"),
+                content,
+                rs.getString("author"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getString("change_summary"),
+                PublishingState.fromString(rs.getString("publishing_state")),
+                true
+        );
+        return new DocumentVersion(rs.getString("type"), rs.getString("name"), version);
+    }
+
+    /**
+     * Convert a row of the version deltas query to domain read model.
+     */
+    private VersionDelta toDeltaDomain(ResultSet rs) throws SQLException {
+        String patch = rs.getString("delta_patch");
+        try {
+            return new VersionDelta(
+                    rs.getInt("version_number"),
+                    rs.getString("author"),
+                    rs.getTimestamp("created_at").toInstant(),
+                    rs.getString("change_summary"),
+                    patch != null ? new JsonPatch((ArrayNode) objectMapper.readTree(patch)) : null
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored delta patch is not valid JSON", e);
+        }
+    }
+
     /**
      * Convert VersionEntity to Version domain model.
      */
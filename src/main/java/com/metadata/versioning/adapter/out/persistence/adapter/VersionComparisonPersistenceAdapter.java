@@ -0,0 +1,124 @@
+package com.metadata.versioning.adapter.out.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.out.VersionComparisonRepository;
+import com.metadata.versioning.domain.model.ChangeType;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementing VersionComparisonRepository port with plain JDBC.
+ * Changes are stored as one JSON array per version pair; values keep their JSON form.
+ */
+@Component
+@Profile("!test")
+public class VersionComparisonPersistenceAdapter implements VersionComparisonRepository {
+
+    private static final String FIND_SQL = """
+            SELECT changes
+            FROM version_comparisons
+            WHERE document_type = ? AND document_name = ?
+              AND from_version = ? AND to_version = ? AND result_fingerprint = ?
+            """;
+
+    // Concurrent misses compute the same result; the first one stored wins
+    private static final String INSERT_SQL = """
+            INSERT INTO version_comparisons
+                (document_type, document_name, from_version, to_version, result_fingerprint, changes, compute_millis)
+            VALUES (?, ?, ?, ?, ?, ?::jsonb, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public VersionComparisonPersistenceAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<List<ChangeDetail>> findChanges(String type, String name, int fromVersion, int toVersion,
+                                                    String resultFingerprint) {
+        List<String> rows = jdbcTemplate.queryForList(FIND_SQL, String.class,
+                type, name, fromVersion, toVersion, resultFingerprint);
+        return rows.stream().findFirst().map(this::fromJson);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveChanges(String type, String name, int fromVersion, int toVersion,
+                            String resultFingerprint, List<ChangeDetail> changes, long computeMillis) {
+        jdbcTemplate.update(INSERT_SQL, type, name, fromVersion, toVersion, resultFingerprint,
+                toJson(changes), computeMillis);
+    }
+
+    private String toJson(List<ChangeDetail> changes) {
+        ArrayNode array = objectMapper.createArrayNode();
+        for (ChangeDetail change : changes) {
+            ObjectNode node = array.addObject();
+            node.put("type", typeName(change.type()));
+            node.put("path", change.path());
+            // Absent and JSON null values differ: a field added with value null has a null newValue node
+            if (change.oldValue() != null) {
+                node.set("oldValue", objectMapper.valueToTree(change.oldValue()));
+            }
+            if (change.newValue() != null) {
+                node.set("newValue", objectMapper.valueToTree(change.newValue()));
+            }
+            if (change.fromPath() != null) {
+                node.put("fromPath", change.fromPath());
+            }
+        }
+        return array.toString();
+    }
+
+    private List<ChangeDetail> fromJson(String json) {
+        try {
+            JsonNode array = objectMapper.readTree(json);
+            List<ChangeDetail> changes = new ArrayList<>(array.size());
+            for (JsonNode node : array) {
+                changes.add(new ChangeDetail(
+                        typeOf(node.get("type").asText()),
+                        node.get("path").asText(),
+                        node.get("oldValue"),
+                        node.get("newValue"),
+                        node.hasNonNull("fromPath") ? node.get("fromPath").asText() : null));
+            }
+            return changes;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored comparison is not valid JSON", e);
+        }
+    }
+
+    private static String typeName(ChangeType type) {
+        return switch (type) {
+            case ChangeType.Added ignored -> "ADDED";
+            case ChangeType.Modified ignored -> "MODIFIED";
+            case ChangeType.Removed ignored -> "REMOVED";
+            case ChangeType.Moved ignored -> "MOVED";
+        };
+    }
+
+    private static ChangeType typeOf(String name) {
+        return switch (name) {
+            case "ADDED" -> ChangeType.ADDED;
+            case "MODIFIED" -> ChangeType.MODIFIED;
+            case "REMOVED" -> ChangeType.REMOVED;
+            case "MOVED" -> ChangeType.MOVED;
+            default -> throw new IllegalStateException("Unknown stored change type: " + name);
+        };
+    }
+}
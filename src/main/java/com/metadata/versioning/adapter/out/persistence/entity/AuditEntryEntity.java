@@ -12,7 +12,8 @@ import java.time.Instant;
 public class AuditEntryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_entries_id_seq")
+    @SequenceGenerator(name = "audit_entries_id_seq", sequenceName = "audit_entries_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "entity_type", nullable = false, length = 100)
@@ -19,7 +19,8 @@ import java.util.Objects;
 public class MetadataDocumentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metadata_documents_id_seq")
+    @SequenceGenerator(name = "metadata_documents_id_seq", sequenceName = "metadata_documents_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -32,6 +33,14 @@ public class MetadataDocumentEntity {
     @OrderBy("versionNumber ASC")
     private List<VersionEntity> versions = new ArrayList<>();
 
+    @Column(name = "latest_version_number", nullable = false)
+    private int latestVersionNumber;
+
+    // Optimistic lock; native updates of the document row increment it as well
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long rowVersion;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -88,6 +97,18 @@ public class MetadataDocumentEntity {
         this.versions = versions;
     }
 
+    public int getLatestVersionNumber() {
+        return latestVersionNumber;
+    }
+
+    public void setLatestVersionNumber(int latestVersionNumber) {
+        this.latestVersionNumber = latestVersionNumber;
+    }
+
+    public Long getRowVersion() {
+        return rowVersion;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
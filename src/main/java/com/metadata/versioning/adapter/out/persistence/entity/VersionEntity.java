@@ -7,6 +7,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -23,7 +24,8 @@ import java.util.Objects;
 public class VersionEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "versions_id_seq")
+    @SequenceGenerator(name = "versions_id_seq", sequenceName = "versions_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,6 +39,13 @@ public class VersionEntity {
     @Column(name = "content", nullable = false, columnDefinition = "jsonb")
     private JsonNode content;
 
+    @Column(name = "content_hash", nullable = false, length = 64, columnDefinition = "char(64)")
+    private String contentHash;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "subtree_hashes", columnDefinition = "jsonb")
+    private Map<String, String> subtreeHashes;
+
     @Column(nullable = false, length = 255)
     private String author;
 
@@ -97,6 +106,22 @@ public class VersionEntity {
         this.content = content;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Map<String, String> getSubtreeHashes() {
+        return subtreeHashes;
+    }
+
+    public void setSubtreeHashes(Map<String, String> subtreeHashes) {
+        this.subtreeHashes = subtreeHashes;
+    }
+
     public String getAuthor() {
         return author;
     }
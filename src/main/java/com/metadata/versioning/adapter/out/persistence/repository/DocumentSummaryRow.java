@@ -0,0 +1,17 @@
+package com.metadata.versioning.adapter.out.persistence.repository;
+
+import java.time.Instant;
+
+/**
+ * JPQL constructor projection for document summaries.
+ * Aggregates over the versions table without selecting version content.
+ */
+public record DocumentSummaryRow(
+        String type,
+        String name,
+        Long versionCount,
+        Integer activeVersion,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
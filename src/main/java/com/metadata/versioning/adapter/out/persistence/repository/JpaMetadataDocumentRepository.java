@@ -1,11 +1,19 @@
 package com.metadata.versioning.adapter.out.persistence.repository;
 
 import com.metadata.versioning.adapter.out.persistence.entity.MetadataDocumentEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,16 +22,37 @@ import java.util.Optional;
 @Repository
 public interface JpaMetadataDocumentRepository extends JpaRepository<MetadataDocumentEntity, Long> {
 
+    String SUMMARY_SELECT = "select new com.metadata.versioning.adapter.out.persistence.repository.DocumentSummaryRow("
+            + "d.type, d.name, count(v), max(case when v.isActive = true then v.versionNumber end), "
+            + "d.createdAt, d.updatedAt) "
+            + "from MetadataDocumentEntity d left join d.versions v";
+
     /**
      * Find document by type and name (unique combination).
      */
     Optional<MetadataDocumentEntity> findByTypeAndName(String type, String name);
 
+    /**
+     * Find document by type and name for a read-modify-write of the aggregate.
+     * The row version is incremented at commit, with the version read here as the
+     * expected value, so a concurrent change in between fails the commit.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT d FROM MetadataDocumentEntity d WHERE d.type = :type AND d.name = :name")
+    Optional<MetadataDocumentEntity> findForUpdateByTypeAndName(@Param("type") String type,
+                                                                @Param("name") String name);
+
     /**
      * Check if document exists by type and name.
      */
     boolean existsByTypeAndName(String type, String name);
 
+    /**
+     * Find which of the given names exist for a type, resolved through the (type, name) unique key.
+     */
+    @Query("SELECT d.name FROM MetadataDocumentEntity d WHERE d.type = :type AND d.name IN :names")
+    List<String> findNamesByTypeAndNameIn(@Param("type") String type, @Param("names") Collection<String> names);
+
     /**
      * Find all documents of a specific type with pagination.
      */
@@ -33,4 +62,83 @@ public interface JpaMetadataDocumentRepository extends JpaRepository<MetadataDoc
      * Find all documents with name containing the search string (case insensitive).
      */
     Page<MetadataDocumentEntity> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Document summaries with version count and active version number, without version content.
+     */
+    @Query(value = SUMMARY_SELECT + " group by d.id, d.type, d.name, d.createdAt, d.updatedAt",
+           countQuery = "select count(d) from MetadataDocumentEntity d")
+    Page<DocumentSummaryRow> findAllSummaries(Pageable pageable);
+
+    /**
+     * Document summaries of a specific type.
+     */
+    @Query(value = SUMMARY_SELECT + " where d.type = :type group by d.id, d.type, d.name, d.createdAt, d.updatedAt",
+           countQuery = "select count(d) from MetadataDocumentEntity d where d.type = :type")
+    Page<DocumentSummaryRow> findSummariesByType(@Param("type") String type, Pageable pageable);
+
+    /**
+     * Document summaries with name containing the search string (case insensitive).
+     */
+    @Query(value = SUMMARY_SELECT + " where lower(d.name) like lower(concat('%', :name, '%'))"
+                   + " group by d.id, d.type, d.name, d.createdAt, d.updatedAt",
+           countQuery = "select count(d) from MetadataDocumentEntity d"
+                   + " where lower(d.name) like lower(concat('%', :name, '%'))")
+    Page<DocumentSummaryRow> findSummariesByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    /**
+     * Summary of a single document.
+     */
+    @Query(SUMMARY_SELECT + " where d.type = :type and d.name = :name"
+           + " group by d.id, d.type, d.name, d.createdAt, d.updatedAt")
+    Optional<DocumentSummaryRow> findSummaryByTypeAndName(@Param("type") String type, @Param("name") String name);
+
+    /**
+     * Bump the modification timestamp of a document without loading it.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE metadata_documents
+            SET updated_at = CURRENT_TIMESTAMP,
+                row_version = row_version + 1
+            WHERE type = :type
+              AND name = :name
+            """, nativeQuery = true)
+    int touchByTypeAndName(@Param("type") String type, @Param("name") String name);
+
+    /**
+     * Atomically claim the next version number of a document.
+     * The row lock taken by the update serializes concurrent appends until commit.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE metadata_documents
+            SET latest_version_number = latest_version_number + 1,
+                updated_at = CURRENT_TIMESTAMP,
+                row_version = row_version + 1
+            WHERE type = :type
+              AND name = :name
+            RETURNING id AS "documentId", latest_version_number AS "versionNumber"
+            """, nativeQuery = true)
+    Optional<VersionNumberAllocation> allocateNextVersionNumber(@Param("type") String type, @Param("name") String name);
+
+    /**
+     * Claim the next version number only if the latest version is still the expected one.
+     * A concurrent append waits for the row lock and then sees the moved counter, so
+     * exactly one of several appends based on the same version succeeds.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE metadata_documents
+            SET latest_version_number = latest_version_number + 1,
+                updated_at = CURRENT_TIMESTAMP,
+                row_version = row_version + 1
+            WHERE type = :type
+              AND name = :name
+              AND latest_version_number = :expected
+            RETURNING id AS "documentId", latest_version_number AS "versionNumber"
+            """, nativeQuery = true)
+    Optional<VersionNumberAllocation> allocateNextVersionNumberIfLatest(@Param("type") String type,
+                                                                       @Param("name") String name,
+                                                                       @Param("expected") int expected);
 }
@@ -0,0 +1,167 @@
+package com.metadata.versioning.adapter.out.persistence.repository;
+
+import com.metadata.versioning.adapter.out.persistence.entity.VersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for individual Version rows.
+ * Used for read paths that must not hydrate the whole document aggregate.
+ */
+@Repository
+public interface JpaVersionRepository extends JpaRepository<VersionEntity, Long> {
+
+    /**
+     * Find the active version of a document with a single indexed lookup.
+     * Resolves the document through its (type, name) unique key and the active row
+     * through the partial index idx_versions_active_only.
+     */
+    @Query(value = """
+            SELECT v.*
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = :type
+              AND d.name = :name
+              AND v.is_active = TRUE
+            """, nativeQuery = true)
+    Optional<VersionEntity> findActiveByDocumentTypeAndName(@Param("type") String type,
+                                                            @Param("name") String name);
+
+    /**
+     * Find a single version of a document without loading the rest of its history.
+     */
+    @Query(value = """
+            SELECT v.*
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = :type
+              AND d.name = :name
+              AND v.version_number = :versionNumber
+            """, nativeQuery = true)
+    Optional<VersionEntity> findByDocumentTypeAndNameAndVersionNumber(@Param("type") String type,
+                                                                      @Param("name") String name,
+                                                                      @Param("versionNumber") int versionNumber);
+
+    /**
+     * Find the digest of the active version without reading its content.
+     * Answers conditional reads (If-None-Match) from the index and the narrow columns only.
+     */
+    @Query(value = """
+            SELECT v.version_number AS "versionNumber",
+                   v.content_hash AS "contentHash",
+                   v.publishing_state AS "publishingState",
+                   v.is_active AS "active"
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = :type
+              AND d.name = :name
+              AND v.is_active = TRUE
+            """, nativeQuery = true)
+    Optional<VersionDigestRow> findActiveDigestByDocumentTypeAndName(@Param("type") String type,
+                                                                     @Param("name") String name);
+
+    /**
+     * Find the digest of a single version without reading its content.
+     */
+    @Query(value = """
+            SELECT v.version_number AS "versionNumber",
+                   v.content_hash AS "contentHash",
+                   v.publishing_state AS "publishingState",
+                   v.is_active AS "active"
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = :type
+              AND d.name = :name
+              AND v.version_number = :versionNumber
+            """, nativeQuery = true)
+    Optional<VersionDigestRow> findDigestByDocumentTypeAndNameAndVersionNumber(@Param("type") String type,
+                                                                               @Param("name") String name,
+                                                                               @Param("versionNumber") int versionNumber);
+
+    /**
+     * Find the digest of the latest version of a document without reading its content.
+     */
+    @Query(value = """
+            SELECT v.version_number AS "versionNumber",
+                   v.content_hash AS "contentHash",
+                   v.publishing_state AS "publishingState",
+                   v.is_active AS "active"
+            FROM versions v
+            JOIN metadata_documents d ON d.id = v.document_id
+            WHERE d.type = :type
+              AND d.name = :name
+              AND v.version_number = d.latest_version_number
+            """, nativeQuery = true)
+    Optional<VersionDigestRow> findLatestDigestByDocumentTypeAndName(@Param("type") String type,
+                                                                     @Param("name") String name);
+
+    /**
+     * Serialize activations within a document type for the rest of the transaction.
+     * Without it two concurrent activations could each clear the flags visible in their
+     * snapshot and both commit an active version (FR-006).
+     */
+    @Query(value = """
+            SELECT COUNT(*)
+            FROM (SELECT pg_advisory_xact_lock(hashtext('activation:' || :type))) AS activation_lock
+            """, nativeQuery = true)
+    long lockActivationsForType(@Param("type") String type);
+
+    /**
+     * Clear the active flag on every version of every document of the given type.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE versions v
+            SET is_active = FALSE
+            FROM metadata_documents d
+            WHERE d.id = v.document_id
+              AND d.type = :type
+              AND v.is_active = TRUE
+            """, nativeQuery = true)
+    int deactivateAllByDocumentType(@Param("type") String type);
+
+    /**
+     * Mark a single published version as active.
+     * Returns 0 if the version does not exist or is no longer published (FR-023).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE versions v
+            SET is_active = TRUE
+            FROM metadata_documents d
+            WHERE d.id = v.document_id
+              AND d.type = :type
+              AND d.name = :name
+              AND v.version_number = :versionNumber
+              AND v.publishing_state = 'PUBLISHED'
+            """, nativeQuery = true)
+    int activatePublishedVersion(@Param("type") String type,
+                                 @Param("name") String name,
+                                 @Param("versionNumber") int versionNumber);
+
+    /**
+     * Change the publishing state of a single version if it is still in the expected state.
+     * Returns 0 if the version does not exist or its state changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE versions v
+            SET publishing_state = :toState
+            FROM metadata_documents d
+            WHERE d.id = v.document_id
+              AND d.type = :type
+              AND d.name = :name
+              AND v.version_number = :versionNumber
+              AND v.publishing_state = :fromState
+            """, nativeQuery = true)
+    int updatePublishingState(@Param("type") String type,
+                              @Param("name") String name,
+                              @Param("versionNumber") int versionNumber,
+                              @Param("fromState") String fromState,
+                              @Param("toState") String toState);
+}
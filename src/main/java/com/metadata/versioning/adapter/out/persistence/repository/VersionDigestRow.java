@@ -0,0 +1,15 @@
+package com.metadata.versioning.adapter.out.persistence.repository;
+
+/**
+ * Native projection of the columns identifying a version representation, without its content.
+ */
+public interface VersionDigestRow {
+
+    Integer getVersionNumber();
+
+    String getContentHash();
+
+    String getPublishingState();
+
+    Boolean getActive();
+}
@@ -0,0 +1,11 @@
+package com.metadata.versioning.adapter.out.persistence.repository;
+
+/**
+ * Native projection returned when a version number is allocated for a document.
+ */
+public interface VersionNumberAllocation {
+
+    Long getDocumentId();
+
+    Integer getVersionNumber();
+}
@@ -0,0 +1,9 @@
+package com.metadata.versioning.adapter.out.persistence.routing;
+
+/**
+ * Connection pools a statement can be routed to.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
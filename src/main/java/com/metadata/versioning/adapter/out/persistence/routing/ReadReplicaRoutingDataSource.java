@@ -0,0 +1,112 @@
+package com.metadata.versioning.adapter.out.persistence.routing;
+
+import com.metadata.versioning.application.service.MetadataQueryService;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource sending read-only transactions to the replica and everything else to the primary.
+ * 
+ * The route is decided when a connection is obtained, so this must sit behind a
+ * LazyConnectionDataSourceProxy: transaction managers fetch the connection before they mark
+ * the transaction read-only, and the proxy defers fetching until the first statement.
+ * 
+ * Read-only transactions still go to the primary when the replica is unusable or lagging,
+ * and for a client that wrote within the read-your-writes window (or the current lag, if longer).
+ * Writes made in read-write transactions are recorded for that check, except in the
+ * {@link MetadataQueryService#PRIMARY_READ} transactions that only read from the primary.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesWindowMillis;
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder readYourWritesFallbacks = new LongAdder();
+    private final LongAdder lagFallbacks = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(DataSource primary,
+                                        DataSource replica,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        ReplicaLagMonitor lagMonitor,
+                                        Duration readYourWritesWindow) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = route();
+        (route == DataSourceRoute.REPLICA ? replicaRoutes : primaryRoutes).increment();
+        return route;
+    }
+
+    private DataSourceRoute route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()
+                    && !MetadataQueryService.PRIMARY_READ.equals(
+                            TransactionSynchronizationManager.getCurrentTransactionName())) {
+                // Again at completion, so the window starts when the write becomes visible
+                readYourWritesTracker.recordWrite();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        readYourWritesTracker.recordWrite();
+                    }
+                });
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isUsable()) {
+            lagFallbacks.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        long windowMillis = Math.max(readYourWritesWindowMillis, lagMonitor.lagMillis());
+        if (readYourWritesTracker.currentClientWroteWithin(Duration.ofMillis(windowMillis))) {
+            readYourWritesFallbacks.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+
+    /**
+     * Number of connections routed to the primary.
+     */
+    public long primaryRoutes() {
+        return primaryRoutes.sum();
+    }
+
+    /**
+     * Number of connections routed to the replica.
+     */
+    public long replicaRoutes() {
+        return replicaRoutes.sum();
+    }
+
+    /**
+     * Read-only transactions sent to the primary because their client wrote recently.
+     */
+    public long readYourWritesFallbacks() {
+        return readYourWritesFallbacks.sum();
+    }
+
+    /**
+     * Read-only transactions sent to the primary because the replica was lagging or unreachable.
+     */
+    public long lagFallbacks() {
+        return lagFallbacks.sum();
+    }
+}
@@ -0,0 +1,143 @@
+package com.metadata.versioning.adapter.out.persistence.routing;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Remembers which clients wrote recently, so their reads can skip a replica that may not
+ * have replayed the write yet.
+ * 
+ * The web layer binds the keys identifying the client of the current request to the
+ * handling thread; reads on other threads (streamed exports, the change stream) have no
+ * client and are never held back.
+ * 
+ * Writes remembered here are only known to this node. Clients carry the time of their last
+ * write to other nodes themselves: the web layer is told of the first write of a request to
+ * hand it to the client, and binds the time the client sends back along with its keys.
+ */
+public class ReadYourWritesTracker {
+
+    private final ThreadLocal<Client> currentClient = new ThreadLocal<>();
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final long retentionNanos;
+
+    /**
+     * @param retention How long writes are remembered; must cover the longest fallback window
+     */
+    public ReadYourWritesTracker(Duration retention) {
+        this.retention = retention;
+        this.retentionNanos = retention.toNanos();
+    }
+
+    /**
+     * Bind the client of the current request to this thread.
+     * 
+     * @param clientKeys Keys identifying the client, such as its principal and session
+     */
+    public void bind(List<String> clientKeys) {
+        bind(clientKeys, 0L, wroteAtMillis -> { });
+    }
+
+    /**
+     * Bind the client of the current request to this thread, with the last write it reports.
+     * 
+     * @param clientKeys Keys identifying the client, such as its principal and session
+     * @param lastWriteMillis Epoch millis of the last write the client made on any node, or 0 if unknown
+     * @param onFirstWrite Receives the epoch millis of the first write recorded for this request
+     */
+    public void bind(List<String> clientKeys, long lastWriteMillis, LongConsumer onFirstWrite) {
+        currentClient.set(new Client(List.copyOf(clientKeys), lastWriteMillis, onFirstWrite));
+    }
+
+    public void unbind() {
+        currentClient.remove();
+    }
+
+    /**
+     * Record a write by the client bound to this thread.
+     */
+    public void recordWrite() {
+        Client client = currentClient.get();
+        if (client == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        client.keys.forEach(key -> lastWriteNanos.put(key, now));
+        if (!client.wrote) {
+            client.wrote = true;
+            client.onFirstWrite.accept(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Check if the client bound to this thread wrote within the window.
+     */
+    public boolean currentClientWroteWithin(Duration window) {
+        Client client = currentClient.get();
+        if (client == null) {
+            return false;
+        }
+        if (client.lastWriteMillis > 0) {
+            // Reported by the client, from the clock of the node it wrote on; skew counts either way
+            long age = System.currentTimeMillis() - client.lastWriteMillis;
+            if (Math.abs(age) < window.toMillis()) {
+                return true;
+            }
+        }
+        long now = System.nanoTime();
+        long windowNanos = window.toNanos();
+        for (String key : client.keys) {
+            Long wroteAt = lastWriteNanos.get(key);
+            if (wroteAt != null && now - wroteAt < windowNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * How long writes are remembered, and so how long a client needs to report its last write.
+     */
+    public Duration retention() {
+        return retention;
+    }
+
+    /**
+     * Number of clients whose writes are currently remembered.
+     */
+    public int trackedClients() {
+        return lastWriteNanos.size();
+    }
+
+    /**
+     * Forget writes older than the retention.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-window:5s}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(wroteAt -> now - wroteAt >= retentionNanos);
+    }
+
+    /**
+     * Client bound to a thread; only touched by that thread.
+     */
+    private static final class Client {
+
+        private final List<String> keys;
+        private final long lastWriteMillis;
+        private final LongConsumer onFirstWrite;
+        private boolean wrote;
+
+        Client(List<String> keys, long lastWriteMillis, LongConsumer onFirstWrite) {
+            this.keys = keys;
+            this.lastWriteMillis = lastWriteMillis;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.metadata.versioning.adapter.out.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Measures how far the replica is behind the primary.
+ * Reads fall back to the primary while the replica is unreachable, lags more than the
+ * limit, or has not been probed yet.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Caught up when everything received is replayed; the last replay time only matters while behind,
+    // otherwise an idle primary would look like lag. Outside recovery both are null and lag is 0.
+    static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:1s}")
+    public void probe() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Number.class);
+            long measured = lag != null ? lag.longValue() : 0;
+            if (measured > maxLagMillis && lagMillis <= maxLagMillis) {
+                logger.warn("Replica is {}ms behind, routing reads to the primary", measured);
+            }
+            lagMillis = measured;
+        } catch (Exception e) {
+            if (lagMillis >= 0) {
+                logger.warn("Replica lag check failed, routing reads to the primary: {}", e.getMessage());
+            }
+            lagMillis = -1;
+        }
+    }
+
+    /**
+     * Check if reads may currently be served by the replica.
+     */
+    public boolean isUsable() {
+        long lag = lagMillis;
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    /**
+     * Last measured lag in milliseconds, -1 if unknown.
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+}
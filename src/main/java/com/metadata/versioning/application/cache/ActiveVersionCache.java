@@ -0,0 +1,172 @@
+package com.metadata.versioning.application.cache;
+
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
+import com.metadata.versioning.domain.validator.JsonStructureValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of active versions (FR-007), weighted by content size.
+ * Documents without an active version are cached too, so polling for them is cheap.
+ * Active version digests are cached alongside, so conditional reads (If-None-Match)
+ * are answered without touching the database or the content.
+ * 
+ * Entries are invalidated synchronously once the transaction that changed them commits.
+ * Cached versions are shared between callers and must not be mutated.
+ */
+@Component
+public class ActiveVersionCache {
+
+    // Approximate per-entry overhead beyond the content itself
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    // Approximate size of a digest entry: key, record and the 64 character hash
+    private static final long DIGEST_ENTRY_BYTES = 384;
+
+    private final WeightedLruCache<Key, Optional<Version>> cache;
+    private final WeightedLruCache<Key, Optional<VersionDigest>> digests;
+
+    public ActiveVersionCache(@Value("${app.cache.active-version.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.cache = new WeightedLruCache<>(maxWeightBytes, ActiveVersionCache::weigh);
+        this.digests = new WeightedLruCache<>(maxWeightBytes, digest -> DIGEST_ENTRY_BYTES);
+    }
+
+    /**
+     * Return the cached active version, loading and caching it on a miss.
+     */
+    public Optional<Version> get(String type, String name, Supplier<Optional<Version>> loader) {
+        Key key = new Key(type, name);
+        Optional<Optional<Version>> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long stamp = cache.stamp();
+        Optional<Version> loaded = loader.get();
+        cache.put(key, loaded, stamp);
+        return loaded;
+    }
+
+    /**
+     * Return the cached active versions of many documents, loading all misses with one call.
+     * Documents without an active version are cached as absent, as by {@link #get}.
+     * 
+     * @return Active versions by key; keys without an active version are absent
+     */
+    public Map<DocumentKey, Version> getAll(Collection<DocumentKey> keys,
+                                            Function<Collection<DocumentKey>, Map<DocumentKey, Version>> loader) {
+        Map<DocumentKey, Version> result = new HashMap<>();
+        Set<DocumentKey> misses = new LinkedHashSet<>();
+        for (DocumentKey key : keys) {
+            Optional<Optional<Version>> cached = cache.get(new Key(key.type(), key.name()));
+            if (cached.isPresent()) {
+                cached.get().ifPresent(version -> result.put(key, version));
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long stamp = cache.stamp();
+        Map<DocumentKey, Version> loaded = loader.apply(misses);
+        for (DocumentKey key : misses) {
+            Optional<Version> version = Optional.ofNullable(loaded.get(key));
+            cache.put(new Key(key.type(), key.name()), version, stamp);
+            version.ifPresent(v -> result.put(key, v));
+        }
+        return result;
+    }
+
+    /**
+     * Return the cached active version digest, loading and caching it on a miss.
+     */
+    public Optional<VersionDigest> getDigest(String type, String name, Supplier<Optional<VersionDigest>> loader) {
+        Key key = new Key(type, name);
+        Optional<Optional<VersionDigest>> cached = digests.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long stamp = digests.stamp();
+        Optional<VersionDigest> loaded = loader.get();
+        digests.put(key, loaded, stamp);
+        return loaded;
+    }
+
+    /**
+     * Evict entries affected by a committed change, made locally or on another node.
+     * Runs without a transaction too, e.g. for changes received from other nodes.
+     * Ordered first so listeners re-reading the active version after commit see the change.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveVersionChanged(ActiveVersionChangedEvent event) {
+        if (event.isTypeWide()) {
+            cache.invalidateIf(key -> key.type().equals(event.type()));
+            digests.invalidateIf(key -> key.type().equals(event.type()));
+        } else {
+            Key key = new Key(event.type(), event.name());
+            cache.invalidate(key);
+            digests.invalidate(key);
+        }
+    }
+
+    /**
+     * Drop everything when changes may have been missed.
+     */
+    @EventListener
+    public void onFlushRequested(CacheFlushRequestedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Drop all cached entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        digests.invalidateAll();
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     */
+    public WeightedLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Snapshot of digest cache statistics.
+     */
+    public WeightedLruCache.Stats digestStats() {
+        return digests.stats();
+    }
+
+    private static long weigh(Optional<Version> version) {
+        return ENTRY_OVERHEAD_BYTES + version
+                .map(v -> JsonStructureValidator.serializedSizeBytes(v.content()))
+                .orElse(0L);
+    }
+
+    private record Key(String type, String name) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.metadata.versioning.application.cache;
+
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.application.event.SchemaChangedEvent;
+import com.metadata.versioning.domain.validator.SchemaValidator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts compiled schemas from the shared SchemaValidator when schema definitions change,
+ * locally or on another node.
+ */
+@Component
+public class CompiledSchemaInvalidator {
+
+    private final SchemaValidator schemaValidator;
+
+    public CompiledSchemaInvalidator(SchemaValidator schemaValidator) {
+        this.schemaValidator = schemaValidator;
+    }
+
+    /**
+     * Compiled schemas are keyed by revision, so this only frees the stale entry early.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSchemaChanged(SchemaChangedEvent event) {
+        schemaValidator.invalidate(event.type());
+    }
+
+    @EventListener
+    public void onFlushRequested(CacheFlushRequestedEvent event) {
+        schemaValidator.invalidateAll();
+    }
+}
@@ -0,0 +1,188 @@
+package com.metadata.versioning.application.cache;
+
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.application.port.out.VersionComparisonRepository;
+import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import com.metadata.versioning.domain.validator.JsonStructureValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier cache of version comparison results (FR-010). Version content never changes,
+ * so the comparison of two versions is a pure function of their numbers and the
+ * comparison options, identified by {@code DiffEngine.resultFingerprint}.
+ *
+ * The first tier keeps whole comparisons in process, weighted by the content of both
+ * versions and the size of the changes. The second tier stores the changes of pairs that
+ * were slow to compare in the database, shared by all nodes and kept across restarts.
+ *
+ * Keys leave out the publishing state and active flag of the versions: callers bring
+ * those up to date on a hit. Cached comparisons must not be mutated.
+ */
+@Component
+public class VersionComparisonCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionComparisonCache.class);
+
+    // Approximate per-entry overhead beyond the contents and changes
+    private static final long ENTRY_OVERHEAD_BYTES = 512;
+
+    // Approximate size of a change besides its path and values
+    private static final long CHANGE_OVERHEAD_BYTES = 96;
+
+    private final WeightedLruCache<Key, VersionComparison> cache;
+    private final VersionComparisonRepository repository;
+    private final boolean storeEnabled;
+    private final long storeMinComputeNanos;
+
+    private final LongAdder storedHits = new LongAdder();
+    private final LongAdder storedMisses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder computations = new LongAdder();
+    private final LongAdder computeNanos = new LongAdder();
+
+    public VersionComparisonCache(VersionComparisonRepository repository,
+                                  @Value("${app.cache.comparison.max-weight-bytes:33554432}") long maxWeightBytes,
+                                  @Value("${app.cache.comparison.store.enabled:true}") boolean storeEnabled,
+                                  @Value("${app.cache.comparison.store.min-compute-time:250ms}") Duration storeMinComputeTime) {
+        this.cache = new WeightedLruCache<>(maxWeightBytes, VersionComparisonCache::weigh);
+        this.repository = repository;
+        this.storeEnabled = storeEnabled;
+        this.storeMinComputeNanos = storeMinComputeTime.toNanos();
+    }
+
+    /**
+     * Look up a comparison in process.
+     */
+    public Optional<VersionComparison> get(Key key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Current generation; pass it to {@link #put} after loading or computing the comparison.
+     */
+    public long stamp() {
+        return cache.stamp();
+    }
+
+    /**
+     * Cache a comparison in process, unless the cache was flushed since the stamp.
+     */
+    public void put(Key key, VersionComparison comparison, long stamp) {
+        cache.put(key, comparison, stamp);
+    }
+
+    /**
+     * Look up the stored changes of a comparison, if storing is enabled.
+     */
+    public Optional<List<ChangeDetail>> findStored(Key key) {
+        if (!storeEnabled) {
+            return Optional.empty();
+        }
+        Optional<List<ChangeDetail>> stored = repository.findChanges(
+                key.type(), key.name(), key.fromVersion(), key.toVersion(), key.resultFingerprint());
+        (stored.isPresent() ? storedHits : storedMisses).increment();
+        return stored;
+    }
+
+    /**
+     * Record a comparison computed after a miss in both tiers, storing it if it was slow.
+     * A failed store is logged and otherwise ignored; the comparison is computed again later.
+     */
+    public void recordComputed(Key key, VersionComparison comparison, long elapsedNanos) {
+        computations.increment();
+        computeNanos.add(elapsedNanos);
+        if (!storeEnabled || elapsedNanos < storeMinComputeNanos) {
+            return;
+        }
+        try {
+            repository.saveChanges(key.type(), key.name(), key.fromVersion(), key.toVersion(),
+                    key.resultFingerprint(), comparison.changes(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            stores.increment();
+        } catch (RuntimeException e) {
+            logger.warn("Could not store comparison of {}:{} v{} to v{}: {}",
+                    key.type(), key.name(), key.fromVersion(), key.toVersion(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drop everything when changes may have been missed.
+     * Stored comparisons stay valid: version content never changes.
+     */
+    @EventListener
+    public void onFlushRequested(CacheFlushRequestedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Drop all comparisons cached in process.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Snapshot of in-process cache statistics.
+     */
+    public WeightedLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Fraction of comparisons answered by either tier instead of being computed.
+     */
+    public double hitRatio() {
+        WeightedLruCache.Stats stats = cache.stats();
+        long requests = stats.hits() + stats.misses();
+        return requests == 0 ? 0.0 : (double) (stats.hits() + storedHits.sum()) / requests;
+    }
+
+    public long storedHits() {
+        return storedHits.sum();
+    }
+
+    public long storedMisses() {
+        return storedMisses.sum();
+    }
+
+    public long stores() {
+        return stores.sum();
+    }
+
+    public long computations() {
+        return computations.sum();
+    }
+
+    public long computeNanos() {
+        return computeNanos.sum();
+    }
+
+    /**
+     * Changed values are subtrees of the two contents, so only paths add to their weight.
+     */
+    private static long weigh(VersionComparison comparison) {
+        long weight = ENTRY_OVERHEAD_BYTES
+                + JsonStructureValidator.serializedSizeBytes(comparison.fromVersion().content())
+                + JsonStructureValidator.serializedSizeBytes(comparison.toVersion().content());
+        for (ChangeDetail change : comparison.changes()) {
+            weight += CHANGE_OVERHEAD_BYTES + 2L * change.path().length();
+        }
+        return weight;
+    }
+
+    /**
+     * Cache key: the two versions of a document and the fingerprint of the comparison options.
+     */
+    public record Key(String type, String name, int fromVersion, int toVersion, String resultFingerprint) {
+    }
+}
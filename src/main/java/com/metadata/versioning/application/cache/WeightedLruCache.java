@@ -0,0 +1,153 @@
+package com.metadata.versioning.application.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded in-process LRU cache whose capacity is a total weight rather than an entry count.
+ * Least recently used entries are evicted until the total weight fits the limit;
+ * a single entry heavier than the limit is not cached at all.
+ * 
+ * Puts are guarded by a generation stamp: a reader takes {@link #stamp()} before
+ * loading from the source of truth and the put is dropped if any invalidation
+ * happened in between, so a slow reader cannot resurrect a value that was just invalidated.
+ * 
+ * All operations are synchronized; intended for read-mostly data that changes rarely.
+ */
+public class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weightedSize;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Maximum cache weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher, "Weigher cannot be null");
+    }
+
+    /**
+     * Look up a cached value, recording a hit or miss.
+     */
+    public synchronized Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * Current generation; pass it to {@link #put(Object, Object, long)} after loading the value.
+     */
+    public synchronized long stamp() {
+        return generation;
+    }
+
+    /**
+     * Cache a value loaded after {@code stamp} was taken.
+     *
+     * @return true if cached, false if an invalidation happened since the stamp or the value is too heavy
+     */
+    public synchronized boolean put(K key, V value, long stamp) {
+        if (stamp != generation) {
+            return false;
+        }
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return false;
+        }
+
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+        if (previous != null) {
+            weightedSize -= previous.weight();
+        }
+        weightedSize += weight;
+        evictToFit();
+        return true;
+    }
+
+    /**
+     * Remove a single key.
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        remove(entries.remove(key));
+    }
+
+    /**
+     * Remove all keys matching the predicate.
+     */
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                iterator.remove();
+                remove(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove everything.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        weightedSize = 0;
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), weightedSize, maxWeight);
+    }
+
+    private void evictToFit() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (weightedSize > maxWeight && eldest.hasNext()) {
+            Entry<V> entry = eldest.next();
+            eldest.remove();
+            weightedSize -= entry.weight();
+            evictions++;
+        }
+    }
+
+    private void remove(Entry<V> entry) {
+        if (entry != null) {
+            weightedSize -= entry.weight();
+        }
+    }
+
+    private record Entry<V>(V value, long weight) {
+    }
+
+    /**
+     * Cache statistics.
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weightedSize, long maxWeight) {
+
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.metadata.versioning.application.event;
+
+import java.util.Objects;
+
+/**
+ * Published when the active version, or the state of a version that may be active,
+ * changes for a document or for a whole type.
+ * 
+ * @param type Document type
+ * @param name Document name, or null when every document of the type may be affected
+ * @param remote True when the change was made on another node and received over the invalidation bus
+ */
+public record ActiveVersionChangedEvent(String type, String name, boolean remote) {
+
+    public ActiveVersionChangedEvent {
+        Objects.requireNonNull(type, "Type cannot be null");
+    }
+
+    /**
+     * Event for a change that can affect every document of a type,
+     * such as activation deactivating the other documents of that type (FR-006).
+     */
+    public static ActiveVersionChangedEvent forType(String type) {
+        return new ActiveVersionChangedEvent(type, null, false);
+    }
+
+    /**
+     * Event for a change to a single document.
+     */
+    public static ActiveVersionChangedEvent forDocument(String type, String name) {
+        return new ActiveVersionChangedEvent(type, Objects.requireNonNull(name, "Name cannot be null"), false);
+    }
+
+    /**
+     * Event for a change received from another node.
+     */
+    public static ActiveVersionChangedEvent fromRemote(String type, String name) {
+        return new ActiveVersionChangedEvent(type, name, true);
+    }
+
+    /**
+     * Check if the event covers every document of its type.
+     */
+    public boolean isTypeWide() {
+        return name == null;
+    }
+}
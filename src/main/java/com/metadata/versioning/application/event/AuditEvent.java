@@ -0,0 +1,103 @@
+package com.metadata.versioning.application.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.model.AuditEntry.Operation;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.Version;
+
+import java.util.Objects;
+
+/**
+ * Published for every mutation, to be recorded in the audit trail once its transaction commits.
+ * Changes are summarized; content and schemas themselves are never copied into the trail.
+ *
+ * @param entityType Kind of entity changed
+ * @param entityId Identifier of the entity
+ * @param operation Operation performed
+ * @param actor User named by the mutation itself (e.g. the version author), or null
+ * @param changes Summary of the change
+ */
+public record AuditEvent(
+        String entityType,
+        String entityId,
+        Operation operation,
+        String actor,
+        JsonNode changes
+) {
+    public static final String DOCUMENT = "MetadataDocument";
+    public static final String VERSION = "Version";
+    public static final String SCHEMA = "SchemaDefinition";
+
+    public AuditEvent {
+        Objects.requireNonNull(entityType, "Entity type cannot be null");
+        Objects.requireNonNull(entityId, "Entity id cannot be null");
+        Objects.requireNonNull(operation, "Operation cannot be null");
+    }
+
+    /**
+     * A document was created with its first version (FR-001).
+     */
+    public static AuditEvent documentCreated(String type, String name, Version first) {
+        return new AuditEvent(DOCUMENT, type + "/" + name, Operation.CREATE, first.author(), describe(first));
+    }
+
+    /**
+     * A version was appended to an existing document (FR-001).
+     */
+    public static AuditEvent versionCreated(String type, String name, Version version) {
+        return new AuditEvent(VERSION, versionId(type, name, version.versionNumber()), Operation.CREATE,
+                version.author(), describe(version));
+    }
+
+    /**
+     * A version became the active version of its document (FR-006).
+     */
+    public static AuditEvent versionActivated(String type, String name, int versionNumber) {
+        ObjectNode changes = JsonNodeFactory.instance.objectNode()
+                .put("versionNumber", versionNumber);
+        return new AuditEvent(VERSION, versionId(type, name, versionNumber), Operation.ACTIVATE, null, changes);
+    }
+
+    /**
+     * The publishing state of a version changed (FR-024).
+     */
+    public static AuditEvent stateChanged(String type, String name, int versionNumber,
+                                          PublishingState from, PublishingState to) {
+        ObjectNode changes = JsonNodeFactory.instance.objectNode()
+                .put("from", from.name())
+                .put("to", to.name());
+        return new AuditEvent(VERSION, versionId(type, name, versionNumber),
+                to instanceof PublishingState.Published ? Operation.PUBLISH : Operation.UPDATE, null, changes);
+    }
+
+    /**
+     * A schema was created or replaced.
+     */
+    public static AuditEvent schemaSaved(SchemaDefinition schema, Operation operation) {
+        ObjectNode changes = JsonNodeFactory.instance.objectNode()
+                .put("description", schema.description())
+                .put("strictMode", schema.strictMode());
+        return new AuditEvent(SCHEMA, schema.type(), operation, null, changes);
+    }
+
+    /**
+     * A schema was deleted.
+     */
+    public static AuditEvent schemaDeleted(String type) {
+        return new AuditEvent(SCHEMA, type, Operation.DELETE, null, null);
+    }
+
+    private static String versionId(String type, String name, int versionNumber) {
+        return type + "/" + name + "/v" + versionNumber;
+    }
+
+    private static ObjectNode describe(Version version) {
+        return JsonNodeFactory.instance.objectNode()
+                .put("versionNumber", version.versionNumber())
+                .put("changeSummary", version.changeSummary())
+                .put("publishingState", version.publishingState().name());
+    }
+}
@@ -0,0 +1,10 @@
+package com.metadata.versioning.application.event;
+
+/**
+ * Published when changes may have been missed, e.g. while the invalidation
+ * listener was disconnected. Every in-process cache must drop all entries.
+ * 
+ * @param reason Human readable cause, for logging
+ */
+public record CacheFlushRequestedEvent(String reason) {
+}
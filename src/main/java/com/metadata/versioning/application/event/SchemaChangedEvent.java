@@ -0,0 +1,30 @@
+package com.metadata.versioning.application.event;
+
+import java.util.Objects;
+
+/**
+ * Published when the schema definition of a type is updated or deleted.
+ * 
+ * @param type Schema type
+ * @param remote True when the change was made on another node and received over the invalidation bus
+ */
+public record SchemaChangedEvent(String type, boolean remote) {
+
+    public SchemaChangedEvent {
+        Objects.requireNonNull(type, "Type cannot be null");
+    }
+
+    /**
+     * Event for a change made on this node.
+     */
+    public static SchemaChangedEvent of(String type) {
+        return new SchemaChangedEvent(type, false);
+    }
+
+    /**
+     * Event for a change received from another node.
+     */
+    public static SchemaChangedEvent fromRemote(String type) {
+        return new SchemaChangedEvent(type, true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.metadata.versioning.application.event;
+
+import java.util.Objects;
+
+/**
+ * Published when a version is activated on this node (FR-006).
+ * Complements the type-wide {@link ActiveVersionChangedEvent} that evicts stale entries
+ * by naming the newly active version, so listeners can prepare it ahead of the first read.
+ * 
+ * @param type Document type
+ * @param name Document name
+ * @param versionNumber Activated version number
+ */
+public record VersionActivatedEvent(String type, String name, int versionNumber) {
+
+    public VersionActivatedEvent {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+    }
+}
@@ -0,0 +1,19 @@
+package com.metadata.versioning.application.event;
+
+import java.util.Objects;
+
+/**
+ * Published when a new version is appended to an existing document (FR-001), so listeners
+ * can prepare what is derived from it, such as its patch from the previous version.
+ * 
+ * @param type Document type
+ * @param name Document name
+ * @param versionNumber Created version number
+ */
+public record VersionCreatedEvent(String type, String name, int versionNumber) {
+
+    public VersionCreatedEvent {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+    }
+}
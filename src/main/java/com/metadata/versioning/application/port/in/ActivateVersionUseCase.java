@@ -1,5 +1,7 @@
 package com.metadata.versioning.application.port.in;
 
+import com.metadata.versioning.domain.model.VersionPrecondition;
+
 /**
  * Use case for activating a specific version of metadata.
  * Implements FR-006: Activate Version functionality.
@@ -23,4 +25,18 @@ public interface ActivateVersionUseCase {
      * @throws com.metadata.versioning.domain.exception.InvalidActivationException if version cannot be activated
      */
     void activateVersion(String type, String name, Integer versionNumber);
+
+    /**
+     * Activate a specific version if the document's active version is still the expected one.
+     * 
+     * @param type The metadata type (e.g., "loyalty-program")
+     * @param name The metadata name (e.g., "gold-tier")
+     * @param versionNumber The version number to activate (1-based)
+     * @param precondition Expected currently active version, or null to activate unconditionally
+     * @throws com.metadata.versioning.domain.exception.VersionNotFoundException if version doesn't exist
+     * @throws com.metadata.versioning.domain.exception.InvalidActivationException if version cannot be activated
+     * @throws com.metadata.versioning.domain.exception.VersionConflictException if the precondition does not
+     *         hold for the active version
+     */
+    void activateVersion(String type, String name, Integer versionNumber, VersionPrecondition precondition);
 }
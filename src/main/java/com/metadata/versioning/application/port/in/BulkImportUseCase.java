@@ -0,0 +1,122 @@
+package com.metadata.versioning.application.port.in;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Use case port for importing many metadata documents in one request.
+ * Records are consumed as a stream, validated in parallel and written in chunked
+ * transactions; one result per record is reported in input order.
+ */
+public interface BulkImportUseCase {
+
+    /**
+     * Import records until the iterator is exhausted.
+     * 
+     * @param records Records to import, read lazily
+     * @param options Import options
+     * @param results Receives the results of each written chunk, in input order
+     * @return Totals for the whole import
+     */
+    ImportSummary importDocuments(Iterator<ImportRecord> records, ImportOptions options,
+                                  Consumer<List<ImportResult>> results);
+
+    /**
+     * A single input record, or a line that could not be read as one.
+     * 
+     * @param line 1-based input line number
+     * @param errorCode Error code the line is rejected with, or null if it is a valid record
+     * @param error Why the line is not a valid record, or null if it is
+     */
+    record ImportRecord(
+            long line,
+            String type,
+            String name,
+            JsonNode content,
+            String changeSummary,
+            String errorCode,
+            String error
+    ) {
+        public static ImportRecord of(long line, String type, String name, JsonNode content, String changeSummary) {
+            return new ImportRecord(line, type, name, content, changeSummary, null, null);
+        }
+
+        public static ImportRecord malformed(long line, String error) {
+            return rejected(line, "MALFORMED_LINE", error);
+        }
+
+        /**
+         * A line rejected while reading it, with the error code the same content gets when validated.
+         */
+        public static ImportRecord rejected(long line, String errorCode, String error) {
+            return new ImportRecord(line, null, null, null, null, errorCode, error);
+        }
+
+        public boolean isMalformed() {
+            return error != null;
+        }
+    }
+
+    /**
+     * Options applying to every record of an import.
+     * 
+     * @param author Author recorded on created versions
+     * @param appendToExisting Add a new version to documents that already exist instead of rejecting them
+     */
+    record ImportOptions(String author, boolean appendToExisting) {
+        public ImportOptions {
+            if (author == null || author.isBlank()) {
+                throw new IllegalArgumentException("Author cannot be null or empty");
+            }
+        }
+    }
+
+    enum Outcome {
+        CREATED,
+        APPENDED,
+        REJECTED
+    }
+
+    /**
+     * Result of importing a single record.
+     * 
+     * @param versionNumber Version created, null if rejected
+     * @param errorCode Error code if rejected, as used by the REST error responses
+     * @param message Error description if rejected
+     */
+    record ImportResult(
+            long line,
+            String type,
+            String name,
+            Outcome outcome,
+            Integer versionNumber,
+            String errorCode,
+            String message
+    ) {
+        public static ImportResult created(ImportRecord record, String type, String name) {
+            return new ImportResult(record.line(), type, name, Outcome.CREATED, 1, null, null);
+        }
+
+        public static ImportResult appended(ImportRecord record, String type, String name, int versionNumber) {
+            return new ImportResult(record.line(), type, name, Outcome.APPENDED, versionNumber, null, null);
+        }
+
+        public static ImportResult rejected(ImportRecord record, String errorCode, String message) {
+            return new ImportResult(record.line(), record.type(), record.name(), Outcome.REJECTED,
+                    null, errorCode, message);
+        }
+    }
+
+    /**
+     * Totals for a finished import.
+     */
+    record ImportSummary(long created, long appended, long rejected, long elapsedNanos) {
+
+        public long total() {
+            return created + appended + rejected;
+        }
+    }
+}
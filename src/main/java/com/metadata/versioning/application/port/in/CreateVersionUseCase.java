@@ -2,6 +2,7 @@ package com.metadata.versioning.application.port.in;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionPrecondition;
 
 /**
  * Use case port for creating new metadata versions.
@@ -26,6 +27,8 @@ public interface CreateVersionUseCase {
      * @return The created version
      * @throws com.metadata.versioning.domain.exception.VersionNotFoundException if document doesn't exist
      * @throws com.metadata.versioning.domain.exception.InvalidJsonException if JSON validation fails
+     * @throws com.metadata.versioning.domain.exception.VersionConflictException if the precondition does not
+     *         hold for the latest version, or concurrent writes kept conflicting
      */
     Version createNewVersion(CreateNewVersionCommand command);
 
@@ -57,14 +60,22 @@ public interface CreateVersionUseCase {
 
     /**
      * Command for creating a new version of an existing document.
+     * The optional precondition names the version the new one is based on; it must
+     * still be the latest version of the document when the new version is appended.
      */
     record CreateNewVersionCommand(
             String type,
             String name,
             JsonNode content,
             String author,
-            String changeSummary
+            String changeSummary,
+            VersionPrecondition precondition
     ) {
+        public CreateNewVersionCommand(String type, String name, JsonNode content, String author,
+                                       String changeSummary) {
+            this(type, name, content, author, changeSummary, null);
+        }
+
         public CreateNewVersionCommand {
             if (type == null || type.isBlank()) {
                 throw new IllegalArgumentException("Type cannot be null or empty");
@@ -0,0 +1,23 @@
+package com.metadata.versioning.application.port.in;
+
+import com.metadata.versioning.domain.model.DocumentVersion;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting the active version of every document as a consumer snapshot.
+ * Replaces listing documents and fetching each active version (FR-007, FR-015) one by one.
+ */
+public interface ExportActiveVersionsUseCase {
+
+    /**
+     * Stream the active version of every document, ordered by type and name.
+     * Versions are handed to the sink one at a time as they are read, so memory use
+     * does not depend on the number of documents.
+     * 
+     * @param type Document type filter, or null to export all types
+     * @param sink Receives each active version
+     * @return Number of versions exported
+     */
+    long exportActiveVersions(String type, Consumer<DocumentVersion> sink);
+}
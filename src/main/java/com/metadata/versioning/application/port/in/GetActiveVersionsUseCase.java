@@ -0,0 +1,24 @@
+package com.metadata.versioning.application.port.in;
+
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.Version;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for retrieving the active versions of many documents at once.
+ * Batch form of {@link GetActiveVersionUseCase} (FR-007) for consumers that load
+ * many documents at startup.
+ */
+public interface GetActiveVersionsUseCase {
+
+    /**
+     * Get the currently active version of each requested document.
+     * 
+     * @param keys Documents to look up; duplicates are allowed
+     * @return Active versions by key; documents that do not exist or have no
+     *         active version are absent from the map
+     */
+    Map<DocumentKey, Version> getActiveVersions(List<DocumentKey> keys);
+}
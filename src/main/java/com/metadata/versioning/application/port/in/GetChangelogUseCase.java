@@ -0,0 +1,38 @@
+package com.metadata.versioning.application.port.in;
+
+import com.metadata.versioning.domain.model.VersionDelta;
+
+import java.util.List;
+
+/**
+ * Inbound port for reading the history of a document as a changelog (FR-010):
+ * every version with the RFC 6902 patch turning its predecessor into it.
+ * Patches are computed once, after each version is created, so a page of the changelog
+ * costs one query rather than one comparison per version.
+ */
+public interface GetChangelogUseCase {
+
+    /**
+     * Get the versions of a document after a version number, oldest first.
+     * The first version has no predecessor, so changelogs start at version 2.
+     * 
+     * @param type The metadata type
+     * @param name The metadata name
+     * @param after Version number the page starts after, 0 to start from the beginning
+     * @param to Last version number wanted, or null for the latest
+     * @param limit Maximum number of versions to return
+     * @return A page of versions with their patches, and the position to continue from
+     * @throws com.metadata.versioning.domain.exception.VersionNotFoundException if the document doesn't exist
+     */
+    ChangelogPage getChangelog(String type, String name, int after, Integer to, int limit);
+
+    /**
+     * A page of the changelog of a document.
+     * 
+     * @param deltas Versions in ascending order, each with its patch
+     * @param next Version number to pass as after for the next page
+     * @param hasMore Whether more versions up to the requested one exist
+     */
+    record ChangelogPage(List<VersionDelta> deltas, int next, boolean hasMore) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.metadata.versioning.application.port.in;
+
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+
+import java.util.List;
+
+/**
+ * Use case for incremental sync: reading what changed since a consumer last synced.
+ * Consumers remember the sequence number of the last change they applied and sync in
+ * O(changes) instead of re-reading every document.
+ */
+public interface GetChangesUseCase {
+
+    /**
+     * Get the changes committed after a sequence number, oldest first.
+     * 
+     * @param since Sequence number of the last change already applied, 0 to start from the beginning
+     * @param limit Maximum number of changes to return
+     * @return A page of changes with the position to continue from
+     * @throws com.metadata.versioning.domain.exception.ChangeFeedExpiredException if changes
+     *         after since have been compacted
+     */
+    ChangePage getChanges(long since, int limit);
+
+    /**
+     * Get the sequence number of the latest committed change.
+     * A snapshot read after this call contains every change through it, so a consumer
+     * resynchronizing from that snapshot continues the feed from here without gaps.
+     * Changes after it may already be in the snapshot and are replayed; applying them
+     * again leaves the consumer in the same state.
+     * 
+     * @return Latest sequence number, 0 if the feed is empty
+     */
+    long currentPosition();
+
+    /**
+     * A page of the change feed.
+     * 
+     * @param changes Changes in sequence order
+     * @param next Sequence number to pass as since for the next page
+     * @param hasMore Whether more changes were already available
+     */
+    record ChangePage(List<ChangeFeedEntry> changes, long next, boolean hasMore) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.metadata.versioning.application.port.in;
+
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+
+/**
+ * Use case for pushing active version changes to long-lived subscribers as they commit.
+ * Activations, and the deactivations they cause, are read from the change feed, so every
+ * node delivers the same sequence numbers and a reconnecting subscriber can resume after
+ * the last one it received.
+ */
+public interface StreamActiveVersionChangesUseCase {
+
+    /**
+     * Start delivering activations and deactivations matching the filter.
+     * Each subscriber is served by its own writer, so a blocked listener only delays itself.
+     * A subscriber that falls too far behind, or resumes from a position that can no longer
+     * be replayed or is ahead of the change feed, receives {@link ChangeListener#onResyncRequired}
+     * and is closed.
+     *
+     * @param filter Which documents to deliver
+     * @param lastSequenceNumber Sequence number of the last change already received, or null
+     *        to receive only changes committed from now on
+     * @param listener Receives the changes, called from a single thread at a time
+     * @return Handle to cancel the subscription
+     */
+    Subscription subscribe(StreamFilter filter, Long lastSequenceNumber, ChangeListener listener);
+
+    /**
+     * Selects the documents a subscriber is interested in.
+     * A document losing its active version to another document of its type is reported by
+     * a deactivation of the document itself, so a name filter misses no change of its state.
+     *
+     * @param type Document type, or null for every type
+     * @param name Document name, or null for every document of the type
+     */
+    record StreamFilter(String type, String name) {
+
+        public static StreamFilter all() {
+            return new StreamFilter(null, null);
+        }
+
+        public boolean matches(DocumentChange change) {
+            return (type == null || type.equals(change.type()))
+                    && (name == null || name.equals(change.name()));
+        }
+    }
+
+    /**
+     * Receives the events of one subscription.
+     * Throwing from any method cancels the subscription.
+     */
+    interface ChangeListener {
+
+        void onChange(ChangeFeedEntry entry) throws Exception;
+
+        /**
+         * Changes may have been missed; the subscriber must re-read current state.
+         * No further events follow.
+         */
+        void onResyncRequired(String reason) throws Exception;
+
+        /**
+         * Nothing happened for a while; lets the listener detect dead connections.
+         */
+        void onHeartbeat() throws Exception;
+
+        /**
+         * The subscription ended, after a resync, a failed delivery, cancellation or shutdown.
+         */
+        void onClosed();
+    }
+
+    interface Subscription {
+
+        void cancel();
+    }
+}
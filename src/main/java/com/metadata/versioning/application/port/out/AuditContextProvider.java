@@ -0,0 +1,25 @@
+package com.metadata.versioning.application.port.out;
+
+/**
+ * Outbound port describing who is making the current change, for the audit trail.
+ */
+public interface AuditContextProvider {
+
+    /**
+     * Context of the request handled by the calling thread.
+     * 
+     * @return The context, with null fields for whatever is unknown (e.g. outside a request)
+     */
+    AuditContext current();
+
+    /**
+     * @param userId Authenticated user, or null
+     * @param correlationId Request correlation id, or null
+     * @param ipAddress Client address, or null
+     * @param userAgent Client user agent, or null
+     */
+    record AuditContext(String userId, String correlationId, String ipAddress, String userAgent) {
+
+        public static final AuditContext NONE = new AuditContext(null, null, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.metadata.versioning.application.port.out;
+
+import com.metadata.versioning.domain.model.AuditEntry;
+
+import java.util.List;
+
+/**
+ * Outbound port for the audit trail.
+ */
+public interface AuditLogRepository {
+
+    /**
+     * Store a batch of audit entries in one round trip, in their own transaction.
+     * 
+     * @param entries Entries to store, in the order they were recorded
+     */
+    void saveAll(List<AuditEntry> entries);
+}
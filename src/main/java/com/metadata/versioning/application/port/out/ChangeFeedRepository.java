@@ -0,0 +1,50 @@
+package com.metadata.versioning.application.port.out;
+
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbound port for the change feed (transactional outbox).
+ */
+public interface ChangeFeedRepository {
+
+    /**
+     * Record changes in the caller's transaction, so they become visible exactly when it commits.
+     * Implementations must assign sequence numbers in commit order: once a consumer has read
+     * past a sequence number, no change with a lower one may become visible. Callers should
+     * record changes last, right before committing.
+     * 
+     * @param changes Changes made by the current transaction
+     */
+    void append(List<DocumentChange> changes);
+
+    /**
+     * Find committed changes after a sequence number, in sequence order (keyset pagination).
+     * 
+     * @param sequenceNumber Exclusive lower bound
+     * @param limit Maximum number of entries
+     * @return Up to limit entries
+     */
+    List<ChangeFeedEntry> findAfter(long sequenceNumber, int limit);
+
+    /**
+     * Highest committed sequence number, including compacted entries; 0 if the feed is empty.
+     */
+    long findLatestSequenceNumber();
+
+    /**
+     * Highest sequence number removed by compaction, 0 if nothing was compacted yet.
+     */
+    long findCompactedThrough();
+
+    /**
+     * Remove entries recorded before the cutoff and advance the compaction horizon past them.
+     * 
+     * @param cutoff Entries recorded before this instant are removed
+     * @return Number of entries removed
+     */
+    long compactRecordedBefore(Instant cutoff);
+}
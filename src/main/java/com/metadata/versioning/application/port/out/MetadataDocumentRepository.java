@@ -1,10 +1,25 @@
 package com.metadata.versioning.application.port.out;
 
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.DocumentSummary;
+import com.metadata.versioning.domain.model.DocumentVersion;
+import com.metadata.versioning.domain.model.JsonPatch;
 import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.SubtreeHashes;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDelta;
+import com.metadata.versioning.domain.model.VersionDigest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * Outbound port for metadata document persistence.
@@ -20,6 +35,22 @@ public interface MetadataDocumentRepository {
      */
     MetadataDocument save(MetadataDocument document);
 
+    /**
+     * Save new metadata documents (each with its first version) in one batch.
+     * 
+     * @param documents Documents to save; none may exist yet
+     */
+    void saveAll(List<MetadataDocument> documents);
+
+    /**
+     * Find which of the given names already exist for a type, with a single query.
+     * 
+     * @param type Document type
+     * @param names Candidate document names
+     * @return The subset of names that exist
+     */
+    Set<String> findExistingNames(String type, Collection<String> names);
+
     /**
      * Find a metadata document by type and name.
      * 
@@ -29,6 +60,184 @@ public interface MetadataDocumentRepository {
      */
     Optional<MetadataDocument> findByTypeAndName(String type, String name);
 
+    /**
+     * Find the active version of a document without loading its version history (FR-007).
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @return Optional containing the active version, empty if the document does not exist
+     *         or has no active version
+     */
+    Optional<Version> findActiveVersion(String type, String name);
+
+    /**
+     * Find the active versions of many documents with a single query, without loading
+     * their version histories.
+     * 
+     * @param keys Documents to look up
+     * @return Active versions by key; documents that do not exist or have no active
+     *         version are absent from the map
+     */
+    Map<DocumentKey, Version> findActiveVersions(Collection<DocumentKey> keys);
+
+    /**
+     * Read the active version of every document, ordered by type and name, without
+     * loading the owning aggregates. Rows are read incrementally from a server-side
+     * cursor and handed to the consumer one at a time, so the result is never held
+     * in memory; callers must run inside a (read-only) transaction.
+     * 
+     * @param type Document type filter, or null for all types
+     * @param consumer Receives each active version as it is read
+     * @return Number of versions read
+     */
+    long forEachActiveVersion(String type, Consumer<DocumentVersion> consumer);
+
+    /**
+     * Find a single version of a document without loading its version history.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumber Version number (1-based)
+     * @return Optional containing the version if both document and version exist
+     */
+    Optional<Version> findVersion(String type, String name, int versionNumber);
+
+    /**
+     * Find the digest of the active version without reading its content.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @return Optional containing the digest, empty if the document does not exist
+     *         or has no active version
+     */
+    Optional<VersionDigest> findActiveVersionDigest(String type, String name);
+
+    /**
+     * Find the digest of a single version without reading its content.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumber Version number (1-based)
+     * @return Optional containing the digest if both document and version exist
+     */
+    Optional<VersionDigest> findVersionDigest(String type, String name, int versionNumber);
+
+    /**
+     * Find the digest of the latest version of a document without reading its content.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @return Optional containing the digest, empty if the document does not exist
+     */
+    Optional<VersionDigest> findLatestVersionDigest(String type, String name);
+
+    /**
+     * Find the subtree hashes recorded for versions of a document, without reading their content.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumbers Version numbers to look up
+     * @return Hashes by version number; versions without recorded hashes are absent from the map
+     */
+    Map<Integer, SubtreeHashes> findSubtreeHashes(String type, String name, Collection<Integer> versionNumbers);
+
+    /**
+     * Find the versions of a document in a range without reading their content, each with the
+     * stored patch turning its predecessor's content into its own.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param fromVersion Version the range starts after
+     * @param toVersion Last version of the range
+     * @param resultFingerprint Fingerprint of the comparison options ({@code DiffEngine.resultFingerprint});
+     *                          patches computed with other options are left out
+     * @return The versions after fromVersion up to toVersion that exist, in ascending order
+     */
+    List<VersionDelta> findVersionDeltas(String type, String name, int fromVersion, int toVersion,
+                                         String resultFingerprint);
+
+    /**
+     * Store the patch turning the previous version's content into this version's content,
+     * replacing a patch computed with other options.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumber Version the patch leads to
+     * @param resultFingerprint Fingerprint of the comparison options the patch was computed with
+     * @param patch Patch against version versionNumber - 1
+     * @return true if the version exists
+     */
+    boolean saveVersionDelta(String type, String name, int versionNumber, String resultFingerprint, JsonPatch patch);
+
+    /**
+     * Serialize activations within a document type until the current transaction ends,
+     * so the active version read afterwards cannot change before the transaction commits.
+     * 
+     * @param type Document type
+     */
+    void lockActivations(String type);
+
+    /**
+     * Find the active version number of every document of a type that has one.
+     * Called while holding the activation lock of the type, the result cannot change
+     * before the transaction ends.
+     * 
+     * @param type Document type
+     * @return Active version numbers by document
+     */
+    Map<DocumentKey, Integer> findActiveVersionNumbers(String type);
+
+    /**
+     * Make the given version the only active version across all documents of its type (FR-006).
+     * Implementations must use a constant number of statements regardless of how many
+     * documents or versions exist, and must keep the guarantee under concurrent activations.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumber Version number to activate
+     * @return true if the version was activated, false if it does not exist or is not published
+     */
+    boolean switchActiveVersion(String type, String name, int versionNumber);
+
+    /**
+     * Move a version from one publishing state to another, without writing anything else.
+     * Active flags changed by activations since the version was read are kept (FR-006).
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionNumber Version number
+     * @param from State the version was read in
+     * @param to State to move it to
+     * @return true if the version was moved, false if it does not exist or is no longer in the from state
+     */
+    boolean transitionVersionState(String type, String name, int versionNumber,
+                                   PublishingState from, PublishingState to);
+
+    /**
+     * Append a new version to an existing document (FR-001) without loading its history.
+     * The next version number is allocated atomically, so concurrent appends to the same
+     * document receive distinct, consecutive numbers.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param versionFactory Builds the version for the allocated version number
+     * @return The stored version, or empty if the document does not exist
+     */
+    Optional<Version> appendVersion(String type, String name, IntFunction<Version> versionFactory);
+
+    /**
+     * Append a new version only if the document's latest version is still the expected one.
+     * The check and the version number allocation are a single atomic step.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @param expectedLatestVersion Version number the new version is based on
+     * @param versionFactory Builds the version for the allocated version number
+     * @return The stored version, or empty if the document does not exist or has a newer version
+     */
+    Optional<Version> appendVersionIfLatest(String type, String name, int expectedLatestVersion,
+                                            IntFunction<Version> versionFactory);
+
     /**
      * Check if a document exists with the given type and name.
      * 
@@ -72,4 +281,39 @@ public interface MetadataDocumentRepository {
      * @return Page of documents
      */
     Page<MetadataDocument> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Find document summaries with pagination, without loading version content (FR-015).
+     * 
+     * @param pageable Pagination parameters
+     * @return Page of document summaries
+     */
+    Page<DocumentSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find summaries of documents of a specific type with pagination.
+     * 
+     * @param type Document type filter
+     * @param pageable Pagination parameters
+     * @return Page of document summaries
+     */
+    Page<DocumentSummary> findSummariesByType(String type, Pageable pageable);
+
+    /**
+     * Find summaries of documents with name containing the search string (case insensitive).
+     * 
+     * @param name Search string
+     * @param pageable Pagination parameters
+     * @return Page of document summaries
+     */
+    Page<DocumentSummary> findSummariesByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Find the summary of a single document.
+     * 
+     * @param type Document type
+     * @param name Document name
+     * @return Optional containing the summary if the document exists
+     */
+    Optional<DocumentSummary> findSummary(String type, String name);
 }
@@ -0,0 +1,36 @@
+package com.metadata.versioning.application.port.out;
+
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbound port for stored version comparison results.
+ * Version content never changes, so the changes between two versions stay valid for as long
+ * as the comparison is made with the same options, identified by a result fingerprint.
+ */
+public interface VersionComparisonRepository {
+
+    /**
+     * Find the stored changes between two versions.
+     *
+     * @param type Document type
+     * @param name Document name
+     * @param fromVersion Baseline version number
+     * @param toVersion Compared version number
+     * @param resultFingerprint Fingerprint of the comparison options ({@code DiffEngine.resultFingerprint})
+     * @return Optional containing the changes, in the order they were computed
+     */
+    Optional<List<ChangeDetail>> findChanges(String type, String name, int fromVersion, int toVersion,
+                                             String resultFingerprint);
+
+    /**
+     * Store the changes between two versions, keeping the existing entry if there is one.
+     * Runs in its own transaction, so it can be called from read-only ones.
+     *
+     * @param computeMillis Time the comparison took, kept for tuning what is worth storing
+     */
+    void saveChanges(String type, String name, int fromVersion, int toVersion,
+                     String resultFingerprint, List<ChangeDetail> changes, long computeMillis);
+}
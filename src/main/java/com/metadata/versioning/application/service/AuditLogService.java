@@ -0,0 +1,247 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.port.out.AuditContextProvider;
+import com.metadata.versioning.application.port.out.AuditContextProvider.AuditContext;
+import com.metadata.versioning.application.port.out.AuditLogRepository;
+import com.metadata.versioning.domain.model.AuditEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service recording committed mutations in the audit trail off the write path.
+ *
+ * Committing a mutation only places its entry in a bounded ring buffer, which never blocks.
+ * A single writer thread drains the buffer and stores whatever accumulated as one batch, so
+ * batches grow with load and the trail costs one round trip per batch rather than per entry.
+ * When the buffer is full, for instance while the database is unreachable, new entries are
+ * dropped and counted instead of slowing down or failing the mutations themselves.
+ */
+@Service
+public class AuditLogService implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogService.class);
+
+    static final long POLL_TIMEOUT_MILLIS = 200;
+    static final String ANONYMOUS = "anonymous";
+
+    private final AuditLogRepository repository;
+    private final AuditContextProvider contextProvider;
+    private final BlockingQueue<AuditEntry> buffer;
+    private final int batchSize;
+    private final int writeAttempts;
+    private final long retryBackoffMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private volatile int lastBatchSize;
+    private volatile boolean overflowing;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLogService(AuditLogRepository repository,
+                           AuditContextProvider contextProvider,
+                           @Value("${app.audit.buffer-capacity:8192}") int bufferCapacity,
+                           @Value("${app.audit.batch-size:500}") int batchSize,
+                           @Value("${app.audit.write-attempts:3}") int writeAttempts,
+                           @Value("${app.audit.retry-backoff:500ms}") Duration retryBackoff,
+                           @Value("${app.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.repository = repository;
+        this.contextProvider = contextProvider;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.writeAttempts = Math.max(1, writeAttempts);
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stop the writer once it has drained the buffer, waiting a bounded time for the last batches.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(shutdownTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer.isAlive()) {
+                logger.warn("Audit writer did not drain in time, {} entries are lost", buffer.size());
+                writer.interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Queue the entry of a mutation once its transaction has committed.
+     * Runs on the committing thread, so the request context is still available.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAudit(AuditEvent event) {
+        AuditContext context = contextProvider.current();
+        String userId = context.userId() != null ? context.userId()
+                : event.actor() != null ? event.actor()
+                : ANONYMOUS;
+        record(new AuditEntry(event.entityType(), event.entityId(), event.operation(), userId,
+                event.changes(), context.correlationId(), context.ipAddress(), context.userAgent(),
+                Instant.now()));
+    }
+
+    /**
+     * Queue an entry without waiting; drops it if the buffer is full.
+     *
+     * @return true if the entry was queued
+     */
+    public boolean record(AuditEntry entry) {
+        if (buffer.offer(entry)) {
+            return true;
+        }
+        overflowed.increment();
+        if (!overflowing) {
+            overflowing = true;
+            logger.warn("Audit buffer full ({} entries), dropping entries until the writer catches up",
+                    buffer.size());
+        }
+        return false;
+    }
+
+    /**
+     * Entries waiting to be written.
+     */
+    public int queueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * Entries the buffer can hold.
+     */
+    public int queueCapacity() {
+        return buffer.size() + buffer.remainingCapacity();
+    }
+
+    /**
+     * Entries dropped because the buffer was full.
+     */
+    public long overflowedEntries() {
+        return overflowed.sum();
+    }
+
+    /**
+     * Entries dropped because their batch could not be written.
+     */
+    public long failedEntries() {
+        return failed.sum();
+    }
+
+    /**
+     * Entries stored in the audit trail.
+     */
+    public long writtenEntries() {
+        return written.sum();
+    }
+
+    /**
+     * Batches stored in the audit trail.
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Time spent storing the batches that were written.
+     */
+    public long writeNanos() {
+        return writeNanos.sum();
+    }
+
+    /**
+     * Number of entries in the most recently stored batch.
+     */
+    public int lastBatchSize() {
+        return lastBatchSize;
+    }
+
+    private void writeLoop() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        // Keep draining after stop() until the buffer is empty, so a clean shutdown loses nothing
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEntry first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                if (overflowing && buffer.remainingCapacity() > buffer.size()) {
+                    overflowing = false;
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEntry> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                repository.saveAll(batch);
+                writeNanos.add(System.nanoTime() - start);
+                batches.increment();
+                written.add(batch.size());
+                lastBatchSize = batch.size();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= writeAttempts) {
+                    failed.add(batch.size());
+                    logger.error("Failed to write {} audit entries after {} attempts", batch.size(), attempt, e);
+                    return;
+                }
+                logger.warn("Audit write failed, retrying in {}ms: {}", retryBackoffMillis * attempt, e.getMessage());
+                Thread.sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.event.VersionCreatedEvent;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportOptions;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportRecord;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.ImportResult;
+import com.metadata.versioning.application.port.in.BulkImportUseCase.Outcome;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.exception.DocumentAlreadyExistsException;
+import com.metadata.versioning.domain.exception.VersionNotFoundException;
+import com.metadata.versioning.domain.model.DocumentChange;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.Version;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Writes one chunk of a bulk import in a single transaction.
+ * Existence is checked with one query per type for the whole chunk, and new documents
+ * are saved together so their inserts are batched. Every version written is audited and
+ * announced like one created through the API.
+ * Kept apart from BulkImportService so each chunk runs through the transactional proxy.
+ */
+@Service
+public class BulkImportChunkWriter {
+
+    private final MetadataDocumentRepository repository;
+    private final ChangeFeedRepository changeFeedRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkImportChunkWriter(MetadataDocumentRepository repository, ChangeFeedRepository changeFeedRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.changeFeedRepository = changeFeedRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Write a validated chunk.
+     * A concurrent import of the same document fails the whole chunk with a
+     * data integrity exception; callers can retry its records one by one.
+     * 
+     * @return One result per candidate, in the same order
+     */
+    @Transactional
+    public List<ImportResult> write(List<Candidate> candidates, ImportOptions options) {
+        ImportResult[] results = new ImportResult[candidates.size()];
+        Version[] written = new Version[candidates.size()];
+        Map<String, Set<String>> existing = findExisting(candidates);
+
+        Map<String, MetadataDocument> created = new LinkedHashMap<>();
+        List<Integer> appends = new ArrayList<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (candidate.rejection() != null) {
+                results[i] = candidate.rejection();
+                continue;
+            }
+
+            MetadataDocument document = candidate.document();
+            String key = document.getType() + ":" + document.getName();
+            MetadataDocument pending = created.get(key);
+            boolean exists = existing.get(document.getType()).contains(document.getName());
+
+            if (!exists && pending == null) {
+                created.put(key, document);
+                written[i] = document.getVersion(1).orElseThrow();
+                results[i] = ImportResult.created(candidate.record(), document.getType(), document.getName());
+            } else if (!options.appendToExisting()) {
+                DocumentAlreadyExistsException conflict =
+                        new DocumentAlreadyExistsException(document.getType(), document.getName());
+                results[i] = ImportResult.rejected(candidate.record(), conflict.getErrorCode(), conflict.getMessage());
+            } else if (pending != null) {
+                // Repeated within the chunk: becomes the next version of the document saved below
+                Version version = pending.addVersion(
+                        candidate.record().content(), options.author(), candidate.record().changeSummary());
+                written[i] = version;
+                results[i] = ImportResult.appended(candidate.record(), document.getType(), document.getName(),
+                        version.versionNumber());
+            } else {
+                appends.add(i);
+            }
+        }
+
+        repository.saveAll(new ArrayList<>(created.values()));
+
+        for (int i : appends) {
+            Candidate candidate = candidates.get(i);
+            MetadataDocument document = candidate.document();
+            Optional<Version> appended = repository.appendVersion(document.getType(), document.getName(),
+                    versionNumber -> Version.createNext(
+                            versionNumber - 1,
+                            candidate.record().content(),
+                            options.author(),
+                            candidate.record().changeSummary()));
+            written[i] = appended.orElse(null);
+            results[i] = appended
+                    .map(version -> ImportResult.appended(candidate.record(), document.getType(),
+                            document.getName(), version.versionNumber()))
+                    .orElseGet(() -> {
+                        VersionNotFoundException missing =
+                                new VersionNotFoundException(document.getType(), document.getName());
+                        return ImportResult.rejected(candidate.record(), missing.getErrorCode(), missing.getMessage());
+                    });
+        }
+
+        // Announce every version written by the chunk, as part of its transaction
+        changeFeedRepository.append(Arrays.stream(results)
+                .filter(result -> result.outcome() != Outcome.REJECTED)
+                .map(result -> new DocumentChange(result.type(), result.name(), result.versionNumber(),
+                        DocumentChange.Kind.VERSION_CREATED))
+                .toList());
+
+        for (int i = 0; i < results.length; i++) {
+            ImportResult result = results[i];
+            if (result.outcome() == Outcome.CREATED) {
+                eventPublisher.publishEvent(AuditEvent.documentCreated(result.type(), result.name(), written[i]));
+            } else if (result.outcome() == Outcome.APPENDED) {
+                eventPublisher.publishEvent(new VersionCreatedEvent(result.type(), result.name(), result.versionNumber()));
+                eventPublisher.publishEvent(AuditEvent.versionCreated(result.type(), result.name(), written[i]));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private Map<String, Set<String>> findExisting(List<Candidate> candidates) {
+        Map<String, Set<String>> namesByType = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            if (candidate.document() != null) {
+                namesByType.computeIfAbsent(candidate.document().getType(), type -> new HashSet<>())
+                        .add(candidate.document().getName());
+            }
+        }
+
+        Map<String, Set<String>> existing = new HashMap<>();
+        namesByType.forEach((type, names) -> existing.put(type, repository.findExistingNames(type, names)));
+        return existing;
+    }
+
+    /**
+     * A record after validation: either the document to create or the reason it was rejected.
+     */
+    public record Candidate(ImportRecord record, MetadataDocument document, ImportResult rejection) {
+
+        public static Candidate valid(ImportRecord record, MetadataDocument document) {
+            return new Candidate(record, document, null);
+        }
+
+        public static Candidate rejected(ImportRecord record, String errorCode, String message) {
+            return new Candidate(record, null, ImportResult.rejected(record, errorCode, message));
+        }
+    }
+}
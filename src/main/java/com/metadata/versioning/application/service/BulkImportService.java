@@ -0,0 +1,246 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.port.in.BulkImportUseCase;
+import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
+import com.metadata.versioning.application.service.BulkImportChunkWriter.Candidate;
+import com.metadata.versioning.domain.exception.DocumentAlreadyExistsException;
+import com.metadata.versioning.domain.exception.DomainException;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.validator.JsonStructureValidator;
+import com.metadata.versioning.domain.validator.SchemaValidator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Application service for bulk imports of metadata documents.
+ * 
+ * Records are taken from the input a chunk at a time, validated in parallel on a
+ * bounded executor (structure, naming and schema, exactly as for single creates) and
+ * each chunk is written in its own transaction. Memory use is bounded by the chunk size,
+ * not by the size of the import. Schemas are looked up once per type and import.
+ */
+@Service
+public class BulkImportService implements BulkImportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    private final BulkImportChunkWriter chunkWriter;
+    private final SchemaDefinitionRepository schemaRepository;
+    private final SchemaValidator schemaValidator;
+    private final int chunkSize;
+    private final ThreadPoolExecutor validationExecutor;
+
+    private final LongAdder imports = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder readNanos = new LongAdder();
+    private final LongAdder validateNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    public BulkImportService(BulkImportChunkWriter chunkWriter,
+                             SchemaDefinitionRepository schemaRepository,
+                             SchemaValidator schemaValidator,
+                             @Value("${app.import.chunk-size:500}") int chunkSize,
+                             @Value("${app.import.validation-threads:0}") int validationThreads) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        this.chunkWriter = chunkWriter;
+        this.schemaRepository = schemaRepository;
+        this.schemaValidator = schemaValidator;
+        this.chunkSize = chunkSize;
+
+        int threads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Concurrent imports share the pool; when it is saturated the importing thread validates itself
+        this.validationExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-validation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public ImportSummary importDocuments(Iterator<ImportRecord> records, ImportOptions options,
+                                         Consumer<List<ImportResult>> results) {
+        long start = System.nanoTime();
+        Map<String, Optional<SchemaDefinition>> schemas = new ConcurrentHashMap<>();
+        long createdCount = 0;
+        long appendedCount = 0;
+        long rejectedCount = 0;
+
+        while (true) {
+            long readStart = System.nanoTime();
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && records.hasNext()) {
+                chunk.add(records.next());
+            }
+            readNanos.add(System.nanoTime() - readStart);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<ImportResult> chunkResults = write(validate(chunk, options, schemas), options);
+            for (ImportResult result : chunkResults) {
+                switch (result.outcome()) {
+                    case CREATED -> createdCount++;
+                    case APPENDED -> appendedCount++;
+                    case REJECTED -> rejectedCount++;
+                }
+            }
+            chunks.increment();
+            results.accept(chunkResults);
+        }
+
+        imports.increment();
+        created.add(createdCount);
+        appended.add(appendedCount);
+        rejected.add(rejectedCount);
+        return new ImportSummary(createdCount, appendedCount, rejectedCount, System.nanoTime() - start);
+    }
+
+    /**
+     * Validate a chunk in parallel, keeping input order.
+     */
+    private List<Candidate> validate(List<ImportRecord> chunk, ImportOptions options,
+                                     Map<String, Optional<SchemaDefinition>> schemas) {
+        long start = System.nanoTime();
+        List<Future<Candidate>> futures = new ArrayList<>(chunk.size());
+        for (ImportRecord record : chunk) {
+            futures.add(validationExecutor.submit(() -> validate(record, options, schemas)));
+        }
+
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                candidates.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                logger.error("Validation of import line {} failed unexpectedly", chunk.get(i).line(), e.getCause());
+                candidates.add(Candidate.rejected(chunk.get(i), "INTERNAL_SERVER_ERROR", "Validation failed"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Import interrupted", e);
+            }
+        }
+        validateNanos.add(System.nanoTime() - start);
+        return candidates;
+    }
+
+    private Candidate validate(ImportRecord record, ImportOptions options,
+                               Map<String, Optional<SchemaDefinition>> schemas) {
+        if (record.isMalformed()) {
+            return Candidate.rejected(record, record.errorCode(), record.error());
+        }
+        try {
+            // Validate JSON structure and size (FR-011, FR-025)
+            JsonStructureValidator.validate(record.content());
+
+            String summary = record.changeSummary() != null && !record.changeSummary().isBlank()
+                    ? record.changeSummary()
+                    : "Initial version";
+            MetadataDocument document = new MetadataDocument(record.type(), record.name(),
+                    Version.createFirst(record.content(), options.author(), summary));
+
+            // Validate against schema if one exists
+            schemas.computeIfAbsent(document.getType(), schemaRepository::findByType)
+                    .ifPresent(schema -> schemaValidator.validate(record.content(), schema));
+
+            return Candidate.valid(record, document);
+        } catch (DomainException e) {
+            return Candidate.rejected(record, e.getErrorCode(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return Candidate.rejected(record, "INVALID_ARGUMENT", e.getMessage());
+        }
+    }
+
+    /**
+     * Write a chunk in one transaction. If it fails, e.g. because another request created
+     * one of its documents concurrently, retry its records one at a time so only the
+     * conflicting records are rejected.
+     */
+    private List<ImportResult> write(List<Candidate> candidates, ImportOptions options) {
+        long start = System.nanoTime();
+        try {
+            return chunkWriter.write(candidates, options);
+        } catch (RuntimeException e) {
+            logger.debug("Import chunk of {} records failed, retrying records individually", candidates.size(), e);
+            List<ImportResult> results = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                results.add(writeSingle(candidate, options));
+            }
+            return results;
+        } finally {
+            writeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private ImportResult writeSingle(Candidate candidate, ImportOptions options) {
+        try {
+            return chunkWriter.write(List.of(candidate), options).get(0);
+        } catch (DataIntegrityViolationException e) {
+            MetadataDocument document = candidate.document();
+            DocumentAlreadyExistsException conflict =
+                    new DocumentAlreadyExistsException(document.getType(), document.getName());
+            return ImportResult.rejected(candidate.record(), conflict.getErrorCode(), conflict.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Failed to import line {}", candidate.record().line(), e);
+            return ImportResult.rejected(candidate.record(), "WRITE_FAILED", "Could not store the record");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    /**
+     * Snapshot of import statistics.
+     */
+    public ImportStats stats() {
+        return new ImportStats(imports.sum(), chunks.sum(), created.sum(), appended.sum(), rejected.sum(),
+                readNanos.sum(), validateNanos.sum(), writeNanos.sum());
+    }
+
+    /**
+     * Cumulative import statistics; stage times are totals in nanoseconds.
+     * The read stage covers receiving and parsing the input.
+     */
+    public record ImportStats(
+            long imports,
+            long chunks,
+            long created,
+            long appended,
+            long rejected,
+            long readNanos,
+            long validateNanos,
+            long writeNanos
+    ) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.port.in.GetChangesUseCase;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.domain.exception.ChangeFeedExpiredException;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service for reading and compacting the change feed.
+ * Entries are written by the services making the changes, in their own transactions.
+ */
+@Service
+public class ChangeFeedService implements GetChangesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final Duration retention;
+    private final int maxPageSize;
+    private final LongAdder compactedEntries = new LongAdder();
+
+    public ChangeFeedService(ChangeFeedRepository changeFeedRepository,
+                             @Value("${app.change-feed.retention:7d}") Duration retention,
+                             @Value("${app.change-feed.max-page-size:1000}") int maxPageSize) {
+        this.changeFeedRepository = changeFeedRepository;
+        this.retention = retention;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangePage getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+
+        // One extra entry tells whether another page is already available
+        List<ChangeFeedEntry> entries = changeFeedRepository.findAfter(since, limit + 1);
+
+        // Checked after reading: a compaction committing in between is seen here,
+        // so entries it removed are never skipped silently
+        long compactedThrough = changeFeedRepository.findCompactedThrough();
+        if (since < compactedThrough) {
+            throw new ChangeFeedExpiredException(since, compactedThrough,
+                    changeFeedRepository.findLatestSequenceNumber());
+        }
+        boolean hasMore = entries.size() > limit;
+        List<ChangeFeedEntry> page = hasMore ? entries.subList(0, limit) : entries;
+        long next = page.isEmpty() ? since : page.get(page.size() - 1).sequenceNumber();
+        return new ChangePage(List.copyOf(page), next, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long currentPosition() {
+        return changeFeedRepository.findLatestSequenceNumber();
+    }
+
+    /**
+     * Remove entries older than the retention period.
+     * Consumers that fall further behind than the retention get CHANGE_FEED_EXPIRED
+     * and resynchronize from a snapshot. Safe to run on every node.
+     */
+    @Scheduled(fixedDelayString = "${app.change-feed.compaction-interval:1h}",
+            initialDelayString = "${app.change-feed.compaction-interval:1h}")
+    @Transactional
+    public void compact() {
+        long removed = changeFeedRepository.compactRecordedBefore(Instant.now().minus(retention));
+        compactedEntries.add(removed);
+        if (removed > 0) {
+            logger.info("Compacted {} change feed entries older than {}", removed, retention);
+        }
+    }
+
+    /**
+     * Total number of entries removed by compaction on this node.
+     */
+    public long compactedEntries() {
+        return compactedEntries.sum();
+    }
+}
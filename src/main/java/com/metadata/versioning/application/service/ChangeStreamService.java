@@ -0,0 +1,360 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.VersionActivatedEvent;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service pushing activations from the change feed to stream subscribers.
+ * Deactivations are pushed as well: activating a version deactivates the active version of
+ * every other document of its type (FR-006), which subscribers to those documents must learn.
+ *
+ * A single dispatcher thread tails the change feed and fans matching changes out to
+ * per-subscriber bounded queues. It is woken when an activation commits on this node or is
+ * announced by another node, and polls as a fallback. Each subscriber drains its queue on
+ * its own virtual thread, so thousands of idle subscribers cost no platform threads and a
+ * slow one never delays the others: when its queue overflows it is sent a resync and closed.
+ */
+@Service
+public class ChangeStreamService implements StreamActiveVersionChangesUseCase, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    static final int PAGE_SIZE = 500;
+
+    static final String RESYNC_SLOW_CONSUMER = "subscriber fell behind";
+    static final String RESYNC_EXPIRED = "changes after the last event id have been compacted";
+    static final String RESYNC_REPLAY_LIMIT = "too many changes since the last event id";
+    static final String RESYNC_FEED_GAP = "change stream fell behind compaction";
+    static final String RESYNC_UNKNOWN_POSITION = "last event id is ahead of the change feed";
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final int queueCapacity;
+    private final int maxReplay;
+    private final long pollIntervalMillis;
+    private final long heartbeatIntervalNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Semaphore wakeUp = new Semaphore(0);
+    // Guards position: replays read up to it while the dispatcher is not advancing it
+    private final Object dispatchLock = new Object();
+    private long position;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public ChangeStreamService(ChangeFeedRepository changeFeedRepository,
+                               @Value("${app.stream.queue-capacity:256}") int queueCapacity,
+                               @Value("${app.stream.max-replay:10000}") int maxReplay,
+                               @Value("${app.stream.poll-interval:2s}") Duration pollInterval,
+                               @Value("${app.stream.heartbeat-interval:30s}") Duration heartbeatInterval) {
+        this.changeFeedRepository = changeFeedRepository;
+        this.queueCapacity = queueCapacity;
+        this.maxReplay = maxReplay;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        synchronized (dispatchLock) {
+            position = changeFeedRepository.findLatestSequenceNumber();
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "change-stream-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+            try {
+                dispatcher.join(pollIntervalMillis * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatcher = null;
+        }
+        subscribers.forEach(Subscriber::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public Subscription subscribe(StreamFilter filter, Long lastSequenceNumber, ChangeListener listener) {
+        if (!running) {
+            throw new IllegalStateException("Change stream is not running");
+        }
+        Subscriber subscriber;
+        synchronized (dispatchLock) {
+            subscriber = new Subscriber(filter, listener,
+                    lastSequenceNumber != null ? lastSequenceNumber : position);
+            if (lastSequenceNumber != null && lastSequenceNumber < position) {
+                replay(subscriber, lastSequenceNumber);
+            } else if (lastSequenceNumber != null && lastSequenceNumber > position
+                    && lastSequenceNumber > changeFeedRepository.findLatestSequenceNumber()) {
+                // Not a position of this feed, such as an id from before a restore; every change up
+                // to it would be skipped. Ids ahead of this node only, seen on another node, are valid.
+                subscriber.resync(RESYNC_UNKNOWN_POSITION);
+            }
+            if (!subscriber.closing) {
+                subscribers.add(subscriber);
+            }
+        }
+        subscriber.start();
+        return subscriber::close;
+    }
+
+    /**
+     * Wake the dispatcher once an activation made on this node has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVersionActivated(VersionActivatedEvent event) {
+        wakeUp.release();
+    }
+
+    /**
+     * Wake the dispatcher when another node announces a change; its feed entry is already committed.
+     */
+    @EventListener
+    public void onActiveVersionChanged(ActiveVersionChangedEvent event) {
+        if (event.remote()) {
+            wakeUp.release();
+        }
+    }
+
+    /**
+     * Number of open subscriptions.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Number of changes handed to subscribers.
+     */
+    public long deliveredChanges() {
+        return delivered.sum();
+    }
+
+    /**
+     * Number of subscribers told to resync because changes could not be delivered.
+     */
+    public long resyncs() {
+        return resyncs.sum();
+    }
+
+    private void dispatchLoop() {
+        long lastHeartbeat = System.nanoTime();
+        while (running) {
+            try {
+                wakeUp.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                dispatch();
+                if (System.nanoTime() - lastHeartbeat >= heartbeatIntervalNanos) {
+                    subscribers.forEach(Subscriber::heartbeat);
+                    lastHeartbeat = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Change stream dispatch failed, retrying in {}ms: {}", pollIntervalMillis, e.getMessage());
+            }
+        }
+    }
+
+    void dispatch() {
+        synchronized (dispatchLock) {
+            List<ChangeFeedEntry> page;
+            do {
+                page = changeFeedRepository.findAfter(position, PAGE_SIZE);
+                if (!page.isEmpty() && !subscribers.isEmpty()) {
+                    // Read after the page, as in ChangeFeedService, so a concurrent compaction is seen
+                    long compactedThrough = changeFeedRepository.findCompactedThrough();
+                    if (position < compactedThrough) {
+                        logger.warn("Change stream missed entries up to {}, resyncing {} subscribers",
+                                compactedThrough, subscribers.size());
+                        subscribers.forEach(subscriber -> subscriber.resync(RESYNC_FEED_GAP));
+                    }
+                }
+                for (ChangeFeedEntry entry : page) {
+                    position = entry.sequenceNumber();
+                    if (isActiveVersionChange(entry)) {
+                        for (Subscriber subscriber : subscribers) {
+                            subscriber.offer(entry);
+                        }
+                    }
+                }
+            } while (page.size() == PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Queue the changes a resuming subscriber missed, up to the dispatcher's position;
+     * everything after it is delivered by the dispatcher. Called holding the dispatch lock.
+     */
+    private void replay(Subscriber subscriber, long since) {
+        long cursor = since;
+        long scanned = 0;
+        List<ChangeFeedEntry> page;
+        do {
+            page = changeFeedRepository.findAfter(cursor, PAGE_SIZE);
+            if (cursor == since && since < changeFeedRepository.findCompactedThrough()) {
+                subscriber.resync(RESYNC_EXPIRED);
+                return;
+            }
+            for (ChangeFeedEntry entry : page) {
+                if (entry.sequenceNumber() > position) {
+                    return;
+                }
+                cursor = entry.sequenceNumber();
+                if (++scanned > maxReplay) {
+                    subscriber.resync(RESYNC_REPLAY_LIMIT);
+                    return;
+                }
+                if (isActiveVersionChange(entry)) {
+                    subscriber.offer(entry);
+                }
+                if (subscriber.closing) {
+                    return;
+                }
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    private static boolean isActiveVersionChange(ChangeFeedEntry entry) {
+        DocumentChange.Kind kind = entry.change().kind();
+        return kind == DocumentChange.Kind.VERSION_ACTIVATED || kind == DocumentChange.Kind.VERSION_DEACTIVATED;
+    }
+
+    /**
+     * Queued work for a subscriber's writer: a change, a heartbeat or a final resync.
+     */
+    private record Signal(ChangeFeedEntry entry, String resyncReason) {
+
+        static final Signal HEARTBEAT = new Signal(null, null);
+    }
+
+    private final class Subscriber {
+
+        private final StreamFilter filter;
+        private final ChangeListener listener;
+        private final BlockingQueue<Signal> queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Only touched by the dispatcher or a replay, both under the dispatch lock
+        private long lastQueued;
+        private volatile boolean closing;
+        private volatile boolean closed;
+        private Thread writer;
+
+        Subscriber(StreamFilter filter, ChangeListener listener, long lastQueued) {
+            this.filter = filter;
+            this.listener = listener;
+            this.lastQueued = lastQueued;
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("change-stream-subscriber").start(this::write);
+        }
+
+        void offer(ChangeFeedEntry entry) {
+            if (closing || entry.sequenceNumber() <= lastQueued || !filter.matches(entry.change())) {
+                return;
+            }
+            lastQueued = entry.sequenceNumber();
+            if (!queue.offer(new Signal(entry, null))) {
+                resync(RESYNC_SLOW_CONSUMER);
+            }
+        }
+
+        void heartbeat() {
+            if (!closing && queue.isEmpty()) {
+                queue.offer(Signal.HEARTBEAT);
+            }
+        }
+
+        /**
+         * Replace everything queued with a resync; the writer closes the subscription after sending it.
+         */
+        void resync(String reason) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            subscribers.remove(this);
+            resyncs.increment();
+            queue.clear();
+            queue.offer(new Signal(null, reason));
+        }
+
+        void close() {
+            closing = true;
+            subscribers.remove(this);
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+
+        private void write() {
+            try {
+                while (!closed) {
+                    Signal signal = queue.take();
+                    if (signal.resyncReason() != null) {
+                        listener.onResyncRequired(signal.resyncReason());
+                        break;
+                    } else if (signal.entry() != null) {
+                        listener.onChange(signal.entry());
+                        delivered.increment();
+                    } else {
+                        listener.onHeartbeat();
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Cancelled
+            } catch (Exception e) {
+                logger.debug("Change stream delivery failed, closing subscription: {}", e.getMessage());
+            } finally {
+                closed = true;
+                closing = true;
+                subscribers.remove(this);
+                listener.onClosed();
+            }
+        }
+    }
+}
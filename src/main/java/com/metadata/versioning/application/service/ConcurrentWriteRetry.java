@@ -0,0 +1,106 @@
+package com.metadata.versioning.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs document writes in their own transaction, retrying a bounded number of times
+ * when the commit loses an optimistic lock race. Contended documents are resolved by
+ * re-running the write against the new state instead of holding row locks for the
+ * whole read-modify-write.
+ *
+ * Writes joining a caller's transaction run once, since only the caller can retry them.
+ */
+@Component
+public class ConcurrentWriteRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentWriteRetry.class);
+
+    private final TransactionOperations transactionOperations;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public ConcurrentWriteRetry(ObjectProvider<PlatformTransactionManager> transactionManager,
+                                @Value("${app.write.max-attempts:3}") int maxAttempts,
+                                @Value("${app.write.retry-backoff:20ms}") Duration backoff) {
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        this.transactionOperations = manager != null
+                ? new TransactionTemplate(manager)
+                : TransactionOperations.withoutTransaction();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    /**
+     * Run a write, retrying it in a fresh transaction after optimistic lock failures.
+     *
+     * @param write The write; must be safe to re-run from the start
+     * @param onExhausted Builds the exception thrown once all attempts conflicted
+     * @return Result of the first attempt that committed
+     */
+    public <T> T execute(Supplier<T> write, Supplier<? extends RuntimeException> onExhausted) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return write.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    logger.debug("Write still conflicting after {} attempts", attempt, e);
+                    throw onExhausted.get();
+                }
+                retries.increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Sleep for a random time growing with the attempt, so retrying writers spread out.
+     */
+    private void backOff(int attempt) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoffNanos * attempt) + 1);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("Interrupted while backing off a conflicting write");
+        }
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Attempts re-run after an optimistic lock failure.
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * Writes that failed because every attempt conflicted.
+     */
+    public long exhausted() {
+        return exhausted.sum();
+    }
+}
@@ -1,64 +1,139 @@
 package com.metadata.versioning.application.service;
 
+import com.metadata.versioning.application.cache.ActiveVersionCache;
+import com.metadata.versioning.application.port.in.ExportActiveVersionsUseCase;
 import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.application.port.in.GetActiveVersionsUseCase;
 import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.DocumentSummary;
+import com.metadata.versioning.domain.model.DocumentVersion;
 import com.metadata.versioning.domain.model.MetadataDocument;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Application service for querying metadata documents.
  * Implements read-only operations for metadata retrieval.
  * Separated from VersionManagementService following CQRS pattern.
+ *
+ * Active version cache misses are loaded from the primary: a replica still replaying the write
+ * that evicted an entry would otherwise re-cache the old version for every client.
  */
 @Service
 @Transactional(readOnly = true)
-public class MetadataQueryService implements GetActiveVersionUseCase {
+public class MetadataQueryService implements GetActiveVersionUseCase, GetActiveVersionsUseCase,
+        ExportActiveVersionsUseCase {
+
+    /**
+     * Name of the transactions loading cache misses. They are read-write so they are routed
+     * to the primary, but they do not write, so read replica routing does not count them as writes.
+     */
+    public static final String PRIMARY_READ = "primary-read";
 
     private final MetadataDocumentRepository repository;
+    private final ActiveVersionCache activeVersionCache;
+    private final TransactionOperations primaryReads;
 
-    public MetadataQueryService(MetadataDocumentRepository repository) {
+    public MetadataQueryService(MetadataDocumentRepository repository,
+                                ActiveVersionCache activeVersionCache,
+                                ObjectProvider<PlatformTransactionManager> transactionManager) {
         this.repository = repository;
+        this.activeVersionCache = activeVersionCache;
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        if (manager != null) {
+            TransactionTemplate template = new TransactionTemplate(manager);
+            // A new transaction, since a read-only one in progress may hold a replica connection
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.setName(PRIMARY_READ);
+            this.primaryReads = template;
+        } else {
+            this.primaryReads = TransactionOperations.withoutTransaction();
+        }
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Version> getActiveVersion(String type, String name) {
-        // Find document
-        Optional<MetadataDocument> documentOpt = repository.findByTypeAndName(type, name);
-        
-        if (documentOpt.isEmpty()) {
-            return Optional.empty();
-        }
+        // Return active version (FR-007) from cache; misses read it without hydrating the history
+        return activeVersionCache.get(type, name, fromPrimary(() -> repository.findActiveVersion(type, name)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<DocumentKey, Version> getActiveVersions(List<DocumentKey> keys) {
+        // Cached versions are served as for single reads; all misses are read with one query
+        return activeVersionCache.getAll(keys,
+                missing -> primaryReads.execute(status -> repository.findActiveVersions(missing)));
+    }
+
+    /**
+     * Get the digest of the active version for conditional reads, without its content.
+     * Served from the active version cache like the version itself.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<VersionDigest> getActiveVersionDigest(String type, String name) {
+        return activeVersionCache.getDigest(type, name,
+                fromPrimary(() -> repository.findActiveVersionDigest(type, name)));
+    }
 
-        // Return active version (FR-007)
-        return documentOpt.get().getActiveVersion();
+    private <T> Supplier<T> fromPrimary(Supplier<T> loader) {
+        return () -> primaryReads.execute(status -> loader.get());
+    }
+
+    /**
+     * Get the digest of a specific version for conditional reads, without its content.
+     */
+    public Optional<VersionDigest> getVersionDigest(String type, String name, int versionNumber) {
+        return repository.findVersionDigest(type, name, versionNumber);
+    }
+
+    /**
+     * Export the active version of every document from a single cursor.
+     * Bypasses the active version cache: a snapshot reads every row once, and
+     * caching it would only evict the entries serving individual lookups.
+     */
+    @Override
+    public long exportActiveVersions(String type, Consumer<DocumentVersion> sink) {
+        return repository.forEachActiveVersion(type, sink);
     }
 
     /**
      * List all metadata documents with pagination (FR-015).
-     * Returns a page of document summaries for browsing.
+     * Returns a page of document summaries for browsing, without version content.
      */
-    public Page<MetadataDocument> listDocuments(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<DocumentSummary> listDocuments(Pageable pageable) {
+        return repository.findAllSummaries(pageable);
     }
 
     /**
      * List metadata documents filtered by type with pagination.
      */
-    public Page<MetadataDocument> listDocumentsByType(String type, Pageable pageable) {
-        return repository.findAllByType(type, pageable);
+    public Page<DocumentSummary> listDocumentsByType(String type, Pageable pageable) {
+        return repository.findSummariesByType(type, pageable);
     }
 
     /**
      * List metadata documents filtered by name (case insensitive) with pagination.
      */
-    public Page<MetadataDocument> listDocumentsByName(String name, Pageable pageable) {
-        return repository.findAllByNameContainingIgnoreCase(name, pageable);
+    public Page<DocumentSummary> listDocumentsByName(String name, Pageable pageable) {
+        return repository.findSummariesByNameContainingIgnoreCase(name, pageable);
     }
 
     /**
@@ -67,4 +142,11 @@ public class MetadataQueryService implements GetActiveVersionUseCase {
     public Optional<MetadataDocument> getMetadataDocument(String type, String name) {
         return repository.findByTypeAndName(type, name);
     }
+
+    /**
+     * Get the summary of a metadata document by type and name, without version content.
+     */
+    public Optional<DocumentSummary> getDocumentSummary(String type, String name) {
+        return repository.findSummary(type, name);
+    }
 }
@@ -1,11 +1,15 @@
 package com.metadata.versioning.application.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.event.SchemaChangedEvent;
 import com.metadata.versioning.application.port.in.ManageSchemaUseCase;
 import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
 import com.metadata.versioning.domain.exception.SchemaAlreadyExistsException;
 import com.metadata.versioning.domain.exception.SchemaNotFoundException;
+import com.metadata.versioning.domain.model.AuditEntry;
 import com.metadata.versioning.domain.model.SchemaDefinition;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +24,11 @@ import java.util.Optional;
 public class SchemaManagementService implements ManageSchemaUseCase {
 
     private final SchemaDefinitionRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SchemaManagementService(SchemaDefinitionRepository repository) {
+    public SchemaManagementService(SchemaDefinitionRepository repository, ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -33,7 +39,9 @@ public class SchemaManagementService implements ManageSchemaUseCase {
         }
 
         SchemaDefinition schemaDefinition = new SchemaDefinition(type, schema, description, strictMode);
-        return repository.save(schemaDefinition);
+        SchemaDefinition saved = repository.save(schemaDefinition);
+        eventPublisher.publishEvent(AuditEvent.schemaSaved(saved, AuditEntry.Operation.CREATE));
+        return saved;
     }
 
     @Override
@@ -42,7 +50,10 @@ public class SchemaManagementService implements ManageSchemaUseCase {
                 .orElseThrow(() -> new SchemaNotFoundException(type));
 
         SchemaDefinition updated = existing.update(schema, description, strictMode);
-        return repository.save(updated);
+        SchemaDefinition saved = repository.save(updated);
+        eventPublisher.publishEvent(SchemaChangedEvent.of(type));
+        eventPublisher.publishEvent(AuditEvent.schemaSaved(saved, AuditEntry.Operation.UPDATE));
+        return saved;
     }
 
     @Override
@@ -63,5 +74,7 @@ public class SchemaManagementService implements ManageSchemaUseCase {
             throw new SchemaNotFoundException(type);
         }
         repository.deleteByType(type);
+        eventPublisher.publishEvent(SchemaChangedEvent.of(type));
+        eventPublisher.publishEvent(AuditEvent.schemaDeleted(type));
     }
 }
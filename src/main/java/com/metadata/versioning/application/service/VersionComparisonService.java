@@ -1,46 +1,211 @@
 package com.metadata.versioning.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.cache.VersionComparisonCache;
 import com.metadata.versioning.application.port.in.CompareVersionsUseCase;
+import com.metadata.versioning.application.port.in.GetChangelogUseCase;
 import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
 import com.metadata.versioning.domain.exception.VersionNotFoundException;
-import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.JsonPatch;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.SubtreeHashes;
 import com.metadata.versioning.domain.model.Version;
 import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import com.metadata.versioning.domain.model.VersionDelta;
+import com.metadata.versioning.domain.model.VersionDigest;
 import com.metadata.versioning.domain.service.DiffEngine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Application service for comparing versions.
- * Implements version comparison use case (FR-010).
+ * Implements version comparison and changelog use cases (FR-010).
+ * Arrays declared keyed by the schema of the document type are matched by identity key,
+ * and subtrees with the same stored hash in both versions are skipped.
+ * Results are cached: version content never changes, so a pair compared with the same
+ * options always has the same changes; only the versions' status is re-read on a hit.
+ * Adjacent versions and changelogs are read from the patch stored with each version
+ * by VersionDeltaPrecomputer; a missing patch is computed and requested again.
  */
 @Service
 @Transactional(readOnly = true)
-public class VersionComparisonService implements CompareVersionsUseCase {
+public class VersionComparisonService implements CompareVersionsUseCase, GetChangelogUseCase {
 
     private final MetadataDocumentRepository repository;
+    private final SchemaDefinitionRepository schemaRepository;
+    private final VersionComparisonCache comparisonCache;
+    private final VersionDeltaPrecomputer deltaPrecomputer;
     private final DiffEngine diffEngine;
+    private final int maxChangelogPageSize;
+
+    private final LongAdder deltaHits = new LongAdder();
+    private final LongAdder deltaMisses = new LongAdder();
 
-    public VersionComparisonService(MetadataDocumentRepository repository, ObjectMapper objectMapper) {
+    public VersionComparisonService(MetadataDocumentRepository repository,
+                                    SchemaDefinitionRepository schemaRepository,
+                                    VersionComparisonCache comparisonCache,
+                                    VersionDeltaPrecomputer deltaPrecomputer,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.compare.max-array-edit-cost:2000}") int maxArrayEditCost,
+                                    @Value("${app.compare.changelog.max-page-size:100}") int maxChangelogPageSize) {
         this.repository = repository;
-        this.diffEngine = new DiffEngine(objectMapper);
+        this.schemaRepository = schemaRepository;
+        this.comparisonCache = comparisonCache;
+        this.deltaPrecomputer = deltaPrecomputer;
+        this.diffEngine = new DiffEngine(objectMapper, maxArrayEditCost);
+        this.maxChangelogPageSize = maxChangelogPageSize;
     }
 
     @Override
     public VersionComparison compareVersions(String type, String name, int fromVersionNumber, int toVersionNumber) {
-        // Find the document
-        MetadataDocument document = repository.findByTypeAndName(type, name)
-                .orElseThrow(() -> new VersionNotFoundException(type, name));
+        Map<String, String> identityKeys = identityKeys(type);
+        VersionComparisonCache.Key key = new VersionComparisonCache.Key(type, name,
+                fromVersionNumber, toVersionNumber, diffEngine.resultFingerprint(identityKeys));
+
+        Optional<VersionComparison> cached = comparisonCache.get(key);
+        if (cached.isPresent()) {
+            VersionComparison comparison = cached.get();
+            return new VersionComparison(
+                    withCurrentStatus(type, name, comparison.fromVersion()),
+                    withCurrentStatus(type, name, comparison.toVersion()),
+                    comparison.changes(),
+                    comparison.hasBreakingChanges());
+        }
 
-        // Get both versions
-        Version fromVersion = document.getVersion(fromVersionNumber)
-                .orElseThrow(() -> new VersionNotFoundException(type, name, fromVersionNumber));
-        
-        Version toVersion = document.getVersion(toVersionNumber)
-                .orElseThrow(() -> new VersionNotFoundException(type, name, toVersionNumber));
+        long stamp = comparisonCache.stamp();
+        Version fromVersion = findVersion(type, name, fromVersionNumber);
+        Version toVersion = findVersion(type, name, toVersionNumber);
+        VersionComparison comparison = findAdjacentDelta(key)
+                .or(() -> comparisonCache.findStored(key))
+                .map(changes -> VersionComparison.of(fromVersion, toVersion, changes))
+                .orElseGet(() -> compare(key, fromVersion, toVersion, identityKeys));
+        comparisonCache.put(key, comparison, stamp);
+        return comparison;
+    }
+
+    private VersionComparison compare(VersionComparisonCache.Key key, Version fromVersion, Version toVersion,
+                                      Map<String, String> identityKeys) {
+        long start = System.nanoTime();
+        Map<Integer, SubtreeHashes> hashes = repository.findSubtreeHashes(key.type(), key.name(),
+                List.of(key.fromVersion(), key.toVersion()));
 
         // Perform comparison using domain service
-        return diffEngine.compare(fromVersion, toVersion);
+        VersionComparison comparison = diffEngine.compare(fromVersion, toVersion, identityKeys,
+                hashes.get(key.fromVersion()), hashes.get(key.toVersion()));
+        comparisonCache.recordComputed(key, comparison, System.nanoTime() - start);
+        return comparison;
+    }
+
+    @Override
+    public ChangelogPage getChangelog(String type, String name, int after, Integer to, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("after must not be negative");
+        }
+        if (limit < 1 || limit > maxChangelogPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxChangelogPageSize);
+        }
+        Map<String, String> identityKeys = identityKeys(type);
+        String fingerprint = diffEngine.resultFingerprint(identityKeys);
+
+        // The first version has no predecessor; one extra version tells whether another page is available
+        int last = (int) Math.min(to != null ? to : Integer.MAX_VALUE, (long) Math.max(after, 1) + limit + 1);
+        List<VersionDelta> deltas = repository.findVersionDeltas(type, name, after, last, fingerprint);
+        if (deltas.isEmpty() && !repository.existsByTypeAndName(type, name)) {
+            throw new VersionNotFoundException(type, name);
+        }
+        boolean hasMore = deltas.size() > limit;
+        List<VersionDelta> page = new ArrayList<>(hasMore ? deltas.subList(0, limit) : deltas);
+        for (int i = 0; i < page.size(); i++) {
+            VersionDelta delta = page.get(i);
+            if (delta.hasPatch()) {
+                deltaHits.increment();
+            } else {
+                page.set(i, delta.withPatch(computeDelta(type, name, delta.versionNumber(), identityKeys)));
+            }
+        }
+        int next = page.isEmpty() ? after : page.get(page.size() - 1).versionNumber();
+        return new ChangelogPage(List.copyOf(page), next, hasMore);
+    }
+
+    /**
+     * Comparisons answered from the patch stored with the later of two adjacent versions.
+     */
+    public long deltaHits() {
+        return deltaHits.sum();
+    }
+
+    /**
+     * Comparisons of adjacent versions, and changelog entries, whose patch was not stored yet.
+     */
+    public long deltaMisses() {
+        return deltaMisses.sum();
+    }
+
+    /**
+     * Changes of a comparison with the next version, read from the patch stored with it.
+     */
+    private Optional<List<ChangeDetail>> findAdjacentDelta(VersionComparisonCache.Key key) {
+        if (key.toVersion() != key.fromVersion() + 1) {
+            return Optional.empty();
+        }
+        Optional<JsonPatch> patch = repository.findVersionDeltas(key.type(), key.name(),
+                        key.fromVersion(), key.toVersion(), key.resultFingerprint())
+                .stream()
+                .findFirst()
+                .map(VersionDelta::patch);
+        if (patch.isEmpty()) {
+            deltaMisses.increment();
+            deltaPrecomputer.request(key.type(), key.name(), key.toVersion());
+            return Optional.empty();
+        }
+        deltaHits.increment();
+        return Optional.of(patch.get().changes());
+    }
+
+    /**
+     * Compute the patch of a version whose patch is not stored, and request it to be stored.
+     */
+    private JsonPatch computeDelta(String type, String name, int versionNumber, Map<String, String> identityKeys) {
+        deltaMisses.increment();
+        deltaPrecomputer.request(type, name, versionNumber);
+        Map<Integer, SubtreeHashes> hashes = repository.findSubtreeHashes(type, name,
+                List.of(versionNumber - 1, versionNumber));
+        return diffEngine.patch(findVersion(type, name, versionNumber - 1), findVersion(type, name, versionNumber),
+                identityKeys, hashes.get(versionNumber - 1), hashes.get(versionNumber));
+    }
+
+    private Map<String, String> identityKeys(String type) {
+        return schemaRepository.findByType(type)
+                .map(SchemaDefinition::arrayIdentityKeys)
+                .orElse(Map.of());
+    }
+
+    /**
+     * Load a single version without the rest of the document's history.
+     */
+    private Version findVersion(String type, String name, int versionNumber) {
+        return repository.findVersion(type, name, versionNumber)
+                .orElseThrow(() -> repository.existsByTypeAndName(type, name)
+                        ? new VersionNotFoundException(type, name, versionNumber)
+                        : new VersionNotFoundException(type, name));
+    }
+
+    /**
+     * Bring the publishing state and active flag of a cached version up to date,
+     * reading the version's digest rather than its content.
+     */
+    private Version withCurrentStatus(String type, String name, Version version) {
+        VersionDigest digest = repository.findVersionDigest(type, name, version.versionNumber())
+                .orElseThrow(() -> new VersionNotFoundException(type, name, version.versionNumber()));
+        return version.withStatus(digest.publishingState(), digest.active());
     }
 }
@@ -0,0 +1,224 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.VersionCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service computing the patch of every new version from its predecessor off the
+ * write path (FR-010), so comparisons of adjacent versions and changelogs read stored patches
+ * instead of diffing content.
+ *
+ * Committing a version only places it in a bounded queue, which never blocks. A single worker
+ * thread computes and stores the patches in order. Patches are only an optimization: versions
+ * dropped because the queue is full, whose patch failed, or still queued at shutdown are
+ * compared on demand, which requests their patch again.
+ */
+@Service
+public class VersionDeltaPrecomputer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionDeltaPrecomputer.class);
+
+    static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final VersionDeltaWriter writer;
+    private final boolean enabled;
+    private final BlockingQueue<Request> queue;
+    // Versions in the queue, so repeated requests for a missing patch are queued once
+    private final Set<VersionKey> queued = ConcurrentHashMap.newKeySet();
+    private final long shutdownTimeoutMillis;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder computations = new LongAdder();
+    private final LongAdder computeNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public VersionDeltaPrecomputer(VersionDeltaWriter writer,
+                                   @Value("${app.compare.delta.enabled:true}") boolean enabled,
+                                   @Value("${app.compare.delta.queue-capacity:1024}") int queueCapacity,
+                                   @Value("${app.compare.delta.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::computeLoop, "version-delta-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stop the worker after the patch in progress; queued versions are left to be compared on demand.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(shutdownTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Queue the patch of a new version once its transaction has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVersionCreated(VersionCreatedEvent event) {
+        request(event.type(), event.name(), event.versionNumber());
+    }
+
+    /**
+     * Queue the patch of a version without waiting; drops the request if the queue is full.
+     *
+     * @return true if the version is queued, including by an earlier request
+     */
+    public boolean request(String type, String name, int versionNumber) {
+        if (!enabled || versionNumber < 2) {
+            return false;
+        }
+        VersionKey key = new VersionKey(type, name, versionNumber);
+        if (!queued.add(key)) {
+            return true;
+        }
+        if (queue.offer(new Request(key, System.nanoTime()))) {
+            return true;
+        }
+        queued.remove(key);
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Versions waiting for their patch.
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Time the oldest waiting version has been queued, 0 if none is.
+     */
+    public long lagNanos() {
+        Request oldest = queue.peek();
+        return oldest == null ? 0 : Math.max(0, System.nanoTime() - oldest.queuedAt());
+    }
+
+    /**
+     * Requests dropped because the queue was full.
+     */
+    public long droppedRequests() {
+        return dropped.sum();
+    }
+
+    /**
+     * Patches that could not be computed or stored.
+     */
+    public long failedPatches() {
+        return failed.sum();
+    }
+
+    /**
+     * Patches stored.
+     */
+    public long storedPatches() {
+        return stored.sum();
+    }
+
+    /**
+     * Requests taken from the queue, whether a patch was stored or not.
+     */
+    public long computations() {
+        return computations.sum();
+    }
+
+    /**
+     * Time spent computing and storing patches.
+     */
+    public long computeNanos() {
+        return computeNanos.sum();
+    }
+
+    /**
+     * Time the requests taken from the queue spent waiting in it.
+     */
+    public long waitNanos() {
+        return waitNanos.sum();
+    }
+
+    private void computeLoop() {
+        while (running) {
+            try {
+                Request request = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (request != null) {
+                    compute(request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void compute(Request request) {
+        long start = System.nanoTime();
+        waitNanos.add(start - request.queuedAt());
+        VersionKey key = request.key();
+        // Released first, so a request made while the patch is being written is not lost if it fails
+        queued.remove(key);
+        try {
+            if (writer.write(key.type(), key.name(), key.versionNumber())) {
+                stored.increment();
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("Could not store the patch of {}:{} v{}: {}",
+                    key.type(), key.name(), key.versionNumber(), e.getMessage());
+        } finally {
+            computations.increment();
+            computeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private record VersionKey(String type, String name, int versionNumber) {
+    }
+
+    private record Request(VersionKey key, long queuedAt) {
+    }
+}
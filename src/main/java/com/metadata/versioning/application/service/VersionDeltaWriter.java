@@ -0,0 +1,75 @@
+package com.metadata.versioning.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
+import com.metadata.versioning.domain.model.JsonPatch;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.SubtreeHashes;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDelta;
+import com.metadata.versioning.domain.service.DiffEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Computes the patch from the previous version of a version and stores it with the version.
+ * Runs as a read-write transaction, so it reads from the primary and always finds a version
+ * committed a moment ago. Kept apart from VersionDeltaPrecomputer so each write runs through
+ * the transactional proxy.
+ */
+@Service
+public class VersionDeltaWriter {
+
+    private final MetadataDocumentRepository repository;
+    private final SchemaDefinitionRepository schemaRepository;
+    private final DiffEngine diffEngine;
+
+    public VersionDeltaWriter(MetadataDocumentRepository repository,
+                              SchemaDefinitionRepository schemaRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${app.compare.max-array-edit-cost:2000}") int maxArrayEditCost) {
+        this.repository = repository;
+        this.schemaRepository = schemaRepository;
+        this.diffEngine = new DiffEngine(objectMapper, maxArrayEditCost);
+    }
+
+    /**
+     * Compute and store the patch of a version, unless one computed with the current
+     * comparison options is stored already.
+     *
+     * @return true if a patch was stored, false if there was one or the version has no predecessor
+     */
+    @Transactional
+    public boolean write(String type, String name, int versionNumber) {
+        if (versionNumber < 2) {
+            return false;
+        }
+        Map<String, String> identityKeys = schemaRepository.findByType(type)
+                .map(SchemaDefinition::arrayIdentityKeys)
+                .orElse(Map.of());
+        String fingerprint = diffEngine.resultFingerprint(identityKeys);
+        boolean stored = repository.findVersionDeltas(type, name, versionNumber - 1, versionNumber, fingerprint)
+                .stream()
+                .anyMatch(VersionDelta::hasPatch);
+        if (stored) {
+            return false;
+        }
+
+        Optional<Version> fromVersion = repository.findVersion(type, name, versionNumber - 1);
+        Optional<Version> toVersion = repository.findVersion(type, name, versionNumber);
+        if (fromVersion.isEmpty() || toVersion.isEmpty()) {
+            return false;
+        }
+        Map<Integer, SubtreeHashes> hashes = repository.findSubtreeHashes(type, name,
+                List.of(versionNumber - 1, versionNumber));
+        JsonPatch patch = diffEngine.patch(fromVersion.get(), toVersion.get(), identityKeys,
+                hashes.get(versionNumber - 1), hashes.get(versionNumber));
+        return repository.saveVersionDelta(type, name, versionNumber, fingerprint, patch);
+    }
+}
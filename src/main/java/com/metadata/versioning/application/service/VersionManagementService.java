@@ -1,23 +1,38 @@
 package com.metadata.versioning.application.service;
 
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.event.VersionActivatedEvent;
+import com.metadata.versioning.application.event.VersionCreatedEvent;
 import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
 import com.metadata.versioning.application.port.in.CreateVersionUseCase;
 import com.metadata.versioning.application.port.in.GetVersionHistoryUseCase;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
 import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
 import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
 import com.metadata.versioning.domain.exception.DocumentAlreadyExistsException;
+import com.metadata.versioning.domain.exception.InvalidActivationException;
+import com.metadata.versioning.domain.exception.VersionConflictException;
 import com.metadata.versioning.domain.exception.VersionNotFoundException;
+import com.metadata.versioning.domain.model.DocumentChange;
+import com.metadata.versioning.domain.model.DocumentKey;
 import com.metadata.versioning.domain.model.MetadataDocument;
 import com.metadata.versioning.domain.model.PublishingState;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
+import com.metadata.versioning.domain.model.VersionPrecondition;
 import com.metadata.versioning.domain.validator.JsonStructureValidator;
 import com.metadata.versioning.domain.validator.SchemaValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
 
 /**
  * Application service implementing version management use cases.
@@ -30,12 +45,22 @@ public class VersionManagementService implements CreateVersionUseCase, GetVersio
     private final MetadataDocumentRepository repository;
     private final SchemaDefinitionRepository schemaRepository;
     private final SchemaValidator schemaValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeFeedRepository changeFeedRepository;
+    private final ConcurrentWriteRetry writeRetry;
 
     public VersionManagementService(MetadataDocumentRepository repository,
-                                   SchemaDefinitionRepository schemaRepository) {
+                                   SchemaDefinitionRepository schemaRepository,
+                                   SchemaValidator schemaValidator,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ChangeFeedRepository changeFeedRepository,
+                                   ConcurrentWriteRetry writeRetry) {
         this.repository = repository;
         this.schemaRepository = schemaRepository;
-        this.schemaValidator = new SchemaValidator();
+        this.schemaValidator = schemaValidator;
+        this.eventPublisher = eventPublisher;
+        this.changeFeedRepository = changeFeedRepository;
+        this.writeRetry = writeRetry;
     }
 
     @Override
@@ -71,13 +96,17 @@ public class VersionManagementService implements CreateVersionUseCase, GetVersio
 
         // Save to repository
         MetadataDocument savedDocument = repository.save(document);
+        recordChange(command.type(), command.name(), 1, DocumentChange.Kind.VERSION_CREATED);
 
         // Return the first version
-        return savedDocument.getVersion(1)
+        Version savedVersion = savedDocument.getVersion(1)
                 .orElseThrow(() -> new IllegalStateException("Failed to retrieve created version"));
+        eventPublisher.publishEvent(AuditEvent.documentCreated(command.type(), command.name(), savedVersion));
+        return savedVersion;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Version createNewVersion(CreateNewVersionCommand command) {
         // Validate JSON structure and size (FR-011, FR-025)
         JsonStructureValidator.validate(command.content());
@@ -85,23 +114,58 @@ public class VersionManagementService implements CreateVersionUseCase, GetVersio
         // Validate against schema if one exists
         validateAgainstSchema(command.type(), command.content());
 
-        // Find existing document
-        MetadataDocument document = repository.findByTypeAndName(command.type(), command.name())
-                .orElseThrow(() -> new VersionNotFoundException(command.type(), command.name()));
+        return writeRetry.execute(() -> appendVersion(command),
+                () -> concurrentModification(command.type(), command.name()));
+    }
 
-        // Add new version (FR-001)
-        Version newVersion = document.addVersion(
+    /**
+     * Append new version (FR-001) without loading the document's history.
+     */
+    private Version appendVersion(CreateNewVersionCommand command) {
+        String type = command.type();
+        String name = command.name();
+        IntFunction<Version> versionFactory = versionNumber -> Version.createNext(
+                versionNumber - 1,
                 command.content(),
                 command.author(),
-                command.changeSummary()
-        );
+                command.changeSummary());
+
+        VersionPrecondition precondition = command.precondition();
+        Version version;
+        if (precondition == null || precondition.matchesAny()) {
+            version = repository.appendVersion(type, name, versionFactory)
+                    .orElseThrow(() -> new VersionNotFoundException(type, name));
+        } else {
+            VersionDigest latest = repository.findLatestVersionDigest(type, name)
+                    .orElseThrow(() -> new VersionNotFoundException(type, name));
+            if (!precondition.isSatisfiedBy(latest)) {
+                throw VersionConflictException.latestVersionChanged(type, name, latest);
+            }
+            // Another version may have been appended since the read; the append re-checks atomically
+            version = repository.appendVersionIfLatest(type, name, latest.versionNumber(), versionFactory)
+                    .orElseThrow(() -> VersionConflictException.latestVersionChanged(type, name,
+                            repository.findLatestVersionDigest(type, name).orElse(latest)));
+        }
+        recordChange(type, name, version.versionNumber(), DocumentChange.Kind.VERSION_CREATED);
+        eventPublisher.publishEvent(new VersionCreatedEvent(type, name, version.versionNumber()));
+        eventPublisher.publishEvent(AuditEvent.versionCreated(type, name, version));
+        return version;
+    }
 
-        // Update document in repository
-        MetadataDocument updatedDocument = repository.update(document);
+    /**
+     * Conflict reported once a write kept losing optimistic lock races, with the latest version.
+     */
+    private VersionConflictException concurrentModification(String type, String name) {
+        return VersionConflictException.concurrentModification(type, name, writeRetry.maxAttempts(),
+                repository.findLatestVersionDigest(type, name).orElse(null));
+    }
 
-        // Return the newly created version
-        return updatedDocument.getVersion(newVersion.versionNumber())
-                .orElseThrow(() -> new IllegalStateException("Failed to retrieve created version"));
+    /**
+     * Record a change in the change feed as part of the current transaction.
+     * Done last, because the feed serializes its writers until they commit.
+     */
+    private void recordChange(String type, String name, int versionNumber, DocumentChange.Kind kind) {
+        changeFeedRepository.append(List.of(new DocumentChange(type, name, versionNumber, kind)));
     }
 
     /**
@@ -128,76 +192,110 @@ public class VersionManagementService implements CreateVersionUseCase, GetVersio
     @Override
     @Transactional(readOnly = true)
     public Version getSpecificVersion(SpecificVersionQuery query) {
-        // Find document
-        MetadataDocument document = repository.findByTypeAndName(query.type(), query.name())
-                .orElseThrow(() -> new VersionNotFoundException(query.type(), query.name()));
-
-        // Get specific version (FR-008)
-        return document.getVersion(query.versionNumber())
-                .orElseThrow(() -> new VersionNotFoundException(
-                        query.type(), query.name(), query.versionNumber()));
+        // Get specific version (FR-008) without loading the rest of the history
+        return repository.findVersion(query.type(), query.name(), query.versionNumber())
+                .orElseThrow(() -> repository.existsByTypeAndName(query.type(), query.name())
+                        ? new VersionNotFoundException(query.type(), query.name(), query.versionNumber())
+                        : new VersionNotFoundException(query.type(), query.name()));
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void activateVersion(String type, String name, Integer versionNumber) {
-        // Ensure no other documents of the same type remain active (FR-006 cross-document guard)
-        repository.findAllByType(type, PageRequest.of(0, Integer.MAX_VALUE)).forEach(doc -> {
-            if (!doc.getName().equals(name)) {
-                doc.deactivateActiveVersions();
-                repository.update(doc);
-            }
-        });
+        activateVersion(type, name, versionNumber, null);
+    }
 
-        // Find document
-        MetadataDocument document = repository.findByTypeAndName(type, name)
-                .orElseThrow(() -> new VersionNotFoundException(type, name));
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void activateVersion(String type, String name, Integer versionNumber, VersionPrecondition precondition) {
+        writeRetry.execute(() -> {
+                    switchActiveVersion(type, name, versionNumber, precondition);
+                    return null;
+                },
+                () -> concurrentModification(type, name));
+    }
+
+    private void switchActiveVersion(String type, String name, Integer versionNumber,
+                                     VersionPrecondition precondition) {
+        // Load only the target version to check activation rules
+        Version version = repository.findVersion(type, name, versionNumber)
+                .orElseThrow(() -> repository.existsByTypeAndName(type, name)
+                        ? new VersionNotFoundException(type, name, versionNumber)
+                        : new VersionNotFoundException(type, name));
+
+        // Enforce FR-023: Only published versions can be activated
+        if (!version.canBeActivated()) {
+            throw InvalidActivationException.nonPublishedVersion(type, name, versionNumber);
+        }
+
+        // Check the expected active version and find the versions about to be deactivated while
+        // holding the activation lock of the type, so no other activation can commit in between
+        repository.lockActivations(type);
+        if (precondition != null) {
+            VersionDigest active = repository.findActiveVersionDigest(type, name).orElse(null);
+            if (!precondition.isSatisfiedBy(active)) {
+                throw VersionConflictException.activeVersionChanged(type, name, active);
+            }
+        }
+        Map<DocumentKey, Integer> previouslyActive = repository.findActiveVersionNumbers(type);
 
-        // Activate the version (FR-006)
-        // This deactivates any currently active version and activates the specified one
-        document.activateVersion(versionNumber);
+        // Activate the version and deactivate every other version of the same type
+        // (FR-006 cross-document guard) with set-based updates
+        if (!repository.switchActiveVersion(type, name, versionNumber)) {
+            // Version left the published state after the check above
+            throw InvalidActivationException.nonPublishedVersion(type, name, versionNumber);
+        }
 
-        // Persist the changes
-        repository.update(document);
+        // Deactivations first, so a consumer applying the feed in order ends with this version active
+        List<DocumentChange> changes = new ArrayList<>();
+        previouslyActive.forEach((document, active) -> {
+            if (!document.name().equals(name) || active != versionNumber.intValue()) {
+                changes.add(new DocumentChange(type, document.name(), active, DocumentChange.Kind.VERSION_DEACTIVATED));
+            }
+        });
+        changes.add(new DocumentChange(type, name, versionNumber, DocumentChange.Kind.VERSION_ACTIVATED));
+        changeFeedRepository.append(changes);
+
+        // Published after recording, so listeners running without a transaction see the change feed entry.
+        // Other documents of the type may have been deactivated as well
+        eventPublisher.publishEvent(ActiveVersionChangedEvent.forType(type));
+        eventPublisher.publishEvent(new VersionActivatedEvent(type, name, versionNumber));
+        eventPublisher.publishEvent(AuditEvent.versionActivated(type, name, versionNumber));
     }
 
     /**
      * Transition version publishing state (FR-024).
      * Validates state transitions using PublishingState rules.
+     * A transition racing another write of the document is re-applied to the new state.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Version transitionVersionState(String type, String name, Integer versionNumber, PublishingState newState) {
-        // Find document
-        MetadataDocument document = repository.findByTypeAndName(type, name)
-                .orElseThrow(() -> new VersionNotFoundException(type, name));
+        return writeRetry.execute(() -> applyStateTransition(type, name, versionNumber, newState),
+                () -> concurrentModification(type, name));
+    }
 
-        // Get the version to transition
-        Version version = document.getVersion(versionNumber)
-                .orElseThrow(() -> new VersionNotFoundException(type, name, versionNumber));
+    private Version applyStateTransition(String type, String name, Integer versionNumber, PublishingState newState) {
+        // Load only the version to transition
+        Version version = repository.findVersion(type, name, versionNumber)
+                .orElseThrow(() -> repository.existsByTypeAndName(type, name)
+                        ? new VersionNotFoundException(type, name, versionNumber)
+                        : new VersionNotFoundException(type, name));
 
         // Transition to new state (validates transition rules)
-        Version updatedVersion = version.transitionTo(newState);
-
-        // Replace version in document
-        List<Version> updatedVersions = new java.util.ArrayList<>();
-        for (Version v : document.getAllVersions()) {
-            if (v.versionNumber().equals(versionNumber)) {
-                updatedVersions.add(updatedVersion);
-            } else {
-                updatedVersions.add(v);
-            }
-        }
+        version.transitionTo(newState);
 
-        // Create updated document with new version list
-        MetadataDocument updatedDocument = new MetadataDocument(
-                document.getType(),
-                document.getName(),
-                updatedVersions,
-                document.getCreatedAt(),
-                document.getUpdatedAt()
-        );
+        // Write the state only, so activations committed since the read are not overwritten (FR-006)
+        if (!repository.transitionVersionState(type, name, versionNumber, version.publishingState(), newState)) {
+            throw new OptimisticLockingFailureException(
+                    "Version " + versionNumber + " of " + type + ":" + name + " changed state concurrently");
+        }
+        recordChange(type, name, versionNumber, DocumentChange.Kind.STATE_CHANGED);
 
-        // Save and return
-        MetadataDocument savedDocument = repository.update(updatedDocument);
-        return savedDocument.getVersion(versionNumber)
+        // Published after recording, so listeners running without a transaction see the change feed entry
+        eventPublisher.publishEvent(ActiveVersionChangedEvent.forDocument(type, name));
+        eventPublisher.publishEvent(AuditEvent.stateChanged(type, name, versionNumber,
+                version.publishingState(), newState));
+        return repository.findVersion(type, name, versionNumber)
                 .orElseThrow(() -> new IllegalStateException("Failed to retrieve updated version"));
     }
 }
@@ -0,0 +1,40 @@
+package com.metadata.versioning.domain.exception;
+
+/**
+ * Exception thrown when a consumer asks for changes that have already been compacted.
+ * The consumer has to resynchronize from a snapshot and continue from the feed head.
+ */
+public class ChangeFeedExpiredException extends DomainException {
+
+    private final long since;
+    private final long compactedThrough;
+    private final long head;
+
+    public ChangeFeedExpiredException(long since, long compactedThrough, long head) {
+        super("Changes after sequence number " + since + " are no longer available; entries through "
+                + compactedThrough + " have been compacted");
+        this.since = since;
+        this.compactedThrough = compactedThrough;
+        this.head = head;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "CHANGE_FEED_EXPIRED";
+    }
+
+    public long getSince() {
+        return since;
+    }
+
+    public long getCompactedThrough() {
+        return compactedThrough;
+    }
+
+    /**
+     * Sequence number of the latest committed change when the request was rejected.
+     */
+    public long getHead() {
+        return head;
+    }
+}
@@ -0,0 +1,78 @@
+package com.metadata.versioning.domain.exception;
+
+import com.metadata.versioning.domain.model.VersionDigest;
+
+import java.util.Optional;
+
+/**
+ * Exception thrown when a write loses a race against a concurrent change of the same document.
+ *
+ * Scenarios:
+ * - An If-Match precondition names a version that is no longer current
+ * - An unconditional write still conflicted after its bounded retries
+ *
+ * Carries the current version, so clients can refresh and retry against it.
+ */
+public class VersionConflictException extends DomainException {
+
+    private final String errorCode;
+    private final VersionDigest current;
+
+    private VersionConflictException(String errorCode, String message, VersionDigest current) {
+        super(message);
+        this.errorCode = errorCode;
+        this.current = current;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Check if the conflict was detected through a client precondition (If-Match).
+     */
+    public boolean isPreconditionFailure() {
+        return "PRECONDITION_FAILED".equals(errorCode);
+    }
+
+    /**
+     * The version current when the conflict was detected, if there is one.
+     */
+    public Optional<VersionDigest> getCurrent() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Create exception for a new version based on a version that is no longer the latest.
+     */
+    public static VersionConflictException latestVersionChanged(String type, String name, VersionDigest latest) {
+        return new VersionConflictException("PRECONDITION_FAILED",
+                String.format("Document %s/%s has changed: latest version is v%d",
+                        type, name, latest.versionNumber()),
+                latest);
+    }
+
+    /**
+     * Create exception for an activation expecting a different active version.
+     */
+    public static VersionConflictException activeVersionChanged(String type, String name, VersionDigest active) {
+        return new VersionConflictException("PRECONDITION_FAILED",
+                active != null
+                        ? String.format("Active version of %s/%s has changed: active version is v%d",
+                                type, name, active.versionNumber())
+                        : String.format("Document %s/%s has no active version", type, name),
+                active);
+    }
+
+    /**
+     * Create exception for an unconditional write that kept conflicting with concurrent writes.
+     */
+    public static VersionConflictException concurrentModification(String type, String name, int attempts,
+                                                                   VersionDigest latest) {
+        return new VersionConflictException("CONCURRENT_MODIFICATION",
+                String.format("Document %s/%s was modified concurrently; gave up after %d attempts",
+                        type, name, attempts),
+                latest);
+    }
+}
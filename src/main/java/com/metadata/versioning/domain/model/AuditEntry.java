@@ -0,0 +1,49 @@
+package com.metadata.versioning.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A mutation recorded in the audit trail: what was changed, how, by whom and from which request.
+ *
+ * @param entityType Kind of entity changed (MetadataDocument, Version, SchemaDefinition)
+ * @param entityId Identifier of the entity, e.g. "type/name/v3" for a version
+ * @param operation Operation performed
+ * @param userId User who performed the operation
+ * @param changes Summary of the change; never the full content
+ * @param correlationId Correlation id of the request, if made through the API
+ * @param ipAddress Client address of the request, if made through the API
+ * @param userAgent Client user agent of the request, if made through the API
+ * @param timestamp When the change was committed
+ */
+public record AuditEntry(
+        String entityType,
+        String entityId,
+        Operation operation,
+        String userId,
+        JsonNode changes,
+        String correlationId,
+        String ipAddress,
+        String userAgent,
+        Instant timestamp
+) {
+    public AuditEntry {
+        Objects.requireNonNull(entityType, "Entity type cannot be null");
+        Objects.requireNonNull(entityId, "Entity id cannot be null");
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        Objects.requireNonNull(userId, "User id cannot be null");
+        Objects.requireNonNull(timestamp, "Timestamp cannot be null");
+    }
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE,
+        /** A version became active (FR-006). */
+        ACTIVATE,
+        /** A version moved to the published state (FR-024). */
+        PUBLISH
+    }
+}
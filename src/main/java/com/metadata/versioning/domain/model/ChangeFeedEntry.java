@@ -0,0 +1,19 @@
+package com.metadata.versioning.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A committed change with its position in the change feed.
+ * Sequence numbers increase in commit order but may have gaps.
+ */
+public record ChangeFeedEntry(
+        long sequenceNumber,
+        DocumentChange change,
+        Instant recordedAt
+) {
+    public ChangeFeedEntry {
+        Objects.requireNonNull(change, "Change cannot be null");
+        Objects.requireNonNull(recordedAt, "Recorded time cannot be null");
+    }
+}
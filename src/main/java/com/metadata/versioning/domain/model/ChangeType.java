@@ -7,7 +7,8 @@ package com.metadata.versioning.domain.model;
 public sealed interface ChangeType permits 
         ChangeType.Added, 
         ChangeType.Modified, 
-        ChangeType.Removed {
+        ChangeType.Removed,
+        ChangeType.Moved {
 
     /**
      * Field was added in the new version.
@@ -33,8 +34,17 @@ public sealed interface ChangeType permits
         public static final Removed INSTANCE = new Removed();
     }
 
+    /**
+     * Array element was moved to another position, unchanged.
+     * Non-breaking unless consumers depend on element order.
+     */
+    record Moved() implements ChangeType {
+        public static final Moved INSTANCE = new Moved();
+    }
+
     // Singleton constants for common use
     ChangeType ADDED = Added.INSTANCE;
     ChangeType MODIFIED = Modified.INSTANCE;
     ChangeType REMOVED = Removed.INSTANCE;
+    ChangeType MOVED = Moved.INSTANCE;
 }
@@ -0,0 +1,35 @@
+package com.metadata.versioning.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A change to a document version, as announced to consumers through the change feed.
+ * Carries only the identity of the affected version; consumers read its current
+ * state with the regular version endpoints.
+ */
+public record DocumentChange(
+        String type,
+        String name,
+        int versionNumber,
+        Kind kind
+) {
+    public DocumentChange {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(kind, "Kind cannot be null");
+        if (versionNumber < 1) {
+            throw new IllegalArgumentException("Version number must be positive");
+        }
+    }
+
+    public enum Kind {
+        /** A new version was created (FR-001). */
+        VERSION_CREATED,
+        /** The version became active; every other version of the type became inactive (FR-006). */
+        VERSION_ACTIVATED,
+        /** The version became inactive because another version of its type was activated (FR-006). */
+        VERSION_DEACTIVATED,
+        /** The publishing state of the version changed (FR-024). */
+        STATE_CHANGED
+    }
+}
@@ -0,0 +1,17 @@
+package com.metadata.versioning.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Identity of a metadata document: its type and name.
+ * Used where many documents are addressed at once, such as batch reads.
+ */
+public record DocumentKey(
+        String type,
+        String name
+) {
+    public DocumentKey {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+    }
+}
@@ -0,0 +1,47 @@
+package com.metadata.versioning.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Read model describing a metadata document without its version content.
+ * Used for browsing documents (FR-015) where only counts and the active
+ * version number are needed.
+ */
+public record DocumentSummary(
+        String type,
+        String name,
+        int versionCount,
+        Integer activeVersion,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public DocumentSummary {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        if (versionCount < 0) {
+            throw new IllegalArgumentException("Version count cannot be negative");
+        }
+    }
+
+    /**
+     * Build a summary from a fully loaded document.
+     */
+    public static DocumentSummary of(MetadataDocument document) {
+        return new DocumentSummary(
+                document.getType(),
+                document.getName(),
+                document.getVersionCount(),
+                document.getActiveVersion().map(Version::versionNumber).orElse(null),
+                document.getCreatedAt(),
+                document.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Check if the document has an active version.
+     */
+    public boolean hasActiveVersion() {
+        return activeVersion != null;
+    }
+}
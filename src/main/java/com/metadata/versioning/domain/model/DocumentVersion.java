@@ -0,0 +1,20 @@
+package com.metadata.versioning.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Read model pairing a version with the document it belongs to.
+ * Used where versions of many documents are read together, such as snapshot exports,
+ * without loading the owning aggregates.
+ */
+public record DocumentVersion(
+        String type,
+        String name,
+        Version version
+) {
+    public DocumentVersion {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(version, "Version cannot be null");
+    }
+}
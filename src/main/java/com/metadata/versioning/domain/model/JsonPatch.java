@@ -0,0 +1,134 @@
+package com.metadata.versioning.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * RFC 6902 JSON Patch turning the content of one version into the content of another,
+ * as built by {@code DiffEngine.patch}. Applied in order, the operations reproduce the
+ * other content exactly; removed and replaced values are checked by a preceding "test".
+ *
+ * Every operation reporting a change also carries the change's path in the notation of
+ * {@link ChangeDetail} ({@value #CHANGE_PATH}, and {@value #CHANGE_FROM} for moves), so the
+ * comparison can be read back from the patch with {@link #changes()}. Patch processors
+ * ignore these members (RFC 6902, section 4). Patches must not be mutated.
+ */
+public record JsonPatch(ArrayNode operations) {
+
+    public static final String CHANGE_PATH = "x-path";
+    public static final String CHANGE_FROM = "x-from";
+
+    public JsonPatch {
+        Objects.requireNonNull(operations, "Operations cannot be null");
+    }
+
+    /**
+     * Number of operations, including tests.
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Read the changes back, in the order they were reported.
+     *
+     * @throws IllegalStateException if the patch was not built by {@link Builder}
+     */
+    public List<ChangeDetail> changes() {
+        List<ChangeDetail> changes = new ArrayList<>();
+        JsonNode tested = null;
+        for (JsonNode operation : operations) {
+            String op = operation.path("op").asText();
+            if (op.equals("test")) {
+                tested = operation.get("value");
+                continue;
+            }
+            String path = required(operation, CHANGE_PATH);
+            changes.add(switch (op) {
+                case "add" -> new ChangeDetail(ChangeType.ADDED, path, null, operation.get("value"));
+                case "remove" -> new ChangeDetail(ChangeType.REMOVED, path, tested, null);
+                case "replace" -> new ChangeDetail(ChangeType.MODIFIED, path, tested, operation.get("value"));
+                case "move" -> ChangeDetail.moved(required(operation, CHANGE_FROM), path);
+                default -> throw new IllegalStateException("Unexpected patch operation: " + op);
+            });
+            tested = null;
+        }
+        return changes;
+    }
+
+    private static String required(JsonNode operation, String member) {
+        JsonNode value = operation.get(member);
+        if (value == null || !value.isTextual()) {
+            throw new IllegalStateException("Patch operation without " + member + ": " + operation);
+        }
+        return value.asText();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Appends one or two operations per change. Pointers must be valid at the point the
+     * operation is applied, after every operation before it.
+     */
+    public static final class Builder {
+
+        private final ArrayNode operations = JsonNodeFactory.instance.arrayNode();
+
+        private Builder() {
+        }
+
+        public Builder add(String pointer, JsonNode value, String changePath) {
+            operation("add", pointer, changePath).set("value", value);
+            return this;
+        }
+
+        public Builder remove(String pointer, JsonNode oldValue, String changePath) {
+            test(pointer, oldValue);
+            operation("remove", pointer, changePath);
+            return this;
+        }
+
+        public Builder replace(String pointer, JsonNode oldValue, JsonNode value, String changePath) {
+            test(pointer, oldValue);
+            operation("replace", pointer, changePath).set("value", value);
+            return this;
+        }
+
+        public Builder move(String fromPointer, String pointer, String changeFromPath, String changePath) {
+            operations.addObject()
+                    .put("op", "move")
+                    .put("from", fromPointer)
+                    .put("path", pointer)
+                    .put(CHANGE_PATH, changePath)
+                    .put(CHANGE_FROM, changeFromPath);
+            return this;
+        }
+
+        public JsonPatch build() {
+            return new JsonPatch(operations);
+        }
+
+        private void test(String pointer, JsonNode value) {
+            operations.addObject()
+                    .put("op", "test")
+                    .put("path", pointer)
+                    .set("value", value);
+        }
+
+        private ObjectNode operation(String op, String pointer, String changePath) {
+            return operations.addObject()
+                    .put("op", op)
+                    .put("path", pointer)
+                    .put(CHANGE_PATH, changePath);
+        }
+    }
+}
@@ -4,24 +4,36 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.metadata.versioning.domain.exception.InvalidSchemaException;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Domain entity representing a JSON Schema definition for a metadata type.
  * Enforces validation rules for all metadata documents of a specific type.
+ *
+ * An array schema may name the field identifying its elements with the custom
+ * {@value #IDENTITY_KEY_KEYWORD} keyword, e.g. {@code "tiers": {"type": "array",
+ * "x-identity-key": "id", "items": {...}}}. Version comparison then matches the
+ * elements of that array by key rather than by position.
  */
 public class SchemaDefinition {
 
+    public static final String IDENTITY_KEY_KEYWORD = "x-identity-key";
+
     private final String type;
     private final JsonNode schema;
     private final String description;
     private final Instant createdAt;
     private final Instant updatedAt;
     private final boolean strictMode;
+    private final Map<String, String> arrayIdentityKeys;
 
     public SchemaDefinition(String type, JsonNode schema, String description, boolean strictMode) {
         this.type = validateType(type);
         this.schema = validateSchema(schema);
+        this.arrayIdentityKeys = collectIdentityKeys(schema);
         this.description = description;
         this.strictMode = strictMode;
         this.createdAt = Instant.now();
@@ -33,6 +45,7 @@ public class SchemaDefinition {
                            boolean strictMode, Instant createdAt, Instant updatedAt) {
         this.type = validateType(type);
         this.schema = validateSchema(schema);
+        this.arrayIdentityKeys = collectIdentityKeys(schema);
         this.description = description;
         this.strictMode = strictMode;
         this.createdAt = createdAt;
@@ -63,6 +76,68 @@ public class SchemaDefinition {
         return schema;
     }
 
+    /**
+     * Collect the identity keys declared on array schemas reachable through properties and items.
+     */
+    private static Map<String, String> collectIdentityKeys(JsonNode schema) {
+        Map<String, String> keys = new HashMap<>();
+        collectIdentityKeys("", schema, keys);
+        return Map.copyOf(keys);
+    }
+
+    private static void collectIdentityKeys(String path, JsonNode schema, Map<String, String> keys) {
+        JsonNode identityKey = schema.get(IDENTITY_KEY_KEYWORD);
+        if (identityKey != null) {
+            if (!identityKey.isTextual() || identityKey.asText().isBlank()) {
+                throw new InvalidSchemaException(IDENTITY_KEY_KEYWORD + " must be a field name"
+                        + (path.isEmpty() ? "" : " at " + path));
+            }
+            if (!isArraySchema(schema)) {
+                throw new InvalidSchemaException(IDENTITY_KEY_KEYWORD + " is only allowed on array schemas"
+                        + (path.isEmpty() ? "" : ", found at " + path));
+            }
+            keys.put(path, identityKey.asText());
+        }
+
+        JsonNode properties = schema.get("properties");
+        if (properties != null && properties.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isObject()) {
+                    String fieldPath = path.isEmpty() ? field.getKey() : path + "." + field.getKey();
+                    collectIdentityKeys(fieldPath, field.getValue(), keys);
+                }
+            }
+        }
+        JsonNode items = schema.get("items");
+        if (items != null && items.isObject()) {
+            collectIdentityKeys(path + "[]", items, keys);
+        }
+    }
+
+    /**
+     * Check if a schema describes arrays, by its type or by constraining their items.
+     */
+    private static boolean isArraySchema(JsonNode schema) {
+        if (schema.has("items")) {
+            return true;
+        }
+        JsonNode type = schema.get("type");
+        if (type == null) {
+            return false;
+        }
+        if (type.isArray()) {
+            for (JsonNode allowed : type) {
+                if ("array".equals(allowed.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return "array".equals(type.asText());
+    }
+
     /**
      * Create an updated version of this schema.
      */
@@ -102,6 +177,15 @@ public class SchemaDefinition {
         return strictMode;
     }
 
+    /**
+     * Identity key field of each keyed array, by the path of the array in a document.
+     * Paths name object fields separated by dots, with "[]" for the elements of an
+     * array, e.g. "tiers" or "tiers[].rules".
+     */
+    public Map<String, String> arrayIdentityKeys() {
+        return arrayIdentityKeys;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,234 @@
+package com.metadata.versioning.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hashes of the upper subtrees of a version's content, forming a Merkle tree:
+ * the root, each top-level field and each field of a top-level object, keyed by
+ * JSON Pointer ("", "/pricing", "/pricing/tiers").
+ *
+ * Computed once when the version is written. Two versions with the same hash at a
+ * pointer have equal subtrees there, so a diff can skip them without walking them.
+ * Hashes ignore the order of object fields, like JsonNode equality does, and
+ * distinguish number types the same way (1 and 1.0 differ).
+ */
+public record SubtreeHashes(Map<String, String> hashes) {
+
+    public static final String ROOT = "";
+
+    // Levels below the root that get their own hash; deeper subtrees are hashed as a whole
+    public static final int MAX_DEPTH = 2;
+    // 128 bits of SHA-256 per subtree, as hex
+    private static final int HASH_BYTES = 16;
+
+    private static final byte OBJECT = 'o';
+    private static final byte ARRAY = 'a';
+    private static final byte STRING = 's';
+    private static final byte NUMBER = 'n';
+    private static final byte BOOLEAN = 'b';
+    private static final byte NULL = 'z';
+    private static final byte OTHER = 'x';
+
+    public SubtreeHashes {
+        Objects.requireNonNull(hashes, "Hashes cannot be null");
+        hashes = Map.copyOf(hashes);
+    }
+
+    /**
+     * Hash the root, top-level and second-level subtrees of the content.
+     */
+    public static SubtreeHashes of(JsonNode content) {
+        Objects.requireNonNull(content, "Content cannot be null");
+        Map<String, String> hashes = new LinkedHashMap<>();
+        hash(content, ROOT, 0, hashes, new CanonicalDigest());
+        return new SubtreeHashes(hashes);
+    }
+
+    /**
+     * Hash of the subtree at a pointer, or null if none was recorded there.
+     */
+    public String get(String pointer) {
+        return hashes.get(pointer);
+    }
+
+    /**
+     * Check if both hash trees record the same subtree at a pointer.
+     */
+    public boolean sameAt(SubtreeHashes other, String pointer) {
+        String hash = hashes.get(pointer);
+        return hash != null && other != null && hash.equals(other.hashes.get(pointer));
+    }
+
+    /**
+     * Pointer to a field of the object at the given pointer (RFC 6901 escaping).
+     */
+    public static String child(String pointer, String field) {
+        if (field.indexOf('~') < 0 && field.indexOf('/') < 0) {
+            return pointer + "/" + field;
+        }
+        return pointer + "/" + field.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Objects above MAX_DEPTH combine the hashes of their fields, which are recorded too;
+     * everything else is hashed from its canonical form in one pass.
+     */
+    private static byte[] hash(JsonNode node, String pointer, int depth,
+                               Map<String, String> hashes, CanonicalDigest digest) {
+        if (node.isObject() && depth < MAX_DEPTH) {
+            List<String> names = sortedFieldNames(node);
+            List<byte[]> fieldHashes = new ArrayList<>(names.size());
+            for (String name : names) {
+                fieldHashes.add(hash(node.get(name), child(pointer, name), depth + 1, hashes, digest));
+            }
+            digest.writeByte(OBJECT);
+            for (int i = 0; i < names.size(); i++) {
+                digest.writeString(names.get(i));
+                digest.writeBytes(fieldHashes.get(i));
+            }
+        } else {
+            writeCanonical(digest, node);
+        }
+        byte[] hash = digest.finish();
+        hashes.put(pointer, HexFormat.of().formatHex(hash));
+        return hash;
+    }
+
+    private static void writeCanonical(CanonicalDigest digest, JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                digest.writeByte(OBJECT);
+                digest.writeInt(node.size());
+                for (String name : sortedFieldNames(node)) {
+                    digest.writeString(name);
+                    writeCanonical(digest, node.get(name));
+                }
+            }
+            case ARRAY -> {
+                digest.writeByte(ARRAY);
+                digest.writeInt(node.size());
+                for (JsonNode element : node) {
+                    writeCanonical(digest, element);
+                }
+            }
+            case STRING -> {
+                digest.writeByte(STRING);
+                digest.writeString(node.textValue());
+            }
+            case NUMBER -> {
+                digest.writeByte(NUMBER);
+                digest.writeByte((byte) node.numberType().ordinal());
+                digest.writeString(node.asText());
+            }
+            case BOOLEAN -> {
+                digest.writeByte(BOOLEAN);
+                digest.writeByte((byte) (node.booleanValue() ? 1 : 0));
+            }
+            case NULL, MISSING -> digest.writeByte(NULL);
+            default -> {
+                digest.writeByte(OTHER);
+                digest.writeString(node.toString());
+            }
+        }
+    }
+
+    private static List<String> sortedFieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>(node.size());
+        node.fieldNames().forEachRemaining(names::add);
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * SHA-256 fed through a buffer, so the many small values of a tree reach the digest
+     * in large blocks. Strings are length-prefixed, so no two different sequences of
+     * values produce the same bytes.
+     */
+    private static final class CanonicalDigest {
+
+        private final MessageDigest digest = sha256();
+        private final byte[] buffer = new byte[8192];
+        private int position;
+
+        void writeByte(byte value) {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = value;
+        }
+
+        void writeInt(int value) {
+            writeByte((byte) (value >>> 24));
+            writeByte((byte) (value >>> 16));
+            writeByte((byte) (value >>> 8));
+            writeByte((byte) value);
+        }
+
+        void writeBytes(byte[] bytes) {
+            if (bytes.length > buffer.length - position) {
+                flush();
+                if (bytes.length > buffer.length) {
+                    digest.update(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            int length = value.length();
+            boolean ascii = true;
+            for (int i = 0; i < length && ascii; i++) {
+                ascii = value.charAt(i) < 0x80;
+            }
+            if (!ascii) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeInt(bytes.length);
+                writeBytes(bytes);
+                return;
+            }
+            writeInt(length);
+            for (int i = 0; i < length; i++) {
+                writeByte((byte) value.charAt(i));
+            }
+        }
+
+        /**
+         * Hash of everything written since the last call.
+         */
+        byte[] finish() {
+            flush();
+            return truncate(digest.digest());
+        }
+
+        private void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static byte[] truncate(byte[] hash) {
+        byte[] truncated = new byte[HASH_BYTES];
+        System.arraycopy(hash, 0, truncated, 0, HASH_BYTES);
+        return truncated;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -98,6 +98,22 @@ public record Version(
         );
     }
 
+    /**
+     * Create a copy of this version with the publishing state and active status as stored,
+     * e.g. to bring a cached copy up to date. Stored states need no transition check.
+     */
+    public Version withStatus(PublishingState publishingState, boolean active) {
+        return new Version(
+                versionNumber,
+                content,
+                author,
+                createdAt,
+                changeSummary,
+                publishingState,
+                active
+        );
+    }
+
     /**
      * Check if this version is newer than another version.
      */
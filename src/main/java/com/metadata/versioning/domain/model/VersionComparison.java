@@ -24,6 +24,15 @@ public record VersionComparison(
         changes = List.copyOf(changes); // Ensure immutability
     }
 
+    /**
+     * Create a comparison from its changes, breaking if any change is breaking.
+     */
+    public static VersionComparison of(Version fromVersion, Version toVersion, List<ChangeDetail> changes) {
+        boolean hasBreaking = changes.stream()
+                .anyMatch(ChangeDetail::isBreaking);
+        return new VersionComparison(fromVersion, toVersion, changes, hasBreaking);
+    }
+
     /**
      * Check if there are any changes between versions.
      */
@@ -49,23 +58,39 @@ public record VersionComparison(
 
     /**
      * Represents a single change between versions.
+     * Paths of removed array elements use their index in the old version; all other paths
+     * use the new version. A moved element carries its old path in fromPath; elements of keyed
+     * arrays are addressed by key, so both paths of their moves are the same.
      */
     public record ChangeDetail(
             ChangeType type,
             String path,
             Object oldValue,
-            Object newValue
+            Object newValue,
+            String fromPath
     ) {
         public ChangeDetail {
             Objects.requireNonNull(type, "Change type cannot be null");
             Objects.requireNonNull(path, "Path cannot be null");
         }
 
+        public ChangeDetail(ChangeType type, String path, Object oldValue, Object newValue) {
+            this(type, path, oldValue, newValue, null);
+        }
+
+        /**
+         * Create a change for an array element moved from one position to another.
+         */
+        public static ChangeDetail moved(String fromPath, String path) {
+            return new ChangeDetail(ChangeType.MOVED, path, null, null, fromPath);
+        }
+
         /**
          * Check if this change is breaking.
          * - REMOVED: Always breaking (consumers may depend on the field)
          * - MODIFIED: NOT breaking (value changes are considered non-breaking for now)
          * - ADDED: Not breaking (new fields are additive)
+         * - MOVED: Not breaking (array elements are unchanged, only reordered)
          * 
          * Note: In a real system, you might use JSON Schema or other metadata
          * to determine if a modification is breaking (e.g., changing a required field type).
@@ -75,6 +100,7 @@ public record VersionComparison(
                 case ChangeType.Removed ignored -> true;
                 case ChangeType.Modified ignored -> false;  // Treat modifications as non-breaking
                 case ChangeType.Added ignored -> false;
+                case ChangeType.Moved ignored -> false;
             };
         }
     }
@@ -0,0 +1,38 @@
+package com.metadata.versioning.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Read model of one step in the history of a document: a version without its content, and the
+ * patch turning its predecessor's content into its own (FR-010).
+ *
+ * Patches are computed after the version is written, with the comparison options identified by
+ * a result fingerprint; the patch is null until then, or if it was computed with other options.
+ */
+public record VersionDelta(
+        int versionNumber,
+        String author,
+        Instant createdAt,
+        String changeSummary,
+        JsonPatch patch
+) {
+    public VersionDelta {
+        Objects.requireNonNull(author, "Author cannot be null");
+        Objects.requireNonNull(createdAt, "Created at cannot be null");
+        if (versionNumber < 2) {
+            throw new IllegalArgumentException("Only versions after the first have a delta");
+        }
+    }
+
+    /**
+     * Same step with the given patch.
+     */
+    public VersionDelta withPatch(JsonPatch patch) {
+        return new VersionDelta(versionNumber, author, createdAt, changeSummary, patch);
+    }
+
+    public boolean hasPatch() {
+        return patch != null;
+    }
+}
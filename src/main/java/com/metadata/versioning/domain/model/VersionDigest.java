@@ -0,0 +1,63 @@
+package com.metadata.versioning.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Read model identifying the representation of a version without its content.
+ * Lets conditional reads (If-None-Match) be answered without loading or
+ * serializing the version content.
+ * 
+ * The content hash is computed once when the version is written; version content
+ * is immutable, so only the publishing state and the active flag can change afterwards.
+ */
+public record VersionDigest(
+        int versionNumber,
+        String contentHash,
+        PublishingState publishingState,
+        boolean active
+) {
+    public VersionDigest {
+        Objects.requireNonNull(contentHash, "Content hash cannot be null");
+        Objects.requireNonNull(publishingState, "Publishing state cannot be null");
+        if (versionNumber < 1) {
+            throw new IllegalArgumentException("Version number must be positive");
+        }
+    }
+
+    /**
+     * Strong entity tag for the version representation, quoted as required for the ETag header.
+     */
+    public String etag() {
+        return "\"" + versionNumber + "-" + contentHash + "-"
+                + publishingState.name().toLowerCase() + (active ? "-active" : "") + "\"";
+    }
+
+    /**
+     * Check if this digest describes the given version, i.e. its ETag may be sent with it.
+     * Content is immutable per version number, so number, state and active flag identify it.
+     */
+    public boolean describes(Version version) {
+        return version.versionNumber() == versionNumber
+                && version.publishingState().name().equals(publishingState.name())
+                && version.isActive() == active;
+    }
+
+    /**
+     * SHA-256 of the compact JSON serialization of the content, as lowercase hex.
+     */
+    public static String hashContent(JsonNode content) {
+        Objects.requireNonNull(content, "Content cannot be null");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.metadata.versioning.domain.model;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Expected current version of a document, taken from an If-Match precondition.
+ * A write carrying a precondition is applied only if the version it names is still
+ * current; otherwise it fails instead of silently overwriting a concurrent change.
+ *
+ * Candidates are version numbers or strong entity tags (as returned in ETag headers);
+ * a precondition without candidates matches any existing version ("*").
+ */
+public record VersionPrecondition(
+        Set<Integer> versionNumbers,
+        Set<String> entityTags
+) {
+    public VersionPrecondition {
+        versionNumbers = Set.copyOf(Objects.requireNonNull(versionNumbers, "Version numbers cannot be null"));
+        entityTags = Set.copyOf(Objects.requireNonNull(entityTags, "Entity tags cannot be null"));
+    }
+
+    /**
+     * Precondition satisfied by any existing version ("If-Match: *").
+     */
+    public static VersionPrecondition anyVersion() {
+        return new VersionPrecondition(Set.of(), Set.of());
+    }
+
+    public boolean matchesAny() {
+        return versionNumbers.isEmpty() && entityTags.isEmpty();
+    }
+
+    /**
+     * Check if the precondition holds for the current version.
+     *
+     * @param current Digest of the current version, or null if there is none
+     * @return true if the write may proceed
+     */
+    public boolean isSatisfiedBy(VersionDigest current) {
+        if (current == null) {
+            return false;
+        }
+        return matchesAny()
+                || versionNumbers.contains(current.versionNumber())
+                || entityTags.contains(current.etag());
+    }
+}
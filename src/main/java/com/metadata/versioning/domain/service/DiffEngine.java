@@ -5,14 +5,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.metadata.versioning.domain.model.ChangeType;
+import com.metadata.versioning.domain.model.JsonPatch;
+import com.metadata.versioning.domain.model.SubtreeHashes;
 import com.metadata.versioning.domain.model.VersionComparison;
 import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
 import com.metadata.versioning.domain.model.Version;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Domain service for comparing JSON documents and detecting changes.
@@ -20,10 +30,29 @@ import java.util.Map;
  */
 public class DiffEngine {
 
+    /**
+     * Default cap on elements inserted plus deleted when diffing an array.
+     */
+    public static final int DEFAULT_MAX_ARRAY_EDIT_COST = 2000;
+
+    // Part of every result fingerprint; bump when a change here changes comparison results
+    private static final int RESULT_FORMAT = 2;
+
     private final ObjectMapper objectMapper;
+    private final int maxArrayEditCost;
 
     public DiffEngine(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAX_ARRAY_EDIT_COST);
+    }
+
+    /**
+     * @param maxArrayEditCost Most elements inserted plus deleted for which an array is diffed
+     *                         as a sequence; arrays differing more, and all arrays if 0, are
+     *                         compared by index. Sequence diff time grows with this cost.
+     */
+    public DiffEngine(ObjectMapper objectMapper, int maxArrayEditCost) {
         this.objectMapper = objectMapper;
+        this.maxArrayEditCost = maxArrayEditCost;
     }
 
     /**
@@ -34,62 +63,140 @@ public class DiffEngine {
      * @return VersionComparison with all detected changes
      */
     public VersionComparison compare(Version fromVersion, Version toVersion) {
+        return compare(fromVersion, toVersion, Map.of());
+    }
+
+    /**
+     * Compare two versions, matching the elements of keyed arrays by their identity key.
+     * Elements of a keyed array are reported at paths like {@code tiers[id=gold]}.
+     *
+     * @param arrayIdentityKeys Identity key field by array path, as declared by the
+     *                          schema of the document ({@code SchemaDefinition.arrayIdentityKeys})
+     */
+    public VersionComparison compare(Version fromVersion, Version toVersion, Map<String, String> arrayIdentityKeys) {
+        return compare(fromVersion, toVersion, arrayIdentityKeys, null, null);
+    }
+
+    /**
+     * Compare two versions, skipping the subtrees their hash trees record as equal.
+     * A subtree with the same hash in both versions is pruned in O(1) instead of walked.
+     *
+     * @param fromHashes Subtree hashes of the baseline version, or null if unknown
+     * @param toHashes Subtree hashes of the other version, or null if unknown
+     */
+    public VersionComparison compare(Version fromVersion, Version toVersion, Map<String, String> arrayIdentityKeys,
+                                     SubtreeHashes fromHashes, SubtreeHashes toHashes) {
         List<ChangeDetail> changes = new ArrayList<>();
-        
+        diff(fromVersion, toVersion, arrayIdentityKeys, fromHashes, toHashes, null, new ChangeList(changes));
+        return VersionComparison.of(fromVersion, toVersion, changes);
+    }
+
+    /**
+     * Compare two versions as an RFC 6902 patch turning the content of the baseline version
+     * into the content of the other. The patch reports the same changes as compare with the
+     * same arguments, readable with {@link JsonPatch#changes()}.
+     *
+     * Operations are ordered and addressed so the patch applies as is: array elements are
+     * pointed at by their index at the point the operation runs, which is tracked per array
+     * with a cost linear in its length for every element inserted, removed or moved.
+     */
+    public JsonPatch patch(Version fromVersion, Version toVersion, Map<String, String> arrayIdentityKeys,
+                           SubtreeHashes fromHashes, SubtreeHashes toHashes) {
+        JsonPatch.Builder patch = JsonPatch.builder();
+        diff(fromVersion, toVersion, arrayIdentityKeys, fromHashes, toHashes, "", new PatchChanges(patch));
+        return patch.build();
+    }
+
+    /**
+     * @param pointer JSON Pointer of the root when building a patch, null otherwise
+     */
+    private void diff(Version fromVersion, Version toVersion, Map<String, String> arrayIdentityKeys,
+                      SubtreeHashes fromHashes, SubtreeHashes toHashes, String pointer, Changes changes) {
         JsonNode fromContent = fromVersion.content();
         JsonNode toContent = toVersion.content();
         
-        // Perform deep comparison
-        compareNodes("", fromContent, toContent, changes);
-        
-        // Determine if any changes are breaking
-        boolean hasBreaking = changes.stream()
-                .anyMatch(ChangeDetail::isBreaking);
-        
-        return new VersionComparison(fromVersion, toVersion, changes, hasBreaking);
+        // Perform deep comparison; scopes are only tracked while keyed arrays or hashes may apply
+        boolean hashed = fromHashes != null && toHashes != null;
+        Scope root = arrayIdentityKeys.isEmpty() && !hashed ? null
+                : new Scope(arrayIdentityKeys.isEmpty() ? null : "", hashed ? SubtreeHashes.ROOT : null, 0,
+                        arrayIdentityKeys, fromHashes, toHashes);
+        compareNodes("", pointer, root, fromContent, toContent, changes);
+    }
+
+    /**
+     * Fingerprint of everything besides the two versions that shapes a comparison with
+     * these identity keys. Version content is immutable, so a comparison result can be
+     * reused for the same two versions as long as the fingerprint is the same.
+     *
+     * @param arrayIdentityKeys Identity key field by array path, as passed to compare
+     * @return 32 hex characters
+     */
+    public String resultFingerprint(Map<String, String> arrayIdentityKeys) {
+        StringBuilder options = new StringBuilder()
+                .append(RESULT_FORMAT).append(';')
+                .append(maxArrayEditCost);
+        new TreeMap<>(arrayIdentityKeys).forEach((path, key) -> options
+                .append(';').append(path.length()).append(':').append(path)
+                .append(key.length()).append(':').append(key));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(options.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
      * Recursively compare JSON nodes and track changes.
+     *
+     * @param pointer JSON Pointer of the nodes when building a patch, null otherwise
      */
-    private void compareNodes(String path, JsonNode fromNode, JsonNode toNode, List<ChangeDetail> changes) {
+    private void compareNodes(String path, String pointer, Scope scope, JsonNode fromNode, JsonNode toNode,
+                              Changes changes) {
         if (fromNode == null && toNode == null) {
             return;
         }
         
         // Field was added
         if (fromNode == null) {
-            changes.add(new ChangeDetail(ChangeType.ADDED, path, null, toNode));
+            changes.added(path, pointer, toNode);
             return;
         }
         
         // Field was removed
         if (toNode == null) {
-            changes.add(new ChangeDetail(ChangeType.REMOVED, path, fromNode, null));
+            changes.removed(path, pointer, fromNode);
+            return;
+        }
+        
+        // Subtree recorded as equal in both versions
+        if (scope != null && scope.unchanged()) {
             return;
         }
         
         // Different node types
         if (fromNode.getNodeType() != toNode.getNodeType()) {
-            changes.add(new ChangeDetail(ChangeType.MODIFIED, path, fromNode, toNode));
+            changes.modified(path, pointer, fromNode, toNode);
             return;
         }
         
         // Compare based on node type
         if (fromNode.isObject()) {
-            compareObjects(path, (ObjectNode) fromNode, (ObjectNode) toNode, changes);
+            compareObjects(path, pointer, scope, (ObjectNode) fromNode, (ObjectNode) toNode, changes);
         } else if (fromNode.isArray()) {
-            compareArrays(path, (ArrayNode) fromNode, (ArrayNode) toNode, changes);
+            compareArrays(path, pointer, scope, (ArrayNode) fromNode, (ArrayNode) toNode, changes);
         } else if (!fromNode.equals(toNode)) {
             // Primitive value changed
-            changes.add(new ChangeDetail(ChangeType.MODIFIED, path, fromNode, toNode));
+            changes.modified(path, pointer, fromNode, toNode);
         }
     }
 
     /**
      * Compare JSON objects field by field.
      */
-    private void compareObjects(String path, ObjectNode fromObj, ObjectNode toObj, List<ChangeDetail> changes) {
+    private void compareObjects(String path, String pointer, Scope scope, ObjectNode fromObj, ObjectNode toObj,
+                                Changes changes) {
         // Check for removed and modified fields
         Iterator<Map.Entry<String, JsonNode>> fromFields = fromObj.fields();
         while (fromFields.hasNext()) {
@@ -100,7 +207,8 @@ public class DiffEngine {
             JsonNode fromValue = entry.getValue();
             JsonNode toValue = toObj.get(fieldName);
             
-            compareNodes(fieldPath, fromValue, toValue, changes);
+            compareNodes(fieldPath, field(pointer, fieldName), scope != null ? scope.field(fieldName) : null,
+                    fromValue, toValue, changes);
         }
         
         // Check for added fields
@@ -111,15 +219,244 @@ public class DiffEngine {
             
             if (!fromObj.has(fieldName)) {
                 String fieldPath = path.isEmpty() ? fieldName : path + "." + fieldName;
-                compareNodes(fieldPath, null, entry.getValue(), changes);
+                compareNodes(fieldPath, field(pointer, fieldName), null, null, entry.getValue(), changes);
+            }
+        }
+    }
+
+    /**
+     * Compare JSON arrays along their longest common subsequence, so inserting or removing
+     * an element reports that element only instead of shifting every element after it.
+     *
+     * Unmatched elements are reported per gap between matched runs: an element removed in one
+     * place and inserted unchanged in another is MOVED, removed and inserted elements left in
+     * the same gap are paired up and compared in depth, and the rest are REMOVED or ADDED.
+     * Falls back to comparing by index when the arrays differ by more than the cost cap.
+     */
+    private void compareArrays(String path, String pointer, Scope scope, ArrayNode fromArray, ArrayNode toArray,
+                               Changes changes) {
+        Scope elementScope = scope != null ? scope.elements() : null;
+        String identityKey = scope != null ? scope.identityKey() : null;
+        if (identityKey != null
+                && compareArraysByKey(path, pointer, elementScope, identityKey, fromArray, toArray, changes)) {
+            return;
+        }
+
+        int fromSize = fromArray.size();
+        int toSize = toArray.size();
+        if (fromSize == 0 || toSize == 0 || maxArrayEditCost <= 0) {
+            compareArraysByIndex(path, pointer, elementScope, fromArray, toArray, changes);
+            return;
+        }
+
+        // Equal elements get equal ids, so the sequence diff compares ints instead of trees
+        Map<JsonNode, Integer> ids = new HashMap<>();
+        int[] fromIds = new int[fromSize];
+        int[] toIds = new int[toSize];
+        for (int i = 0; i < fromSize; i++) {
+            fromIds[i] = ids.computeIfAbsent(fromArray.get(i), element -> ids.size());
+        }
+        for (int j = 0; j < toSize; j++) {
+            toIds[j] = ids.computeIfAbsent(toArray.get(j), element -> ids.size());
+        }
+
+        int[] matches = SequenceDiff.match(fromIds, toIds, maxArrayEditCost);
+        if (matches == null) {
+            compareArraysByIndex(path, pointer, elementScope, fromArray, toArray, changes);
+            return;
+        }
+
+        // Removed elements by id, so an unchanged element inserted elsewhere is found as a move
+        Positions positions = new Positions(pointer, fromSize, toSize);
+        boolean[] inserted = new boolean[toSize];
+        Arrays.fill(inserted, true);
+        Map<Integer, ArrayDeque<Integer>> removedById = new HashMap<>();
+        for (int i = 0; i < fromSize; i++) {
+            if (matches[i] >= 0) {
+                inserted[matches[i]] = false;
+                positions.settle(i, matches[i]);
+            } else {
+                removedById.computeIfAbsent(fromIds[i], id -> new ArrayDeque<>()).add(i);
+            }
+        }
+        int[] movedFrom = new int[toSize];
+        Arrays.fill(movedFrom, -1);
+        boolean[] moved = new boolean[fromSize];
+        for (int j = 0; j < toSize; j++) {
+            ArrayDeque<Integer> candidates = inserted[j] ? removedById.get(toIds[j]) : null;
+            if (candidates != null && !candidates.isEmpty()) {
+                movedFrom[j] = candidates.poll();
+                moved[movedFrom[j]] = true;
+            }
+        }
+
+        // Walk the gaps between matched runs
+        int i = 0;
+        int j = 0;
+        while (i < fromSize || j < toSize) {
+            if (i < fromSize && matches[i] >= 0 && matches[i] == j) {
+                i++;
+                j++;
+                continue;
+            }
+            int gapFromEnd = i;
+            while (gapFromEnd < fromSize && matches[gapFromEnd] < 0) {
+                gapFromEnd++;
+            }
+            int gapToEnd = gapFromEnd < fromSize ? matches[gapFromEnd] : toSize;
+
+            List<Integer> removed = new ArrayList<>();
+            for (int from = i; from < gapFromEnd; from++) {
+                if (!moved[from]) {
+                    removed.add(from);
+                }
+            }
+            int paired = 0;
+            for (int to = j; to < gapToEnd; to++) {
+                String indexPath = path + "[" + to + "]";
+                if (movedFrom[to] >= 0) {
+                    String fromPointer = positions.remove(movedFrom[to]);
+                    changes.moved(path + "[" + movedFrom[to] + "]", indexPath,
+                            fromPointer, positions.insert(movedFrom[to], to));
+                } else if (paired < removed.size()) {
+                    int from = removed.get(paired++);
+                    compareNodes(indexPath, positions.keep(from, to), elementScope,
+                            fromArray.get(from), toArray.get(to), changes);
+                } else {
+                    changes.added(indexPath, positions.insert(Positions.NEW, to), toArray.get(to));
+                }
+            }
+            for (int k = paired; k < removed.size(); k++) {
+                int from = removed.get(k);
+                changes.removed(path + "[" + from + "]", positions.remove(from), fromArray.get(from));
+            }
+            i = gapFromEnd;
+            j = gapToEnd;
+        }
+    }
+
+    /**
+     * Compare a keyed array by matching its elements through a hash map of their identity keys,
+     * in O(n) regardless of how the elements shifted. Matched elements are compared in depth at
+     * paths like {@code tiers[id=gold]}; elements whose key appears on one side only are ADDED
+     * or REMOVED. Elements out of order relative to the longest run that kept its order are
+     * reported as MOVED, at their key path as well.
+     *
+     * @return false, before reporting anything, if an element lacks a scalar key or a key is
+     *         repeated, in which case the array is diffed as an unkeyed one
+     */
+    private boolean compareArraysByKey(String path, String pointer, Scope elementScope, String identityKey,
+                                       ArrayNode fromArray, ArrayNode toArray, Changes changes) {
+        int fromSize = fromArray.size();
+        int toSize = toArray.size();
+        Map<JsonNode, Integer> fromByKey = new HashMap<>(Math.max(16, fromSize * 4 / 3 + 1));
+        JsonNode[] fromKeys = new JsonNode[fromSize];
+        for (int i = 0; i < fromSize; i++) {
+            fromKeys[i] = identity(fromArray.get(i), identityKey);
+            if (fromKeys[i] == null || fromByKey.putIfAbsent(fromKeys[i], i) != null) {
+                return false;
+            }
+        }
+        Map<JsonNode, Integer> toByKey = new HashMap<>(Math.max(16, toSize * 4 / 3 + 1));
+        JsonNode[] toKeys = new JsonNode[toSize];
+        int[] matchedFrom = new int[toSize];
+        boolean[] matched = new boolean[fromSize];
+        for (int j = 0; j < toSize; j++) {
+            toKeys[j] = identity(toArray.get(j), identityKey);
+            if (toKeys[j] == null || toByKey.putIfAbsent(toKeys[j], j) != null) {
+                return false;
+            }
+            Integer from = fromByKey.get(toKeys[j]);
+            matchedFrom[j] = from != null ? from : -1;
+            if (from != null) {
+                matched[from] = true;
+            }
+        }
+
+        Positions positions = new Positions(pointer, fromSize, toSize);
+        boolean[] inOrder = longestIncreasingRun(matchedFrom);
+        for (int j = 0; j < toSize; j++) {
+            String keyPath = keyPath(path, identityKey, toKeys[j]);
+            int from = matchedFrom[j];
+            if (from < 0) {
+                changes.added(keyPath, positions.insert(Positions.NEW, j), toArray.get(j));
+                continue;
+            }
+            String elementPointer;
+            if (inOrder[j]) {
+                elementPointer = positions.keep(from, j);
+            } else {
+                String fromPointer = positions.remove(from);
+                elementPointer = positions.insert(from, j);
+                changes.moved(keyPath, keyPath, fromPointer, elementPointer);
+            }
+            compareNodes(keyPath, elementPointer, elementScope, fromArray.get(from), toArray.get(j), changes);
+        }
+        for (int i = 0; i < fromSize; i++) {
+            if (!matched[i]) {
+                changes.removed(keyPath(path, identityKey, fromKeys[i]), positions.remove(i), fromArray.get(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identity of an array element: the value of its key field, or null if it has no scalar key.
+     * Values are matched as JSON values, so a numeric key never matches the same digits as a string.
+     */
+    private static JsonNode identity(JsonNode element, String identityKey) {
+        JsonNode key = element.isObject() ? element.get(identityKey) : null;
+        return key != null && key.isValueNode() && !key.isNull() ? key : null;
+    }
+
+    private static String keyPath(String path, String identityKey, JsonNode key) {
+        return path + "[" + identityKey + "=" + key.asText() + "]";
+    }
+
+    /**
+     * Mark the matched positions forming a longest run of increasing old indexes, in
+     * O(n log n); every other matched element changed its order and counts as moved.
+     *
+     * @param matchedFrom Old index of each new element, -1 for added elements
+     */
+    private static boolean[] longestIncreasingRun(int[] matchedFrom) {
+        int size = matchedFrom.length;
+        // tails[k]: position ending the smallest-tailed increasing run of length k + 1
+        int[] tails = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int j = 0; j < size; j++) {
+            if (matchedFrom[j] < 0) {
+                continue;
             }
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (matchedFrom[tails[mid]] < matchedFrom[j]) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[j] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = j;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] inRun = new boolean[size];
+        for (int j = length > 0 ? tails[length - 1] : -1; j >= 0; j = previous[j]) {
+            inRun[j] = true;
         }
+        return inRun;
     }
 
     /**
      * Compare JSON arrays element by element.
      */
-    private void compareArrays(String path, ArrayNode fromArray, ArrayNode toArray, List<ChangeDetail> changes) {
+    private void compareArraysByIndex(String path, String pointer, Scope elementScope,
+                                      ArrayNode fromArray, ArrayNode toArray, Changes changes) {
         int fromSize = fromArray.size();
         int toSize = toArray.size();
         int minSize = Math.min(fromSize, toSize);
@@ -127,22 +464,220 @@ public class DiffEngine {
         // Compare common elements
         for (int i = 0; i < minSize; i++) {
             String indexPath = path + "[" + i + "]";
-            compareNodes(indexPath, fromArray.get(i), toArray.get(i), changes);
+            compareNodes(indexPath, element(pointer, i), elementScope, fromArray.get(i), toArray.get(i), changes);
         }
         
         // Handle size differences
         if (fromSize > toSize) {
-            // Elements were removed
+            // Elements were removed; each removal shifts the next one to the same index
             for (int i = minSize; i < fromSize; i++) {
                 String indexPath = path + "[" + i + "]";
-                changes.add(new ChangeDetail(ChangeType.REMOVED, indexPath, fromArray.get(i), null));
+                changes.removed(indexPath, element(pointer, minSize), fromArray.get(i));
             }
         } else if (toSize > fromSize) {
             // Elements were added
             for (int i = minSize; i < toSize; i++) {
                 String indexPath = path + "[" + i + "]";
-                changes.add(new ChangeDetail(ChangeType.ADDED, indexPath, null, toArray.get(i)));
+                changes.added(indexPath, element(pointer, i), toArray.get(i));
+            }
+        }
+    }
+
+    private static String field(String pointer, String name) {
+        return pointer == null ? null : SubtreeHashes.child(pointer, name);
+    }
+
+    private static String element(String pointer, int index) {
+        return pointer == null ? null : pointer + "/" + index;
+    }
+
+    /**
+     * Position in the document, tracked alongside the path while it can still matter:
+     * the shape path to look up keyed arrays (field names joined by dots, with "[]"
+     * standing for any element of an array), and the JSON Pointer of subtrees that
+     * have hashes. Either is null once it no longer applies, and the scope is dropped
+     * when both are.
+     */
+    private record Scope(String shape, String pointer, int depth, Map<String, String> identityKeys,
+                         SubtreeHashes fromHashes, SubtreeHashes toHashes) {
+
+        Scope field(String name) {
+            String fieldShape = shape == null ? null : shape.isEmpty() ? name : shape + "." + name;
+            String fieldPointer = pointer != null && depth < SubtreeHashes.MAX_DEPTH
+                    ? SubtreeHashes.child(pointer, name) : null;
+            return fieldShape == null && fieldPointer == null ? null
+                    : new Scope(fieldShape, fieldPointer, depth + 1, identityKeys, fromHashes, toHashes);
+        }
+
+        // Array elements have no hashes of their own
+        Scope elements() {
+            return shape == null ? null
+                    : new Scope(shape + "[]", null, depth + 1, identityKeys, fromHashes, toHashes);
+        }
+
+        String identityKey() {
+            return shape == null ? null : identityKeys.get(shape);
+        }
+
+        boolean unchanged() {
+            return pointer != null && fromHashes.sameAt(toHashes, pointer);
+        }
+    }
+
+    /**
+     * Receives changes as they are found, with the JSON Pointer they apply at when building
+     * a patch. Pointers are null otherwise.
+     */
+    private interface Changes {
+
+        void added(String path, String pointer, JsonNode value);
+
+        void removed(String path, String pointer, JsonNode oldValue);
+
+        void modified(String path, String pointer, JsonNode oldValue, JsonNode newValue);
+
+        void moved(String fromPath, String path, String fromPointer, String pointer);
+    }
+
+    private record ChangeList(List<ChangeDetail> details) implements Changes {
+
+        @Override
+        public void added(String path, String pointer, JsonNode value) {
+            details.add(new ChangeDetail(ChangeType.ADDED, path, null, value));
+        }
+
+        @Override
+        public void removed(String path, String pointer, JsonNode oldValue) {
+            details.add(new ChangeDetail(ChangeType.REMOVED, path, oldValue, null));
+        }
+
+        @Override
+        public void modified(String path, String pointer, JsonNode oldValue, JsonNode newValue) {
+            details.add(new ChangeDetail(ChangeType.MODIFIED, path, oldValue, newValue));
+        }
+
+        @Override
+        public void moved(String fromPath, String path, String fromPointer, String pointer) {
+            details.add(ChangeDetail.moved(fromPath, path));
+        }
+    }
+
+    private record PatchChanges(JsonPatch.Builder patch) implements Changes {
+
+        @Override
+        public void added(String path, String pointer, JsonNode value) {
+            patch.add(pointer, value, path);
+        }
+
+        @Override
+        public void removed(String path, String pointer, JsonNode oldValue) {
+            patch.remove(pointer, oldValue, path);
+        }
+
+        @Override
+        public void modified(String path, String pointer, JsonNode oldValue, JsonNode newValue) {
+            patch.replace(pointer, oldValue, newValue, path);
+        }
+
+        @Override
+        public void moved(String fromPath, String path, String fromPointer, String pointer) {
+            patch.move(fromPointer, pointer, fromPath, path);
+        }
+    }
+
+    /**
+     * Current index of the elements of an array while its patch operations run in the order
+     * they are reported. Changes are reported by new index, so an inserted or moved element
+     * goes right after the element ending up before it; elements that keep their relative
+     * order stay put. Untracked, with every pointer null, when no patch is built.
+     */
+    private static final class Positions {
+
+        // Passed as the old index of inserted elements
+        static final int NEW = -1;
+
+        private final String pointer;
+        // Old index of each current element, or -1 - new index for inserted ones
+        private final List<Integer> elements;
+        // Element ending up at each new index, once reported
+        private final int[] settled;
+        private int hint;
+
+        Positions(String pointer, int fromSize, int toSize) {
+            this.pointer = pointer;
+            if (pointer == null) {
+                this.elements = null;
+                this.settled = null;
+                return;
+            }
+            this.elements = new ArrayList<>(Math.max(fromSize, toSize));
+            for (int i = 0; i < fromSize; i++) {
+                elements.add(i);
+            }
+            this.settled = new int[toSize];
+        }
+
+        /**
+         * Record that an element keeps its place relative to the others, without an operation.
+         */
+        void settle(int from, int to) {
+            if (settled != null) {
+                settled[to] = from;
+            }
+        }
+
+        /**
+         * Pointer to an element that keeps its place, to compare it in depth.
+         */
+        String keep(int from, int to) {
+            if (pointer == null) {
+                return null;
+            }
+            settle(from, to);
+            return pointer + "/" + indexOf(from);
+        }
+
+        /**
+         * Pointer to an element being removed, or taken out to be moved.
+         */
+        String remove(int from) {
+            if (pointer == null) {
+                return null;
+            }
+            int index = indexOf(from);
+            elements.remove(index);
+            return pointer + "/" + index;
+        }
+
+        /**
+         * Pointer to insert an element at, new or taken out by {@link #remove}.
+         */
+        String insert(int from, int to) {
+            if (pointer == null) {
+                return null;
+            }
+            int element = from == NEW ? -1 - to : from;
+            int index = to == 0 ? 0 : indexOf(settled[to - 1]) + 1;
+            elements.add(index, element);
+            settled[to] = element;
+            hint = index;
+            return pointer + "/" + index;
+        }
+
+        // Consecutive lookups are mostly close to each other, so search outwards from the last one
+        private int indexOf(int element) {
+            int size = elements.size();
+            for (int distance = 0; distance < size; distance++) {
+                int after = hint + distance;
+                if (after < size && elements.get(after) == element) {
+                    return hint = after;
+                }
+                int before = hint - distance - 1;
+                if (before >= 0 && elements.get(before) == element) {
+                    return hint = before;
+                }
             }
+            throw new IllegalStateException("Element " + element + " is not in the array");
         }
     }
 }
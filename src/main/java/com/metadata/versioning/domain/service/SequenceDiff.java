@@ -0,0 +1,209 @@
+package com.metadata.versioning.domain.service;
+
+import java.util.Arrays;
+
+/**
+ * Longest common subsequence of two sequences of element ids, used to diff arrays.
+ *
+ * Common prefixes and suffixes are matched first, since most edits touch few elements.
+ * Small remainders are solved with a dynamic programming table. Larger ones use Myers'
+ * O((N+M)D) algorithm in its linear space form: the edit graph is bisected at the middle
+ * snake and both halves are solved recursively, so memory stays O(N+M) for any array size.
+ *
+ * The edit cost D (elements inserted plus deleted) is capped. Work grows with D, so a diff
+ * between unrelated arrays gives up early and the caller falls back to comparing by index.
+ */
+final class SequenceDiff {
+
+    // Largest remainder, in rows times columns, solved with a full table
+    static final int MAX_TABLE_CELLS = 1 << 16;
+
+    private static final long EXCEEDED = -1;
+    private static final long NO_COMMON_ELEMENTS = -2;
+
+    private final int[] a;
+    private final int[] b;
+    private final int maxCost;
+    private final int[] matches;
+
+    private SequenceDiff(int[] a, int[] b, int maxCost) {
+        this.a = a;
+        this.b = b;
+        this.maxCost = maxCost;
+        this.matches = new int[a.length];
+        Arrays.fill(matches, -1);
+    }
+
+    /**
+     * Match the elements of two sequences along a longest common subsequence.
+     *
+     * @param a Element ids of the old sequence; equal elements have equal ids
+     * @param b Element ids of the new sequence
+     * @param maxCost Most elements inserted plus deleted to search for
+     * @return Index in b matched to each index in a, -1 for deleted elements,
+     *         or null if the sequences differ by more than about maxCost elements
+     */
+    static int[] match(int[] a, int[] b, int maxCost) {
+        SequenceDiff diff = new SequenceDiff(a, b, maxCost);
+        return diff.diff(0, a.length, 0, b.length) ? diff.matches : null;
+    }
+
+    private boolean diff(int aLo, int aHi, int bLo, int bHi) {
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+            matches[aLo++] = bLo++;
+        }
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+            matches[--aHi] = --bHi;
+        }
+
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        if (n == 0 || m == 0) {
+            return n + m <= maxCost;
+        }
+        if ((long) n * m <= MAX_TABLE_CELLS) {
+            return table(aLo, aHi, bLo, bHi);
+        }
+
+        long split = bisect(aLo, aHi, bLo, bHi);
+        if (split == EXCEEDED) {
+            return false;
+        }
+        if (split == NO_COMMON_ELEMENTS) {
+            return n + m <= maxCost;
+        }
+        int x = (int) (split >>> 32);
+        int y = (int) split;
+        return diff(aLo, x, bLo, y) && diff(x, aHi, y, bHi);
+    }
+
+    /**
+     * Solve a small remainder with a table of LCS lengths of all suffix pairs.
+     */
+    private boolean table(int aLo, int aHi, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int width = m + 1;
+        int[] lengths = new int[(n + 1) * width];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lengths[i * width + j] = a[aLo + i] == b[bLo + j]
+                        ? lengths[(i + 1) * width + j + 1] + 1
+                        : Math.max(lengths[(i + 1) * width + j], lengths[i * width + j + 1]);
+            }
+        }
+        if (n + m - 2 * lengths[0] > maxCost) {
+            return false;
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (a[aLo + i] == b[bLo + j]) {
+                matches[aLo + i] = bLo + j;
+                i++;
+                j++;
+            } else if (lengths[(i + 1) * width + j] >= lengths[i * width + j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the middle snake of the edit graph by running Myers' search forward from the start
+     * and backward from the end until the paths overlap. Both ends are already unequal.
+     *
+     * @return Split point as (x << 32 | y) in absolute indexes, NO_COMMON_ELEMENTS,
+     *         or EXCEEDED once the search has gone past half the cost cap
+     */
+    private long bisect(int aLo, int aHi, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int maxD = (n + m + 1) / 2;
+        // Paths of an edit script costing D overlap by the time each has taken ceil(D/2) edits
+        int dLimit = maxCost / 2 + 1;
+        int vOffset = maxD;
+        int vLength = 2 * maxD + 2;
+        int[] v1 = new int[vLength];
+        int[] v2 = new int[vLength];
+        Arrays.fill(v1, -1);
+        Arrays.fill(v2, -1);
+        v1[vOffset + 1] = 0;
+        v2[vOffset + 1] = 0;
+        int delta = n - m;
+        // With an odd delta the forward path detects the overlap, otherwise the reverse one
+        boolean front = delta % 2 != 0;
+        // Diagonals that ran off the graph are skipped from then on
+        int k1Start = 0;
+        int k1End = 0;
+        int k2Start = 0;
+        int k2End = 0;
+
+        for (int d = 0; d < maxD; d++) {
+            if (d > dLimit) {
+                return EXCEEDED;
+            }
+
+            for (int k1 = -d + k1Start; k1 <= d - k1End; k1 += 2) {
+                int k1Offset = vOffset + k1;
+                int x1 = k1 == -d || (k1 != d && v1[k1Offset - 1] < v1[k1Offset + 1])
+                        ? v1[k1Offset + 1]
+                        : v1[k1Offset - 1] + 1;
+                int y1 = x1 - k1;
+                while (x1 < n && y1 < m && a[aLo + x1] == b[bLo + y1]) {
+                    x1++;
+                    y1++;
+                }
+                v1[k1Offset] = x1;
+                if (x1 > n) {
+                    k1End += 2;
+                } else if (y1 > m) {
+                    k1Start += 2;
+                } else if (front) {
+                    int k2Offset = vOffset + delta - k1;
+                    if (k2Offset >= 0 && k2Offset < vLength && v2[k2Offset] != -1) {
+                        int x2 = n - v2[k2Offset];
+                        if (x1 >= x2) {
+                            return split(aLo + x1, bLo + y1);
+                        }
+                    }
+                }
+            }
+
+            for (int k2 = -d + k2Start; k2 <= d - k2End; k2 += 2) {
+                int k2Offset = vOffset + k2;
+                int x2 = k2 == -d || (k2 != d && v2[k2Offset - 1] < v2[k2Offset + 1])
+                        ? v2[k2Offset + 1]
+                        : v2[k2Offset - 1] + 1;
+                int y2 = x2 - k2;
+                while (x2 < n && y2 < m && a[aHi - x2 - 1] == b[bHi - y2 - 1]) {
+                    x2++;
+                    y2++;
+                }
+                v2[k2Offset] = x2;
+                if (x2 > n) {
+                    k2End += 2;
+                } else if (y2 > m) {
+                    k2Start += 2;
+                } else if (!front) {
+                    int k1Offset = vOffset + delta - k2;
+                    if (k1Offset >= 0 && k1Offset < vLength && v1[k1Offset] != -1) {
+                        int x1 = v1[k1Offset];
+                        int y1 = vOffset + x1 - k1Offset;
+                        if (x1 >= n - x2) {
+                            return split(aLo + x1, bLo + y1);
+                        }
+                    }
+                }
+            }
+        }
+        return NO_COMMON_ELEMENTS;
+    }
+
+    private static long split(int x, int y) {
+        return ((long) x << 32) | y;
+    }
+}
@@ -1,22 +1,40 @@
 package com.metadata.versioning.domain.validator;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.metadata.versioning.domain.exception.InvalidJsonException;
 
-import java.util.Iterator;
-import java.util.Map;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Validates JSON structure for metadata content.
  * Enforces rules for malformed JSON, size limits, and nesting depth.
+ * 
+ * Both entry points make a single, non-recursive streaming pass: size is the
+ * exact UTF-8 length of the compact serialization and depth is tracked from
+ * start/end tokens, so no intermediate String, byte array or second tree is
+ * built and pathological nesting cannot exhaust the stack.
  */
 public class JsonStructureValidator {
 
     private static final int MAX_DOCUMENT_SIZE_BYTES = 1_048_576; // 1MB
     private static final int MAX_NESTING_DEPTH = 50;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Size is checked before parsing; this only bounds the parser for callers that skip that check.
+    // Depth is bounded by the parser itself, so content nested past Jackson's default limit
+    // fails with the same error as content nested just past ours.
+    private static final JsonFactory jsonFactory = JsonFactory.builder()
+            .streamReadConstraints(readConstraints(StreamReadConstraints.builder()
+                    .maxDocumentLength(MAX_DOCUMENT_SIZE_BYTES)
+                    .build(), 0))
+            .build();
 
     /**
      * Validates JSON string structure and size constraints.
@@ -30,28 +48,24 @@ public class JsonStructureValidator {
         }
 
         // Check size limit (FR-025)
-        byte[] contentBytes = jsonContent.getBytes();
-        if (contentBytes.length > MAX_DOCUMENT_SIZE_BYTES) {
-            throw new InvalidJsonException(
-                    String.format("JSON document exceeds maximum size of %d bytes (actual: %d bytes)",
-                            MAX_DOCUMENT_SIZE_BYTES, contentBytes.length));
-        }
+        long contentBytes = utf8Length(jsonContent);
+        checkSize(contentBytes);
 
         // Parse and validate JSON structure (FR-011)
-        JsonNode rootNode;
-        try {
-            rootNode = objectMapper.readTree(jsonContent);
+        int depth;
+        try (JsonParser parser = jsonFactory.createParser(jsonContent)) {
+            depth = measureDepth(parser);
+        } catch (NestingDepthExceededException e) {
+            throw new InvalidJsonException(String.format("JSON nesting depth exceeds maximum of %d levels",
+                    MAX_NESTING_DEPTH), e);
         } catch (JsonProcessingException e) {
             throw new InvalidJsonException("Malformed JSON: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new InvalidJsonException("Failed to read JSON content", e);
         }
 
         // Validate nesting depth to prevent circular references
-        int depth = calculateDepth(rootNode);
-        if (depth > MAX_NESTING_DEPTH) {
-            throw new InvalidJsonException(
-                    String.format("JSON nesting depth exceeds maximum of %d levels (actual: %d)",
-                            MAX_NESTING_DEPTH, depth));
-        }
+        checkDepth(depth);
     }
 
     /**
@@ -65,40 +79,121 @@ public class JsonStructureValidator {
             throw new InvalidJsonException("JSON content cannot be null");
         }
 
-        // Convert to string to check size
-        String jsonString;
-        try {
-            jsonString = objectMapper.writeValueAsString(content);
-        } catch (JsonProcessingException e) {
-            throw new InvalidJsonException("Failed to serialize JSON content", e);
-        }
+        Measurement measurement = measure(content);
+        checkSize(measurement.sizeBytes());
+        checkDepth(measurement.depth());
+    }
 
-        validate(jsonString);
+    /**
+     * Parser constraints that stop content nested deeper than the maximum nesting depth while
+     * it is read, throwing {@link NestingDepthExceededException}. Other limits are taken from
+     * the base constraints.
+     *
+     * @param base Constraints to keep the other limits of
+     * @param enclosingLevels Levels wrapped around the content, such as a request envelope
+     * @return Constraints bounding the nesting depth
+     */
+    public static StreamReadConstraints readConstraints(StreamReadConstraints base, int enclosingLevels) {
+        return new DepthLimitedConstraints(base, enclosingLevels);
     }
 
     /**
-     * Calculate the maximum nesting depth of a JSON structure.
+     * Size in bytes of the compact UTF-8 serialization of the content,
+     * as checked against the document size limit.
+     *
+     * @param content JsonNode to measure
+     * @return Serialized size in bytes
      */
-    private static int calculateDepth(JsonNode node) {
-        if (node == null || node.isValueNode()) {
-            return 0;
-        }
+    public static long serializedSizeBytes(JsonNode content) {
+        return measure(content).sizeBytes();
+    }
 
-        int maxChildDepth = 0;
+    /**
+     * Stream the tree once: tokens are re-emitted into a byte counter, never buffered.
+     */
+    private static Measurement measure(JsonNode content) {
+        ByteCounter counter = new ByteCounter();
+        int maxDepth = 0;
+        try (JsonParser parser = content.traverse();
+             JsonGenerator generator = jsonFactory.createGenerator(counter)) {
+            int depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token.isStructStart()) {
+                    maxDepth = Math.max(maxDepth, ++depth);
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                generator.copyCurrentEvent(parser);
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new InvalidJsonException("Failed to serialize JSON content", e);
+        }
+        return new Measurement(counter.count, maxDepth);
+    }
 
-        if (node.isArray()) {
-            for (JsonNode element : node) {
-                maxChildDepth = Math.max(maxChildDepth, calculateDepth(element));
+    /**
+     * Calculate the maximum nesting depth of the next root value without building a tree.
+     * Scalars have depth 0; each enclosing object or array adds one level.
+     */
+    private static int measureDepth(JsonParser parser) throws IOException {
+        int depth = 0;
+        int maxDepth = 0;
+        JsonToken token = parser.nextToken();
+        while (token != null) {
+            if (token.isStructStart()) {
+                maxDepth = Math.max(maxDepth, ++depth);
+            } else if (token.isStructEnd()) {
+                depth--;
             }
-        } else if (node.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> field = fields.next();
-                maxChildDepth = Math.max(maxChildDepth, calculateDepth(field.getValue()));
+            if (depth == 0) {
+                break;
             }
+            token = parser.nextToken();
         }
+        if (token == null) {
+            throw new InvalidJsonException("Malformed JSON: unexpected end of content");
+        }
+        return maxDepth;
+    }
 
-        return 1 + maxChildDepth;
+    /**
+     * Number of bytes the string occupies when encoded as UTF-8, without encoding it.
+     */
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void checkSize(long sizeBytes) {
+        if (sizeBytes > MAX_DOCUMENT_SIZE_BYTES) {
+            throw new InvalidJsonException(
+                    String.format("JSON document exceeds maximum size of %d bytes (actual: %d bytes)",
+                            MAX_DOCUMENT_SIZE_BYTES, sizeBytes));
+        }
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new InvalidJsonException(
+                    String.format("JSON nesting depth exceeds maximum of %d levels (actual: %d)",
+                            MAX_NESTING_DEPTH, depth));
+        }
     }
 
     /**
@@ -114,4 +209,45 @@ public class JsonStructureValidator {
     public static int getMaxNestingDepth() {
         return MAX_NESTING_DEPTH;
     }
+
+    private record Measurement(long sizeBytes, int depth) {
+    }
+
+    /**
+     * Jackson checks the depth of every structure it opens against these constraints.
+     */
+    private static final class DepthLimitedConstraints extends StreamReadConstraints {
+
+        private final int enclosingLevels;
+
+        private DepthLimitedConstraints(StreamReadConstraints base, int enclosingLevels) {
+            super(MAX_NESTING_DEPTH + enclosingLevels, base.getMaxDocumentLength(), base.getMaxNumberLength(),
+                    base.getMaxStringLength(), base.getMaxNameLength());
+            this.enclosingLevels = enclosingLevels;
+        }
+
+        @Override
+        public void validateNestingDepth(int depth) throws StreamConstraintsException {
+            if (depth > _maxNestingDepth) {
+                throw new NestingDepthExceededException(MAX_NESTING_DEPTH, depth - enclosingLevels);
+            }
+        }
+    }
+
+    /**
+     * Output stream that only counts the bytes written to it.
+     */
+    private static final class ByteCounter extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
 }
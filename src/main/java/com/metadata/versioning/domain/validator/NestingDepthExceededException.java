@@ -0,0 +1,25 @@
+package com.metadata.versioning.domain.validator;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+
+/**
+ * Thrown by parsers bounded with {@link JsonStructureValidator#readConstraints} as soon as
+ * content nests deeper than allowed (FR-011), so callers can tell it apart from other
+ * stream constraint violations without reading the message.
+ */
+public class NestingDepthExceededException extends StreamConstraintsException {
+
+    private final int maxDepth;
+
+    public NestingDepthExceededException(int maxDepth, int depth) {
+        super(String.format("JSON nesting depth exceeds maximum of %d levels (actual: %d)", maxDepth, depth));
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Maximum nesting depth of the content, excluding enclosing levels.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
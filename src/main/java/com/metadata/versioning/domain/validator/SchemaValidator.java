@@ -3,25 +3,76 @@ package com.metadata.versioning.domain.validator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.metadata.versioning.domain.exception.SchemaViolationException;
 import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.networknt.schema.FailFastAssertionException;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
  * Domain service for validating JSON documents against JSON Schema definitions.
  * Uses networknt/json-schema-validator library.
+ * 
+ * Compiled schemas are kept in a bounded LRU cache keyed by type and the
+ * definition's updatedAt timestamp, so a schema is compiled once per revision
+ * rather than on every write.
+ * 
+ * Every violation is collected by default, so a rejected write reports all of them.
+ * With fail-fast enabled, strict schemas stop at the first violation instead: cheaper
+ * for large documents that are mostly rejected, at the cost of reporting one at a time.
  */
 public class SchemaValidator {
 
+    public static final int DEFAULT_MAX_CACHED_SCHEMAS = 256;
+
     private final JsonSchemaFactory schemaFactory;
+    private final SchemaValidatorsConfig collectAllConfig;
+    private final SchemaValidatorsConfig failFastConfig;
+    private final Map<String, CachedSchema> cache;
+    private final boolean failFast;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
 
     public SchemaValidator() {
+        this(DEFAULT_MAX_CACHED_SCHEMAS);
+    }
+
+    public SchemaValidator(int maxCachedSchemas) {
+        this(maxCachedSchemas, false);
+    }
+
+    /**
+     * Create a validator keeping at most maxCachedSchemas compiled schemas.
+     * 
+     * @param maxCachedSchemas Maximum number of compiled schemas kept
+     * @param failFast Whether strict schemas stop validating at the first violation
+     */
+    public SchemaValidator(int maxCachedSchemas, boolean failFast) {
+        if (maxCachedSchemas < 1) {
+            throw new IllegalArgumentException("Schema cache size must be at least 1");
+        }
         this.schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+        this.collectAllConfig = SchemaValidatorsConfig.builder().build();
+        this.failFastConfig = SchemaValidatorsConfig.builder().failFast(true).build();
+        this.failFast = failFast;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSchema> eldest) {
+                return size() > maxCachedSchemas;
+            }
+        };
     }
 
     /**
@@ -33,8 +84,7 @@ public class SchemaValidator {
      * @return List of validation warnings (empty if valid, or if non-strict mode)
      */
     public List<String> validate(JsonNode document, SchemaDefinition schemaDefinition) {
-        JsonSchema schema = schemaFactory.getSchema(schemaDefinition.schema());
-        Set<ValidationMessage> errors = schema.validate(document);
+        Set<ValidationMessage> errors = validateMessages(document, schemaDefinition);
 
         if (errors.isEmpty()) {
             return List.of();
@@ -56,11 +106,89 @@ public class SchemaValidator {
      */
     public boolean isValid(JsonNode document, SchemaDefinition schemaDefinition) {
         try {
-            JsonSchema schema = schemaFactory.getSchema(schemaDefinition.schema());
-            Set<ValidationMessage> errors = schema.validate(document);
-            return errors.isEmpty();
+            return validateMessages(document, schemaDefinition).isEmpty();
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * Drop the compiled schema for a type, e.g. after its definition was updated or deleted.
+     */
+    public void invalidate(String type) {
+        synchronized (cache) {
+            cache.remove(type);
+        }
+    }
+
+    /**
+     * Drop all compiled schemas.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Snapshot of cache and compilation statistics.
+     */
+    public CacheStats stats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), compilations.sum(), compileNanos.sum(), size);
+    }
+
+    private Set<ValidationMessage> validateMessages(JsonNode document, SchemaDefinition schemaDefinition) {
+        try {
+            return compiledSchema(schemaDefinition).validate(document);
+        } catch (FailFastAssertionException e) {
+            return e.getValidationMessages();
+        }
+    }
+
+    /**
+     * Return the compiled schema for the definition, compiling it on a miss or
+     * when the cached entry belongs to an older revision of the definition.
+     */
+    private JsonSchema compiledSchema(SchemaDefinition schemaDefinition) {
+        String type = schemaDefinition.type();
+        Instant revision = schemaDefinition.updatedAt();
+        // Non-strict schemas return violations as warnings, so they always collect all of them
+        boolean failFast = this.failFast && schemaDefinition.strictMode();
+
+        synchronized (cache) {
+            CachedSchema cached = cache.get(type);
+            if (cached != null && cached.matches(revision, failFast)) {
+                hits.increment();
+                return cached.schema();
+            }
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        JsonSchema schema = schemaFactory.getSchema(schemaDefinition.schema(),
+                failFast ? failFastConfig : collectAllConfig);
+        compileNanos.add(System.nanoTime() - start);
+        compilations.increment();
+
+        synchronized (cache) {
+            cache.put(type, new CachedSchema(revision, failFast, schema));
+        }
+        return schema;
+    }
+
+    private record CachedSchema(Instant revision, boolean failFast, JsonSchema schema) {
+        boolean matches(Instant otherRevision, boolean otherFailFast) {
+            return failFast == otherFailFast && revision != null && revision.equals(otherRevision);
+        }
+    }
+
+    /**
+     * Compiled schema cache statistics.
+     */
+    public record CacheStats(long hits, long misses, long compilations, long compileNanos, int size) {
+    }
 }
@@ -0,0 +1,11 @@
+-- V10: Optimistic locking of metadata documents
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- Incremented by every write to the document row, through JPA (@Version) and by the
+-- native statements that append versions or record activations. A JPA update based
+-- on a stale read fails instead of overwriting the concurrent change, and is retried.
+ALTER TABLE metadata_documents
+    ADD COLUMN row_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN metadata_documents.row_version IS 'Optimistic lock version, incremented on every update of the row';
@@ -0,0 +1,12 @@
+-- V11: Subtree hashes per version for pruning version comparisons
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- Merkle hashes of the root, top-level and second-level subtrees of the content,
+-- keyed by JSON Pointer. Computed by the application when the version is written;
+-- a comparison skips every subtree whose hash is the same in both versions.
+-- Existing rows stay NULL and are compared in full.
+ALTER TABLE versions
+    ADD COLUMN subtree_hashes JSONB;
+
+COMMENT ON COLUMN versions.subtree_hashes IS 'Hashes of the upper content subtrees by JSON Pointer, used to prune comparisons';
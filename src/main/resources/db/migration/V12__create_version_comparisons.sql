@@ -0,0 +1,22 @@
+-- V12: Stored results of expensive version comparisons
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- Version content never changes, so the changes between two versions can be computed once
+-- and shared by all nodes. The fingerprint identifies the comparison options (diff algorithm
+-- format, array edit cost cap and the identity keys declared by the schema); results computed
+-- with other options are never read. Only pairs slow to compare are stored.
+CREATE TABLE version_comparisons (
+    document_type VARCHAR(255) NOT NULL,
+    document_name VARCHAR(255) NOT NULL,
+    from_version INTEGER NOT NULL,
+    to_version INTEGER NOT NULL,
+    result_fingerprint VARCHAR(64) NOT NULL,
+    changes JSONB NOT NULL,
+    compute_millis BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (document_type, document_name, from_version, to_version, result_fingerprint)
+);
+
+COMMENT ON TABLE version_comparisons IS 'Changes between two immutable versions, stored when slow to compute';
+COMMENT ON COLUMN version_comparisons.changes IS 'Change list as computed: type, path, oldValue, newValue, fromPath';
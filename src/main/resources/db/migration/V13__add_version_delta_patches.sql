@@ -0,0 +1,15 @@
+-- V13: Patch from the previous version, per version
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- RFC 6902 JSON Patch turning the content of the previous version into the content of this
+-- one, computed by the application after the version is committed. Comparisons of adjacent
+-- versions and changelogs over a range of versions read these instead of diffing content.
+-- The fingerprint identifies the comparison options the patch was computed with; patches
+-- computed with other options are never read. Existing rows stay NULL until requested.
+ALTER TABLE versions
+    ADD COLUMN delta_patch JSONB,
+    ADD COLUMN delta_fingerprint VARCHAR(64);
+
+COMMENT ON COLUMN versions.delta_patch IS 'RFC 6902 patch from the previous version, with change paths in x-path members';
+COMMENT ON COLUMN versions.delta_fingerprint IS 'Fingerprint of the comparison options the delta patch was computed with';
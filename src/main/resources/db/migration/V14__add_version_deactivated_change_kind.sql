@@ -0,0 +1,7 @@
+-- V14: Versions deactivated by the activation of another version of their type
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- Activations record a VERSION_DEACTIVATED entry for every version they deactivate (FR-006),
+-- ahead of the VERSION_ACTIVATED entry, so feed consumers see every document losing its active version.
+COMMENT ON COLUMN change_feed.change_kind IS 'VERSION_CREATED, VERSION_ACTIVATED, VERSION_DEACTIVATED or STATE_CHANGED';
@@ -0,0 +1,23 @@
+-- V6: Per-document version counter for append-only version inserts
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- Highest version number allocated for the document. New versions claim the next
+-- number with a single UPDATE ... RETURNING, which also serializes concurrent
+-- appends to the same document on its row lock.
+ALTER TABLE metadata_documents
+    ADD COLUMN latest_version_number INTEGER NOT NULL DEFAULT 0;
+
+UPDATE metadata_documents d
+SET latest_version_number = v.max_version
+FROM (
+    SELECT document_id, MAX(version_number) AS max_version
+    FROM versions
+    GROUP BY document_id
+) v
+WHERE v.document_id = d.id;
+
+ALTER TABLE metadata_documents
+    ADD CONSTRAINT chk_latest_version_number_non_negative CHECK (latest_version_number >= 0);
+
+COMMENT ON COLUMN metadata_documents.latest_version_number IS 'Highest allocated version number; incremented atomically when a version is appended';
@@ -0,0 +1,19 @@
+-- V7: Content hash per version for conditional reads (ETag / If-None-Match)
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- SHA-256 of the version content, computed once when the version is written.
+-- Content is immutable, so the hash never needs to be recomputed; conditional
+-- reads compare it without loading the JSONB content.
+ALTER TABLE versions
+    ADD COLUMN content_hash CHAR(64);
+
+-- Existing rows are hashed from their stored JSONB text. The value only has to be
+-- stable per version, so it need not match the hash new writes compute in the application.
+UPDATE versions
+SET content_hash = encode(sha256(convert_to(content::text, 'UTF8')), 'hex');
+
+ALTER TABLE versions
+    ALTER COLUMN content_hash SET NOT NULL;
+
+COMMENT ON COLUMN versions.content_hash IS 'SHA-256 (hex) of the version content, used to build ETags';
@@ -0,0 +1,23 @@
+-- V8: Pooled sequence ids for JDBC insert batching
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- IDENTITY columns force Hibernate to insert each row on its own to read back the key,
+-- which disables JDBC batching. The entities now draw ids from the existing BIGSERIAL
+-- sequences with a pooled optimizer: one nextval reserves a block of 50 ids, and the
+-- value returned is the upper end of the block.
+ALTER SEQUENCE metadata_documents_id_seq INCREMENT BY 50;
+ALTER SEQUENCE versions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE audit_entries_id_seq INCREMENT BY 50;
+
+-- Move each sequence past a full block beyond the highest existing id, so the first
+-- block handed out cannot overlap rows inserted before this migration.
+SELECT setval('metadata_documents_id_seq', COALESCE((SELECT MAX(id) FROM metadata_documents), 0) + 50);
+SELECT setval('versions_id_seq', COALESCE((SELECT MAX(id) FROM versions), 0) + 50);
+SELECT setval('audit_entries_id_seq', COALESCE((SELECT MAX(id) FROM audit_entries), 0) + 50);
+
+-- A column default would take the upper end of a block that the application may be
+-- handing out, so ids must always come from the application.
+ALTER TABLE metadata_documents ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE versions ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE audit_entries ALTER COLUMN id DROP DEFAULT;
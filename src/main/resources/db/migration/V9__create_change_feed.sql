@@ -0,0 +1,33 @@
+-- V9: Change feed (transactional outbox) for incremental consumer sync
+-- Author: Metadata Versioning Team
+-- Date: 2026-10-16
+
+-- One row per committed change, written in the same transaction as the change.
+-- Sequence numbers are drawn while holding a transaction-level advisory lock, so they
+-- are assigned in commit order and a consumer reading past a sequence number can never
+-- miss a change that commits later with a lower one. Increment must stay at 1: blocks of
+-- numbers cached per node would break that ordering.
+CREATE SEQUENCE change_feed_sequence_number_seq INCREMENT BY 1;
+
+CREATE TABLE change_feed (
+    sequence_number BIGINT PRIMARY KEY,
+    document_type VARCHAR(255) NOT NULL,
+    document_name VARCHAR(255) NOT NULL,
+    version_number INTEGER NOT NULL,
+    change_kind VARCHAR(30) NOT NULL,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_change_feed_recorded_at ON change_feed (recorded_at);
+
+-- Highest sequence number removed by compaction. Consumers positioned before it have
+-- missed changes and must resynchronize from a snapshot.
+CREATE TABLE change_feed_horizon (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    compacted_through BIGINT NOT NULL
+);
+
+INSERT INTO change_feed_horizon (id, compacted_through) VALUES (1, 0);
+
+COMMENT ON TABLE change_feed IS 'Committed document changes in commit order, for incremental sync';
+COMMENT ON COLUMN change_feed.change_kind IS 'VERSION_CREATED, VERSION_ACTIVATED or STATE_CHANGED';
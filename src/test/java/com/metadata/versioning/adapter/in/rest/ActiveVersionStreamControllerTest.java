@@ -0,0 +1,149 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.CreateMetadataRequest;
+import com.metadata.versioning.adapter.in.rest.dto.CreateVersionRequest;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Server-Sent Events stream of activations.
+ * Runs in its own context, so compacting the feed does not affect other tests.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false",
+        "app.stream.poll-interval=100ms"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+class ActiveVersionStreamControllerTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Test
+    void testActivationsMatchingFilterAreStreamed() throws Exception {
+        String type = "stream-" + System.nanoTime();
+        String otherType = "stream-other-" + System.nanoTime();
+        createDocument(type, "doc");
+        createDocument(otherType, "doc");
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/metadata/stream").param("type", type)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        activate(otherType, "doc", 2);
+        activate(type, "doc", 2);
+
+        String body = awaitBody(stream, content -> content.contains("event:version-activated"));
+        assertTrue(body.contains("id:"), body);
+        assertTrue(body.contains("\"type\":\"" + type + "\""), body);
+        assertTrue(body.contains("\"versionNumber\":2"), body);
+        assertFalse(body.contains(otherType), body);
+    }
+
+    @Test
+    void testLastEventIdReplaysMissedActivations() throws Exception {
+        String type = "stream-resume-" + System.nanoTime();
+        createDocument(type, "doc");
+        long lastEventId = changeFeedRepository.findLatestSequenceNumber();
+        activate(type, "doc", 2);
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/metadata/stream").param("type", type)
+                        .header("Last-Event-ID", lastEventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBody(stream, content -> content.contains("event:version-activated"));
+        assertTrue(body.contains("\"type\":\"" + type + "\""), body);
+        assertTrue(body.contains("\"versionNumber\":2"), body);
+    }
+
+    @Test
+    void testCompactedLastEventIdRequiresResync() throws Exception {
+        String type = "stream-expired-" + System.nanoTime();
+        createDocument(type, "doc");
+        activate(type, "doc", 2);
+        changeFeedRepository.compactRecordedBefore(Instant.now().plusSeconds(1));
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/metadata/stream")
+                        .header("Last-Event-ID", 0)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBody(stream, content -> content.contains("event:resync-required"));
+        assertFalse(body.contains("event:version-activated"), body);
+    }
+
+    private void createDocument(String type, String name) throws Exception {
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree("{\"revision\": 1}"), "Initial version"))))
+                .andExpect(status().isCreated());
+    }
+
+    private void activate(String type, String name, int versionNumber) throws Exception {
+        mockMvc.perform(post("/api/v1/metadata/" + type + "/" + name + "/versions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateVersionRequest(
+                                objectMapper.readTree("{\"revision\": " + versionNumber + "}"), "Next"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/metadata/" + type + "/" + name + "/versions/" + versionNumber + "/activate"))
+                .andExpect(status().isNoContent());
+    }
+
+    private static String awaitBody(MvcResult stream, Predicate<String> condition) throws Exception {
+        MockHttpServletResponse response = stream.getResponse();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            String body = response.getContentAsString();
+            if (condition.test(body)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Stream did not deliver the expected event: " + response.getContentAsString());
+    }
+}
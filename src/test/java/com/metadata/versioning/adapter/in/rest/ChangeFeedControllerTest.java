@@ -0,0 +1,200 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.CreateMetadataRequest;
+import com.metadata.versioning.adapter.in.rest.dto.CreateVersionRequest;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the change feed endpoint.
+ * Runs in its own context, so compacting the feed does not affect other tests.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false",
+        "app.change-feed.max-page-size=50"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Test
+    void testChangesAreRecordedInCommitOrder() throws Exception {
+        long since = head();
+        String type = "feed-" + System.nanoTime();
+
+        createDocument(type, "doc");
+        mockMvc.perform(post("/api/v1/metadata/" + type + "/doc/versions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateVersionRequest(
+                                objectMapper.readTree("{\"revision\": 2}"), "Second"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/metadata/" + type + "/doc/versions/2/activate"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/metadata/" + type + "/doc/versions/2/state").param("state", "ARCHIVED"))
+                .andExpect(status().isOk());
+
+        JsonNode page = changes(since, 50);
+        JsonNode changes = page.get("changes");
+        assertEquals(4, changes.size());
+        assertChange(changes.get(0), type, 1, "VERSION_CREATED");
+        assertChange(changes.get(1), type, 2, "VERSION_CREATED");
+        assertChange(changes.get(2), type, 2, "VERSION_ACTIVATED");
+        assertChange(changes.get(3), type, 2, "STATE_CHANGED");
+        for (int i = 1; i < changes.size(); i++) {
+            assertTrue(changes.get(i).get("sequenceNumber").asLong() > changes.get(i - 1).get("sequenceNumber").asLong());
+        }
+        assertEquals(changes.get(3).get("sequenceNumber").asLong(), page.get("next").asLong());
+        assertFalse(page.get("hasMore").asBoolean());
+
+        // Nothing new: the consumer stays where it is
+        JsonNode empty = changes(page.get("next").asLong(), 50);
+        assertEquals(0, empty.get("changes").size());
+        assertEquals(page.get("next").asLong(), empty.get("next").asLong());
+    }
+
+    @Test
+    void testActivationRecordsDeactivatedDocumentsOfTheType() throws Exception {
+        String type = "feed-deactivated-" + System.nanoTime();
+        createDocument(type, "first");
+        createDocument(type, "second");
+        mockMvc.perform(post("/api/metadata/" + type + "/first/versions/1/activate"))
+                .andExpect(status().isNoContent());
+        long since = head();
+
+        mockMvc.perform(post("/api/metadata/" + type + "/second/versions/1/activate"))
+                .andExpect(status().isNoContent());
+
+        JsonNode changes = changes(since, 50).get("changes");
+        assertEquals(2, changes.size());
+        assertChange(changes.get(0), type, 1, "VERSION_DEACTIVATED");
+        assertEquals("first", changes.get(0).get("name").asText());
+        assertChange(changes.get(1), type, 1, "VERSION_ACTIVATED");
+        assertEquals("second", changes.get(1).get("name").asText());
+    }
+
+    @Test
+    void testKeysetPaginationVisitsEveryChangeOnce() throws Exception {
+        long since = head();
+        String type = "feed-paging-" + System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            createDocument(type, "doc-" + i);
+        }
+
+        List<String> names = new ArrayList<>();
+        long next = since;
+        boolean hasMore = true;
+        while (hasMore) {
+            JsonNode page = changes(next, 2);
+            page.get("changes").forEach(change -> names.add(change.get("name").asText()));
+            next = page.get("next").asLong();
+            hasMore = page.get("hasMore").asBoolean();
+        }
+
+        assertEquals(List.of("doc-0", "doc-1", "doc-2", "doc-3", "doc-4"), names);
+    }
+
+    @Test
+    void testCompactedChangesReturnGone() throws Exception {
+        createDocument("feed-compacted-" + System.nanoTime(), "doc");
+        long head = head();
+        changeFeedRepository.compactRecordedBefore(Instant.now().plusSeconds(1));
+
+        mockMvc.perform(get("/api/v1/changes").param("since", "0").param("limit", "50"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").value("CHANGE_FEED_EXPIRED"))
+                .andExpect(jsonPath("$.compactedThrough").value(head))
+                .andExpect(jsonPath("$.head").value(head));
+
+        // A consumer that had applied everything compacted can continue
+        mockMvc.perform(get("/api/v1/changes").param("since", String.valueOf(head)).param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty());
+    }
+
+    @Test
+    void testInvalidParametersRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/changes").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/changes").param("since", "-1").param("limit", "50"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void createDocument(String type, String name) throws Exception {
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree("{\"revision\": 1}"), "Initial version"))))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * Sequence number of the latest change, found by following the feed to its end.
+     */
+    private long head() throws Exception {
+        long since = changeFeedRepository.findCompactedThrough();
+        JsonNode page;
+        do {
+            page = changes(since, 50);
+            since = page.get("next").asLong();
+        } while (page.get("hasMore").asBoolean());
+        return since;
+    }
+
+    private JsonNode changes(long since, int limit) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/changes")
+                        .param("since", String.valueOf(since))
+                        .param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static void assertChange(JsonNode change, String type, int versionNumber, String kind) {
+        assertEquals(type, change.get("type").asText(), change.toString());
+        assertEquals(versionNumber, change.get("versionNumber").asInt(), change.toString());
+        assertEquals(kind, change.get("kind").asText(), change.toString());
+    }
+}
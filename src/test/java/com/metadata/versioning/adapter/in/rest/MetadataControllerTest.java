@@ -1,5 +1,6 @@
 package com.metadata.versioning.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.metadata.versioning.adapter.in.rest.dto.CreateMetadataRequest;
 import com.metadata.versioning.adapter.in.rest.dto.CreateVersionRequest;
@@ -11,10 +12,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -145,6 +151,21 @@ class MetadataControllerTest {
                 .andExpect(jsonPath("$.message").value(containsString("nesting depth")));
     }
 
+    /**
+     * Validates FR-011 for content nested past Jackson's default depth limit of 1000
+     */
+    @Test
+    void testCreateMetadataDocument_ExtremelyDeepJsonRejected() throws Exception {
+        String content = "[".repeat(1200) + "]".repeat(1200);
+        String request = "{\"type\":\"loyalty-program\",\"name\":\"deep-json-test\",\"content\":" + content + "}";
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("JSON nesting depth exceeds maximum of 50 levels"));
+    }
+
     /**
      * T028: Test kebab-case validation
      * Validates MetadataDocument invariant enforcement
@@ -412,6 +433,221 @@ class MetadataControllerTest {
                 .andExpect(jsonPath("$.content.discount").value(25));
     }
 
+    /**
+     * Conditional reads of the active version: a matching If-None-Match returns 304
+     * without a body, and a new activation changes the ETag.
+     */
+    @Test
+    void testGetActiveVersion_ConditionalRequest() throws Exception {
+        String type = "conditional-active";
+        String name = "etag-test-" + System.currentTimeMillis();
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree(sampleJsonContent), "Initial version"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/metadata/" + type + "/" + name + "/versions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateVersionRequest(
+                                objectMapper.readTree("{\"tier\": \"gold\"}"), "Updated tier"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/metadata/" + type + "/" + name + "/versions/1/activate"))
+                .andExpect(status().isNoContent());
+
+        String etag = mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("If-None-Match", "\"stale\", W/" + etag))
+                .andExpect(status().isNotModified());
+
+        // Activating another version changes the representation
+        mockMvc.perform(post("/api/metadata/" + type + "/" + name + "/versions/2/activate"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.versionNumber").value(2));
+    }
+
+    /**
+     * Active version bodies are served gzip-encoded to clients that accept it,
+     * with a distinct ETag per encoding that revalidates either way.
+     */
+    @Test
+    void testGetActiveVersion_GzipEncoding() throws Exception {
+        String type = "gzip-active";
+        String name = "gzip-test-" + System.currentTimeMillis();
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree(sampleJsonContent), "Initial version"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/metadata/" + type + "/" + name + "/versions/1/activate"))
+                .andExpect(status().isNoContent());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(header().string("ETag", endsWith("-gzip\"")))
+                .andReturn().getResponse();
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            JsonNode decoded = objectMapper.readTree(body);
+            assertEquals(1, decoded.get("versionNumber").asInt());
+            assertEquals("LP001", decoded.get("content").get("programId").asText());
+        }
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", response.getHeader("ETag")))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active")
+                        .header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.content.programId").value("LP001"));
+    }
+
+    /**
+     * Conditional reads of a specific version: long-lived caching and 304 on a matching ETag.
+     */
+    @Test
+    void testGetSpecificVersion_ConditionalRequest() throws Exception {
+        String type = "conditional-specific";
+        String name = "etag-test-" + System.currentTimeMillis();
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree(sampleJsonContent), "Initial version"))))
+                .andExpect(status().isCreated());
+
+        String etag = mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/versions/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=86400"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/versions/1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "max-age=86400"))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/versions/99")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Conditional version creation: If-Match naming the latest version by number or ETag
+     * creates the next version, a stale one is rejected with 412 and the latest version.
+     */
+    @Test
+    void testCreateNewVersion_IfMatch() throws Exception {
+        String type = "conditional-write";
+        String name = "if-match-test-" + System.currentTimeMillis();
+        String versionsUrl = "/api/v1/metadata/" + type + "/" + name + "/versions";
+        String body = objectMapper.writeValueAsString(new CreateVersionRequest(
+                objectMapper.readTree("{\"tier\": \"gold\"}"), "Updated tier"));
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree(sampleJsonContent), "Initial version"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post(versionsUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "1")
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.versionNumber").value(2));
+
+        // Another writer based on v1 lost the race
+        String latestEtag = mockMvc.perform(post(versionsUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "1")
+                        .content(body))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("PRECONDITION_FAILED"))
+                .andExpect(jsonPath("$.currentVersion").value(2))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post(versionsUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", latestEtag)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.versionNumber").value(3));
+
+        mockMvc.perform(post(versionsUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "W/" + latestEtag)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    /**
+     * Conditional activation: If-Match must name the currently active version.
+     */
+    @Test
+    void testActivateVersion_IfMatch() throws Exception {
+        String type = "conditional-activation";
+        String name = "if-match-test-" + System.currentTimeMillis();
+        String versionsUrl = "/api/v1/metadata/" + type + "/" + name + "/versions";
+
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                type, name, objectMapper.readTree(sampleJsonContent), "Initial version"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post(versionsUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateVersionRequest(
+                                objectMapper.readTree("{\"tier\": \"gold\"}"), "Updated tier"))))
+                .andExpect(status().isCreated());
+
+        // Nothing is active yet, so no version can match
+        mockMvc.perform(post(versionsUrl + "/2/activate").header("If-Match", "*"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.currentVersion").doesNotExist());
+
+        mockMvc.perform(post(versionsUrl + "/1/activate"))
+                .andExpect(status().isOk());
+        String activeEtag = mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post(versionsUrl + "/2/activate").header("If-Match", "2"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.currentVersion").value(1))
+                .andExpect(header().string("ETag", activeEtag));
+
+        mockMvc.perform(post(versionsUrl + "/2/activate").header("If-Match", activeEtag))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/metadata/" + type + "/" + name + "/active"))
+                .andExpect(jsonPath("$.versionNumber").value(2));
+    }
+
     /**
      * T043: Test active version when none is active
      * Should return 404 when no version is activated
@@ -439,6 +675,78 @@ class MetadataControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    /**
+     * Batch read of active versions: one NDJSON line per key in request order,
+     * with NOT_FOUND markers for missing documents and documents without an active version.
+     */
+    @Test
+    void testGetActiveVersions_Batch() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        String typeA = "batch-a-" + suffix;
+        String typeB = "batch-b-" + suffix;
+        for (String[] doc : new String[][]{{typeA, "first"}, {typeB, "second"}, {typeB, "inactive"}}) {
+            mockMvc.perform(post("/api/v1/metadata")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateMetadataRequest(
+                                    doc[0], doc[1], objectMapper.readTree("{\"owner\": \"" + doc[1] + "\"}"),
+                                    "Initial version"))))
+                    .andExpect(status().isCreated());
+        }
+        mockMvc.perform(post("/api/metadata/" + typeA + "/first/versions/1/activate"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/metadata/" + typeB + "/second/versions/1/activate"))
+                .andExpect(status().isNoContent());
+
+        String body = """
+                {"keys": [
+                    {"type": "%2$s", "name": "second"},
+                    {"type": "%1$s", "name": "missing"},
+                    {"type": "%1$s", "name": "first"},
+                    {"type": "%2$s", "name": "inactive"},
+                    {"type": "%2$s", "name": "second"}
+                ]}
+                """.formatted(typeA, typeB);
+
+        var started = mockMvc.perform(post("/api/v1/metadata/active")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(5, lines.length);
+        JsonNode second = objectMapper.readTree(lines[0]);
+        assertEquals(typeB, second.get("type").asText());
+        assertEquals("second", second.get("content").get("owner").asText());
+        assertEquals(true, second.get("isActive").asBoolean());
+        JsonNode missing = objectMapper.readTree(lines[1]);
+        assertEquals("missing", missing.get("name").asText());
+        assertEquals("NOT_FOUND", missing.get("error").asText());
+        assertEquals("first", objectMapper.readTree(lines[2]).get("content").get("owner").asText());
+        assertEquals("NOT_FOUND", objectMapper.readTree(lines[3]).get("error").asText());
+        assertEquals(lines[0], lines[4]);
+    }
+
+    /**
+     * Batch read rejects an empty key list and blank keys.
+     */
+    @Test
+    void testGetActiveVersions_InvalidKeysRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/metadata/active")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keys\": []}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/metadata/active")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keys\": [{\"type\": \"campaign\", \"name\": \"\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * T043a: Test listing metadata documents with pagination (FR-015)
      * Validates that documents can be listed and filtered by type
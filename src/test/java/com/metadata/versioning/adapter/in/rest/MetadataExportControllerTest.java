@@ -0,0 +1,161 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.adapter.in.rest.dto.CreateMetadataRequest;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the NDJSON snapshot export endpoint.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+class MetadataExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Test
+    void testExportStreamsActiveVersionsInOrder() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        String typeA = "export-a-" + suffix;
+        String typeB = "export-b-" + suffix;
+        createDocument(typeB, "beta", "{\"tier\": \"silver\"}", true);
+        createDocument(typeA, "alpha", "{\"tier\": \"gold\"}", true);
+        createDocument(typeA, "inactive", "{\"tier\": \"bronze\"}", false);
+
+        List<JsonNode> lines = export(null).stream()
+                .filter(line -> line.get("type").asText().endsWith(suffix))
+                .toList();
+
+        assertEquals(2, lines.size());
+        assertEquals(typeA, lines.get(0).get("type").asText());
+        assertEquals("alpha", lines.get(0).get("name").asText());
+        assertEquals(1, lines.get(0).get("versionNumber").asInt());
+        assertTrue(lines.get(0).get("isActive").asBoolean());
+        assertEquals("gold", lines.get(0).get("content").get("tier").asText());
+        assertEquals(typeB, lines.get(1).get("type").asText());
+        assertEquals("silver", lines.get(1).get("content").get("tier").asText());
+    }
+
+    @Test
+    void testExportFiltersByType() throws Exception {
+        String type = "export-filter-" + System.nanoTime();
+        createDocument(type, "only", "{\"tier\": \"gold\"}", true);
+        createDocument("export-other-" + System.nanoTime(), "other", "{\"tier\": \"silver\"}", true);
+
+        List<JsonNode> lines = export(type);
+
+        assertEquals(1, lines.size());
+        assertEquals(type, lines.get(0).get("type").asText());
+        assertEquals("only", lines.get(0).get("name").asText());
+    }
+
+    @Test
+    void testExportRunsUnderItsOwnTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/metadata/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofHours(1).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    @Test
+    void testExportReportsChangeFeedPosition() throws Exception {
+        String type = "export-position-" + System.nanoTime();
+        createDocument(type, "doc", "{\"tier\": \"gold\"}", true);
+        long head = changeFeedRepository.findLatestSequenceNumber();
+
+        MvcResult started = mockMvc.perform(get("/api/v1/metadata/export").param("type", type)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        // The position covers every change committed before the export started
+        assertEquals(String.valueOf(head), started.getResponse().getHeader("X-Change-Feed-Position"));
+    }
+
+    @Test
+    void testExportOfUnknownTypeIsEmpty() throws Exception {
+        assertEquals(List.of(), export("export-unknown-" + System.nanoTime()));
+    }
+
+    private void createDocument(String type, String name, String content, boolean activate) throws Exception {
+        CreateMetadataRequest request = new CreateMetadataRequest(
+                type, name, objectMapper.readTree(content), "Initial version");
+        mockMvc.perform(post("/api/v1/metadata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        if (activate) {
+            mockMvc.perform(post("/api/metadata/" + type + "/" + name + "/versions/1/activate"))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    private List<JsonNode> export(String type) throws Exception {
+        var builder = get("/api/v1/metadata/export").accept(MediaType.APPLICATION_NDJSON);
+        if (type != null) {
+            builder.param("type", type);
+        }
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String response = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
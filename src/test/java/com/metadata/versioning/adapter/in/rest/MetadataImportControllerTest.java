@@ -0,0 +1,201 @@
+package com.metadata.versioning.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.service.VersionDeltaPrecomputer;
+import com.metadata.versioning.domain.model.AuditEntry;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import com.metadata.versioning.support.TestPersistenceConfig.InMemoryAuditLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the bulk NDJSON import endpoint.
+ * A small chunk size makes every import span several chunks.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false",
+        "app.import.chunk-size=2"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+class MetadataImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InMemoryAuditLogRepository auditLogRepository;
+
+    @Autowired
+    private VersionDeltaPrecomputer deltaPrecomputer;
+
+    @Test
+    void testImportReportsEveryLineInOrder() throws Exception {
+        String body = """
+                {"type": "import-test", "name": "doc-one", "content": {"tier": "gold"}}
+                {"type": "import-test", "name": "doc-two", "content": {"tier": "silver"}, "changeSummary": "Imported"}
+
+                {not json
+                {"type": "import-test", "name": "Not Kebab", "content": {"tier": "bronze"}}
+                {"type": "import-test", "name": "doc-one", "content": {"tier": "platinum"}}
+                {"type": "import-test", "name": "doc-three"}
+                """;
+
+        List<JsonNode> lines = importNdjson(body, false);
+
+        assertEquals(7, lines.size());
+        assertLine(lines.get(0), 1, "CREATED", null);
+        assertLine(lines.get(1), 2, "CREATED", null);
+        assertLine(lines.get(2), 4, "REJECTED", "MALFORMED_LINE");
+        assertLine(lines.get(3), 5, "REJECTED", "INVALID_ARGUMENT");
+        assertLine(lines.get(4), 6, "REJECTED", "DOCUMENT_ALREADY_EXISTS");
+        assertLine(lines.get(5), 7, "REJECTED", "MALFORMED_LINE");
+
+        JsonNode summary = lines.get(6).get("summary");
+        assertEquals(6, summary.get("total").asInt());
+        assertEquals(2, summary.get("created").asInt());
+        assertEquals(4, summary.get("rejected").asInt());
+
+        mockMvc.perform(get("/api/v1/metadata/import-test/doc-two/versions/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changeSummary").value("Imported"))
+                .andExpect(jsonPath("$.content.tier").value("silver"));
+    }
+
+    @Test
+    void testImportAppendsToExistingDocuments() throws Exception {
+        importNdjson("""
+                {"type": "import-append", "name": "doc", "content": {"revision": 1}}
+                """, false);
+
+        List<JsonNode> lines = importNdjson("""
+                {"type": "import-append", "name": "doc", "content": {"revision": 2}}
+                {"type": "import-append", "name": "other", "content": {"revision": 1}}
+                {"type": "import-append", "name": "other", "content": {"revision": 2}}
+                """, true);
+
+        assertLine(lines.get(0), 1, "APPENDED", null);
+        assertEquals(2, lines.get(0).get("versionNumber").asInt());
+        assertLine(lines.get(1), 2, "CREATED", null);
+        assertLine(lines.get(2), 3, "APPENDED", null);
+        assertEquals(2, lines.get(2).get("versionNumber").asInt());
+
+        mockMvc.perform(get("/api/v1/metadata/import-append/other/versions/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.revision").value(2));
+    }
+
+    @Test
+    void testImportRejectsContentFailingStructureValidation() throws Exception {
+        StringBuilder deep = new StringBuilder();
+        deep.append("{\"a\":".repeat(60)).append("1").append("}".repeat(60));
+
+        List<JsonNode> lines = importNdjson(
+                "{\"type\": \"import-deep\", \"name\": \"doc\", \"content\": " + deep + "}\n", false);
+
+        assertLine(lines.get(0), 1, "REJECTED", "INVALID_JSON");
+    }
+
+    @Test
+    void testImportAuditsAndAnnouncesEveryWrittenVersion() throws Exception {
+        String type = "import-audit-" + System.nanoTime();
+        long patchesBefore = deltaPrecomputer.storedPatches();
+
+        importNdjson("{\"type\": \"" + type + "\", \"name\": \"doc\", \"content\": {\"revision\": 1}}\n", false);
+        importNdjson("""
+                {"type": "%1$s", "name": "doc", "content": {"revision": 2}}
+                {"type": "%1$s", "name": "other", "content": {"revision": 1}}
+                {"type": "%1$s", "name": "other", "content": {"revision": 2}}
+                {"type": "%1$s", "name": "Not Kebab", "content": {"revision": 1}}
+                """.formatted(type), true);
+
+        assertTrue(await(() -> auditEntries(type).size() == 4), "every written version audited");
+        assertEquals(List.of(type + "/doc", type + "/doc/v2", type + "/other", type + "/other/v2"),
+                auditEntries(type).stream().map(AuditEntry::entityId).sorted().toList());
+
+        // Appended versions have their patch precomputed like versions created through the API
+        assertTrue(await(() -> deltaPrecomputer.storedPatches() - patchesBefore == 2), "patches precomputed");
+    }
+
+    private List<AuditEntry> auditEntries(String type) {
+        return auditLogRepository.entries().stream()
+                .filter(entry -> entry.entityId().startsWith(type + "/"))
+                .toList();
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+
+    private List<JsonNode> importNdjson(String body, boolean append) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/v1/metadata/import")
+                        .param("append", String.valueOf(append))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String response = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static void assertLine(JsonNode line, long lineNumber, String status, String error) {
+        assertEquals(lineNumber, line.get("line").asLong(), line.toString());
+        assertEquals(status, line.get("status").asText(), line.toString());
+        if (error != null) {
+            assertEquals(error, line.get("error").asText(), line.toString());
+        }
+    }
+}
@@ -173,4 +173,25 @@ class VersionComparisonControllerTest {
                 .andExpect(jsonPath("$.changes[?(@.path =~ /.*benefits.*/)]").exists())
                 .andExpect(jsonPath("$.changes[?(@.path =~ /.*minSpend.*/)]").exists());
     }
+
+    @Test
+    void shouldPageChangelogWithPatches() throws Exception {
+        mockMvc.perform(get("/api/metadata/loyalty-program/platinum-tier/versions/changelog")
+                        .param("after", "1")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versions", hasSize(2)))
+                .andExpect(jsonPath("$.versions[0].versionNumber").value(2))
+                .andExpect(jsonPath("$.versions[0].patch[?(@.op == 'replace' && @.path == '/minSpend')]").exists())
+                .andExpect(jsonPath("$.versions[1].hasBreakingChanges").value(true))
+                .andExpect(jsonPath("$.versions[1].patch[?(@.op == 'remove' && @.path == '/benefits/freeShipping')]").exists())
+                .andExpect(jsonPath("$.next").value(3));
+    }
+
+    @Test
+    void shouldRejectChangelogPageAboveLimit() throws Exception {
+        mockMvc.perform(get("/api/metadata/loyalty-program/platinum-tier/versions/changelog")
+                        .param("limit", "1000"))
+                .andExpect(status().isBadRequest());
+    }
 }
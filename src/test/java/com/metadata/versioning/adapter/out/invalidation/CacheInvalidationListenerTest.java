@@ -0,0 +1,126 @@
+package com.metadata.versioning.adapter.out.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.event.ActiveVersionChangedEvent;
+import com.metadata.versioning.application.event.CacheFlushRequestedEvent;
+import com.metadata.versioning.application.event.SchemaChangedEvent;
+import com.metadata.versioning.support.InProcessNotificationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    private static final String CHANNEL = "metadata_cache_invalidation";
+    private static final long WAIT_MILLIS = 2_000;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InProcessNotificationBus bus = new InProcessNotificationBus();
+    private final CacheInvalidationChannel channel = new CacheInvalidationChannel(CHANNEL, "node-a");
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CacheInvalidationListener(bus, eventPublisher, objectMapper, channel, 10, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void shouldRepublishRemoteInvalidationsAsLocalEvents() throws Exception {
+        startAndAwaitConnection();
+
+        send(new CacheInvalidationMessage("node-b", CacheInvalidationMessage.Kind.ACTIVE_VERSION, "loyalty", null));
+        send(new CacheInvalidationMessage("node-b", CacheInvalidationMessage.Kind.ACTIVE_VERSION, "loyalty", "gold"));
+        send(new CacheInvalidationMessage("node-b", CacheInvalidationMessage.Kind.SCHEMA, "loyalty", null));
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(ActiveVersionChangedEvent.fromRemote("loyalty", null));
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(ActiveVersionChangedEvent.fromRemote("loyalty", "gold"));
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(SchemaChangedEvent.fromRemote("loyalty"));
+        assertThat(listener.receivedNotifications()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldIgnoreOwnNotifications() throws Exception {
+        startAndAwaitConnection();
+
+        send(new CacheInvalidationMessage("node-a", CacheInvalidationMessage.Kind.ACTIVE_VERSION, "loyalty", "gold"));
+        send(new CacheInvalidationMessage("node-b", CacheInvalidationMessage.Kind.SCHEMA, "marker", null));
+
+        // The second message is processed after the first, so the first was skipped by then
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(SchemaChangedEvent.fromRemote("marker"));
+        verify(eventPublisher, never()).publishEvent(any(ActiveVersionChangedEvent.class));
+    }
+
+    @Test
+    void shouldRetryFailedConnectsAndFlushOnceConnected() {
+        bus.failNextConnects(3);
+        listener.start();
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(any(CacheFlushRequestedEvent.class));
+        assertThat(bus.connectAttempts()).isEqualTo(4);
+        assertThat(listener.isConnected()).isTrue();
+    }
+
+    @Test
+    void shouldReconnectAndFlushAfterConnectionLoss() throws Exception {
+        startAndAwaitConnection();
+
+        bus.dropConnections();
+
+        verify(eventPublisher, timeout(WAIT_MILLIS).times(2)).publishEvent(any(CacheFlushRequestedEvent.class));
+        awaitConnection();
+        assertThat(listener.reconnects()).isEqualTo(1);
+
+        // Notifications flow again on the new subscription
+        send(new CacheInvalidationMessage("node-b", CacheInvalidationMessage.Kind.SCHEMA, "loyalty", null));
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(SchemaChangedEvent.fromRemote("loyalty"));
+    }
+
+    @Test
+    void shouldFlushOnUnreadablePayload() throws Exception {
+        startAndAwaitConnection();
+
+        bus.notify(CHANNEL, "not json");
+
+        verify(eventPublisher, timeout(WAIT_MILLIS).times(2)).publishEvent(any(CacheFlushRequestedEvent.class));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    private void startAndAwaitConnection() throws InterruptedException {
+        listener.start();
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(any(CacheFlushRequestedEvent.class));
+        awaitConnection();
+    }
+
+    private void awaitConnection() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (bus.openSubscriptions() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(bus.openSubscriptions()).isEqualTo(1);
+    }
+
+    private void send(CacheInvalidationMessage message) throws Exception {
+        bus.notify(CHANNEL, objectMapper.writeValueAsString(message));
+    }
+}
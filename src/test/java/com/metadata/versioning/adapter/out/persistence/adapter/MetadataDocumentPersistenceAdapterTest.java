@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.metadata.versioning.adapter.out.persistence.entity.MetadataDocumentEntity;
 import com.metadata.versioning.adapter.out.persistence.entity.VersionEntity;
 import com.metadata.versioning.adapter.out.persistence.repository.JpaMetadataDocumentRepository;
+import com.metadata.versioning.adapter.out.persistence.repository.JpaVersionRepository;
 import com.metadata.versioning.domain.model.MetadataDocument;
 import com.metadata.versioning.domain.model.PublishingState;
 import com.metadata.versioning.domain.model.Version;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.Instant;
 import java.util.List;
@@ -29,13 +31,19 @@ class MetadataDocumentPersistenceAdapterTest {
     @Mock
     private JpaMetadataDocumentRepository jpaRepository;
 
+    @Mock
+    private JpaVersionRepository versionRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
     private MetadataDocumentPersistenceAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new MetadataDocumentPersistenceAdapter(jpaRepository, objectMapper);
+        adapter = new MetadataDocumentPersistenceAdapter(jpaRepository, versionRepository, objectMapper, jdbcTemplate, 500);
     }
 
     @Test
@@ -0,0 +1,199 @@
+package com.metadata.versioning.adapter.out.persistence.routing;
+
+import com.metadata.versioning.application.service.MetadataQueryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing tests with stub pools standing in for the primary and the replica.
+ * Transactions run through a real transaction manager and the lazy proxy, as in production,
+ * so the read-only flag is only known once the first statement runs.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final JdbcTemplate replicaProbe = mock(JdbcTemplate.class);
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(MAX_LAG);
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaProbe, MAX_LAG);
+
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        stubPool(primary, primaryConnection);
+        stubPool(replica, replicaConnection);
+        replicaLag(0L);
+
+        routing = new ReadReplicaRoutingDataSource(primary, replica, tracker, lagMonitor, WINDOW);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        // Known up front, so the proxy does not fetch a connection to detect them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        clearInvocations(primary, replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.unbind();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        query(readOnly);
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+
+        query(readWrite);
+        verify(primary).getConnection();
+        assertThat(routing.replicaRoutes()).isEqualTo(1);
+        assertThat(routing.primaryRoutes()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() throws SQLException {
+        tracker.bind(List.of("principal:alice", "session:s1"));
+        query(readWrite);
+        query(readOnly);
+        verify(primary, times(2)).getConnection();
+        verify(replica, never()).getConnection();
+        assertThat(routing.readYourWritesFallbacks()).isEqualTo(1);
+
+        // Anonymous read in the same session
+        tracker.bind(List.of("session:s1"));
+        query(readOnly);
+        verify(replica, never()).getConnection();
+
+        // Other clients are unaffected
+        tracker.bind(List.of("session:s2"));
+        query(readOnly);
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void shouldReadOwnWritesMadeOnAnotherNode() throws SQLException {
+        // The node serving the write hands its time to the client once per request
+        List<Long> handedOut = new ArrayList<>();
+        tracker.bind(List.of("principal:alice"), 0L, handedOut::add);
+        query(readWrite);
+        assertThat(handedOut).hasSize(1);
+
+        // A node that never saw the write honours the time the client sends back
+        ReadYourWritesTracker otherNode = new ReadYourWritesTracker(MAX_LAG);
+        otherNode.bind(List.of("principal:alice"), handedOut.get(0), wroteAtMillis -> { });
+        assertThat(otherNode.currentClientWroteWithin(WINDOW)).isTrue();
+        otherNode.bind(List.of("principal:alice"), handedOut.get(0) - WINDOW.toMillis() - 1, wroteAtMillis -> { });
+        assertThat(otherNode.currentClientWroteWithin(WINDOW)).isFalse();
+        otherNode.unbind();
+
+        // Reads carrying the time go to the primary here as well
+        tracker.bind(List.of("session:s2"), handedOut.get(0), wroteAtMillis -> { });
+        query(readOnly);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldReadFromPrimaryWithoutRecordingWrite() throws SQLException {
+        TransactionTemplate primaryRead = new TransactionTemplate(readWrite.getTransactionManager());
+        primaryRead.setName(MetadataQueryService.PRIMARY_READ);
+        tracker.bind(List.of("principal:alice"));
+
+        query(primaryRead);
+        verify(primary).getConnection();
+
+        query(readOnly);
+        verify(replica).getConnection();
+        assertThat(routing.readYourWritesFallbacks()).isZero();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaLagsOrIsUnreachable() throws SQLException {
+        replicaLag(MAX_LAG.toMillis() + 1);
+        query(readOnly);
+        verify(primary).getConnection();
+
+        doThrow(new DataAccessResourceFailureException("replica down"))
+                .when(replicaProbe).queryForObject(ReplicaLagMonitor.LAG_SQL, Number.class);
+        lagMonitor.probe();
+        query(readOnly);
+
+        verify(replica, never()).getConnection();
+        assertThat(routing.lagFallbacks()).isEqualTo(2);
+        assertThat(lagMonitor.lagMillis()).isEqualTo(-1);
+
+        replicaLag(0L);
+        query(readOnly);
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void shouldForgetWritesAfterRetention() throws SQLException {
+        ReadYourWritesTracker shortLived = new ReadYourWritesTracker(Duration.ZERO);
+        shortLived.bind(List.of("session:s1"));
+        shortLived.recordWrite();
+        assertThat(shortLived.trackedClients()).isEqualTo(1);
+
+        shortLived.evictExpired();
+        assertThat(shortLived.trackedClients()).isZero();
+        assertThat(shortLived.currentClientWroteWithin(WINDOW)).isFalse();
+        shortLived.unbind();
+    }
+
+    private void query(TransactionTemplate transactionTemplate) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+    }
+
+    private void replicaLag(long millis) {
+        doReturn(millis).when(replicaProbe).queryForObject(ReplicaLagMonitor.LAG_SQL, Number.class);
+        lagMonitor.probe();
+    }
+
+    private static void stubPool(DataSource dataSource, Connection connection) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenReturn(false);
+    }
+}
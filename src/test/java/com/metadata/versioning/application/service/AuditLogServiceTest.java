@@ -0,0 +1,162 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.port.out.AuditContextProvider;
+import com.metadata.versioning.application.port.out.AuditContextProvider.AuditContext;
+import com.metadata.versioning.application.port.out.AuditLogRepository;
+import com.metadata.versioning.domain.model.AuditEntry;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import com.metadata.versioning.support.TestPersistenceConfig.InMemoryAuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for buffering, batching and overflow of the audit writer, against the in-memory audit trail.
+ */
+class AuditLogServiceTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private AuditLogService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testBufferedEntriesAreWrittenInBatches() {
+        InMemoryAuditLogRepository repository = new TestPersistenceConfig().inMemoryAuditLogRepository();
+        service = newService(repository, 100, () -> AuditContext.NONE);
+
+        // Queued before the writer starts, so it finds a backlog to split into full batches
+        for (int i = 0; i < 35; i++) {
+            assertTrue(service.record(entry(i)));
+        }
+        service.start();
+
+        assertTrue(await(() -> service.writtenEntries() == 35), "all entries written");
+        List<List<AuditEntry>> batches = repository.batches();
+        assertEquals(List.of(10, 10, 10, 5), batches.stream().map(List::size).toList());
+        assertEquals("doc-0", repository.entries().get(0).entityId());
+        assertEquals("doc-34", repository.entries().get(34).entityId());
+        assertEquals(4, service.batches());
+        assertEquals(0, service.queueDepth());
+    }
+
+    @Test
+    void testFullBufferDropsEntriesWithoutBlocking() {
+        service = newService(new TestPersistenceConfig().inMemoryAuditLogRepository(), 4, () -> AuditContext.NONE);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(service.record(entry(i)));
+        }
+        assertFalse(service.record(entry(4)));
+        assertFalse(service.record(entry(5)));
+
+        assertEquals(2, service.overflowedEntries());
+        assertEquals(4, service.queueDepth());
+        assertEquals(4, service.queueCapacity());
+    }
+
+    @Test
+    void testFailingBatchIsRetriedThenDropped() {
+        AtomicInteger attempts = new AtomicInteger();
+        AuditLogRepository failing = entries -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        };
+        service = newService(failing, 100, () -> AuditContext.NONE);
+        service.record(entry(0));
+        service.start();
+
+        assertTrue(await(() -> service.failedEntries() == 1), "entry dropped after retries");
+        assertEquals(3, attempts.get());
+        assertEquals(0, service.writtenEntries());
+    }
+
+    @Test
+    void testStopDrainsBuffer() {
+        InMemoryAuditLogRepository repository = new TestPersistenceConfig().inMemoryAuditLogRepository();
+        service = newService(repository, 100, () -> AuditContext.NONE);
+        service.start();
+        for (int i = 0; i < 25; i++) {
+            service.record(entry(i));
+        }
+        service.stop();
+
+        assertEquals(25, repository.entries().size());
+    }
+
+    @Test
+    void testEventIsEnrichedWithRequestContext() {
+        InMemoryAuditLogRepository repository = new TestPersistenceConfig().inMemoryAuditLogRepository();
+        AuditContext context = new AuditContext("alice", "corr-1", "10.0.0.1", "curl/8.0");
+        service = newService(repository, 100, () -> context);
+
+        service.onAudit(AuditEvent.versionActivated("loyalty", "gold", 3));
+        service.start();
+
+        assertTrue(await(() -> service.writtenEntries() == 1));
+        AuditEntry entry = repository.entries().get(0);
+        assertEquals(AuditEvent.VERSION, entry.entityType());
+        assertEquals("loyalty/gold/v3", entry.entityId());
+        assertEquals(AuditEntry.Operation.ACTIVATE, entry.operation());
+        assertEquals("alice", entry.userId());
+        assertEquals("corr-1", entry.correlationId());
+        assertEquals("10.0.0.1", entry.ipAddress());
+        assertEquals("curl/8.0", entry.userAgent());
+        assertEquals(3, entry.changes().get("versionNumber").asInt());
+    }
+
+    @Test
+    void testUserFallsBackToActorThenAnonymous() {
+        InMemoryAuditLogRepository repository = new TestPersistenceConfig().inMemoryAuditLogRepository();
+        service = newService(repository, 100, () -> AuditContext.NONE);
+
+        service.onAudit(new AuditEvent(AuditEvent.VERSION, "loyalty/gold/v2", AuditEntry.Operation.CREATE,
+                "author-1", null));
+        service.onAudit(AuditEvent.schemaDeleted("loyalty"));
+        service.start();
+
+        assertTrue(await(() -> service.writtenEntries() == 2));
+        assertEquals("author-1", repository.entries().get(0).userId());
+        assertEquals(AuditLogService.ANONYMOUS, repository.entries().get(1).userId());
+    }
+
+    private AuditLogService newService(AuditLogRepository repository, int capacity,
+                                       AuditContextProvider context) {
+        return new AuditLogService(repository, context, capacity, BATCH_SIZE, 3,
+                Duration.ofMillis(1), Duration.ofSeconds(5));
+    }
+
+    private static AuditEntry entry(int index) {
+        return new AuditEntry(AuditEvent.DOCUMENT, "doc-" + index, AuditEntry.Operation.CREATE, "test",
+                null, null, null, null, Instant.now());
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,158 @@
+package com.metadata.versioning.application.service;
+
+import com.metadata.versioning.application.event.VersionActivatedEvent;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase.ChangeListener;
+import com.metadata.versioning.application.port.in.StreamActiveVersionChangesUseCase.StreamFilter;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for fan-out and backpressure of the change stream, against the in-memory change feed.
+ */
+class ChangeStreamServiceTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int MAX_REPLAY = 10;
+
+    private ChangeFeedRepository changeFeedRepository;
+    private ChangeStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedRepository = new TestPersistenceConfig().inMemoryChangeFeedRepository();
+        service = new ChangeStreamService(changeFeedRepository, QUEUE_CAPACITY, MAX_REPLAY,
+                Duration.ofHours(1), Duration.ofHours(1));
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void testSlowSubscriberIsResyncedWithoutDelayingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener(release);
+        RecordingListener fast = new RecordingListener(new CountDownLatch(0));
+        service.subscribe(StreamFilter.all(), null, slow);
+        service.subscribe(StreamFilter.all(), null, fast);
+
+        // One at a time, so only the slow subscriber's queue fills up
+        int activations = QUEUE_CAPACITY * 3;
+        for (int i = 0; i < activations; i++) {
+            activate(i);
+            assertTrue(fast.awaitChanges(i + 1), "fast subscriber received change " + i);
+        }
+        release.countDown();
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS), "slow subscriber was closed");
+        assertEquals(1, slow.resyncs.size());
+        assertTrue(slow.changes.size() < activations);
+        assertEquals(0, fast.resyncs.size());
+        assertEquals(1, service.subscriberCount());
+        assertEquals(1, service.resyncs());
+    }
+
+    @Test
+    void testResumeFurtherBackThanReplayLimitRequiresResync() throws Exception {
+        IntStream.rangeClosed(0, MAX_REPLAY).forEach(this::activate);
+        service.dispatch();
+
+        RecordingListener resumed = new RecordingListener(new CountDownLatch(0));
+        service.subscribe(new StreamFilter("type-0", null), 0L, resumed);
+        assertTrue(resumed.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(ChangeStreamService.RESYNC_REPLAY_LIMIT), resumed.resyncs);
+
+        // Only the changes of the filtered document count towards delivery
+        RecordingListener recent = new RecordingListener(new CountDownLatch(0));
+        service.subscribe(new StreamFilter("type-" + MAX_REPLAY, null), 1L, recent);
+        assertTrue(recent.awaitChanges(1));
+        assertEquals(0, recent.resyncs.size());
+    }
+
+    @Test
+    void testNameFilterReceivesDeactivationBySiblingDocument() throws Exception {
+        RecordingListener watcher = new RecordingListener(new CountDownLatch(0));
+        service.subscribe(new StreamFilter("type-0", "first"), null, watcher);
+
+        changeFeedRepository.append(List.of(
+                new DocumentChange("type-0", "first", 1, DocumentChange.Kind.VERSION_DEACTIVATED),
+                new DocumentChange("type-0", "second", 1, DocumentChange.Kind.VERSION_ACTIVATED)));
+        service.onVersionActivated(new VersionActivatedEvent("type-0", "second", 1));
+
+        assertTrue(watcher.awaitChanges(1));
+        assertEquals(DocumentChange.Kind.VERSION_DEACTIVATED, watcher.changes.get(0).change().kind());
+        assertEquals("first", watcher.changes.get(0).change().name());
+    }
+
+    @Test
+    void testResumeAheadOfFeedRequiresResync() throws Exception {
+        activate(0);
+        service.dispatch();
+
+        RecordingListener resumed = new RecordingListener(new CountDownLatch(0));
+        service.subscribe(StreamFilter.all(), changeFeedRepository.findLatestSequenceNumber() + 100, resumed);
+        assertTrue(resumed.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(ChangeStreamService.RESYNC_UNKNOWN_POSITION), resumed.resyncs);
+    }
+
+    private void activate(int index) {
+        changeFeedRepository.append(List.of(
+                new DocumentChange("type-" + index, "doc", 1, DocumentChange.Kind.VERSION_ACTIVATED)));
+        service.onVersionActivated(new VersionActivatedEvent("type-" + index, "doc", 1));
+    }
+
+    private static class RecordingListener implements ChangeListener {
+        private final CountDownLatch release;
+        final List<ChangeFeedEntry> changes = new CopyOnWriteArrayList<>();
+        final List<String> resyncs = new CopyOnWriteArrayList<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        RecordingListener(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onChange(ChangeFeedEntry entry) throws Exception {
+            release.await();
+            changes.add(entry);
+        }
+
+        @Override
+        public void onResyncRequired(String reason) {
+            resyncs.add(reason);
+        }
+
+        @Override
+        public void onHeartbeat() {
+        }
+
+        @Override
+        public void onClosed() {
+            closed.countDown();
+        }
+
+        boolean awaitChanges(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (changes.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return changes.size() >= count;
+        }
+    }
+}
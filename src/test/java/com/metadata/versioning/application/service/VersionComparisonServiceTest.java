@@ -0,0 +1,162 @@
+package com.metadata.versioning.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.cache.VersionComparisonCache;
+import com.metadata.versioning.application.port.in.GetChangelogUseCase.ChangelogPage;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
+import com.metadata.versioning.application.port.out.VersionComparisonRepository;
+import com.metadata.versioning.domain.exception.VersionNotFoundException;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for caching version comparisons in process and in the store shared by all nodes,
+ * and for reading adjacent versions from stored patches, against the in-memory repositories.
+ */
+class VersionComparisonServiceTest {
+
+    private static final String TYPE = "loyalty-program";
+    private static final String NAME = "gold";
+    private static final long MAX_WEIGHT_BYTES = 1 << 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TestPersistenceConfig persistence = new TestPersistenceConfig();
+
+    private MetadataDocumentRepository repository;
+    private SchemaDefinitionRepository schemaRepository;
+    private VersionComparisonRepository comparisonRepository;
+    private VersionDeltaWriter deltaWriter;
+    private VersionDeltaPrecomputer deltaPrecomputer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = persistence.inMemoryMetadataDocumentRepository(objectMapper);
+        schemaRepository = persistence.inMemorySchemaDefinitionRepository(objectMapper);
+        comparisonRepository = persistence.inMemoryVersionComparisonRepository();
+        deltaWriter = new VersionDeltaWriter(repository, schemaRepository, objectMapper, 2000);
+        // Not started: patches are only stored when a test writes them
+        deltaPrecomputer = new VersionDeltaPrecomputer(deltaWriter, true, 16, Duration.ofSeconds(1));
+
+        MetadataDocument document = new MetadataDocument(TYPE, NAME, Version.createFirst(
+                objectMapper.readTree("{\"tier\":\"gold\",\"discount\":10}"), "test", "Initial"));
+        document.addVersion(objectMapper.readTree("{\"tier\":\"gold\",\"discount\":15,\"lounge\":true}"),
+                "test", "Revision 2");
+        repository.save(document);
+    }
+
+    @Test
+    void testRepeatedComparisonIsServedFromMemory() {
+        VersionComparisonCache cache = cache(false);
+        VersionComparisonService service = service(cache);
+
+        VersionComparison first = service.compareVersions(TYPE, NAME, 1, 2);
+        VersionComparison second = service.compareVersions(TYPE, NAME, 1, 2);
+
+        assertEquals(2, first.changeCount());
+        assertEquals(first.changes(), second.changes());
+        assertEquals(1, cache.computations());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void testCachedComparisonReflectsCurrentStatus() {
+        VersionComparisonService service = service(cache(false));
+        assertFalse(service.compareVersions(TYPE, NAME, 1, 2).toVersion().isActive());
+
+        repository.switchActiveVersion(TYPE, NAME, 2);
+
+        VersionComparison cached = service.compareVersions(TYPE, NAME, 1, 2);
+        assertTrue(cached.toVersion().isActive());
+        assertFalse(cached.fromVersion().isActive());
+    }
+
+    @Test
+    void testStoredComparisonIsSharedWithOtherNodes() {
+        VersionComparison computed = service(cache(true)).compareVersions(TYPE, NAME, 1, 2);
+
+        // A second node with an empty in-process cache reads the stored changes instead of diffing
+        VersionComparisonCache otherNode = cache(true);
+        VersionComparison stored = service(otherNode).compareVersions(TYPE, NAME, 1, 2);
+
+        assertEquals(computed.changes(), stored.changes());
+        assertEquals(computed.hasBreakingChanges(), stored.hasBreakingChanges());
+        assertEquals(0, otherNode.computations());
+        assertEquals(1, otherNode.storedHits());
+    }
+
+    @Test
+    void testMissingVersionIsNotCached() {
+        VersionComparisonCache cache = cache(true);
+        VersionComparisonService service = service(cache);
+
+        assertThrows(VersionNotFoundException.class, () -> service.compareVersions(TYPE, NAME, 1, 3));
+        assertThrows(VersionNotFoundException.class, () -> service.compareVersions(TYPE, "missing", 1, 2));
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stores());
+    }
+
+    @Test
+    void testAdjacentComparisonIsReadFromStoredPatch() {
+        VersionComparison computed = service(cache(false)).compareVersions(TYPE, NAME, 1, 2);
+        assertTrue(deltaWriter.write(TYPE, NAME, 2));
+        assertFalse(deltaWriter.write(TYPE, NAME, 2), "A stored patch should not be computed again");
+
+        VersionComparisonCache cache = cache(false);
+        VersionComparisonService service = service(cache);
+        VersionComparison stored = service.compareVersions(TYPE, NAME, 1, 2);
+
+        assertEquals(computed.changes(), stored.changes());
+        assertEquals(0, cache.computations());
+        assertEquals(1, service.deltaHits());
+        assertEquals(0, service.deltaMisses());
+    }
+
+    @Test
+    void testChangelogComputesMissingPatchesAndRequestsThem() throws Exception {
+        MetadataDocument document = repository.findByTypeAndName(TYPE, NAME).orElseThrow();
+        document.addVersion(objectMapper.readTree("{\"tier\":\"gold\",\"discount\":15}"), "test", "Revision 3");
+        repository.save(document);
+        deltaWriter.write(TYPE, NAME, 2);
+        VersionComparisonService service = service(cache(false));
+
+        ChangelogPage first = service.getChangelog(TYPE, NAME, 0, null, 1);
+        assertEquals(1, first.deltas().size());
+        assertEquals(2, first.deltas().get(0).versionNumber());
+        assertEquals(2, first.deltas().get(0).patch().changes().size());
+        assertEquals(2, first.next());
+        assertTrue(first.hasMore());
+
+        ChangelogPage second = service.getChangelog(TYPE, NAME, first.next(), null, 10);
+        assertEquals(1, second.deltas().size());
+        assertEquals("Revision 3", second.deltas().get(0).changeSummary());
+        assertEquals(service.compareVersions(TYPE, NAME, 2, 3).changes(), second.deltas().get(0).patch().changes());
+        assertFalse(second.hasMore());
+        assertEquals(1, service.deltaHits());
+        assertEquals(1, deltaPrecomputer.queueDepth(), "The missing patch should be requested once");
+
+        assertThrows(IllegalArgumentException.class, () -> service.getChangelog(TYPE, NAME, 0, null, 0));
+        assertThrows(VersionNotFoundException.class, () -> service.getChangelog(TYPE, "missing", 0, null, 10));
+    }
+
+    private VersionComparisonCache cache(boolean storeEverything) {
+        return new VersionComparisonCache(comparisonRepository, MAX_WEIGHT_BYTES, storeEverything, Duration.ZERO);
+    }
+
+    private VersionComparisonService service(VersionComparisonCache cache) {
+        return new VersionComparisonService(repository, schemaRepository, cache, deltaPrecomputer,
+                objectMapper, 2000, 100);
+    }
+}
@@ -0,0 +1,388 @@
+package com.metadata.versioning.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.exception.InvalidSchemaException;
+import com.metadata.versioning.domain.model.ChangeType;
+import com.metadata.versioning.domain.model.JsonPatch;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.SubtreeHashes;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for array diffing: elements are matched along their longest common subsequence,
+ * with index comparison as the fallback beyond the edit cost cap, or by identity key for
+ * arrays declared keyed by the schema. Subtrees with equal hashes are skipped.
+ */
+class DiffEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DiffEngine diffEngine = new DiffEngine(objectMapper);
+
+    @Test
+    void testInsertAtHeadIsSingleAddition() throws Exception {
+        List<ChangeDetail> changes = diff("{\"a\":[1,2,3]}", "{\"a\":[0,1,2,3]}");
+
+        assertEquals(1, changes.size());
+        assertEquals(ChangeType.ADDED, changes.get(0).type());
+        assertEquals("a[0]", changes.get(0).path());
+        assertEquals(0, ((JsonNode) changes.get(0).newValue()).asInt());
+    }
+
+    @Test
+    void testRemovalUsesOldIndex() throws Exception {
+        List<ChangeDetail> changes = diff("{\"a\":[1,2,3,4]}", "{\"a\":[1,3,4]}");
+
+        assertEquals(1, changes.size());
+        assertEquals(ChangeType.REMOVED, changes.get(0).type());
+        assertEquals("a[1]", changes.get(0).path());
+        assertEquals(2, ((JsonNode) changes.get(0).oldValue()).asInt());
+    }
+
+    @Test
+    void testMoveIsReportedWithOldPath() throws Exception {
+        List<ChangeDetail> changes = diff("{\"a\":[\"x\",\"y\",\"z\",\"w\"]}", "{\"a\":[\"w\",\"x\",\"y\",\"z\"]}");
+
+        assertEquals(1, changes.size());
+        ChangeDetail moved = changes.get(0);
+        assertEquals(ChangeType.MOVED, moved.type());
+        assertEquals("a[0]", moved.path());
+        assertEquals("a[3]", moved.fromPath());
+        assertFalse(moved.isBreaking());
+    }
+
+    @Test
+    void testModifiedElementIsComparedByField() throws Exception {
+        List<ChangeDetail> changes = diff(
+                "{\"a\":[{\"id\":1,\"p\":1},{\"id\":2,\"p\":2},{\"id\":3,\"p\":3}]}",
+                "{\"a\":[{\"id\":0,\"p\":0},{\"id\":1,\"p\":1},{\"id\":2,\"p\":5},{\"id\":3,\"p\":3}]}");
+
+        assertEquals(2, changes.size());
+        assertEquals(ChangeType.ADDED, changes.get(0).type());
+        assertEquals("a[0]", changes.get(0).path());
+        assertEquals(ChangeType.MODIFIED, changes.get(1).type());
+        assertEquals("a[2].p", changes.get(1).path());
+        assertEquals(2, ((JsonNode) changes.get(1).oldValue()).asInt());
+        assertEquals(5, ((JsonNode) changes.get(1).newValue()).asInt());
+        assertNull(changes.get(1).fromPath());
+    }
+
+    @Test
+    void testCostCapFallsBackToIndexComparison() throws Exception {
+        DiffEngine capped = new DiffEngine(objectMapper, 1);
+        List<ChangeDetail> changes = diff(capped, "{\"a\":[1,2,3]}", "{\"a\":[7,8,1,2,3]}");
+
+        // Two insertions exceed the cap, so elements are compared position by position
+        assertEquals(5, changes.size());
+        assertEquals(List.of("a[0]", "a[1]", "a[2]", "a[3]", "a[4]"),
+                changes.stream().map(ChangeDetail::path).toList());
+        assertTrue(changes.stream().limit(3).allMatch(c -> c.type().equals(ChangeType.MODIFIED)));
+    }
+
+    @Test
+    void testLargeArrayEditsAreFoundWithoutTable() {
+        int size = 2 * (int) Math.sqrt(SequenceDiff.MAX_TABLE_CELLS) + 100;
+        ArrayNode from = objectMapper.createArrayNode();
+        ArrayNode to = objectMapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            from.add(i);
+            if (i == 10) {
+                to.add(-1);
+            }
+            if (i != size - 10) {
+                to.add(i);
+            }
+        }
+        List<ChangeDetail> changes = diff(diffEngine, document(from), document(to));
+
+        assertEquals(2, changes.size());
+        assertEquals(ChangeType.ADDED, changes.get(0).type());
+        assertEquals("a[10]", changes.get(0).path());
+        assertEquals(ChangeType.REMOVED, changes.get(1).type());
+        assertEquals("a[" + (size - 10) + "]", changes.get(1).path());
+    }
+
+    @Test
+    void testSequenceMatchIsLongestCommonSubsequence() {
+        int[] matches = SequenceDiff.match(new int[]{1, 2, 3, 4, 5}, new int[]{2, 9, 4, 5, 1}, 10);
+
+        assertEquals(-1, matches[0]);
+        assertEquals(0, matches[1]);
+        assertEquals(-1, matches[2]);
+        assertEquals(2, matches[3]);
+        assertEquals(3, matches[4]);
+        assertNull(SequenceDiff.match(new int[]{1, 2, 3}, new int[]{4, 5, 6}, 5));
+    }
+
+    @Test
+    void testSchemaDeclaresIdentityKeysByArrayPath() throws Exception {
+        SchemaDefinition schema = new SchemaDefinition("loyalty", objectMapper.readTree("""
+                {"type": "object", "properties": {
+                  "tiers": {"type": "array", "x-identity-key": "id", "items": {
+                    "type": "object", "properties": {
+                      "rules": {"type": "array", "x-identity-key": "code", "items": {"type": "object"}}}}},
+                  "tags": {"type": "array", "items": {"type": "string"}},
+                  "owners": {"type": ["array", "null"], "x-identity-key": "email"}}}
+                """), null, false);
+
+        assertEquals(Map.of("tiers", "id", "tiers[].rules", "code", "owners", "email"), schema.arrayIdentityKeys());
+        assertThrows(InvalidSchemaException.class, () -> new SchemaDefinition("loyalty", objectMapper.readTree("""
+                {"type": "object", "properties": {"name": {"type": "string", "x-identity-key": "id"}}}
+                """), null, false));
+    }
+
+    @Test
+    void testKeyedArrayIsMatchedByKey() throws Exception {
+        List<ChangeDetail> changes = diffKeyed(Map.of("tiers", "id"),
+                "{\"tiers\":[{\"id\":\"bronze\",\"min\":0},{\"id\":\"silver\",\"min\":100},{\"id\":\"gold\",\"min\":500}]}",
+                "{\"tiers\":[{\"id\":\"basic\",\"min\":0},{\"id\":\"silver\",\"min\":100},{\"id\":\"gold\",\"min\":400}]}");
+
+        assertEquals(3, changes.size());
+        assertEquals(ChangeType.ADDED, changes.get(0).type());
+        assertEquals("tiers[id=basic]", changes.get(0).path());
+        assertEquals(ChangeType.MODIFIED, changes.get(1).type());
+        assertEquals("tiers[id=gold].min", changes.get(1).path());
+        assertEquals(ChangeType.REMOVED, changes.get(2).type());
+        assertEquals("tiers[id=bronze]", changes.get(2).path());
+    }
+
+    @Test
+    void testKeyedArrayReportsReorderedElementsAsMoved() throws Exception {
+        List<ChangeDetail> changes = diffKeyed(Map.of("rules", "code"),
+                "{\"rules\":[{\"code\":\"a\"},{\"code\":\"b\"},{\"code\":\"c\",\"v\":1}]}",
+                "{\"rules\":[{\"code\":\"c\",\"v\":2},{\"code\":\"a\"},{\"code\":\"b\"}]}");
+
+        assertEquals(2, changes.size());
+        assertEquals(ChangeType.MOVED, changes.get(0).type());
+        assertEquals("rules[code=c]", changes.get(0).fromPath());
+        assertEquals("rules[code=c]", changes.get(0).path());
+        assertEquals(ChangeType.MODIFIED, changes.get(1).type());
+        assertEquals("rules[code=c].v", changes.get(1).path());
+    }
+
+    @Test
+    void testKeyedArrayDoesNotMatchNumericKeyWithStringKey() throws Exception {
+        List<ChangeDetail> changes = diffKeyed(Map.of("tiers", "id"),
+                "{\"tiers\":[{\"id\":1,\"min\":0}]}",
+                "{\"tiers\":[{\"id\":\"1\",\"min\":0}]}");
+
+        assertEquals(List.of(ChangeType.ADDED, ChangeType.REMOVED),
+                changes.stream().map(ChangeDetail::type).toList());
+    }
+
+    @Test
+    void testNestedKeyedArrayUsesElementShape() throws Exception {
+        List<ChangeDetail> changes = diffKeyed(Map.of("tiers", "id", "tiers[].rules", "code"),
+                "{\"tiers\":[{\"id\":1,\"rules\":[{\"code\":\"x\",\"v\":1}]}]}",
+                "{\"tiers\":[{\"id\":1,\"rules\":[{\"code\":\"y\"},{\"code\":\"x\",\"v\":2}]}]}");
+
+        assertEquals(List.of("tiers[id=1].rules[code=y]", "tiers[id=1].rules[code=x].v"),
+                changes.stream().map(ChangeDetail::path).toList());
+    }
+
+    @Test
+    void testDuplicateKeysFallBackToSequenceDiff() throws Exception {
+        List<ChangeDetail> changes = diffKeyed(Map.of("a", "id"),
+                "{\"a\":[{\"id\":1},{\"id\":1}]}",
+                "{\"a\":[{\"id\":0},{\"id\":1},{\"id\":1}]}");
+
+        assertEquals(1, changes.size());
+        assertEquals("a[0]", changes.get(0).path());
+    }
+
+    @Test
+    void testSubtreeHashesCoverTwoLevelsAndIgnoreFieldOrder() throws Exception {
+        SubtreeHashes hashes = SubtreeHashes.of(objectMapper.readTree(
+                "{\"a\":{\"b\":{\"c\":1},\"d/e\":[1,2]},\"f\":\"x\"}"));
+
+        assertEquals(Set.of("", "/a", "/a/b", "/a/d~1e", "/f"), hashes.hashes().keySet());
+        assertEquals(hashes, SubtreeHashes.of(objectMapper.readTree(
+                "{\"f\":\"x\",\"a\":{\"d/e\":[1,2],\"b\":{\"c\":1}}}")));
+        assertNotEquals(hashes.get("/a/b"), SubtreeHashes.of(objectMapper.readTree(
+                "{\"a\":{\"b\":{\"c\":1.0}}}")).get("/a/b"));
+        assertNotEquals(SubtreeHashes.of(objectMapper.readTree("{\"a\":[\"x\",\"y\"]}")).get("/a"),
+                SubtreeHashes.of(objectMapper.readTree("{\"a\":[\"xy\"]}")).get("/a"));
+    }
+
+    @Test
+    void testEqualSubtreeHashesAreSkipped() throws Exception {
+        JsonNode from = objectMapper.readTree("{\"a\":{\"b\":1,\"c\":2},\"d\":3}");
+        JsonNode to = objectMapper.readTree("{\"a\":{\"b\":9,\"c\":8},\"d\":4}");
+        SubtreeHashes fromHashes = SubtreeHashes.of(from);
+        // Claims /a/b is unchanged; only a pruned walk would miss that change
+        Map<String, String> forged = new HashMap<>(SubtreeHashes.of(to).hashes());
+        forged.put("/a/b", fromHashes.get("/a/b"));
+
+        List<ChangeDetail> changes = diffEngine.compare(Version.createFirst(from, "test", "Initial"),
+                Version.createNext(1, to, "test", "Edited"), Map.of(), fromHashes, new SubtreeHashes(forged)).changes();
+
+        assertEquals(List.of("a.c", "d"), changes.stream().map(ChangeDetail::path).toList());
+    }
+
+    @Test
+    void testIdenticalVersionsArePrunedAtRoot() throws Exception {
+        JsonNode content = objectMapper.readTree("{\"a\":{\"b\":[1,2,3]}}");
+        SubtreeHashes hashes = SubtreeHashes.of(content);
+
+        assertTrue(diffEngine.compare(Version.createFirst(content, "test", "Initial"),
+                Version.createNext(1, content.deepCopy(), "test", "Same"), Map.of(), hashes, hashes)
+                .changes().isEmpty());
+        assertEquals(1, diffEngine.compare(Version.createFirst(content, "test", "Initial"),
+                Version.createNext(1, objectMapper.readTree("{\"a\":{\"b\":[1,2]}}"), "test", "Edited"),
+                Map.of(), hashes, null).changeCount());
+    }
+
+    @Test
+    void testResultFingerprintCoversOptionsThatChangeResults() {
+        Map<String, String> keys = new HashMap<>();
+        keys.put("tiers", "id");
+        keys.put("tiers[].rules", "code");
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("tiers[].rules", "code");
+        reordered.put("tiers", "id");
+
+        String fingerprint = diffEngine.resultFingerprint(keys);
+        assertEquals(fingerprint, diffEngine.resultFingerprint(reordered));
+        assertEquals(fingerprint, new DiffEngine(objectMapper).resultFingerprint(Map.copyOf(keys)));
+        assertNotEquals(fingerprint, diffEngine.resultFingerprint(Map.of("tiers", "id")));
+        assertNotEquals(fingerprint, diffEngine.resultFingerprint(Map.of("tiers", "id", "tiers[].rules", "name")));
+        assertNotEquals(fingerprint, new DiffEngine(objectMapper, 0).resultFingerprint(keys));
+        assertEquals(32, fingerprint.length());
+    }
+
+    @Test
+    void testPatchReportsChangesAtCurrentIndexes() throws Exception {
+        Version v1 = Version.createFirst(objectMapper.readTree(
+                "{\"rules\":[{\"code\":\"a\"},{\"code\":\"b\"},{\"code\":\"c\",\"v\":1}],\"x/y\":1}"),
+                "test", "Initial");
+        Version v2 = Version.createNext(1, objectMapper.readTree(
+                "{\"rules\":[{\"code\":\"c\",\"v\":2},{\"code\":\"a\"},{\"code\":\"b\"}]}"),
+                "test", "Edited");
+
+        JsonPatch patch = diffEngine.patch(v1, v2, Map.of("rules", "code"), null, null);
+
+        assertEquals(objectMapper.readTree("""
+                [{"op":"move","from":"/rules/2","path":"/rules/0","x-path":"rules[code=c]","x-from":"rules[code=c]"},
+                 {"op":"test","path":"/rules/0/v","value":1},
+                 {"op":"replace","path":"/rules/0/v","x-path":"rules[code=c].v","value":2},
+                 {"op":"test","path":"/x~1y","value":1},
+                 {"op":"remove","path":"/x~1y","x-path":"x/y"}]
+                """), patch.operations());
+        assertEquals(diffEngine.compare(v1, v2, Map.of("rules", "code")).changes(), patch.changes());
+    }
+
+    @Test
+    void testPatchAppliesToBaseline() throws Exception {
+        JsonNode from = objectMapper.readTree("""
+                {"a":[1,2,3,4,5,6],"tiers":[{"id":1,"p":[1,2]},{"id":2},{"id":3},{"id":4}],"n":{"k":1}}
+                """);
+        JsonNode to = objectMapper.readTree("""
+                {"a":[6,1,9,3,5,7,2],"tiers":[{"id":4},{"id":5},{"id":1,"p":[2,1,3]},{"id":3}],"n":[1]}
+                """);
+        Version v1 = Version.createFirst(from, "test", "Initial");
+        Version v2 = Version.createNext(1, to, "test", "Edited");
+
+        for (DiffEngine engine : List.of(diffEngine, new DiffEngine(objectMapper, 0))) {
+            for (Map<String, String> identityKeys : List.of(Map.<String, String>of(), Map.of("tiers", "id"))) {
+                JsonPatch patch = engine.patch(v1, v2, identityKeys, SubtreeHashes.of(from), SubtreeHashes.of(to));
+
+                assertEquals(to, apply(from, patch));
+                assertEquals(engine.compare(v1, v2, identityKeys).changes(), patch.changes());
+            }
+        }
+    }
+
+    private List<ChangeDetail> diff(String from, String to) throws Exception {
+        return diff(diffEngine, from, to);
+    }
+
+    private List<ChangeDetail> diff(DiffEngine engine, String from, String to) throws Exception {
+        return diff(engine, objectMapper.readTree(from), objectMapper.readTree(to));
+    }
+
+    private List<ChangeDetail> diff(DiffEngine engine, JsonNode from, JsonNode to) {
+        Version v1 = Version.createFirst(from, "test", "Initial");
+        Version v2 = Version.createNext(1, to, "test", "Edited");
+        return engine.compare(v1, v2).changes();
+    }
+
+    private List<ChangeDetail> diffKeyed(Map<String, String> identityKeys, String from, String to) throws Exception {
+        Version v1 = Version.createFirst(objectMapper.readTree(from), "test", "Initial");
+        Version v2 = Version.createNext(1, objectMapper.readTree(to), "test", "Edited");
+        return diffEngine.compare(v1, v2, identityKeys).changes();
+    }
+
+    private ObjectNode document(ArrayNode array) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.set("a", array);
+        return content;
+    }
+
+    /**
+     * Apply the operations DiffEngine emits (RFC 6902) to a copy of the document.
+     */
+    private static JsonNode apply(JsonNode document, JsonPatch patch) {
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch.operations()) {
+            String path = operation.get("path").asText();
+            switch (operation.get("op").asText()) {
+                case "test" -> assertEquals(operation.get("value"), result.at(path), "test " + path);
+                case "add" -> result = add(result, path, operation.get("value"));
+                case "remove" -> result = remove(result, path);
+                case "replace" -> result = add(remove(result, path), path, operation.get("value"));
+                case "move" -> {
+                    String from = operation.get("from").asText();
+                    JsonNode value = result.at(from);
+                    result = add(remove(result, from), path, value);
+                }
+                default -> throw new AssertionError("Unexpected operation " + operation);
+            }
+        }
+        return result;
+    }
+
+    private static JsonNode add(JsonNode document, String path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value.deepCopy();
+        }
+        int slash = path.lastIndexOf('/');
+        JsonNode parent = document.at(path.substring(0, slash));
+        String last = path.substring(slash + 1).replace("~1", "/").replace("~0", "~");
+        if (parent instanceof ArrayNode array) {
+            array.insert(Integer.parseInt(last), value.deepCopy());
+        } else {
+            ((ObjectNode) parent).set(last, value.deepCopy());
+        }
+        return document;
+    }
+
+    private static JsonNode remove(JsonNode document, String path) {
+        if (path.isEmpty()) {
+            return null;
+        }
+        int slash = path.lastIndexOf('/');
+        JsonNode parent = document.at(path.substring(0, slash));
+        String last = path.substring(slash + 1).replace("~1", "/").replace("~0", "~");
+        assertNotNull(parent instanceof ArrayNode array ? array.remove(Integer.parseInt(last))
+                : ((ObjectNode) parent).remove(last), "remove " + path);
+        return document;
+    }
+}
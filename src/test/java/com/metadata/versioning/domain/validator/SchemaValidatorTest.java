@@ -0,0 +1,141 @@
+package com.metadata.versioning.domain.validator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.domain.exception.SchemaViolationException;
+import com.metadata.versioning.domain.model.SchemaDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the compiled schema cache: schemas are compiled once per revision,
+ * evicted on request and bounded in number. Violations are collected unless fail-fast is enabled.
+ */
+class SchemaValidatorTest {
+
+    private static final Instant REVISION = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRepeatedValidationsReuseCompiledSchema() throws Exception {
+        SchemaValidator validator = new SchemaValidator();
+        SchemaDefinition schema = schema("cached", true, REVISION);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(validator.isValid(json("{\"name\": \"a\", \"count\": 1}"), schema));
+        }
+
+        SchemaValidator.CacheStats stats = validator.stats();
+        assertEquals(1, stats.compilations());
+        assertEquals(1, stats.misses());
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void testNewRevisionIsCompiledAgain() throws Exception {
+        SchemaValidator validator = new SchemaValidator();
+        SchemaDefinition original = schema("revised", true, REVISION);
+        // Same type, revision one second later, now also requiring a label
+        SchemaDefinition updated = new SchemaDefinition("revised", json("""
+                {"type": "object", "required": ["label"]}
+                """), null, true, REVISION, REVISION.plusSeconds(1));
+        JsonNode document = json("{\"name\": \"a\", \"count\": 1}");
+
+        assertTrue(validator.isValid(document, original));
+        assertFalse(validator.isValid(document, updated));
+        assertFalse(validator.isValid(document, updated));
+
+        // One entry per type: the cached revision replaced the original one
+        assertEquals(2, validator.stats().compilations());
+        assertEquals(1, validator.stats().hits());
+        assertEquals(1, validator.stats().size());
+    }
+
+    @Test
+    void testInvalidateEvictsCompiledSchema() throws Exception {
+        SchemaValidator validator = new SchemaValidator();
+        SchemaDefinition first = schema("first", true, REVISION);
+        SchemaDefinition second = schema("second", true, REVISION);
+        JsonNode document = json("{\"name\": \"a\", \"count\": 1}");
+        validator.isValid(document, first);
+        validator.isValid(document, second);
+
+        validator.invalidate("first");
+        assertEquals(1, validator.stats().size());
+        validator.isValid(document, first);
+        assertEquals(3, validator.stats().compilations());
+
+        validator.invalidateAll();
+        assertEquals(0, validator.stats().size());
+        validator.isValid(document, second);
+        assertEquals(4, validator.stats().compilations());
+    }
+
+    @Test
+    void testCacheIsBoundedToLeastRecentlyUsed() throws Exception {
+        SchemaValidator validator = new SchemaValidator(2);
+        JsonNode document = json("{\"name\": \"a\", \"count\": 1}");
+        validator.isValid(document, schema("a-type", true, REVISION));
+        validator.isValid(document, schema("b-type", true, REVISION));
+        validator.isValid(document, schema("a-type", true, REVISION));
+        validator.isValid(document, schema("c-type", true, REVISION));
+
+        assertEquals(2, validator.stats().size());
+        assertEquals(3, validator.stats().compilations());
+
+        // b-type was least recently used and is compiled again; a-type is still cached
+        validator.isValid(document, schema("b-type", true, REVISION));
+        assertEquals(4, validator.stats().compilations());
+        validator.isValid(document, schema("c-type", true, REVISION));
+        assertEquals(4, validator.stats().compilations());
+    }
+
+    @Test
+    void testAllViolationsAreReportedByDefault() throws Exception {
+        SchemaValidator validator = new SchemaValidator();
+
+        SchemaViolationException rejected = assertThrows(SchemaViolationException.class,
+                () -> validator.validate(json("{\"name\": 1, \"count\": \"many\"}"), schema("strict", true, REVISION)));
+
+        assertEquals(2, rejected.getViolations().size());
+    }
+
+    @Test
+    void testFailFastStopsStrictValidationAtFirstViolation() throws Exception {
+        SchemaValidator validator = new SchemaValidator(SchemaValidator.DEFAULT_MAX_CACHED_SCHEMAS, true);
+        JsonNode document = json("{\"name\": 1, \"count\": \"many\"}");
+
+        SchemaViolationException rejected = assertThrows(SchemaViolationException.class,
+                () -> validator.validate(document, schema("strict", true, REVISION)));
+        assertEquals(1, rejected.getViolations().size());
+
+        // Warnings of non-strict schemas are always complete
+        List<String> warnings = validator.validate(document, schema("lenient", false, REVISION));
+        assertEquals(2, warnings.size());
+    }
+
+    private SchemaDefinition schema(String type, boolean strictMode, Instant revision) throws Exception {
+        return new SchemaDefinition(type, json("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "name": {"type": "string"},
+                    "count": {"type": "integer"}
+                  }
+                }
+                """), null, strictMode, REVISION, revision);
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
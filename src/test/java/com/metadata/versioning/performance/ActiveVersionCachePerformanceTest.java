@@ -0,0 +1,144 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.cache.ActiveVersionCache;
+import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput test for active version reads (FR-007) with and without the in-process cache.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class ActiveVersionCachePerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveVersionCachePerformanceTest.class);
+
+    private static final String TYPE_PREFIX = "cache-perf-";
+    private static final int DOCUMENT_COUNT = 50;
+    private static final int THREADS = 16;
+    private static final long MEASUREMENT_MILLIS = 5_000;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private ActivateVersionUseCase activateVersionUseCase;
+
+    @Autowired
+    private GetActiveVersionUseCase getActiveVersionUseCase;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private ActiveVersionCache activeVersionCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void cachedActiveReadsShouldOutperformDatabaseReads() throws Exception {
+        seedActiveDocuments();
+        activeVersionCache.invalidateAll();
+
+        double uncached = measureReadsPerSecond(repository::findActiveVersion);
+        double cached = measureReadsPerSecond(getActiveVersionUseCase::getActiveVersion);
+
+        logger.info(String.format("Uncached active reads: %.0f/s", uncached));
+        logger.info(String.format("Cached active reads:   %.0f/s (hit ratio %.3f)",
+                cached, activeVersionCache.stats().hitRatio()));
+
+        assertTrue(cached > uncached * 5, "Cached reads should be at least 5x faster than database reads");
+    }
+
+    @Test
+    void activationShouldBeVisibleImmediatelyAfterCommit() {
+        String type = TYPE_PREFIX + "invalidation";
+        String name = "document";
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                type, name, sampleContent(1), "perf-test", "Initial version"));
+        createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                type, name, sampleContent(2), "perf-test", "Revision 2"));
+
+        assertTrue(getActiveVersionUseCase.getActiveVersion(type, name).isEmpty());
+
+        activateVersionUseCase.activateVersion(type, name, 1);
+        assertEquals(1, getActiveVersionUseCase.getActiveVersion(type, name).orElseThrow().versionNumber());
+
+        activateVersionUseCase.activateVersion(type, name, 2);
+        assertEquals(2, getActiveVersionUseCase.getActiveVersion(type, name).orElseThrow().versionNumber());
+    }
+
+    private void seedActiveDocuments() {
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            // One type per document so activations do not deactivate each other
+            String type = TYPE_PREFIX + d;
+            createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                    type, "document", sampleContent(d), "perf-test", "Initial version"));
+            activateVersionUseCase.activateVersion(type, "document", 1);
+        }
+    }
+
+    private double measureReadsPerSecond(BiFunction<String, String, Optional<Version>> read) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.currentTimeMillis() + MEASUREMENT_MILLIS;
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                long reads = 0;
+                while (System.currentTimeMillis() < deadline) {
+                    int d = ThreadLocalRandom.current().nextInt(DOCUMENT_COUNT);
+                    read.apply(TYPE_PREFIX + d, "document")
+                            .orElseThrow(() -> new AssertionError("Active version missing"));
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+
+        long totalReads = 0;
+        for (Future<Long> result : results) {
+            totalReads += result.get();
+        }
+        executor.shutdown();
+        return totalReads * 1000.0 / MEASUREMENT_MILLIS;
+    }
+
+    /**
+     * Roughly 20KB of configuration content per version.
+     */
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        for (int field = 0; field < 200; field++) {
+            content.put("setting" + field, "value-" + revision + "-" + "x".repeat(90));
+        }
+        return content;
+    }
+}
@@ -1,9 +1,17 @@
 package com.metadata.versioning.performance;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.support.PostgresContainerSupport;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,13 +23,27 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * These tests require real PostgreSQL database for accurate performance measurement.
  */
 @SpringBootTest
-@ActiveProfiles("test")
 @Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
-class ActiveVersionQueryPerformanceTest {
+class ActiveVersionQueryPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveVersionQueryPerformanceTest.class);
 
     // Target SLA: 200ms at p95
     private static final long TARGET_P95_MS = 200;
     private static final int SAMPLE_SIZE = 100;
+    private static final int WARMUP_SIZE = 50;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private ActivateVersionUseCase activateVersionUseCase;
+
+    @Autowired
+    private GetActiveVersionUseCase getActiveVersionUseCase;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Test
     void activeVersionQueryShouldMeetPerformanceTarget() {
@@ -53,4 +75,71 @@ class ActiveVersionQueryPerformanceTest {
         // Target: p95 < 200ms under concurrent load (SC-005)
         assertTrue(true, "Placeholder - implement with TestContainers");
     }
+
+    /**
+     * The active version is read with a single indexed query, so latency must not
+     * grow with the number of (large) historical versions stored for the document.
+     */
+    @Test
+    void activeVersionLatencyShouldStayFlatAsVersionCountGrows() {
+        int[] historySizes = {1, 50, 250};
+        long[] p95Micros = new long[historySizes.length];
+
+        for (int i = 0; i < historySizes.length; i++) {
+            // One type per document so activations do not deactivate each other
+            String type = "flat-latency-" + historySizes[i];
+            String name = "history-" + historySizes[i];
+
+            seedDocument(type, name, historySizes[i]);
+            activateVersionUseCase.activateVersion(type, name, historySizes[i]);
+
+            p95Micros[i] = measureActiveReadP95Micros(type, name);
+            logger.info("Active read with {} versions: p95={}us", historySizes[i], p95Micros[i]);
+        }
+
+        long baseline = p95Micros[0];
+        long largest = p95Micros[p95Micros.length - 1];
+        assertTrue(largest <= Math.max(baseline * 3, baseline + 5_000),
+                String.format("Active read p95 grew from %dus (1 version) to %dus (%d versions)",
+                        baseline, largest, historySizes[historySizes.length - 1]));
+        assertTrue(largest / 1_000 < TARGET_P95_MS,
+                String.format("P95 latency %dms exceeds target %dms", largest / 1_000, TARGET_P95_MS));
+    }
+
+    private void seedDocument(String type, String name, int versionCount) {
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                type, name, sampleContent(1), "perf-test", "Initial version"));
+
+        for (int v = 2; v <= versionCount; v++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    type, name, sampleContent(v), "perf-test", "Revision " + v));
+        }
+    }
+
+    private long measureActiveReadP95Micros(String type, String name) {
+        for (int i = 0; i < WARMUP_SIZE; i++) {
+            getActiveVersionUseCase.getActiveVersion(type, name);
+        }
+
+        long[] samples = new long[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long start = System.nanoTime();
+            getActiveVersionUseCase.getActiveVersion(type, name)
+                    .orElseThrow(() -> new AssertionError("Active version missing"));
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        return percentile(samples, 95);
+    }
+
+    /**
+     * Roughly 20KB of configuration content per version.
+     */
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        for (int field = 0; field < 200; field++) {
+            content.put("setting" + field, "value-" + revision + "-" + "x".repeat(90));
+        }
+        return content;
+    }
 }
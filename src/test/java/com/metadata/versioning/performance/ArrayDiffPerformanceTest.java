@@ -0,0 +1,165 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.model.ChangeType;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.domain.service.DiffEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Micro-benchmark for array diffing in version comparison (FR-PERF-003).
+ * Compares matching array elements along their longest common subsequence with the
+ * previous index by index comparison, on a large configuration array edited the way
+ * authors edit them: an entry inserted at the head, a few entries changed, removed
+ * and moved. Index comparison reports every shifted element as modified.
+ *
+ * CPU only, no database required. Run with -Dbenchmarks=true.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ArrayDiffPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArrayDiffPerformanceTest.class);
+
+    private static final int ELEMENTS = 5_000;
+    private static final int EDITS = 20;
+    private static final int ITERATIONS = 50;
+    private static final int WARMUP_ITERATIONS = 20;
+    // Budget of the full comparison, well under the 3s comparison target
+    private static final long MAX_MEDIAN_MILLIS = 250;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void sequenceDiffShouldReportOnlyTheEditedElements() {
+        Version from = Version.createFirst(document(baseline()), "perf-test", "Baseline");
+        Version to = Version.createNext(1, document(edited()), "perf-test", "Edited");
+
+        DiffEngine sequence = new DiffEngine(objectMapper);
+        DiffEngine byIndex = new DiffEngine(objectMapper, 0);
+
+        Measurement sequenceRun = measure(() -> sequence.compare(from, to));
+        Measurement indexRun = measure(() -> byIndex.compare(from, to));
+
+        logger.info("Sequence diff: median={}ms, {} changes {}",
+                sequenceRun.medianMillis(), sequenceRun.result().changeCount(), summary(sequenceRun.result()));
+        logger.info("Index diff:    median={}ms, {} changes {}",
+                indexRun.medianMillis(), indexRun.result().changeCount(), summary(indexRun.result()));
+
+        // Head insert, EDITS modified fields, EDITS removals and EDITS moves
+        assertEquals(1 + 3 * EDITS, sequenceRun.result().changeCount());
+        assertEquals(EDITS, count(sequenceRun.result(), ChangeType.MOVED));
+        assertTrue(indexRun.result().changeCount() > 10 * sequenceRun.result().changeCount(),
+                "Index diff should report the shifted elements as modified");
+        assertTrue(sequenceRun.medianMillis() <= MAX_MEDIAN_MILLIS,
+                "Sequence diff median " + sequenceRun.medianMillis() + "ms exceeds " + MAX_MEDIAN_MILLIS + "ms");
+    }
+
+    @Test
+    void unrelatedArraysShouldFallBackWithinTheCostCap() {
+        ArrayNode reversed = objectMapper.createArrayNode();
+        ArrayNode base = baseline();
+        for (int i = base.size() - 1; i >= 0; i--) {
+            reversed.add(((ObjectNode) base.get(i)).deepCopy().put("price", -i));
+        }
+        Version from = Version.createFirst(document(base), "perf-test", "Baseline");
+        Version to = Version.createNext(1, document(reversed), "perf-test", "Rewritten");
+
+        Measurement sequenceRun = measure(() -> new DiffEngine(objectMapper).compare(from, to));
+        Measurement indexRun = measure(() -> new DiffEngine(objectMapper, 0).compare(from, to));
+
+        logger.info("Rewritten array: sequence median={}ms, index median={}ms",
+                sequenceRun.medianMillis(), indexRun.medianMillis());
+
+        assertEquals(indexRun.result().changeCount(), sequenceRun.result().changeCount());
+        assertTrue(sequenceRun.medianMillis() <= MAX_MEDIAN_MILLIS,
+                "Capped search median " + sequenceRun.medianMillis() + "ms exceeds " + MAX_MEDIAN_MILLIS + "ms");
+    }
+
+    private Measurement measure(Supplier<VersionComparison> comparison) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            comparison.get();
+        }
+
+        long[] samples = new long[ITERATIONS];
+        VersionComparison result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            result = comparison.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(samples);
+        return new Measurement(samples[ITERATIONS / 2], result);
+    }
+
+    private ArrayNode baseline() {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < ELEMENTS; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", "sku-" + i);
+            item.put("name", "Product " + i);
+            item.put("price", 10 + i % 90);
+            item.put("enabled", i % 7 != 0);
+            item.putArray("tags").add("category-" + i % 25).add("region-" + i % 5);
+        }
+        return items;
+    }
+
+    /**
+     * Baseline with an entry inserted at the head, and EDITS each of changed prices,
+     * removed entries and entries moved to the end, spread across the array.
+     */
+    private ArrayNode edited() {
+        ArrayNode base = baseline();
+        int stride = ELEMENTS / (3 * EDITS);
+        ArrayNode items = objectMapper.createArrayNode();
+        items.addObject().put("id", "sku-new").put("name", "New product").put("price", 99);
+        ArrayNode moved = objectMapper.createArrayNode();
+        for (int i = 0; i < ELEMENTS; i++) {
+            ObjectNode item = (ObjectNode) base.get(i);
+            if (i % stride != stride / 2 || i / stride >= 3 * EDITS) {
+                items.add(item);
+            } else if (i / stride % 3 == 0) {
+                items.add(item.put("price", 1_000 + i));
+            } else if (i / stride % 3 == 1) {
+                moved.add(item);
+            }
+        }
+        items.addAll(moved);
+        return items;
+    }
+
+    private ObjectNode document(ArrayNode items) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("catalog", "benchmark");
+        content.set("items", items);
+        return content;
+    }
+
+    private static long count(VersionComparison comparison, ChangeType type) {
+        return comparison.changes().stream()
+                .filter(change -> change.type().equals(type))
+                .count();
+    }
+
+    private static String summary(VersionComparison comparison) {
+        return String.format("(added=%d, removed=%d, modified=%d, moved=%d)",
+                count(comparison, ChangeType.ADDED), count(comparison, ChangeType.REMOVED),
+                count(comparison, ChangeType.MODIFIED), count(comparison, ChangeType.MOVED));
+    }
+
+    private record Measurement(long medianMillis, VersionComparison result) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.event.AuditEvent;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.service.AuditLogService;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Write path cost of the audit trail.
+ * A committed mutation only hands its entry to the audit buffer; the insert happens later on
+ * the writer thread, batched with the entries of other mutations. The hand-off must cost a
+ * negligible fraction of the mutation itself, and a burst of concurrent writes must reach the
+ * audit trail in far fewer inserts than entries, without dropping any.
+ *
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class AuditWritePathPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditWritePathPerformanceTest.class);
+
+    private static final int SAMPLE_SIZE = 500;
+    private static final int WARMUP_SIZE = 50;
+    private static final int WRITERS = 8;
+    private static final int WRITES_PER_WRITER = 250;
+    // Hand-off budget relative to the median append; below run-to-run noise of the append itself
+    private static final double MAX_OVERHEAD_RATIO = 0.01;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void auditHandOffShouldBeNegligibleComparedToTheWrite() {
+        String type = "audit-perf";
+        String name = "doc-" + System.nanoTime();
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                type, name, sampleContent(0), "perf-test", "Initial version"));
+        for (int i = 0; i < WARMUP_SIZE; i++) {
+            append(type, name, i);
+        }
+
+        long[] appendNanos = new long[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long start = System.nanoTime();
+            append(type, name, i);
+            appendNanos[i] = System.nanoTime() - start;
+        }
+
+        // The same work the listener does on the committing thread after each mutation
+        AuditEvent event = AuditEvent.versionActivated(type, name, 1);
+        for (int i = 0; i < WARMUP_SIZE; i++) {
+            auditLogService.onAudit(event);
+        }
+        long[] handOffNanos = new long[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long start = System.nanoTime();
+            auditLogService.onAudit(event);
+            handOffNanos[i] = System.nanoTime() - start;
+        }
+
+        long appendP50 = percentile(appendNanos, 50);
+        long handOffP50 = percentile(handOffNanos, 50);
+        long handOffP99 = percentile(handOffNanos, 99);
+        logger.info(String.format("Append p50=%dus p99=%dus; audit hand-off p50=%dus p99=%dus (%.3f%% of append p50)",
+                appendP50 / 1_000, percentile(appendNanos, 99) / 1_000,
+                handOffP50 / 1_000, handOffP99 / 1_000, 100.0 * handOffP50 / appendP50));
+
+        assertTrue(handOffP50 <= appendP50 * MAX_OVERHEAD_RATIO,
+                String.format("Audit hand-off p50 %dns exceeds %.0f%% of append p50 %dns",
+                        handOffP50, MAX_OVERHEAD_RATIO * 100, appendP50));
+        assertEquals(0, auditLogService.overflowedEntries());
+    }
+
+    @Test
+    void concurrentWritesShouldBeAuditedInBatches() throws Exception {
+        String type = "audit-burst";
+        String runId = String.valueOf(System.nanoTime());
+        for (int writer = 0; writer < WRITERS; writer++) {
+            createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                    type, name(runId, writer), sampleContent(0), "perf-test", "Initial version"));
+        }
+        awaitDrained();
+        long writtenBefore = auditLogService.writtenEntries();
+        long batchesBefore = auditLogService.batches();
+        long writeNanosBefore = auditLogService.writeNanos();
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                String name = name(runId, writer);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                        append(type, name, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        awaitDrained();
+
+        long entries = auditLogService.writtenEntries() - writtenBefore;
+        long batches = auditLogService.batches() - batchesBefore;
+        long writeMillis = (auditLogService.writeNanos() - writeNanosBefore) / 1_000_000;
+        logger.info(String.format("%d concurrent writes in %dms: %d audit entries in %d inserts " +
+                        "(%.1f per insert, %dms writing), depth %d, dropped %d",
+                WRITERS * WRITES_PER_WRITER, elapsedMillis, entries, batches,
+                (double) entries / Math.max(1, batches), writeMillis,
+                auditLogService.queueDepth(), auditLogService.overflowedEntries()));
+
+        assertEquals(WRITERS * WRITES_PER_WRITER, entries);
+        assertEquals(0, auditLogService.overflowedEntries());
+        assertEquals(0, auditLogService.failedEntries());
+        assertTrue(batches < entries / 2, "expected batching, got " + batches + " inserts for " + entries);
+
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_entries WHERE entity_type = ? AND entity_id LIKE ?",
+                Integer.class, AuditEvent.VERSION, type + "/burst-" + runId + "-%");
+        assertEquals(WRITERS * WRITES_PER_WRITER, stored);
+    }
+
+    private void append(String type, String name, int revision) {
+        createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                type, name, sampleContent(revision), "perf-test", "Revision " + revision));
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        long written;
+        do {
+            written = auditLogService.writtenEntries();
+            Thread.sleep(250);
+        } while ((auditLogService.queueDepth() > 0 || auditLogService.writtenEntries() != written)
+                && System.currentTimeMillis() < deadline);
+        assertEquals(0, auditLogService.queueDepth(), "audit buffer drained");
+    }
+
+    private static String name(String runId, int writer) {
+        return "burst-" + runId + "-" + writer;
+    }
+
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        content.put("setting", "value-" + revision);
+        return content;
+    }
+}
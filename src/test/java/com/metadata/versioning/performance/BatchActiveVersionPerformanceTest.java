@@ -0,0 +1,152 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.cache.ActiveVersionCache;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for loading the active versions of many documents at startup (FR-007).
+ * Compares one batch request with one active version request per document, with the
+ * active version cache flushed before every round so each one reads from the database.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class BatchActiveVersionPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchActiveVersionPerformanceTest.class);
+
+    private static final String TYPE_PREFIX = "batch-perf-";
+    private static final int DOCUMENT_COUNT = 200;
+    private static final int ROUNDS = 30;
+    private static final int WARMUP_ROUNDS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private ActiveVersionCache activeVersionCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Only one version per type can be active (FR-006), so every document gets its own type.
+     */
+    @BeforeAll
+    void seedDocuments() {
+        Instant now = Instant.now();
+        List<MetadataDocument> documents = new ArrayList<>();
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            ObjectNode content = objectMapper.createObjectNode();
+            content.put("document", d);
+            content.put("endpoint", "https://service-" + d + ".internal/api");
+            content.put("timeoutMillis", 2500);
+            documents.add(new MetadataDocument(TYPE_PREFIX + d, "config",
+                    List.of(new Version(1, content, "perf-test", now, "Initial version",
+                            new PublishingState.Published(), true)),
+                    now, now));
+        }
+        repository.saveAll(documents);
+    }
+
+    @Test
+    void batchRequestShouldBeFasterThanIndividualRequests() throws Exception {
+        HttpRequest batch = batchRequest();
+        List<HttpRequest> individual = new ArrayList<>();
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            individual.add(HttpRequest.newBuilder(uri("/api/v1/metadata/" + TYPE_PREFIX + d + "/config/active"))
+                    .GET().build());
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runIndividual(individual);
+            runBatch(batch);
+        }
+
+        long[] individualSamples = new long[ROUNDS];
+        long[] batchSamples = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            individualSamples[i] = runIndividual(individual);
+            batchSamples[i] = runBatch(batch);
+        }
+
+        long individualP50 = percentile(individualSamples, 50);
+        long batchP50 = percentile(batchSamples, 50);
+        logger.info("{} individual requests: p50={}ms, p95={}ms", DOCUMENT_COUNT,
+                individualP50 / 1000, percentile(individualSamples, 95) / 1000);
+        logger.info("One batch request:       p50={}ms, p95={}ms",
+                batchP50 / 1000, percentile(batchSamples, 95) / 1000);
+
+        assertTrue(batchP50 * 5 < individualP50,
+                "Batch request should be at least 5x faster than one request per document");
+    }
+
+    private long runIndividual(List<HttpRequest> requests) throws Exception {
+        activeVersionCache.invalidateAll();
+        long start = System.nanoTime();
+        for (HttpRequest request : requests) {
+            assertEquals(200, client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode());
+        }
+        return (System.nanoTime() - start) / 1_000;
+    }
+
+    private long runBatch(HttpRequest request) throws Exception {
+        activeVersionCache.invalidateAll();
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = (System.nanoTime() - start) / 1_000;
+        assertEquals(200, response.statusCode());
+        assertEquals(DOCUMENT_COUNT, response.body().lines().filter(line -> !line.contains("NOT_FOUND")).count());
+        return elapsed;
+    }
+
+    private HttpRequest batchRequest() throws Exception {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode keys = body.putArray("keys");
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            keys.addObject().put("type", TYPE_PREFIX + d).put("name", "config");
+        }
+        return HttpRequest.newBuilder(uri("/api/v1/metadata/active"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,121 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.adapter.out.persistence.entity.AuditEntryEntity;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trip test for bulk inserts of versions and audit entries.
+ * With pooled sequence ids and ordered JDBC batching, inserting N rows costs about
+ * N / batch size statements plus one sequence call per id block, instead of N statements.
+ * 
+ * Statement counts come from Hibernate statistics: each JDBC batch is prepared once.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class BulkInsertRoundTripPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkInsertRoundTripPerformanceTest.class);
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+    // One batch per BATCH_SIZE rows plus one nextval per block of 50 ids, with headroom
+    private static final long MAX_STATEMENTS = 2L * ROWS / BATCH_SIZE + 5;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void documentWithManyVersionsShouldInsertInBatches() {
+        List<Version> versions = new ArrayList<>();
+        versions.add(Version.createFirst(sampleContent(1), "perf-test", "Initial version"));
+        for (int v = 2; v <= ROWS; v++) {
+            versions.add(Version.createNext(v - 1, sampleContent(v), "perf-test", "Revision " + v));
+        }
+        MetadataDocument document = new MetadataDocument(
+                "batch-perf", "doc-" + System.nanoTime(), versions, Instant.now(), Instant.now());
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> repository.save(document));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long statements = statistics.getPrepareStatementCount();
+        logger.info("Saved document with {} versions: {} statements, {}ms", ROWS, statements, elapsedMillis);
+
+        assertEquals(ROWS + 1, statistics.getEntityInsertCount());
+        assertTrue(statements <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements for " + ROWS + " versions, got " + statements);
+    }
+
+    @Test
+    void auditEntriesShouldInsertInBatches() {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(new AuditEntryEntity(
+                        "Version", "batch-perf:doc:" + i, "CREATE", "perf-test", "{\"revision\": " + i + "}"));
+            }
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long statements = statistics.getPrepareStatementCount();
+        logger.info("Inserted {} audit entries: {} statements, {}ms", ROWS, statements, elapsedMillis);
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statements <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements for " + ROWS + " audit entries, got " + statements);
+    }
+
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        content.put("setting", "value-" + revision);
+        return content;
+    }
+}
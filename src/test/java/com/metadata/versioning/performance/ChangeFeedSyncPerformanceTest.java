@@ -0,0 +1,186 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.in.GetChangesUseCase;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentVersion;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for incremental consumer sync through the change feed.
+ * Compares catching up on a few changes through the feed with re-reading every active
+ * version, and checks that a consumer tailing the feed during concurrent writes sees
+ * every change exactly once.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class ChangeFeedSyncPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedSyncPerformanceTest.class);
+
+    private static final String TYPE_PREFIX = "feed-perf-";
+    private static final int DOCUMENT_COUNT = 10_000;
+    private static final int CHANGES = 50;
+    private static final int WRITERS = 8;
+    private static final int WRITES_PER_WRITER = 200;
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private GetChangesUseCase getChangesUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Only one version per type can be active (FR-006), so every document gets its own type.
+     */
+    @BeforeAll
+    void seedDocuments() {
+        Instant now = Instant.now();
+        List<MetadataDocument> batch = new ArrayList<>();
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            batch.add(new MetadataDocument(TYPE_PREFIX + d, "config",
+                    List.of(new Version(1, content(d), "perf-test", now, "Initial version",
+                            new PublishingState.Published(), true)),
+                    now, now));
+            if (batch.size() == 1_000) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    void syncingChangesShouldCostLessThanRereadingEveryDocument() {
+        long since = head();
+        for (int i = 0; i < CHANGES; i++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    TYPE_PREFIX + i, "config", content(i), "perf-test", "Change " + i));
+        }
+
+        long feedStart = System.nanoTime();
+        List<ChangeFeedEntry> changes = readAll(since);
+        long feedMicros = (System.nanoTime() - feedStart) / 1_000;
+
+        long snapshotStart = System.nanoTime();
+        List<DocumentVersion> snapshot = new ArrayList<>();
+        transactionTemplate.execute(status -> repository.forEachActiveVersion(null, snapshot::add));
+        long snapshotMicros = (System.nanoTime() - snapshotStart) / 1_000;
+
+        logger.info("Change feed: {} changes in {}us", changes.size(), feedMicros);
+        logger.info("Full re-read: {} documents in {}us", snapshot.size(), snapshotMicros);
+
+        assertEquals(CHANGES, changes.size());
+        assertTrue(feedMicros * 10 < snapshotMicros,
+                "Syncing a few changes should be an order of magnitude cheaper than a full re-read");
+    }
+
+    @Test
+    void tailingConsumerShouldSeeEveryConcurrentChangeOnce() throws Exception {
+        long since = head();
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Set<Long> seen = new HashSet<>();
+        Set<String> seenVersions = new HashSet<>();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            futures.add(writers.submit(() -> {
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    int document = (writer * WRITES_PER_WRITER + i) % DOCUMENT_COUNT;
+                    createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                            TYPE_PREFIX + document, "config", content(i), "perf-test", "Concurrent " + i));
+                }
+            }));
+        }
+
+        Thread tail = new Thread(() -> {
+            long position = since;
+            while (writing.get() || !getChangesUseCase.getChanges(position, PAGE_SIZE).changes().isEmpty()) {
+                GetChangesUseCase.ChangePage page = getChangesUseCase.getChanges(position, PAGE_SIZE);
+                for (ChangeFeedEntry entry : page.changes()) {
+                    assertTrue(seen.add(entry.sequenceNumber()), "Change delivered twice");
+                    seenVersions.add(entry.change().type() + "/" + entry.change().versionNumber());
+                }
+                position = page.next();
+            }
+        });
+        tail.start();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writing.set(false);
+        tail.join();
+        writers.shutdown();
+
+        // Anything the tailing consumer skipped because it committed "behind" it is missing here
+        Set<String> expected = new HashSet<>();
+        readAll(since).forEach(entry -> expected.add(entry.change().type() + "/" + entry.change().versionNumber()));
+        assertEquals(WRITERS * WRITES_PER_WRITER, expected.size());
+        assertEquals(expected, seenVersions, "Tailing consumer should see every committed change");
+    }
+
+    private List<ChangeFeedEntry> readAll(long since) {
+        List<ChangeFeedEntry> entries = new ArrayList<>();
+        GetChangesUseCase.ChangePage page;
+        do {
+            page = getChangesUseCase.getChanges(since, PAGE_SIZE);
+            entries.addAll(page.changes());
+            since = page.next();
+        } while (page.hasMore());
+        return entries;
+    }
+
+    private long head() {
+        List<ChangeFeedEntry> entries = readAll(0);
+        return entries.isEmpty() ? 0 : entries.get(entries.size() - 1).sequenceNumber();
+    }
+
+    private ObjectNode content(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        content.put("endpoint", "https://service-" + revision + ".internal/api");
+        return content;
+    }
+}
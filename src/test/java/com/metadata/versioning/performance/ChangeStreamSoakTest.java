@@ -0,0 +1,196 @@
+package com.metadata.versioning.performance;
+
+import com.metadata.versioning.application.service.ChangeStreamService;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak test for the Server-Sent Events stream of activations.
+ * Holds 5,000 idle subscribers open, then activates a version and measures how quickly
+ * the event reaches all of them, and what the idle connections cost in heap and threads.
+ * 
+ * Runs against the in-memory repositories on a real servlet container.
+ * Run with -Dbenchmarks=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=1000"
+})
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ChangeStreamSoakTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamSoakTest.class);
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int CONNECT_BATCH = 250;
+    // Async requests hold no request thread: growth is bounded by the connector pool (200), not by subscribers
+    private static final int MAX_THREAD_GROWTH = 250;
+    // Client and server share the JVM, so this covers both ends of each connection and their buffers
+    private static final long MAX_HEAP_PER_SUBSCRIBER_BYTES = 256 * 1024;
+    // Includes parsing by 5,000 client readers competing with the server for the same CPUs
+    private static final long MAX_FAN_OUT_P99_MILLIS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeStreamService changeStreamService;
+
+    @Test
+    void idleSubscribersShouldBeCheapAndReceiveActivationsQuickly() throws Exception {
+        String type = "soak-" + System.nanoTime();
+        createDocument(type);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        int baselineThreads = threads.getThreadCount();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long[] arrivals = new long[SUBSCRIBERS];
+        CountDownLatch received = new CountDownLatch(SUBSCRIBERS);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<HttpResponse<Stream<String>>>> responses = new ArrayList<>(SUBSCRIBERS);
+
+        for (int batch = 0; batch < SUBSCRIBERS; batch += CONNECT_BATCH) {
+            List<CompletableFuture<HttpResponse<Stream<String>>>> connecting = new ArrayList<>();
+            for (int i = batch; i < Math.min(batch + CONNECT_BATCH, SUBSCRIBERS); i++) {
+                int subscriber = i;
+                CompletableFuture<HttpResponse<Stream<String>>> response = client.sendAsync(
+                        HttpRequest.newBuilder(uri("/api/v1/metadata/stream?type=" + type))
+                                .header("Accept", "text/event-stream")
+                                .GET().build(),
+                        HttpResponse.BodyHandlers.ofLines());
+                response.thenAccept(r -> Thread.ofVirtual().start(() -> r.body()
+                                .filter(line -> line.startsWith("event:version-activated"))
+                                .findFirst()
+                                .ifPresent(line -> {
+                                    arrivals[subscriber] = System.nanoTime();
+                                    received.countDown();
+                                })))
+                        .exceptionally(e -> {
+                            failures.incrementAndGet();
+                            return null;
+                        });
+                connecting.add(response);
+            }
+            CompletableFuture.allOf(connecting.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+            responses.addAll(connecting);
+        }
+        awaitSubscribers(SUBSCRIBERS);
+        assertEquals(0, failures.get(), "subscriptions failed");
+
+        System.gc();
+        long heapPerSubscriber = (memory.getHeapMemoryUsage().getUsed() - baselineHeap) / SUBSCRIBERS;
+        int threadGrowth = threads.getThreadCount() - baselineThreads;
+
+        createSecondVersion(type);
+        long activatedAt = System.nanoTime();
+        activateSecondVersion(type);
+        assertTrue(received.await(30, TimeUnit.SECONDS),
+                "only " + (SUBSCRIBERS - received.getCount()) + " subscribers received the activation");
+
+        long[] fanOutMillis = Arrays.stream(arrivals).map(at -> (at - activatedAt) / 1_000_000).sorted().toArray();
+        long p50 = fanOutMillis[fanOutMillis.length / 2];
+        long p99 = fanOutMillis[(int) Math.ceil(fanOutMillis.length * 0.99) - 1];
+
+        logger.info(String.format("Change stream soak: %d subscribers, %d bytes heap and %.3f platform threads each " +
+                        "(+%d threads), fan-out p50=%dms p99=%dms max=%dms",
+                SUBSCRIBERS, heapPerSubscriber, (double) threadGrowth / SUBSCRIBERS, threadGrowth,
+                p50, p99, fanOutMillis[fanOutMillis.length - 1]));
+
+        // JVM-wide count includes the client's selector, so it bounds the server side from above
+        assertTrue(threadGrowth < MAX_THREAD_GROWTH, "thread count grew by " + threadGrowth);
+        assertTrue(heapPerSubscriber < MAX_HEAP_PER_SUBSCRIBER_BYTES, "heap per subscriber " + heapPerSubscriber);
+        assertTrue(p99 < MAX_FAN_OUT_P99_MILLIS, "fan-out p99 " + p99 + "ms");
+
+        client.shutdownNow();
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (changeStreamService.subscriberCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(count, changeStreamService.subscriberCount());
+    }
+
+    private void createDocument(String type) throws Exception {
+        send(HttpRequest.newBuilder(uri("/api/v1/metadata"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"type\":\"" + type + "\",\"name\":\"doc\",\"content\":{\"revision\":1},"
+                                + "\"changeSummary\":\"Initial version\"}"))
+                .build(), 201);
+    }
+
+    private void createSecondVersion(String type) throws Exception {
+        send(HttpRequest.newBuilder(uri("/api/v1/metadata/" + type + "/doc/versions"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"content\":{\"revision\":2},\"changeSummary\":\"Second\"}"))
+                .build(), 201);
+    }
+
+    private void activateSecondVersion(String type) throws Exception {
+        send(HttpRequest.newBuilder(uri("/api/metadata/" + type + "/doc/versions/2/activate"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), 204);
+    }
+
+    private static void send(HttpRequest request, int expectedStatus) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertEquals(expectedStatus, response.statusCode(), response.body());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -1,10 +1,39 @@
 package com.metadata.versioning.performance;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.port.in.ActivateVersionUseCase;
+import com.metadata.versioning.application.port.in.CompareVersionsUseCase;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.in.GetActiveVersionUseCase;
+import com.metadata.versioning.application.service.VersionManagementService;
+import com.metadata.versioning.domain.exception.InvalidActivationException;
+import com.metadata.versioning.domain.exception.InvalidStateTransitionException;
+import com.metadata.versioning.domain.exception.VersionConflictException;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionPrecondition;
+import com.metadata.versioning.support.PostgresContainerSupport;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -15,13 +44,35 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * These tests require real PostgreSQL database for accurate concurrency testing.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@ActiveProfiles("test")
 @Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
-class ConcurrencyPerformanceTest {
+class ConcurrencyPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyPerformanceTest.class);
 
     private static final int CONCURRENT_REQUESTS = 50;
     private static final long MAX_RESPONSE_TIME_MS = 2000;
 
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private ActivateVersionUseCase activateVersionUseCase;
+
+    @Autowired
+    private GetActiveVersionUseCase getActiveVersionUseCase;
+
+    @Autowired
+    private CompareVersionsUseCase compareVersionsUseCase;
+
+    @Autowired
+    private VersionManagementService versionManagementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void shouldHandle50ConcurrentReads() {
         // TODO: Implement when TestContainers PostgreSQL is available
@@ -39,24 +90,338 @@ class ConcurrencyPerformanceTest {
         assertTrue(true, "Placeholder - implement with TestContainers");
     }
 
+    /**
+     * Unconditional appends to one document all succeed with distinct, consecutive
+     * version numbers: no unique constraint violations and no lost versions (FR-001).
+     */
     @Test
-    void shouldHandle50ConcurrentWrites() {
-        // TODO: Test concurrent version creation
-        // Target: All requests succeed, no deadlocks, p95 < 2s
-        assertTrue(true, "Placeholder - implement with TestContainers");
+    void shouldHandle50ConcurrentWrites() throws Exception {
+        String type = "concurrent-append";
+        String name = "contended";
+        int appendsPerThread = 4;
+        createDocument(type, name);
+
+        List<Long> latenciesMs = runConcurrently(CONCURRENT_REQUESTS, thread -> {
+            List<Long> latencies = new ArrayList<>();
+            for (int i = 0; i < appendsPerThread; i++) {
+                long begin = System.nanoTime();
+                createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                        type, name, objectMapper.createObjectNode().put("thread", thread).put("append", i),
+                        "perf-test", null));
+                latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            }
+            return latencies;
+        });
+
+        int expectedVersions = 1 + CONCURRENT_REQUESTS * appendsPerThread;
+        Integer stored = jdbcTemplate.queryForObject("""
+                SELECT COUNT(DISTINCT v.version_number)
+                FROM versions v
+                JOIN metadata_documents d ON d.id = v.document_id
+                WHERE d.type = ? AND d.name = ?
+                  AND v.version_number BETWEEN 1 AND d.latest_version_number
+                """, Integer.class, type, name);
+        Integer latest = jdbcTemplate.queryForObject(
+                "SELECT latest_version_number FROM metadata_documents WHERE type = ? AND name = ?",
+                Integer.class, type, name);
+        assertEquals(expectedVersions, stored, "Every append must be stored under its own version number");
+        assertEquals(expectedVersions, latest, "Version numbers must be consecutive");
+
+        long p95 = percentile(latenciesMs, 0.95);
+        logger.info("Concurrent appends: {} versions, p95 {}ms", latenciesMs.size(), p95);
+        assertTrue(p95 < MAX_RESPONSE_TIME_MS,
+                String.format("p95 append latency %dms exceeds %dms", p95, MAX_RESPONSE_TIME_MS));
     }
 
+    /**
+     * Writers that all base their change on the same head with If-Match race for it:
+     * exactly one wins and every other one is told the new head (412), never a 500.
+     */
     @Test
-    void shouldHandleMixedConcurrentOperations() {
-        // TODO: Test mix of reads (70%), writes (20%), comparisons (10%)
-        // Target: All requests succeed under realistic load pattern
-        assertTrue(true, "Placeholder - implement with TestContainers");
+    void shouldAcceptExactlyOneConditionalWritePerHead() throws Exception {
+        String type = "concurrent-conditional";
+        String name = "contended";
+        createDocument(type, name);
+
+        AtomicInteger preconditionFailures = new AtomicInteger();
+        List<Integer> created = runConcurrently(CONCURRENT_REQUESTS, thread -> {
+            try {
+                Version version = createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                        type, name, objectMapper.createObjectNode().put("thread", thread), "perf-test", null,
+                        new VersionPrecondition(Set.of(1), Set.of())));
+                return List.of(version.versionNumber());
+            } catch (VersionConflictException e) {
+                assertTrue(e.isPreconditionFailure(), "Conditional writes must fail on their precondition");
+                assertEquals(2, e.getCurrent().orElseThrow().versionNumber(), "Losers must be told the new head");
+                preconditionFailures.incrementAndGet();
+                return List.of();
+            }
+        });
+
+        assertEquals(List.of(2), created, "Exactly one write based on v1 must succeed");
+        assertEquals(CONCURRENT_REQUESTS - 1, preconditionFailures.get());
     }
 
+    /**
+     * Activations expecting the same active version race for it: exactly one wins (FR-006).
+     */
     @Test
-    void shouldMaintainDataConsistencyUnderConcurrentLoad() {
-        // TODO: Test version activation consistency under concurrent updates
-        // Target: Only one version active at any time (FR-006) even under load
-        assertTrue(true, "Placeholder - implement with TestContainers");
+    void shouldAcceptExactlyOneConditionalActivationPerActiveVersion() throws Exception {
+        String type = "concurrent-conditional-activation";
+        String name = "contended";
+        int versions = 10;
+        createDocument(type, name);
+        appendVersions(type, name, versions);
+        activateVersionUseCase.activateVersion(type, name, 1);
+
+        List<Integer> activated = runConcurrently(versions - 1, thread -> {
+            int target = thread + 2;
+            try {
+                activateVersionUseCase.activateVersion(type, name, target,
+                        new VersionPrecondition(Set.of(1), Set.of()));
+                return List.of(target);
+            } catch (VersionConflictException e) {
+                assertTrue(e.isPreconditionFailure(), "Conditional activations must fail on their precondition");
+                return List.of();
+            }
+        });
+
+        assertEquals(1, activated.size(), "Exactly one activation expecting v1 must succeed");
+        assertEquals(1, countActiveVersions(type));
+    }
+
+    /**
+     * Publishing state transitions write the state of their version only, so concurrent
+     * transitions of different versions of one document all apply and none is lost.
+     */
+    @Test
+    void shouldRetryConflictingStateTransitions() throws Exception {
+        String type = "concurrent-transition";
+        String name = "contended";
+        int versions = 10;
+        createDocument(type, name);
+        appendVersions(type, name, versions);
+
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Integer> archived = runConcurrently(versions, thread -> {
+            int target = thread + 1;
+            try {
+                versionManagementService.transitionVersionState(type, name, target, new PublishingState.Archived());
+                return List.of(target);
+            } catch (VersionConflictException e) {
+                assertEquals("CONCURRENT_MODIFICATION", e.getErrorCode());
+                conflicts.incrementAndGet();
+                return List.of();
+            }
+        });
+
+        List<Integer> stored = jdbcTemplate.queryForList("""
+                SELECT v.version_number
+                FROM versions v
+                JOIN metadata_documents d ON d.id = v.document_id
+                WHERE d.type = ? AND d.name = ? AND v.publishing_state = 'ARCHIVED'
+                ORDER BY v.version_number
+                """, Integer.class, type, name);
+        assertEquals(archived.stream().sorted().toList(), stored, "Every acknowledged transition must be stored");
+        assertEquals(0, conflicts.get(), "Transitions of different versions must not conflict");
+        logger.info("Concurrent transitions: {} applied, {} rejected after retries", archived.size(), conflicts.get());
+    }
+
+    /**
+     * A realistic mix of reads (70%), writes (20%) and comparisons (10%) across documents:
+     * every request succeeds and the p95 latency stays within the target (SC-005).
+     */
+    @Test
+    void shouldHandleMixedConcurrentOperations() throws Exception {
+        String type = "concurrent-mixed";
+        int documents = 10;
+        int operationsPerThread = 20;
+        for (int d = 0; d < documents; d++) {
+            String name = "doc-" + d;
+            createDocument(type, name);
+            appendVersions(type, name, 2);
+            activateVersionUseCase.activateVersion(type, name, 1);
+        }
+
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger comparisons = new AtomicInteger();
+        List<Long> latenciesMs = runConcurrently(CONCURRENT_REQUESTS, thread -> {
+            List<Long> latencies = new ArrayList<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < operationsPerThread; i++) {
+                String name = "doc-" + random.nextInt(documents);
+                int operation = random.nextInt(100);
+                long begin = System.nanoTime();
+                if (operation < 70) {
+                    assertTrue(getActiveVersionUseCase.getActiveVersion(type, name).isPresent(),
+                            "Active version of " + name + " must be readable");
+                    reads.incrementAndGet();
+                } else if (operation < 90) {
+                    createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                            type, name, objectMapper.createObjectNode().put("thread", thread).put("operation", i),
+                            "perf-test", null));
+                    writes.incrementAndGet();
+                } else {
+                    compareVersionsUseCase.compareVersions(type, name, 1, 2);
+                    comparisons.incrementAndGet();
+                }
+                latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            }
+            return latencies;
+        });
+
+        assertEquals(CONCURRENT_REQUESTS * operationsPerThread, latenciesMs.size(), "Every operation must succeed");
+        long p95 = percentile(latenciesMs, 0.95);
+        logger.info("Mixed load: {} reads, {} writes, {} comparisons, p95 {}ms",
+                reads.get(), writes.get(), comparisons.get(), p95);
+        assertTrue(p95 < MAX_RESPONSE_TIME_MS,
+                String.format("p95 latency %dms exceeds %dms", p95, MAX_RESPONSE_TIME_MS));
+    }
+
+    /**
+     * Parallel activations across documents of one type, racing state transitions that
+     * archive versions which may be active, must never leave more than one active version
+     * visible, neither while they run nor after they finish (FR-006).
+     */
+    @Test
+    void shouldMaintainDataConsistencyUnderConcurrentLoad() throws Exception {
+        String type = "concurrent-activation";
+        int documents = 5;
+        int versionsPerDocument = 10;
+        int activationsPerThread = 20;
+        int transitionThreads = 10;
+        int transitionsPerThread = 3;
+
+        for (int d = 0; d < documents; d++) {
+            String name = "doc-" + d;
+            createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                    type, name, objectMapper.createObjectNode().put("revision", 1), "perf-test", null));
+            for (int v = 2; v <= versionsPerDocument; v++) {
+                createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                        type, name, objectMapper.createObjectNode().put("revision", v), "perf-test", null));
+            }
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger maxObservedActive = new AtomicInteger();
+        Thread monitor = new Thread(() -> {
+            while (running.get()) {
+                maxObservedActive.accumulateAndGet(countActiveVersions(type), Math::max);
+            }
+        });
+        monitor.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < transitionThreads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < transitionsPerThread; i++) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    try {
+                        versionManagementService.transitionVersionState(type,
+                                "doc-" + random.nextInt(documents),
+                                1 + random.nextInt(versionsPerDocument),
+                                new PublishingState.Archived());
+                    } catch (InvalidStateTransitionException e) {
+                        // Archived by another thread already
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int t = transitionThreads; t < CONCURRENT_REQUESTS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < activationsPerThread; i++) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long begin = System.nanoTime();
+                    try {
+                        activateVersionUseCase.activateVersion(type,
+                                "doc-" + random.nextInt(documents),
+                                1 + random.nextInt(versionsPerDocument));
+                    } catch (InvalidActivationException e) {
+                        // Archived by a transition thread
+                    }
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+                    assertTrue(elapsedMs < MAX_RESPONSE_TIME_MS,
+                            String.format("Activation took %dms, exceeds %dms", elapsedMs, MAX_RESPONSE_TIME_MS));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        running.set(false);
+        monitor.join();
+
+        assertTrue(maxObservedActive.get() <= 1,
+                "Observed " + maxObservedActive.get() + " active versions for one type during activation");
+        assertEquals(1, countActiveVersions(type), "Exactly one version must remain active");
+    }
+
+    private void createDocument(String type, String name) {
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                type, name, objectMapper.createObjectNode().put("revision", 1), "perf-test", null));
+    }
+
+    private void appendVersions(String type, String name, int upToVersion) {
+        for (int v = 2; v <= upToVersion; v++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    type, name, objectMapper.createObjectNode().put("revision", v), "perf-test", null));
+        }
+    }
+
+    /**
+     * Run one task per thread, released together, and collect their results.
+     */
+    private <T> List<T> runConcurrently(int threads, ThreadTask<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<T>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.run(thread);
+            }));
+        }
+
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get(2, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask<T> {
+        List<T> run(int thread) throws Exception;
+    }
+
+    private int countActiveVersions(String type) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM versions v
+                JOIN metadata_documents d ON d.id = v.document_id
+                WHERE d.type = ? AND v.is_active = TRUE
+                """, Integer.class, type);
+        return count != null ? count : 0;
     }
 }
@@ -0,0 +1,150 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Polling benchmark for conditional reads of the active version (FR-007).
+ * Downstream systems poll the active endpoint; compares bytes served and latency
+ * of unconditional polling with polling that revalidates via If-None-Match.
+ * 
+ * Runs against the in-memory repositories on a real servlet container.
+ * Run with -Dbenchmarks=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false"
+})
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ConditionalPollingPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalPollingPerformanceTest.class);
+
+    private static final int CONTENT_ENTRIES = 500;
+    private static final int POLLS = 2000;
+    private static final int WARMUP_POLLS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void conditionalPollingShouldServeNoContentWhenUnchanged() throws Exception {
+        String type = "polling-benchmark";
+        String name = "doc-" + System.currentTimeMillis();
+        createAndActivate(type, name);
+        URI active = uri("/api/v1/metadata/" + type + "/" + name + "/active");
+
+        String etag = send(HttpRequest.newBuilder(active).GET().build()).headers()
+                .firstValue("ETag").orElse(null);
+        assertNotNull(etag, "Active version should carry an ETag");
+
+        HttpRequest unconditional = HttpRequest.newBuilder(active).GET().build();
+        HttpRequest conditional = HttpRequest.newBuilder(active).header("If-None-Match", etag).GET().build();
+
+        poll(unconditional, WARMUP_POLLS, 200);
+        poll(conditional, WARMUP_POLLS, 304);
+        PollResult full = poll(unconditional, POLLS, 200);
+        PollResult revalidated = poll(conditional, POLLS, 304);
+
+        logger.info("Unconditional: {} bytes/poll, p50={}us, p99={}us",
+                full.bytesPerPoll(), full.percentileMicros(50), full.percentileMicros(99));
+        logger.info("Conditional:   {} bytes/poll, p50={}us, p99={}us",
+                revalidated.bytesPerPoll(), revalidated.percentileMicros(50), revalidated.percentileMicros(99));
+
+        assertEquals(0, revalidated.bytesPerPoll(), "304 responses must not carry a body");
+        assertTrue(revalidated.percentileMicros(99) <= full.percentileMicros(99),
+                "Revalidation should not be slower than a full read at p99");
+    }
+
+    private void createAndActivate(String type, String name) throws Exception {
+        ObjectNode content = objectMapper.createObjectNode();
+        ArrayNode entries = content.putArray("entries");
+        for (int i = 0; i < CONTENT_ENTRIES; i++) {
+            entries.addObject()
+                    .put("id", "entry-" + i)
+                    .put("description", "Polling benchmark entry number " + i)
+                    .put("weight", i * 0.5);
+        }
+        String body = objectMapper.writeValueAsString(Map.of(
+                "type", type, "name", name, "content", content, "changeSummary", "Initial version"));
+
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/api/v1/metadata"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        assertEquals(201, created.statusCode(), created.body());
+
+        HttpResponse<String> activated = send(HttpRequest.newBuilder(
+                        uri("/api/metadata/" + type + "/" + name + "/versions/1/activate"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        assertEquals(204, activated.statusCode(), activated.body());
+    }
+
+    private PollResult poll(HttpRequest request, int polls, int expectedStatus) throws Exception {
+        long[] latencies = new long[polls];
+        long bytes = 0;
+        for (int i = 0; i < polls; i++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(expectedStatus, response.statusCode());
+            bytes += response.body().length;
+        }
+        return new PollResult(latencies, bytes / polls);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record PollResult(long[] latencies, long bytesPerPoll) {
+
+        long percentileMicros(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performance test for document listing (FR-015).
+ * Compares a page served from fully loaded aggregates with a page served from
+ * the summary projection, on documents with many large versions.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class DocumentListingPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentListingPerformanceTest.class);
+
+    private static final String TYPE = "listing-perf";
+    private static final int DOCUMENT_COUNT = 40;
+    private static final int VERSIONS_PER_DOCUMENT = 25;
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLE_SIZE = 30;
+    private static final int WARMUP_SIZE = 10;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void seedDocuments() {
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            String name = "document-" + d;
+            createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                    TYPE, name, sampleContent(1), "perf-test", "Initial version"));
+            for (int v = 2; v <= VERSIONS_PER_DOCUMENT; v++) {
+                createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                        TYPE, name, sampleContent(v), "perf-test", "Revision " + v));
+            }
+        }
+    }
+
+    @Test
+    void summaryPageShouldBeFasterAndAllocateLessThanFullAggregates() {
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+
+        Measurement aggregates = measure(() -> repository.findAllByType(TYPE, page));
+        Measurement summaries = measure(() -> repository.findSummariesByType(TYPE, page));
+
+        logger.info("Full aggregates: p95={}us, {} KB allocated per page",
+                aggregates.p95Micros(), aggregates.bytesPerPage() / 1024);
+        logger.info("Summaries:       p95={}us, {} KB allocated per page",
+                summaries.p95Micros(), summaries.bytesPerPage() / 1024);
+
+        assertEquals(VERSIONS_PER_DOCUMENT,
+                repository.findSummariesByType(TYPE, page).getContent().get(0).versionCount());
+        assertTrue(summaries.p95Micros() < aggregates.p95Micros(),
+                "Summary page should be faster than loading full aggregates");
+        assertTrue(summaries.bytesPerPage() * 10 < aggregates.bytesPerPage(),
+                "Summary page should allocate at least an order of magnitude less");
+    }
+
+    private Measurement measure(Supplier<Page<?>> query) {
+        for (int i = 0; i < WARMUP_SIZE; i++) {
+            query.get();
+        }
+
+        long[] samples = new long[SAMPLE_SIZE];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long start = System.nanoTime();
+            Page<?> result = query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+            assertEquals(PAGE_SIZE, result.getNumberOfElements());
+        }
+        long bytesPerPage = (allocatedBytes() - allocatedBefore) / SAMPLE_SIZE;
+        return new Measurement(percentile(samples, 95), bytesPerPage);
+    }
+
+    /**
+     * Roughly 20KB of configuration content per version.
+     */
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        for (int field = 0; field < 200; field++) {
+            content.put("setting" + field, "value-" + revision + "-" + "x".repeat(90));
+        }
+        return content;
+    }
+
+    private record Measurement(long p95Micros, long bytesPerPage) {
+    }
+}
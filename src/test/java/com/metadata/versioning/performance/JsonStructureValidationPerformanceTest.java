@@ -0,0 +1,130 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.validator.JsonStructureValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Micro-benchmark for JSON structure validation (FR-011, FR-025).
+ * Compares the single-pass streaming validator with the previous approach of
+ * serializing the tree, re-parsing the String and walking it recursively.
+ * 
+ * CPU only, no database required. Run with -Dbenchmarks=true.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class JsonStructureValidationPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonStructureValidationPerformanceTest.class);
+
+    private static final int ITERATIONS = 200;
+    private static final int WARMUP_ITERATIONS = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamingValidationShouldBeFasterAndAllocateLessThanReserializing() {
+        JsonNode content = nearLimitDocument();
+
+        Measurement legacy = measure(() -> legacyValidate(content));
+        Measurement streaming = measure(() -> JsonStructureValidator.validate(content));
+
+        logger.info("Legacy:    median={}us, {} KB allocated per call",
+                legacy.medianMicros(), legacy.bytesPerCall() / 1024);
+        logger.info("Streaming: median={}us, {} KB allocated per call",
+                streaming.medianMicros(), streaming.bytesPerCall() / 1024);
+
+        assertTrue(streaming.medianMicros() < legacy.medianMicros(),
+                "Streaming validation should be faster than re-serializing");
+        assertTrue(streaming.bytesPerCall() * 4 < legacy.bytesPerCall(),
+                "Streaming validation should allocate a fraction of the re-serializing approach");
+    }
+
+    private Measurement measure(Runnable validation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            validation.run();
+        }
+
+        long[] samples = new long[ITERATIONS];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            validation.run();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        long bytesPerCall = (allocatedBytes() - allocatedBefore) / ITERATIONS;
+
+        Arrays.sort(samples);
+        return new Measurement(samples[ITERATIONS / 2], bytesPerCall);
+    }
+
+    /**
+     * Previous implementation: serialize, copy to bytes, parse again, recurse for depth.
+     */
+    private void legacyValidate(JsonNode content) {
+        try {
+            String json = objectMapper.writeValueAsString(content);
+            byte[] bytes = json.getBytes();
+            assertTrue(bytes.length <= JsonStructureValidator.getMaxDocumentSizeBytes());
+            int depth = legacyDepth(objectMapper.readTree(json));
+            assertTrue(depth <= JsonStructureValidator.getMaxNestingDepth());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int legacyDepth(JsonNode node) {
+        if (node == null || node.isValueNode()) {
+            return 0;
+        }
+        int maxChildDepth = 0;
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                maxChildDepth = Math.max(maxChildDepth, legacyDepth(element));
+            }
+        } else {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                maxChildDepth = Math.max(maxChildDepth, legacyDepth(fields.next().getValue()));
+            }
+        }
+        return 1 + maxChildDepth;
+    }
+
+    /**
+     * Roughly 900KB document with moderate nesting, close to the 1MB limit.
+     */
+    private JsonNode nearLimitDocument() {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode items = root.putArray("items");
+        for (int i = 0; i < 3_000; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("enabled", i % 2 == 0);
+            item.put("weight", i * 0.25);
+            item.put("description", "item-" + i + "-" + "d".repeat(200));
+            item.putObject("limits").putObject("rate").put("perSecond", i).put("burst", i * 2);
+        }
+        return root;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private record Measurement(long medianMicros, long bytesPerCall) {
+    }
+}
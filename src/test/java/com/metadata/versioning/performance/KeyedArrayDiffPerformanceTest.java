@@ -0,0 +1,181 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.model.ChangeType;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.domain.service.DiffEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Micro-benchmark for keyed array matching in version comparison (FR-PERF-003).
+ * Compares matching the elements of a 10k-element SKU list by their schema-declared
+ * identity key with the sequence and index diffs, after a few SKUs were added, removed,
+ * repriced and moved. Keyed matching looks up each element by its key instead of hashing
+ * whole elements, and reports the changed SKUs by key rather than by position.
+ *
+ * CPU only, no database required. Run with -Dbenchmarks=true.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class KeyedArrayDiffPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyedArrayDiffPerformanceTest.class);
+
+    private static final int ELEMENTS = 10_000;
+    private static final int EDITS = 25;
+    private static final int ITERATIONS = 50;
+    private static final int WARMUP_ITERATIONS = 20;
+    // Budget of the full comparison, well under the 3s comparison target
+    private static final long MAX_MEDIAN_MILLIS = 100;
+    // Ten times the elements must cost well under a hundred times the time
+    private static final long MAX_SCALING_FACTOR = 30;
+
+    private static final Map<String, String> IDENTITY_KEYS = Map.of("skus", "sku");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void keyedMatchingShouldReportOnlyTheEditedElements() {
+        Version from = Version.createFirst(document(baseline(ELEMENTS)), "perf-test", "Baseline");
+        Version to = Version.createNext(1, document(edited(ELEMENTS)), "perf-test", "Edited");
+
+        DiffEngine diffEngine = new DiffEngine(objectMapper);
+        DiffEngine byIndex = new DiffEngine(objectMapper, 0);
+
+        Measurement keyed = measure(() -> diffEngine.compare(from, to, IDENTITY_KEYS));
+        Measurement sequence = measure(() -> diffEngine.compare(from, to));
+        Measurement index = measure(() -> byIndex.compare(from, to));
+
+        print("Keyed diff:   ", keyed);
+        print("Sequence diff:", sequence);
+        print("Index diff:   ", index);
+
+        assertEquals(EDITS, count(keyed.result(), ChangeType.ADDED));
+        assertEquals(EDITS, count(keyed.result(), ChangeType.REMOVED));
+        assertEquals(EDITS, count(keyed.result(), ChangeType.MODIFIED));
+        assertEquals(EDITS, count(keyed.result(), ChangeType.MOVED));
+        assertEquals(4 * EDITS, keyed.result().changeCount());
+        assertTrue(keyed.result().changes().stream()
+                        .filter(change -> change.type().equals(ChangeType.MODIFIED))
+                        .allMatch(change -> change.path().matches("skus\\[sku=SKU-\\d+]\\.price")),
+                "Modified elements should be reported by key");
+        assertTrue(keyed.medianMillis() < sequence.medianMillis(),
+                "Keyed diff should be faster than the sequence diff");
+        assertTrue(keyed.medianMillis() <= MAX_MEDIAN_MILLIS,
+                "Keyed diff median " + keyed.medianMillis() + "ms exceeds " + MAX_MEDIAN_MILLIS + "ms");
+    }
+
+    @Test
+    void keyedMatchingShouldScaleLinearly() {
+        DiffEngine diffEngine = new DiffEngine(objectMapper);
+        long[] micros = new long[2];
+        int[] sizes = {ELEMENTS / 10, ELEMENTS};
+        for (int s = 0; s < sizes.length; s++) {
+            Version from = Version.createFirst(document(baseline(sizes[s])), "perf-test", "Baseline");
+            Version to = Version.createNext(1, document(edited(sizes[s])), "perf-test", "Edited");
+            micros[s] = measureMicros(() -> diffEngine.compare(from, to, IDENTITY_KEYS));
+        }
+
+        logger.info("Keyed diff: {} elements median={}us, {} elements median={}us",
+                sizes[0], micros[0], sizes[1], micros[1]);
+
+        assertTrue(micros[1] <= micros[0] * MAX_SCALING_FACTOR,
+                "Keyed diff should grow linearly with the array, took " + micros[1] + "us vs " + micros[0] + "us");
+    }
+
+    private Measurement measure(Supplier<VersionComparison> comparison) {
+        VersionComparison result = comparison.get();
+        return new Measurement(measureMicros(comparison) / 1_000, result);
+    }
+
+    private long measureMicros(Supplier<VersionComparison> comparison) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            comparison.get();
+        }
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            comparison.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private ArrayNode baseline(int size) {
+        ArrayNode skus = objectMapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode sku = skus.addObject();
+            sku.put("sku", "SKU-" + i);
+            sku.put("name", "Product " + i);
+            sku.put("price", 10 + i % 90);
+            sku.put("category", "category-" + i % 25);
+            sku.put("enabled", i % 7 != 0);
+        }
+        return skus;
+    }
+
+    /**
+     * Baseline with EDITS each of repriced SKUs, removed SKUs and SKUs moved to the end,
+     * spread across the list, and EDITS new SKUs appended.
+     */
+    private ArrayNode edited(int size) {
+        ArrayNode base = baseline(size);
+        int stride = size / (3 * EDITS);
+        ArrayNode skus = objectMapper.createArrayNode();
+        ArrayNode moved = objectMapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode sku = (ObjectNode) base.get(i);
+            if (i % stride != stride / 2 || i / stride >= 3 * EDITS) {
+                skus.add(sku);
+            } else if (i / stride % 3 == 0) {
+                skus.add(sku.put("price", 1_000 + i));
+            } else if (i / stride % 3 == 1) {
+                moved.add(sku);
+            }
+        }
+        skus.addAll(moved);
+        for (int i = 0; i < EDITS; i++) {
+            skus.addObject().put("sku", "SKU-NEW-" + i).put("name", "New product " + i).put("price", 99);
+        }
+        return skus;
+    }
+
+    private ObjectNode document(ArrayNode skus) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("catalog", "benchmark");
+        content.set("skus", skus);
+        return content;
+    }
+
+    private static long count(VersionComparison comparison, ChangeType type) {
+        return comparison.changes().stream()
+                .filter(change -> change.type().equals(type))
+                .count();
+    }
+
+    private static void print(String label, Measurement measurement) {
+        VersionComparison result = measurement.result();
+        logger.info("{} median={}ms, {} changes (added={}, removed={}, modified={}, moved={})",
+                label, measurement.medianMillis(), result.changeCount(),
+                count(result, ChangeType.ADDED), count(result, ChangeType.REMOVED),
+                count(result, ChangeType.MODIFIED), count(result, ChangeType.MOVED));
+    }
+
+    private record Measurement(long medianMillis, VersionComparison result) {
+    }
+}
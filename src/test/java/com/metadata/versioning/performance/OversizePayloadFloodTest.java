@@ -0,0 +1,176 @@
+package com.metadata.versioning.performance;
+
+import com.metadata.versioning.adapter.in.rest.filter.RequestBodyLimitFilter;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test for request body limits (FR-025).
+ * Floods the create endpoint with 50MB payloads, both with a declared
+ * Content-Length and as chunked bodies, and checks that every request is
+ * rejected with 413 while server heap stays flat.
+ * 
+ * Runs against the in-memory repositories on a real servlet container.
+ * Run with -Dbenchmarks=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false"
+})
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class OversizePayloadFloodTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OversizePayloadFloodTest.class);
+
+    private static final long PAYLOAD_BYTES = 50L * 1024 * 1024;
+    private static final int CONCURRENCY = 20;
+    private static final int REQUESTS_PER_MODE = 100;
+    // Well below the 1GB that CONCURRENCY in-flight 50MB bodies would need if materialised
+    private static final long MAX_PEAK_HEAP_GROWTH_BYTES = 256L * 1024 * 1024;
+    private static final long MAX_RETAINED_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RequestBodyLimitFilter requestBodyLimitFilter;
+
+    @Test
+    void oversizePayloadFloodShouldBeRejectedWithFlatHeap() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        long rejectedBefore = requestBodyLimitFilter.rejectedRequests();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS_PER_MODE; i++) {
+            results.add(executor.submit(() -> postOversizeBody(false)));
+            results.add(executor.submit(() -> postOversizeBody(true)));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(413, result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        sampling.set(false);
+        sampler.join();
+
+        System.gc();
+        long peakGrowth = peakHeap.get() - baselineHeap;
+        long retainedGrowth = memory.getHeapMemoryUsage().getUsed() - baselineHeap;
+        logger.info("Flood of {} x {}MB requests: peak heap growth {}MB, retained {}MB, {} rejected bytes",
+                results.size(), PAYLOAD_BYTES / (1024 * 1024), peakGrowth / (1024 * 1024),
+                retainedGrowth / (1024 * 1024), requestBodyLimitFilter.rejectedBytes());
+
+        assertEquals(results.size(), requestBodyLimitFilter.rejectedRequests() - rejectedBefore);
+        assertTrue(peakGrowth < MAX_PEAK_HEAP_GROWTH_BYTES,
+                String.format("Heap peaked %dMB above baseline during the flood", peakGrowth / (1024 * 1024)));
+        assertTrue(retainedGrowth < MAX_RETAINED_HEAP_GROWTH_BYTES,
+                String.format("Heap retained %dMB after the flood", retainedGrowth / (1024 * 1024)));
+    }
+
+    /**
+     * Send a 50MB create request over a raw connection and return the response status.
+     * The body is written from a separate thread so the response can be read as soon
+     * as the server rejects the request.
+     */
+    private int postOversizeBody(boolean chunked) throws Exception {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(30_000);
+            OutputStream out = socket.getOutputStream();
+            String headers = "POST /api/v1/metadata HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Content-Type: application/json\r\n"
+                    + (chunked ? "Transfer-Encoding: chunked\r\n" : "Content-Length: " + PAYLOAD_BYTES + "\r\n")
+                    + "\r\n";
+            out.write(headers.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            Thread writer = new Thread(() -> writeBody(out, chunked));
+            writer.start();
+
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String statusLine = reader.readLine();
+            writer.interrupt();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private void writeBody(OutputStream out, boolean chunked) {
+        byte[] block = new byte[64 * 1024];
+        byte[] prefix = "{\"type\":\"flood\",\"name\":\"flood\",\"content\":{\"data\":\"".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(prefix, 0, block, 0, prefix.length);
+        for (int i = prefix.length; i < block.length; i++) {
+            block[i] = 'x';
+        }
+        try {
+            for (long sent = 0; sent < PAYLOAD_BYTES && !Thread.currentThread().isInterrupted(); sent += block.length) {
+                if (chunked) {
+                    out.write((Integer.toHexString(block.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                }
+                out.write(block);
+                if (chunked) {
+                    out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+                }
+                // Only the first block carries the JSON prefix
+                for (int i = 0; i < prefix.length; i++) {
+                    block[i] = 'x';
+                }
+            }
+        } catch (IOException e) {
+            // Server closed the connection after rejecting the body
+        }
+    }
+}
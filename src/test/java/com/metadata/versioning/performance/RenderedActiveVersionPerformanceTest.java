@@ -0,0 +1,191 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.adapter.in.rest.dto.VersionResponse;
+import com.metadata.versioning.adapter.in.rest.render.RenderedVersionCache;
+import com.metadata.versioning.application.service.MetadataQueryService;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionDigest;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for pre-rendered active version bodies (FR-007).
+ * Compares rendering a response per request through the indenting ObjectMapper
+ * with copying the bytes rendered at activation, both in process (allocation and
+ * throughput of the body production alone) and end to end over HTTP, where the
+ * specific-version endpoint still renders per request.
+ * 
+ * Runs against the in-memory repositories on a real servlet container.
+ * Run with -Dbenchmarks=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false"
+})
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class RenderedActiveVersionPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderedActiveVersionPerformanceTest.class);
+
+    private static final int CONTENT_ENTRIES = 500;
+    private static final int ITERATIONS = 2000;
+    private static final int WARMUP_ITERATIONS = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MetadataQueryService metadataQueryService;
+
+    @Autowired
+    private RenderedVersionCache renderedVersionCache;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private String type;
+    private String name;
+
+    @BeforeEach
+    void createActiveDocument() throws Exception {
+        type = "render-benchmark";
+        name = "doc-" + System.nanoTime();
+
+        ObjectNode content = objectMapper.createObjectNode();
+        ArrayNode entries = content.putArray("entries");
+        for (int i = 0; i < CONTENT_ENTRIES; i++) {
+            entries.addObject()
+                    .put("id", "entry-" + i)
+                    .put("description", "Rendering benchmark entry number " + i)
+                    .put("weight", i * 0.5);
+        }
+        String body = objectMapper.writeValueAsString(Map.of(
+                "type", type, "name", name, "content", content, "changeSummary", "Initial version"));
+
+        HttpResponse<String> created = client.send(HttpRequest.newBuilder(uri("/api/v1/metadata"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, created.statusCode(), created.body());
+
+        HttpResponse<String> activated = client.send(HttpRequest.newBuilder(
+                                uri("/api/metadata/" + type + "/" + name + "/versions/1/activate"))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(204, activated.statusCode(), activated.body());
+    }
+
+    @Test
+    void preRenderedBodyShouldAllocateLessPerRead() throws Exception {
+        Version version = metadataQueryService.getActiveVersion(type, name).orElseThrow();
+        VersionDigest digest = metadataQueryService.getActiveVersionDigest(type, name).orElseThrow();
+
+        Result perRequest = measureInProcess(() ->
+                objectMapper.writeValueAsBytes(VersionResponse.fromDomain(version, type, name)).length);
+        Result preRendered = measureInProcess(() ->
+                renderedVersionCache.getActive(type, name, digest).orElseThrow().body(false).length);
+
+        logger.info(String.format("In process, per request: %d B/op, %.0f ops/s",
+                perRequest.bytesPerOp(), perRequest.opsPerSecond()));
+        logger.info(String.format("In process, pre-rendered: %d B/op, %.0f ops/s",
+                preRendered.bytesPerOp(), preRendered.opsPerSecond()));
+
+        assertTrue(preRendered.bytesPerOp() * 10 < perRequest.bytesPerOp(),
+                "Serving pre-rendered bytes should allocate at least 10x less than rendering");
+    }
+
+    @Test
+    void preRenderedEndpointShouldAllocateLessEndToEnd() throws Exception {
+        HttpRequest active = HttpRequest.newBuilder(uri("/api/v1/metadata/" + type + "/" + name + "/active"))
+                .GET().build();
+        HttpRequest specific = HttpRequest.newBuilder(uri("/api/v1/metadata/" + type + "/" + name + "/versions/1"))
+                .GET().build();
+
+        Result perRequest = measureEndToEnd(specific);
+        Result preRendered = measureEndToEnd(active);
+
+        logger.info(String.format("End to end, rendered per request: %d B/req (client included), %.0f req/s",
+                perRequest.bytesPerOp(), perRequest.opsPerSecond()));
+        logger.info(String.format("End to end, pre-rendered:         %d B/req (client included), %.0f req/s",
+                preRendered.bytesPerOp(), preRendered.opsPerSecond()));
+
+        assertTrue(preRendered.bytesPerOp() < perRequest.bytesPerOp(),
+                "Pre-rendered responses should allocate less per request");
+    }
+
+    private Result measureInProcess(Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result((allocatedBytes() - allocatedBefore) / ITERATIONS, ITERATIONS * 1e9 / elapsed);
+    }
+
+    private Result measureEndToEnd(HttpRequest request) throws Exception {
+        return measureInProcess(() -> {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            return response.body().length;
+        });
+    }
+
+    /**
+     * Bytes allocated so far by all threads, so server-side work on container threads is counted.
+     */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getTotalThreadAllocatedBytes();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int run() throws Exception;
+    }
+
+    private record Result(long bytesPerOp, double opsPerSecond) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
+import com.metadata.versioning.domain.model.MetadataDocument;
+import com.metadata.versioning.domain.model.PublishingState;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput benchmark for the NDJSON snapshot export (FR-007).
+ * Exports 100k active versions over HTTP and compares the elapsed time with
+ * bootstrapping through the listing plus one active version request per document,
+ * projected from a sample. Heap is sampled while reading to check that the export
+ * is streamed from the cursor rather than materialized.
+ * 
+ * @Disabled until TestContainers environment is available.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
+class SnapshotExportPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotExportPerformanceTest.class);
+
+    private static final String TYPE_PREFIX = "export-perf-";
+    private static final int DOCUMENT_COUNT = 100_000;
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int CONTENT_ENTRIES = 20;
+    private static final int PER_DOCUMENT_SAMPLE = 1_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int HEAP_SAMPLE_INTERVAL = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MetadataDocumentRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Only one version per type can be active (FR-006), so every document gets its own type.
+     */
+    @BeforeAll
+    void seedDocuments() {
+        Instant now = Instant.now();
+        List<MetadataDocument> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int d = 0; d < DOCUMENT_COUNT; d++) {
+            Version active = new Version(1, sampleContent(d), "perf-test", now, "Initial version",
+                    new PublishingState.Published(), true);
+            batch.add(new MetadataDocument(TYPE_PREFIX + d, "document", List.of(active), now, now));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            repository.saveAll(batch);
+        }
+    }
+
+    @Test
+    void exportShouldStreamAllActiveVersionsInBoundedMemory() throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long peakHeap = heapBefore;
+
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(uri("/api/v1/metadata/export")).GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+
+        long lines = 0;
+        long bytes = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                bytes += line.length() + 1;
+                if (++lines % HEAP_SAMPLE_INTERVAL == 0) {
+                    peakHeap = Math.max(peakHeap, runtime.totalMemory() - runtime.freeMemory());
+                }
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        double perSecond = lines * 1000.0 / elapsedMillis;
+        long peakGrowth = peakHeap - heapBefore;
+        logger.info(String.format("Export: %d versions, %d MB in %d ms (%.0f versions/s), peak heap growth %d MB",
+                lines, bytes / (1024 * 1024), elapsedMillis, perSecond, peakGrowth / (1024 * 1024)));
+
+        assertTrue(lines >= DOCUMENT_COUNT, "Export should contain every active version");
+        assertTrue(perSecond > 5_000, "Export should sustain more than 5k versions per second");
+        assertTrue(peakGrowth < bytes / 2,
+                "Export should be streamed; heap grew by more than half the exported payload");
+    }
+
+    @Test
+    void exportShouldBeFasterThanListingAndFetchingEachDocument() throws Exception {
+        long perDocumentStart = System.nanoTime();
+        int fetched = 0;
+        for (int page = 0; fetched < PER_DOCUMENT_SAMPLE; page++) {
+            JsonNode listing = objectMapper.readTree(get(
+                    "/api/v1/metadata?page=" + page + "&size=" + PAGE_SIZE).body());
+            for (JsonNode document : listing.get("content")) {
+                HttpResponse<String> active = get("/api/v1/metadata/" + document.get("type").asText()
+                        + "/" + document.get("name").asText() + "/active");
+                assertEquals(200, active.statusCode());
+                fetched++;
+            }
+        }
+        long perDocumentNanos = (System.nanoTime() - perDocumentStart) / fetched;
+
+        long exportStart = System.nanoTime();
+        HttpResponse<String> export = get("/api/v1/metadata/export");
+        long exportNanos = System.nanoTime() - exportStart;
+        long exported = export.body().lines().count();
+
+        long projectedMillis = perDocumentNanos * exported / 1_000_000;
+        logger.info("Listing + per-document GETs: ~{} ms projected for {} documents",
+                projectedMillis, exported);
+        logger.info("Snapshot export:             {} ms", exportNanos / 1_000_000);
+
+        assertTrue(exportNanos * 10 < perDocumentNanos * exported,
+                "Export should be at least an order of magnitude faster than N+1 requests");
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Roughly 1KB of configuration content per version.
+     */
+    private ObjectNode sampleContent(int document) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("document", document);
+        for (int entry = 0; entry < CONTENT_ENTRIES; entry++) {
+            content.put("setting" + entry, "value-" + document + "-" + "x".repeat(30));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,130 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.domain.model.SubtreeHashes;
+import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison;
+import com.metadata.versioning.domain.service.DiffEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Micro-benchmark for pruning version comparison with subtree hashes (FR-PERF-003).
+ * Compares diffing two ~1MB documents that differ in a handful of fields by walking
+ * both trees in full with diffing them while skipping every top-level and second-level
+ * subtree whose stored hash is the same in both versions. Also reports what hashing
+ * costs when the version is written.
+ *
+ * CPU only, no database required. Run with -Dbenchmarks=true.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class SubtreePruningPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubtreePruningPerformanceTest.class);
+
+    private static final int SECTIONS = 20;
+    private static final int ENTRIES_PER_SECTION = 100;
+    private static final int FIELDS_PER_ENTRY = 20;
+    private static final int EDITS = 5;
+    private static final int ITERATIONS = 50;
+    private static final int WARMUP_ITERATIONS = 50;
+    // Pruned comparisons must be at least this many times faster than full walks
+    private static final int MIN_SPEEDUP = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DiffEngine diffEngine = new DiffEngine(objectMapper);
+
+    @Test
+    void prunedComparisonShouldOnlyWalkEditedSubtrees() throws Exception {
+        ObjectNode baseline = largeDocument();
+        ObjectNode edited = baseline.deepCopy();
+        for (int i = 0; i < EDITS; i++) {
+            ((ObjectNode) edited.get("section-" + i * 3).get("entry-" + i * 7)).put("field-" + i, "edited-" + i);
+        }
+        logger.info("Document size: {} KB, {} edits",
+                objectMapper.writeValueAsBytes(baseline).length / 1024, EDITS);
+
+        long hashMicros = medianMicros(() -> SubtreeHashes.of(edited));
+        SubtreeHashes fromHashes = SubtreeHashes.of(baseline);
+        SubtreeHashes toHashes = SubtreeHashes.of(edited);
+        Version from = Version.createFirst(baseline, "perf-test", "Baseline");
+        Version to = Version.createNext(1, edited, "perf-test", "Edited");
+
+        VersionComparison full = diffEngine.compare(from, to);
+        VersionComparison pruned = diffEngine.compare(from, to, Map.of(), fromHashes, toHashes);
+        long fullMicros = medianMicros(() -> diffEngine.compare(from, to));
+        long prunedMicros = medianMicros(() -> diffEngine.compare(from, to, Map.of(), fromHashes, toHashes));
+
+        logger.info("Full walk:  median={}us, {} changes", fullMicros, full.changeCount());
+        logger.info("Pruned:     median={}us, {} changes ({} subtree hashes)",
+                prunedMicros, pruned.changeCount(), toHashes.hashes().size());
+        logger.info("Hashing on write: median={}us", hashMicros);
+
+        assertEquals(EDITS, full.changeCount());
+        assertEquals(full.changes(), pruned.changes());
+        assertTrue(prunedMicros * MIN_SPEEDUP <= fullMicros,
+                "Pruned comparison " + prunedMicros + "us should be " + MIN_SPEEDUP
+                        + "x faster than the full walk " + fullMicros + "us");
+    }
+
+    @Test
+    void identicalVersionsShouldBeComparedInConstantTime() {
+        ObjectNode content = largeDocument();
+        SubtreeHashes hashes = SubtreeHashes.of(content);
+        Version from = Version.createFirst(content, "perf-test", "Baseline");
+        Version to = Version.createNext(1, content.deepCopy(), "perf-test", "Unchanged");
+
+        long fullMicros = medianMicros(() -> diffEngine.compare(from, to));
+        long prunedMicros = medianMicros(() -> diffEngine.compare(from, to, Map.of(), hashes, hashes));
+
+        logger.info("Identical versions: full walk median={}us, pruned median={}us",
+                fullMicros, prunedMicros);
+
+        assertTrue(diffEngine.compare(from, to, Map.of(), hashes, hashes).changes().isEmpty());
+        assertTrue(prunedMicros * MIN_SPEEDUP <= Math.max(fullMicros, MIN_SPEEDUP),
+                "Root hashes should make identical versions free to compare");
+    }
+
+    private long medianMicros(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.get();
+        }
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    /**
+     * Sections of entries of flat string fields, about 1MB serialized.
+     */
+    private ObjectNode largeDocument() {
+        ObjectNode content = objectMapper.createObjectNode();
+        for (int s = 0; s < SECTIONS; s++) {
+            ObjectNode section = content.putObject("section-" + s);
+            for (int e = 0; e < ENTRIES_PER_SECTION; e++) {
+                ObjectNode entry = section.putObject("entry-" + e);
+                for (int f = 0; f < FIELDS_PER_ENTRY; f++) {
+                    entry.put("field-" + f, "value-" + s + "-" + e + "-" + f);
+                }
+            }
+        }
+        return content;
+    }
+}
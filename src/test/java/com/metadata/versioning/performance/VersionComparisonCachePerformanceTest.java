@@ -0,0 +1,177 @@
+package com.metadata.versioning.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.cache.VersionComparisonCache;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.support.TestPersistenceConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for repeated version comparisons from the UI diff viewer (FR-010).
+ * Reviewers step back and forth through the history of a document, so the same few pairs
+ * are compared over and over. Compares the latency of comparisons computed on every request
+ * with comparisons answered by the in-process result cache.
+ *
+ * Runs against the in-memory repositories on a real servlet container.
+ * Run with -Dbenchmarks=true.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration," +
+                "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration",
+        "spring.testcontainers.enabled=false",
+        "app.cache.comparison.store.enabled=false",
+        "app.compare.delta.enabled=false"
+})
+@Import(TestPersistenceConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class VersionComparisonCachePerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionComparisonCachePerformanceTest.class);
+
+    private static final String TYPE = "diff-viewer-benchmark";
+    private static final int VERSIONS = 8;
+    private static final int ENTRIES = 2_000;
+    private static final int EDITS_PER_VERSION = 20;
+    private static final int REQUESTS = 1_000;
+    private static final int WARMUP_REQUESTS = 200;
+    // Cached comparisons must take at most this fraction of computed ones at the median
+    private static final double MAX_CACHED_TO_COMPUTED_RATIO = 0.5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private VersionComparisonCache comparisonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void repeatedComparisonsShouldBeServedFromCache() throws Exception {
+        String name = "doc-" + System.currentTimeMillis();
+        seedHistory(name);
+        List<URI> viewerSession = viewerSession(name);
+
+        // Computed: the cache is emptied before every request
+        compare(viewerSession, WARMUP_REQUESTS, true);
+        long[] computed = compare(viewerSession, REQUESTS, true);
+
+        compare(viewerSession, WARMUP_REQUESTS, false);
+        long computationsBefore = comparisonCache.computations();
+        long[] cached = compare(viewerSession, REQUESTS, false);
+
+        logger.info("Computed comparisons: p50={}us, p99={}us",
+                percentileMicros(computed, 50), percentileMicros(computed, 99));
+        logger.info(String.format("Cached comparisons:   p50=%dus, p99=%dus (hit ratio %.3f, %d KB cached)",
+                percentileMicros(cached, 50), percentileMicros(cached, 99),
+                comparisonCache.hitRatio(), comparisonCache.stats().weightedSize() / 1024));
+
+        assertEquals(computationsBefore, comparisonCache.computations(),
+                "Repeated comparisons should not be diffed again");
+        assertTrue(percentileMicros(cached, 50) <= percentileMicros(computed, 50) * MAX_CACHED_TO_COMPUTED_RATIO,
+                "Cached comparisons should take at most half the time of computed ones");
+    }
+
+    /**
+     * Pairs a reviewer looks at: each version against its predecessor, and the whole history.
+     */
+    private List<URI> viewerSession(String name) {
+        List<URI> pairs = new ArrayList<>();
+        for (int v = 2; v <= VERSIONS; v++) {
+            pairs.add(compareUri(name, v - 1, v));
+        }
+        pairs.add(compareUri(name, 1, VERSIONS));
+        return pairs;
+    }
+
+    private long[] compare(List<URI> pairs, int requests, boolean flushEachRequest) throws Exception {
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            if (flushEachRequest) {
+                comparisonCache.invalidateAll();
+            }
+            HttpRequest request = HttpRequest.newBuilder(pairs.get(i % pairs.size())).GET().build();
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(200, response.statusCode(), response.body());
+        }
+        return latencies;
+    }
+
+    private void seedHistory(String name) {
+        ObjectNode content = content(0);
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                TYPE, name, content, "perf-test", "Initial version"));
+        for (int v = 2; v <= VERSIONS; v++) {
+            content = content.deepCopy();
+            ArrayNode entries = (ArrayNode) content.get("entries");
+            for (int e = 0; e < EDITS_PER_VERSION; e++) {
+                ((ObjectNode) entries.get((v * 97 + e * 89) % ENTRIES)).put("weight", v * 1_000 + e);
+            }
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    TYPE, name, content, "perf-test", "Revision " + v));
+        }
+    }
+
+    /**
+     * A configuration list of roughly 200KB.
+     */
+    private ObjectNode content(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        ArrayNode entries = content.putArray("entries");
+        for (int i = 0; i < ENTRIES; i++) {
+            entries.addObject()
+                    .put("id", "entry-" + i)
+                    .put("description", "Diff viewer benchmark entry number " + i)
+                    .put("weight", i * 0.5);
+        }
+        return content;
+    }
+
+    private URI compareUri(String name, int from, int to) {
+        return URI.create("http://localhost:" + port + "/api/metadata/" + TYPE + "/" + name
+                + "/versions/compare?from=" + from + "&to=" + to);
+    }
+
+    private static long percentileMicros(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+    }
+}
@@ -1,66 +1,219 @@
 package com.metadata.versioning.performance;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.metadata.versioning.application.port.in.CreateVersionUseCase;
+import com.metadata.versioning.application.port.in.ManageSchemaUseCase;
+import com.metadata.versioning.support.PostgresContainerSupport;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Performance test for version creation operations.
- * Target: <500ms at p95 (FR-PERF-001)
+ * Performance test for version creation (FR-001).
+ * Target: <500ms at p95 (FR-PERF-001), sequentially, under 10 concurrent requests
+ * and with schema validation. Appending a version inserts a single row, so throughput
+ * must not degrade with the number of versions a document already has.
  * 
  * @Disabled until TestContainers environment is available.
- * These tests require real PostgreSQL database for accurate performance measurement.
  */
 @SpringBootTest
-@ActiveProfiles("test")
 @Disabled("Requires TestContainers PostgreSQL - enable in CI/CD environment")
-class VersionCreationPerformanceTest {
+class VersionCreationPerformanceTest extends PostgresContainerSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionCreationPerformanceTest.class);
 
     // Target SLA: 500ms at p95
     private static final long TARGET_P95_MS = 500;
-    private static final int SAMPLE_SIZE = 100;
+    private static final int LATENCY_SAMPLE_SIZE = 100;
+    private static final int CONCURRENT_REQUESTS = 10;
+
+    private static final int SAMPLE_SIZE = 200;
+    private static final int WARMUP_SIZE = 20;
+
+    @Autowired
+    private CreateVersionUseCase createVersionUseCase;
+
+    @Autowired
+    private ManageSchemaUseCase manageSchemaUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Test
     void versionCreationShouldMeetPerformanceTarget() {
-        // TODO: Implement when TestContainers PostgreSQL is available
-        // 
-        // Test Plan:
-        // 1. Create metadata document
-        // 2. Create 100 versions sequentially
-        // 3. Measure time for each creation
-        // 4. Calculate p95 latency
-        // 5. Assert p95 < 500ms
-        //
-        // Example implementation:
-        // List<Long> latencies = new ArrayList<>();
-        // for (int i = 0; i < SAMPLE_SIZE; i++) {
-        //     long start = System.currentTimeMillis();
-        //     createVersion(type, name, content);
-        //     long duration = System.currentTimeMillis() - start;
-        //     latencies.add(duration);
-        // }
-        // Collections.sort(latencies);
-        // long p95 = latencies.get((int)(SAMPLE_SIZE * 0.95));
-        // assertTrue(p95 < TARGET_P95_MS, 
-        //     String.format("P95 latency %dms exceeds target %dms", p95, TARGET_P95_MS));
-        
-        assertTrue(true, "Placeholder - implement with TestContainers");
+        String type = "append-latency";
+        String name = "sequential";
+        seedHistory(type, name, 1);
+
+        List<Long> latenciesMs = new ArrayList<>();
+        for (int i = 0; i < LATENCY_SAMPLE_SIZE; i++) {
+            latenciesMs.add(timeAppend(type, name, i));
+        }
+
+        long p95 = percentile(latenciesMs, 0.95);
+        logger.info("Sequential appends: p95 {}ms", p95);
+        assertTrue(p95 < TARGET_P95_MS,
+                String.format("P95 latency %dms exceeds target %dms", p95, TARGET_P95_MS));
+    }
+
+    /**
+     * Each request appends to its own document, so the latency measured is that of
+     * concurrent writes competing for connections and I/O rather than for one document.
+     */
+    @Test
+    void concurrentVersionCreationShouldMaintainPerformance() throws Exception {
+        String type = "append-latency";
+        for (int t = 0; t < CONCURRENT_REQUESTS; t++) {
+            seedHistory(type, "concurrent-" + t, 1);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < CONCURRENT_REQUESTS; t++) {
+            String name = "concurrent-" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> latencies = new ArrayList<>();
+                for (int i = 0; i < LATENCY_SAMPLE_SIZE / CONCURRENT_REQUESTS; i++) {
+                    latencies.add(timeAppend(type, name, i));
+                }
+                return latencies;
+            }));
+        }
+
+        start.countDown();
+        List<Long> latenciesMs = new ArrayList<>();
+        try {
+            for (Future<List<Long>> future : futures) {
+                latenciesMs.addAll(future.get(2, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(LATENCY_SAMPLE_SIZE, latenciesMs.size());
+        long p95 = percentile(latenciesMs, 0.95);
+        logger.info("Appends with {} concurrent requests: p95 {}ms", CONCURRENT_REQUESTS, p95);
+        assertTrue(p95 < TARGET_P95_MS,
+                String.format("P95 latency %dms under %d concurrent requests exceeds target %dms",
+                        p95, CONCURRENT_REQUESTS, TARGET_P95_MS));
     }
 
     @Test
-    void concurrentVersionCreationShouldMaintainPerformance() {
-        // TODO: Test concurrent version creation from multiple threads
-        // Target: Same p95 latency under 10 concurrent requests
-        assertTrue(true, "Placeholder - implement with TestContainers");
+    void versionCreationWithSchemaValidationShouldMeetTarget() throws Exception {
+        String type = "append-latency-schema";
+        manageSchemaUseCase.createSchema(type, objectMapper.readTree("""
+                {
+                  "type": "object",
+                  "properties": {"revision": {"type": "integer", "minimum": 0}},
+                  "required": ["revision"],
+                  "patternProperties": {"^setting[0-9]+$": {"type": "string", "maxLength": 200}},
+                  "additionalProperties": false
+                }
+                """), "Latency test schema", true);
+        seedHistory(type, "validated", 1);
+
+        List<Long> latenciesMs = new ArrayList<>();
+        for (int i = 0; i < LATENCY_SAMPLE_SIZE; i++) {
+            latenciesMs.add(timeAppend(type, "validated", i));
+        }
+
+        long p95 = percentile(latenciesMs, 0.95);
+        logger.info("Appends with schema validation: p95 {}ms", p95);
+        assertTrue(p95 < TARGET_P95_MS,
+                String.format("P95 latency %dms with schema validation exceeds target %dms", p95, TARGET_P95_MS));
     }
 
     @Test
-    void versionCreationWithSchemaValidationShouldMeetTarget() {
-        // TODO: Test version creation with JSON schema validation
-        // Target: <500ms including schema validation overhead
-        assertTrue(true, "Placeholder - implement with TestContainers");
+    void versionCreationThroughputShouldNotDependOnHistoryLength() {
+        int[] historySizes = {1, 100, 1000};
+        double[] throughput = new double[historySizes.length];
+
+        for (int i = 0; i < historySizes.length; i++) {
+            String type = "append-perf";
+            String name = "history-" + historySizes[i];
+
+            seedHistory(type, name, historySizes[i]);
+            throughput[i] = measureAppendsPerSecond(type, name);
+            logger.info("Append with {} existing versions: {} versions/s",
+                    historySizes[i], Math.round(throughput[i]));
+
+            Integer versionCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM versions v JOIN metadata_documents d ON d.id = v.document_id "
+                            + "WHERE d.type = ? AND d.name = ?", Integer.class, type, name);
+            assertEquals(historySizes[i] + WARMUP_SIZE + SAMPLE_SIZE, versionCount);
+        }
+
+        assertTrue(throughput[throughput.length - 1] * 2 >= throughput[0],
+                String.format("Append throughput dropped from %.0f/s (1 version) to %.0f/s (1000 versions)",
+                        throughput[0], throughput[throughput.length - 1]));
+    }
+
+    private void seedHistory(String type, String name, int versionCount) {
+        createVersionUseCase.createFirstVersion(new CreateVersionUseCase.CreateFirstVersionCommand(
+                type, name, sampleContent(1), "perf-test", "Initial version"));
+        for (int v = 2; v <= versionCount; v++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    type, name, sampleContent(v), "perf-test", "Seed revision " + v));
+        }
+    }
+
+    private double measureAppendsPerSecond(String type, String name) {
+        for (int i = 0; i < WARMUP_SIZE; i++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    type, name, sampleContent(i), "perf-test", "Warmup " + i));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                    type, name, sampleContent(i), "perf-test", "Measured " + i));
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return SAMPLE_SIZE / elapsedSeconds;
+    }
+
+    private long timeAppend(String type, String name, int revision) {
+        long begin = System.nanoTime();
+        createVersionUseCase.createNewVersion(new CreateVersionUseCase.CreateNewVersionCommand(
+                type, name, sampleContent(revision), "perf-test", "Measured " + revision));
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    /**
+     * Roughly 20KB of configuration content per version.
+     */
+    private ObjectNode sampleContent(int revision) {
+        ObjectNode content = objectMapper.createObjectNode();
+        content.put("revision", revision);
+        for (int field = 0; field < 200; field++) {
+            content.put("setting" + field, "value-" + revision + "-" + "x".repeat(90));
+        }
+        return content;
     }
 }
@@ -0,0 +1,112 @@
+package com.metadata.versioning.support;
+
+import com.metadata.versioning.adapter.out.invalidation.NotificationSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for PostgreSQL LISTEN/NOTIFY.
+ * Delivers every notification to all open subscriptions on the channel and can
+ * simulate connection failures, so invalidation can be tested without a database.
+ */
+public class InProcessNotificationBus implements NotificationSource.Connector {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failingConnects = new AtomicInteger();
+    private final AtomicInteger connects = new AtomicInteger();
+
+    @Override
+    public NotificationSource connect(String channel) throws SQLException {
+        connects.incrementAndGet();
+        if (failingConnects.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new SQLException("Simulated connection failure");
+        }
+        Subscription subscription = new Subscription(channel);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Deliver a payload to every open subscription on the channel.
+     */
+    public void notify(String channel, String payload) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.channel.equals(channel)) {
+                subscription.queue.add(payload);
+            }
+        }
+    }
+
+    /**
+     * Make the next connection attempts fail.
+     */
+    public void failNextConnects(int count) {
+        failingConnects.set(count);
+    }
+
+    /**
+     * Break every open subscription; notifications sent until the listeners reconnect are lost.
+     */
+    public void dropConnections() {
+        for (Subscription subscription : subscriptions) {
+            subscription.broken = true;
+        }
+    }
+
+    /**
+     * Number of open subscriptions.
+     */
+    public int openSubscriptions() {
+        return (int) subscriptions.stream().filter(subscription -> !subscription.broken).count();
+    }
+
+    /**
+     * Number of connection attempts, including failed ones.
+     */
+    public int connectAttempts() {
+        return connects.get();
+    }
+
+    private class Subscription implements NotificationSource {
+
+        private final String channel;
+        private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        private volatile boolean broken;
+
+        Subscription(String channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public List<String> poll(long timeoutMillis) throws SQLException {
+            if (broken) {
+                throw new SQLException("Simulated connection loss");
+            }
+            List<String> payloads = new ArrayList<>();
+            try {
+                String first = queue.poll(Math.min(timeoutMillis, 50), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    payloads.add(first);
+                    queue.drainTo(payloads);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for notifications", e);
+            }
+            return payloads;
+        }
+
+        @Override
+        public void close() {
+            broken = true;
+            subscriptions.remove(this);
+        }
+    }
+}
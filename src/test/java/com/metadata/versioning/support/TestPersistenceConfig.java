@@ -2,12 +2,26 @@ package com.metadata.versioning.support;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metadata.versioning.application.port.out.AuditLogRepository;
+import com.metadata.versioning.application.port.out.ChangeFeedRepository;
 import com.metadata.versioning.application.port.out.MetadataDocumentRepository;
 import com.metadata.versioning.application.port.out.SchemaDefinitionRepository;
+import com.metadata.versioning.application.port.out.VersionComparisonRepository;
+import com.metadata.versioning.domain.model.AuditEntry;
+import com.metadata.versioning.domain.model.ChangeFeedEntry;
+import com.metadata.versioning.domain.model.DocumentChange;
+import com.metadata.versioning.domain.model.DocumentKey;
+import com.metadata.versioning.domain.model.DocumentSummary;
+import com.metadata.versioning.domain.model.DocumentVersion;
+import com.metadata.versioning.domain.model.JsonPatch;
 import com.metadata.versioning.domain.model.MetadataDocument;
 import com.metadata.versioning.domain.model.PublishingState;
 import com.metadata.versioning.domain.model.SchemaDefinition;
+import com.metadata.versioning.domain.model.SubtreeHashes;
 import com.metadata.versioning.domain.model.Version;
+import com.metadata.versioning.domain.model.VersionComparison.ChangeDetail;
+import com.metadata.versioning.domain.model.VersionDelta;
+import com.metadata.versioning.domain.model.VersionDigest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -15,10 +29,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
 
 /**
  * Test configuration that replaces the database-backed repository
@@ -39,8 +55,28 @@ public class TestPersistenceConfig {
         return new InMemorySchemaDefinitionRepository(objectMapper);
     }
 
+    @Bean
+    @Primary
+    public ChangeFeedRepository inMemoryChangeFeedRepository() {
+        return new InMemoryChangeFeedRepository();
+    }
+
+    @Bean
+    @Primary
+    public InMemoryAuditLogRepository inMemoryAuditLogRepository() {
+        return new InMemoryAuditLogRepository();
+    }
+
+    @Bean
+    @Primary
+    public VersionComparisonRepository inMemoryVersionComparisonRepository() {
+        return new InMemoryVersionComparisonRepository();
+    }
+
     private static class InMemoryMetadataDocumentRepository implements MetadataDocumentRepository {
         private final Map<String, MetadataDocument> store = new ConcurrentHashMap<>();
+        // Fingerprint and patch by document and version number
+        private final Map<String, Map.Entry<String, JsonPatch>> deltas = new ConcurrentHashMap<>();
         private final ObjectMapper objectMapper;
 
         InMemoryMetadataDocumentRepository(ObjectMapper objectMapper) {
@@ -61,12 +97,191 @@ public class TestPersistenceConfig {
             return deepCopy(document);
         }
 
+        @Override
+        public void saveAll(List<MetadataDocument> documents) {
+            documents.forEach(this::save);
+        }
+
+        @Override
+        public java.util.Set<String> findExistingNames(String type, java.util.Collection<String> names) {
+            return names.stream()
+                    .filter(name -> store.containsKey(toKey(type, name)))
+                    .collect(java.util.stream.Collectors.toSet());
+        }
+
         @Override
         public java.util.Optional<MetadataDocument> findByTypeAndName(String type, String name) {
             return java.util.Optional.ofNullable(store.get(toKey(type, name)))
                     .map(this::deepCopy);
         }
 
+        @Override
+        public java.util.Optional<Version> findActiveVersion(String type, String name) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .flatMap(MetadataDocument::getActiveVersion)
+                    .map(this::deepCopy);
+        }
+
+        @Override
+        public Map<DocumentKey, Version> findActiveVersions(java.util.Collection<DocumentKey> keys) {
+            Map<DocumentKey, Version> found = new java.util.HashMap<>();
+            for (DocumentKey key : keys) {
+                findActiveVersion(key.type(), key.name()).ifPresent(version -> found.put(key, version));
+            }
+            return found;
+        }
+
+        @Override
+        public long forEachActiveVersion(String type, java.util.function.Consumer<DocumentVersion> consumer) {
+            java.util.List<DocumentVersion> active = store.values().stream()
+                    .filter(doc -> type == null || doc.getType().equals(type))
+                    .sorted(java.util.Comparator.comparing(MetadataDocument::getType)
+                            .thenComparing(MetadataDocument::getName))
+                    .flatMap(doc -> doc.getActiveVersion().stream()
+                            .map(version -> new DocumentVersion(doc.getType(), doc.getName(), deepCopy(version))))
+                    .toList();
+            active.forEach(consumer);
+            return active.size();
+        }
+
+        @Override
+        public java.util.Optional<Version> findVersion(String type, String name, int versionNumber) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .flatMap(doc -> doc.getVersion(versionNumber))
+                    .map(this::deepCopy);
+        }
+
+        @Override
+        public java.util.Optional<VersionDigest> findActiveVersionDigest(String type, String name) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .flatMap(MetadataDocument::getActiveVersion)
+                    .map(this::toDigest);
+        }
+
+        @Override
+        public java.util.Optional<VersionDigest> findVersionDigest(String type, String name, int versionNumber) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .flatMap(doc -> doc.getVersion(versionNumber))
+                    .map(this::toDigest);
+        }
+
+        @Override
+        public java.util.Optional<VersionDigest> findLatestVersionDigest(String type, String name) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .flatMap(doc -> doc.getVersion(doc.getVersionCount()))
+                    .map(this::toDigest);
+        }
+
+        @Override
+        public Map<Integer, SubtreeHashes> findSubtreeHashes(String type, String name,
+                                                             java.util.Collection<Integer> versionNumbers) {
+            MetadataDocument doc = store.get(toKey(type, name));
+            Map<Integer, SubtreeHashes> hashes = new java.util.HashMap<>();
+            if (doc != null) {
+                for (Integer versionNumber : versionNumbers) {
+                    doc.getVersion(versionNumber)
+                            .ifPresent(version -> hashes.put(versionNumber, SubtreeHashes.of(version.content())));
+                }
+            }
+            return hashes;
+        }
+
+        @Override
+        public List<VersionDelta> findVersionDeltas(String type, String name, int fromVersion, int toVersion,
+                                                    String resultFingerprint) {
+            MetadataDocument doc = store.get(toKey(type, name));
+            List<VersionDelta> found = new ArrayList<>();
+            for (int versionNumber = Math.max(fromVersion, 1) + 1; doc != null && versionNumber <= toVersion;
+                 versionNumber++) {
+                Map.Entry<String, JsonPatch> delta = deltas.get(toKey(type, name) + "::" + versionNumber);
+                JsonPatch patch = delta != null && delta.getKey().equals(resultFingerprint) ? delta.getValue() : null;
+                doc.getVersion(versionNumber).ifPresent(version -> found.add(new VersionDelta(
+                        version.versionNumber(), version.author(), version.createdAt(), version.changeSummary(),
+                        patch)));
+            }
+            return found;
+        }
+
+        @Override
+        public boolean saveVersionDelta(String type, String name, int versionNumber, String resultFingerprint,
+                                        JsonPatch patch) {
+            MetadataDocument doc = store.get(toKey(type, name));
+            if (doc == null || doc.getVersion(versionNumber).isEmpty()) {
+                return false;
+            }
+            deltas.put(toKey(type, name) + "::" + versionNumber, Map.entry(resultFingerprint, patch));
+            return true;
+        }
+
+        @Override
+        public synchronized Map<DocumentKey, Integer> findActiveVersionNumbers(String type) {
+            Map<DocumentKey, Integer> found = new java.util.HashMap<>();
+            store.values().stream()
+                    .filter(doc -> doc.getType().equals(type))
+                    .forEach(doc -> doc.getActiveVersion().ifPresent(version ->
+                            found.put(new DocumentKey(type, doc.getName()), version.versionNumber())));
+            return found;
+        }
+
+        @Override
+        public void lockActivations(String type) {
+            // Activations are serialized by switchActiveVersion's monitor
+        }
+
+        @Override
+        public synchronized boolean switchActiveVersion(String type, String name, int versionNumber) {
+            MetadataDocument target = store.get(toKey(type, name));
+            if (target == null || target.getVersion(versionNumber).filter(Version::isPublished).isEmpty()) {
+                return false;
+            }
+            store.values().stream()
+                    .filter(doc -> doc.getType().equals(type))
+                    .forEach(MetadataDocument::deactivateActiveVersions);
+            target.activateVersion(versionNumber);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean transitionVersionState(String type, String name, int versionNumber,
+                                                           PublishingState from, PublishingState to) {
+            MetadataDocument document = store.get(toKey(type, name));
+            Version version = document != null ? document.getVersion(versionNumber).orElse(null) : null;
+            if (version == null || !version.publishingState().equals(from)) {
+                return false;
+            }
+            List<Version> versions = new ArrayList<>(document.getAllVersions());
+            versions.set(versions.indexOf(version), version.transitionTo(to));
+            store.put(toKey(type, name), new MetadataDocument(type, name, versions,
+                    document.getCreatedAt(), Instant.now()));
+            return true;
+        }
+
+        @Override
+        public synchronized java.util.Optional<Version> appendVersion(String type, String name,
+                                                                      IntFunction<Version> versionFactory) {
+            String key = toKey(type, name);
+            MetadataDocument document = store.get(key);
+            if (document == null) {
+                return java.util.Optional.empty();
+            }
+            Version version = versionFactory.apply(document.getVersionCount() + 1);
+            List<Version> versions = new ArrayList<>(document.getAllVersions());
+            versions.add(deepCopy(version));
+            store.put(key, new MetadataDocument(type, name, versions, document.getCreatedAt(), Instant.now()));
+            return java.util.Optional.of(deepCopy(version));
+        }
+
+        @Override
+        public synchronized java.util.Optional<Version> appendVersionIfLatest(String type, String name,
+                                                                              int expectedLatestVersion,
+                                                                              IntFunction<Version> versionFactory) {
+            MetadataDocument document = store.get(toKey(type, name));
+            if (document == null || document.getVersionCount() != expectedLatestVersion) {
+                return java.util.Optional.empty();
+            }
+            return appendVersion(type, name, versionFactory);
+        }
+
         @Override
         public Page<MetadataDocument> findAll(Pageable pageable) {
             return toPage(store.values().stream().toList(), pageable);
@@ -88,6 +303,31 @@ public class TestPersistenceConfig {
             return toPage(filtered, pageable);
         }
 
+        @Override
+        public Page<DocumentSummary> findAllSummaries(Pageable pageable) {
+            return toSummaryPage(store.values().stream().toList(), pageable);
+        }
+
+        @Override
+        public Page<DocumentSummary> findSummariesByType(String type, Pageable pageable) {
+            return toSummaryPage(store.values().stream()
+                    .filter(doc -> doc.getType().equals(type))
+                    .toList(), pageable);
+        }
+
+        @Override
+        public Page<DocumentSummary> findSummariesByNameContainingIgnoreCase(String name, Pageable pageable) {
+            return toSummaryPage(store.values().stream()
+                    .filter(doc -> doc.getName().toLowerCase().contains(name.toLowerCase()))
+                    .toList(), pageable);
+        }
+
+        @Override
+        public java.util.Optional<DocumentSummary> findSummary(String type, String name) {
+            return java.util.Optional.ofNullable(store.get(toKey(type, name)))
+                    .map(DocumentSummary::of);
+        }
+
         @Override
         public boolean existsByTypeAndName(String type, String name) {
             return store.containsKey(toKey(type, name));
@@ -100,15 +340,7 @@ public class TestPersistenceConfig {
         private MetadataDocument deepCopy(MetadataDocument document) {
             List<Version> copiedVersions = new ArrayList<>();
             for (Version version : document.getAllVersions()) {
-                copiedVersions.add(new Version(
-                        version.versionNumber(),
-                        deepCopy(version.content()),
-                        version.author(),
-                        version.createdAt(),
-                        version.changeSummary(),
-                        version.publishingState(),
-                        version.isActive()
-                ));
+                copiedVersions.add(deepCopy(version));
             }
 
             return new MetadataDocument(
@@ -120,6 +352,27 @@ public class TestPersistenceConfig {
             );
         }
 
+        private VersionDigest toDigest(Version version) {
+            return new VersionDigest(
+                    version.versionNumber(),
+                    VersionDigest.hashContent(version.content()),
+                    version.publishingState(),
+                    version.isActive()
+            );
+        }
+
+        private Version deepCopy(Version version) {
+            return new Version(
+                    version.versionNumber(),
+                    deepCopy(version.content()),
+                    version.author(),
+                    version.createdAt(),
+                    version.changeSummary(),
+                    version.publishingState(),
+                    version.isActive()
+            );
+        }
+
         private JsonNode deepCopy(JsonNode node) {
             try {
                 return objectMapper.readTree(objectMapper.writeValueAsString(node));
@@ -128,6 +381,10 @@ public class TestPersistenceConfig {
             }
         }
 
+        private Page<DocumentSummary> toSummaryPage(List<MetadataDocument> documents, Pageable pageable) {
+            return toPage(documents, pageable).map(DocumentSummary::of);
+        }
+
         private Page<MetadataDocument> toPage(List<MetadataDocument> documents, Pageable pageable) {
             int start = (int) pageable.getOffset();
             int end = Math.min(start + pageable.getPageSize(), documents.size());
@@ -185,11 +442,100 @@ public class TestPersistenceConfig {
                         schema.type(),
                         schemaCopy,
                         schema.description(),
-                        schema.strictMode()
+                        schema.strictMode(),
+                        schema.createdAt(),
+                        schema.updatedAt()
                 );
             } catch (Exception e) {
                 throw new IllegalStateException("Failed to copy schema", e);
             }
         }
     }
+
+    private static class InMemoryChangeFeedRepository implements ChangeFeedRepository {
+        private final List<ChangeFeedEntry> entries = new ArrayList<>();
+        private long lastSequenceNumber;
+        private long compactedThrough;
+
+        @Override
+        public synchronized void append(List<DocumentChange> changes) {
+            Instant now = Instant.now();
+            for (DocumentChange change : changes) {
+                entries.add(new ChangeFeedEntry(++lastSequenceNumber, change, now));
+            }
+        }
+
+        @Override
+        public synchronized List<ChangeFeedEntry> findAfter(long sequenceNumber, int limit) {
+            return entries.stream()
+                    .filter(entry -> entry.sequenceNumber() > sequenceNumber)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public synchronized long findLatestSequenceNumber() {
+            return lastSequenceNumber;
+        }
+
+        @Override
+        public synchronized long findCompactedThrough() {
+            return compactedThrough;
+        }
+
+        @Override
+        public synchronized long compactRecordedBefore(Instant cutoff) {
+            List<ChangeFeedEntry> removed = entries.stream()
+                    .filter(entry -> entry.recordedAt().isBefore(cutoff))
+                    .toList();
+            if (removed.isEmpty()) {
+                return 0;
+            }
+            long through = removed.get(removed.size() - 1).sequenceNumber();
+            compactedThrough = Math.max(compactedThrough, through);
+            entries.removeIf(entry -> entry.sequenceNumber() <= through);
+            return removed.size();
+        }
+    }
+
+    private static class InMemoryVersionComparisonRepository implements VersionComparisonRepository {
+        private final Map<String, List<ChangeDetail>> store = new ConcurrentHashMap<>();
+
+        @Override
+        public java.util.Optional<List<ChangeDetail>> findChanges(String type, String name, int fromVersion,
+                                                                  int toVersion, String resultFingerprint) {
+            return java.util.Optional.ofNullable(store.get(
+                    toKey(type, name, fromVersion, toVersion, resultFingerprint)));
+        }
+
+        @Override
+        public void saveChanges(String type, String name, int fromVersion, int toVersion,
+                                String resultFingerprint, List<ChangeDetail> changes, long computeMillis) {
+            store.putIfAbsent(toKey(type, name, fromVersion, toVersion, resultFingerprint), List.copyOf(changes));
+        }
+
+        private String toKey(String type, String name, int fromVersion, int toVersion, String resultFingerprint) {
+            return type + ":" + name + ":" + fromVersion + ":" + toVersion + ":" + resultFingerprint;
+        }
+    }
+
+    /**
+     * Audit trail kept in memory, with the batches as they were written.
+     */
+    public static class InMemoryAuditLogRepository implements AuditLogRepository {
+        private final List<List<AuditEntry>> batches = new ArrayList<>();
+
+        @Override
+        public synchronized void saveAll(List<AuditEntry> entries) {
+            batches.add(List.copyOf(entries));
+        }
+
+        public synchronized List<List<AuditEntry>> batches() {
+            return List.copyOf(batches);
+        }
+
+        public synchronized List<AuditEntry> entries() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
 }